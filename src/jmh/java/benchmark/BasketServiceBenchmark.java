@@ -0,0 +1,69 @@
+package benchmark;
+
+import config.AppConfig;
+import domain.dto.BasketDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.BasketService;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장바구니 담기(BasketService.addToBasket)와 장바구니 조회(BasketService.getOrCreateBasket)
+ * 스레드마다 별도 사용자를 사용하며, 반복(iteration)마다 장바구니를 비워 항목 수를 일정하게 유지합니다.
+ */
+@State(Scope.Thread)
+public class BasketServiceBenchmark {
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    // 장바구니에 담기는 서로 다른 상품 수
+    @Param({"10", "50"})
+    public int basketSize;
+
+    private BasketService basketService;
+    private List<String> productCodes;
+    private String userId;
+    private int next;
+
+    @Setup
+    public void setUp(EngineState engineState) throws Exception {
+        BenchmarkFixture.load(engineState.engine);
+        AppConfig appConfig = AppConfig.getInstance();
+        basketService = new BasketService(appConfig.getBasketDAO(), appConfig.getProductDAO());
+        productCodes = BenchmarkFixture.productCodes();
+        userId = "bench-user-" + USER_SEQUENCE.incrementAndGet();
+        basketService.getOrCreateBasket(userId);
+    }
+
+    @Setup(Level.Iteration)
+    public void fillBasket() {
+        basketService.clearBasket(userId);
+        for (int i = 0; i < basketSize; i++) {
+            basketService.addToBasket(userId, productCodes.get(i), 1);
+        }
+        next = 0;
+    }
+
+    /**
+     * 이미 담긴 상품을 다시 담는 경우 (수량 증가 + 총액 재계산)
+     */
+    @Benchmark
+    public boolean addToBasket() {
+        String productCode = productCodes.get(next);
+        next = (next + 1) % basketSize;
+        return basketService.addToBasket(userId, productCode, 1);
+    }
+
+    /**
+     * 기존 장바구니와 항목 조회
+     */
+    @Benchmark
+    public BasketDTO getOrCreateBasket() {
+        return basketService.getOrCreateBasket(userId);
+    }
+}
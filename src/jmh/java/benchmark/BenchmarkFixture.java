@@ -0,0 +1,162 @@
+package benchmark;
+
+import config.AppConfig;
+import domain.dao.CategoryDAO;
+import domain.dao.MappingDAO;
+import domain.dao.ProductDAO;
+import domain.dto.CategoryDTO;
+import domain.dto.MappingDTO;
+import domain.dto.ProductDTO;
+import util.DatabaseConnection;
+
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 벤치마크 공통 데이터 준비
+ * 선택한 엔진(EngineState)으로 AppConfig를 초기화하고
+ * 카테고리 트리(3단계), 상품, 상품-카테고리 매핑을 한 번만 적재합니다.
+ * - h2: 내장 H2 DB(Oracle 호환 모드)에 h2/schema.sql로 스키마를 만들고 JDBC DAO 구현으로 적재
+ * - memory: 메모리 DAO 구현(-Dapp.dao.engine=memory)으로 적재
+ */
+public final class BenchmarkFixture {
+    public static final int ROOT_CATEGORY_COUNT = 5;
+    public static final int CHILDREN_PER_CATEGORY = 4;
+    public static final int PRODUCT_COUNT = 2000;
+
+    // 주문 벤치마크에서 재고가 떨어지지 않도록 충분히 큰 재고
+    public static final int INITIAL_STOCK = 1_000_000_000;
+
+    private static final String SCHEMA_SCRIPT = "RUNSCRIPT FROM 'classpath:h2/schema.sql'";
+
+    private static volatile boolean loaded;
+    private static String loadedEngine;
+    private static List<String> productCodes = Collections.emptyList();
+    private static List<Long> leafCategoryIds = Collections.emptyList();
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * 선택한 엔진으로 AppConfig를 초기화하고 데이터를 적재합니다. (포크된 JVM마다 한 번)
+     * @param engine EngineState.H2 또는 EngineState.MEMORY
+     */
+    public static synchronized AppConfig load(String engine) throws Exception {
+        if (loaded) {
+            if (!loadedEngine.equals(engine)) {
+                throw new IllegalStateException("이미 " + loadedEngine + " 엔진으로 초기화되었습니다: " + engine);
+            }
+            return AppConfig.getInstance();
+        }
+
+        // AppConfig 생성 시점에 DAO 구현이 정해지므로 엔진 설정과 스키마 생성을 먼저 수행
+        if (EngineState.MEMORY.equals(engine)) {
+            System.setProperty(AppConfig.DAO_ENGINE_PROPERTY, AppConfig.DAO_ENGINE_MEMORY);
+        } else if (EngineState.H2.equals(engine)) {
+            System.clearProperty(AppConfig.DAO_ENGINE_PROPERTY);
+            createSchema();
+        } else {
+            throw new IllegalArgumentException("알 수 없는 벤치마크 엔진: " + engine);
+        }
+        AppConfig appConfig = AppConfig.getInstance();
+
+        String uploadPath = Files.createTempDirectory("bench-upload").toString();
+        appConfig.initializeServices(uploadPath, false);
+
+        List<Long> leaves = loadCategories(appConfig.getCategoryDAO());
+        List<String> codes = loadProducts(appConfig.getProductDAO());
+        loadMappings(appConfig.getMappingDAO(), codes, leaves);
+
+        leafCategoryIds = Collections.unmodifiableList(leaves);
+        productCodes = Collections.unmodifiableList(codes);
+        loadedEngine = engine;
+        loaded = true;
+        return appConfig;
+    }
+
+    public static List<String> productCodes() {
+        return productCodes;
+    }
+
+    public static List<Long> leafCategoryIds() {
+        return leafCategoryIds;
+    }
+
+    /**
+     * 모든 상품의 재고를 초기값으로 되돌립니다.
+     */
+    public static void resetStock(ProductDAO productDAO) {
+        for (String productCode : productCodes) {
+            productDAO.updateProductStock(productCode, INITIAL_STOCK);
+        }
+    }
+
+    private static void createSchema() throws SQLException {
+        Connection conn = DatabaseConnection.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(SCHEMA_SCRIPT);
+        } finally {
+            DatabaseConnection.closeConnection(conn);
+        }
+    }
+
+    private static List<Long> loadCategories(CategoryDAO categoryDAO) {
+        // 카테고리 save는 생성된 ID를 DTO에 설정하지 않으므로 상위 카테고리로 다시 조회
+        List<Long> parents = new ArrayList<>();
+        parents.add(null);
+        for (int depth = 1; depth <= 3; depth++) {
+            List<Long> children = new ArrayList<>();
+            for (Long parentId : parents) {
+                int count = parentId == null ? ROOT_CATEGORY_COUNT : CHILDREN_PER_CATEGORY;
+                for (int i = 1; i <= count; i++) {
+                    CategoryDTO category = new CategoryDTO();
+                    category.setParentId(parentId);
+                    category.setName("카테고리" + depth + "-" + i);
+                    category.setFullName(category.getName());
+                    category.setOrder(i);
+                    category.setUseYn("Y");
+                    category.setRegisterId("bench");
+                    categoryDAO.save(category);
+                }
+                for (CategoryDTO child : categoryDAO.findByParentId(parentId)) {
+                    children.add(child.getId());
+                }
+            }
+            parents = children;
+        }
+        return parents;
+    }
+
+    private static List<String> loadProducts(ProductDAO productDAO) {
+        List<String> codes = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 1; i <= PRODUCT_COUNT; i++) {
+            ProductDTO product = new ProductDTO();
+            product.setProductName("벤치마크 상품 " + i);
+            product.setDetailExplain("벤치마크용 상품 설명 " + i);
+            product.setCustomerPrice(10000 + (i * 37) % 90000);
+            product.setSalePrice(9000 + (i * 37) % 90000);
+            product.setStock(INITIAL_STOCK);
+            product.setDeliveryFee(i % 3 == 0 ? 0 : 3000);
+            product.setRegisterId("bench");
+            productDAO.save(product);
+            codes.add(product.getProductCode());
+        }
+        return codes;
+    }
+
+    private static void loadMappings(MappingDAO mappingDAO, List<String> codes, List<Long> leaves) throws Exception {
+        for (int i = 0; i < codes.size(); i++) {
+            MappingDTO mapping = new MappingDTO();
+            mapping.setProductCode(codes.get(i));
+            mapping.setCategoryId(leaves.get(i % leaves.size()));
+            mapping.setDisplayOrder(1);
+            mapping.setRegisterUser("bench");
+            mappingDAO.createMapping(mapping);
+        }
+    }
+}
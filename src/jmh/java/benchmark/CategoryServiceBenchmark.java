@@ -0,0 +1,29 @@
+package benchmark;
+
+import domain.dto.CategoryDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.CategoryService;
+
+import java.util.List;
+
+/**
+ * 전체 카테고리 조회 (CategoryService.getAllCategoryDTOs)
+ * 상품 목록 사이드바와 관리자 카테고리 화면이 요청마다 호출합니다.
+ */
+@State(Scope.Benchmark)
+public class CategoryServiceBenchmark {
+    private CategoryService categoryService;
+
+    @Setup
+    public void setUp(EngineState engineState) throws Exception {
+        categoryService = BenchmarkFixture.load(engineState.engine).getCategoryService();
+    }
+
+    @Benchmark
+    public List<CategoryDTO> getAllCategoryDTOs() {
+        return categoryService.getAllCategoryDTOs();
+    }
+}
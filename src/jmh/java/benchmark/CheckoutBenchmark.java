@@ -0,0 +1,102 @@
+package benchmark;
+
+import config.AppConfig;
+import domain.dto.BasketDTO;
+import domain.dto.BasketItemDTO;
+import domain.dto.OrderDTO;
+import domain.dto.OrderItemDTO;
+import exception.OutOfStockException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.BasketService;
+import service.OrderService;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장바구니 주문 흐름 (ShowOrderFormCommand + OrderCreateCommand)
+ * 장바구니에 상품을 담고, 장바구니 항목으로 주문 항목을 만든 뒤 OrderService.placeOrder로 주문합니다.
+ */
+@State(Scope.Thread)
+public class CheckoutBenchmark {
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    // 주문 한 건의 상품 수
+    @Param({"1", "5"})
+    public int itemCount;
+
+    private AppConfig appConfig;
+    private BasketService basketService;
+    private OrderService orderService;
+    private List<String> productCodes;
+    private String userId;
+    private int next;
+
+    @Setup
+    public void setUp(EngineState engineState) throws Exception {
+        appConfig = BenchmarkFixture.load(engineState.engine);
+        basketService = new BasketService(appConfig.getBasketDAO(), appConfig.getProductDAO());
+        orderService = new OrderService();
+        productCodes = BenchmarkFixture.productCodes();
+        userId = "bench-buyer-" + USER_SEQUENCE.incrementAndGet();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStock() {
+        BenchmarkFixture.resetStock(appConfig.getProductDAO());
+    }
+
+    @Benchmark
+    public String checkout() throws OutOfStockException {
+        // 장바구니 담기
+        for (int i = 0; i < itemCount; i++) {
+            basketService.addToBasket(userId, productCodes.get(next), 1);
+            next = (next + 1) % productCodes.size();
+        }
+
+        // 주문서: 장바구니 항목으로 주문 항목 구성
+        BasketDTO basket = basketService.getOrCreateBasket(userId);
+        List<OrderItemDTO> orderItems = new ArrayList<>();
+        List<Long> basketItemIds = new ArrayList<>();
+        int itemNumber = 1;
+        for (BasketItemDTO basketItem : basket.getItems()) {
+            OrderItemDTO orderItem = new OrderItemDTO();
+            orderItem.setOrderItemCount(itemNumber++);
+            orderItem.setProductCode(basketItem.getProductCode());
+            orderItem.setQuantity(basketItem.getQuantity());
+            orderItem.setUnitPrice(basketItem.getPrice());
+            orderItem.setDeliveryFee(basketItem.getDeliveryFee());
+            orderItem.setAmount(basketItem.getAmount());
+            orderItem.setUserId(userId);
+            orderItem.setProductName(basketItem.getProductName());
+            orderItem.setBasketItemId(basketItem.getItemId());
+            orderItem.setPaymentStatus("20");
+            orderItem.setRegisterId(userId);
+            orderItems.add(orderItem);
+            basketItemIds.add(basketItem.getItemId());
+        }
+
+        // 주문 생성 (주문, 주문 항목, 재고 차감, 장바구니 항목 삭제)
+        OrderDTO orderDTO = new OrderDTO();
+        orderDTO.setUserId(userId);
+        orderDTO.setOrderPersonName("주문자");
+        orderDTO.setReceiverName("수령인");
+        orderDTO.setDeliveryZipno("04524");
+        orderDTO.setDeliveryAddress("서울특별시 중구 세종대로 110");
+        orderDTO.setReceiverTelno("01000000000");
+        orderDTO.setDeliveryPeriod(3);
+        orderDTO.setOrderType("10");
+        orderDTO.setOrderStatus("10");
+        orderDTO.setPaymentStatus("20");
+        orderDTO.setRegisterId(userId);
+        orderDTO.setOrderDate(new Date());
+        return orderService.placeOrder(orderDTO, orderItems, basketItemIds);
+    }
+}
@@ -0,0 +1,20 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 벤치마크를 실행할 DAO 구현 선택
+ * 기본은 내장 H2 DB(Oracle 호환 모드)에 JDBC DAO 구현으로 실행하고,
+ * 메모리 DAO 구현으로 실행하려면 -p engine=memory (Gradle: ./gradlew jmh -Pbench.engine=memory)로 지정합니다.
+ * AppConfig는 JVM마다 하나이므로 엔진별로 별도의 포크에서 실행됩니다.
+ */
+@State(Scope.Benchmark)
+public class EngineState {
+    public static final String H2 = "h2";
+    public static final String MEMORY = "memory";
+
+    @Param({H2})
+    public String engine;
+}
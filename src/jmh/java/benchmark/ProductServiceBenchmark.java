@@ -0,0 +1,45 @@
+package benchmark;
+
+import domain.dto.PageDTO;
+import domain.dto.ProductDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.ProductService;
+
+import java.util.List;
+
+/**
+ * 상품 목록 페이지 조회 (ProductService.getProductPage)
+ * 정렬 조건과 검색어 유무에 따라 findByCriteria의 조회 경로(검색 색인 / 조건 SQL)를 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class ProductServiceBenchmark {
+
+    @Param({"", "priceAsc", "priceDesc"})
+    public String sortBy;
+
+    @Param({"", "상품 1"})
+    public String keyword;
+
+    @Param({"1", "50"})
+    public int page;
+
+    private ProductService productService;
+
+    @Setup
+    public void setUp(EngineState engineState) throws Exception {
+        productService = BenchmarkFixture.load(engineState.engine).getProductService();
+    }
+
+    @Benchmark
+    public List<ProductDTO> getProductPage() {
+        PageDTO pageDTO = new PageDTO();
+        pageDTO.setCurrentPage(page);
+        pageDTO.setSortBy(sortBy);
+        pageDTO.setKeyword(keyword);
+        return productService.getProductPage(pageDTO, null);
+    }
+}
@@ -0,0 +1,48 @@
+package benchmark;
+
+import config.AppConfig;
+import domain.dao.ProductSuggestIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.ProductService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색어 자동완성 (ProductService.suggestProducts)
+ * 목표는 p99 1ms 미만이므로 SampleTime 모드로 지연 시간 분포를 측정합니다.
+ * - 접두어, 초성만 입력, 입력 중인 자음(예: "벤ㅊ")
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSuggestBenchmark {
+
+    @Param({"벤", "벤치마크 상품 1", "ㅂㅊㅁㅋ", "벤ㅊ"})
+    public String query;
+
+    private ProductService productService;
+
+    @Setup
+    public void setUp(EngineState engineState) throws Exception {
+        AppConfig appConfig = BenchmarkFixture.load(engineState.engine);
+        productService = appConfig.getProductService();
+
+        // 색인은 백그라운드에서 구성되므로 준비될 때까지 대기
+        while (!appConfig.getProductSuggestIndex().isReady()) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Benchmark
+    public List<ProductSuggestIndex.Suggestion> suggest() {
+        return productService.suggestProducts(query, 10);
+    }
+}
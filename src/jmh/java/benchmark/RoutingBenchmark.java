@@ -0,0 +1,78 @@
+package benchmark;
+
+import controller.AbstractDomainController;
+import controller.user.UserProductController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AbstractDomainController 요청 처리 (명령어 추출, Command 조회, 작업 단위 시작/커밋, 뷰 forward)
+ * - noOpCommand: 아무 일도 하지 않는 Command로 라우팅 자체의 비용만 측정
+ * - unknownCommand: 등록되지 않은 명령어 (404)
+ * - productList: 실제 상품 목록 요청 (/user/product/list.do)
+ */
+@State(Scope.Thread)
+public class RoutingBenchmark {
+    private static final String CONTEXT_PATH = "/shop";
+
+    private AbstractDomainController productController;
+    private AbstractDomainController noOpController;
+    private HttpServletResponse response;
+
+    private HttpServletRequest productListRequest;
+    private HttpServletRequest unknownRequest;
+    private HttpServletRequest noOpRequest;
+
+    /**
+     * 라우팅 비용만 측정하기 위한 컨트롤러 (모든 명령어에 같은 Command 반환)
+     */
+    static class NoOpController extends AbstractDomainController {
+        @Override
+        public void init() {
+            this.domainPath = "bench";
+            this.commandFactory = command -> (request, response) -> "/WEB-INF/views/bench.jsp";
+        }
+    }
+
+    @Setup
+    public void setUp(EngineState engineState) throws Exception {
+        BenchmarkFixture.load(engineState.engine);
+
+        productController = new UserProductController();
+        productController.init();
+        noOpController = new NoOpController();
+        noOpController.init();
+        response = ServletStubs.response();
+
+        Map<String, String> listParameters = new HashMap<>();
+        listParameters.put("page", "1");
+        listParameters.put("sortBy", "priceAsc");
+        productListRequest = ServletStubs.request(CONTEXT_PATH, CONTEXT_PATH + "/user/product/list.do", listParameters);
+        unknownRequest = ServletStubs.request(CONTEXT_PATH, CONTEXT_PATH + "/user/product/unknown.do",
+                Collections.emptyMap());
+        noOpRequest = ServletStubs.request(CONTEXT_PATH, CONTEXT_PATH + "/bench/edit/123", Collections.emptyMap());
+    }
+
+    @Benchmark
+    public void noOpCommand() throws Exception {
+        noOpController.service(noOpRequest, response);
+    }
+
+    @Benchmark
+    public void unknownCommand() throws Exception {
+        productController.service(unknownRequest, response);
+    }
+
+    @Benchmark
+    public void productList() throws Exception {
+        productController.service(productListRequest, response);
+    }
+}
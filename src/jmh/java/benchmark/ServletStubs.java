@@ -0,0 +1,106 @@
+package benchmark;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서블릿 컨테이너 없이 컨트롤러를 호출하기 위한 최소 요청/응답 구현
+ * 요청 URI, 파라미터, 속성과 세션만 지원하며 forward/redirect/sendError는 아무 동작도 하지 않습니다.
+ */
+final class ServletStubs {
+    private static final RequestDispatcher NO_OP_DISPATCHER = (RequestDispatcher) Proxy.newProxyInstance(
+            ServletStubs.class.getClassLoader(), new Class<?>[]{RequestDispatcher.class},
+            (proxy, method, args) -> null);
+
+    private static final HttpServletResponse NO_OP_RESPONSE = (HttpServletResponse) Proxy.newProxyInstance(
+            ServletStubs.class.getClassLoader(), new Class<?>[]{HttpServletResponse.class},
+            (proxy, method, args) -> defaultValue(method.getReturnType()));
+
+    private ServletStubs() {
+    }
+
+    static HttpServletResponse response() {
+        return NO_OP_RESPONSE;
+    }
+
+    static HttpServletRequest request(String contextPath, String requestURI, Map<String, String> parameters) {
+        Map<String, Object> attributes = new HashMap<>();
+        HttpSession[] session = new HttpSession[1];
+
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                ServletStubs.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getContextPath":
+                            return contextPath;
+                        case "getRequestURI":
+                            return requestURI;
+                        case "getParameter":
+                            return parameters.get((String) args[0]);
+                        case "getParameterValues":
+                            String value = parameters.get((String) args[0]);
+                            return value != null ? new String[]{value} : null;
+                        case "getParameterMap":
+                            return Collections.unmodifiableMap(parameters);
+                        case "getAttribute":
+                            return attributes.get((String) args[0]);
+                        case "setAttribute":
+                            attributes.put((String) args[0], args[1]);
+                            return null;
+                        case "removeAttribute":
+                            attributes.remove((String) args[0]);
+                            return null;
+                        case "getSession":
+                            boolean create = args == null || (Boolean) args[0];
+                            if (session[0] == null && create) {
+                                session[0] = session();
+                            }
+                            return session[0];
+                        case "getRequestDispatcher":
+                            return NO_OP_DISPATCHER;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    private static HttpSession session() {
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpSession) Proxy.newProxyInstance(
+                ServletStubs.class.getClassLoader(), new Class<?>[]{HttpSession.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAttribute":
+                            return attributes.get((String) args[0]);
+                        case "setAttribute":
+                            attributes.put((String) args[0], args[1]);
+                            return null;
+                        case "removeAttribute":
+                            attributes.remove((String) args[0]);
+                            return null;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    // 기본형 반환 메서드가 null을 반환하면 NPE가 발생하므로 기본값 반환
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
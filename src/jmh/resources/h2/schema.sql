@@ -0,0 +1,155 @@
+-- 벤치마크용 스키마 (H2, Oracle 호환 모드)
+-- 운영 Oracle 스키마 중 DAO 구현이 사용하는 테이블, 컬럼, 시퀀스, 인덱스를 정의합니다.
+
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_PRODUCT START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_CATEGORY START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_BASKET START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_BASKET_ITEM START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_ORDER START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_ORDER_ITEM START WITH 1;
+
+CREATE TABLE IF NOT EXISTS TB_USER (
+    id_user             VARCHAR2(30)    PRIMARY KEY,
+    nm_user             VARCHAR2(50),
+    nm_paswd            VARCHAR2(100),
+    nm_enc_paswd        VARCHAR2(200),
+    no_mobile           VARCHAR2(20),
+    nm_email            VARCHAR2(100),
+    st_status           VARCHAR2(10),
+    cd_user_type        VARCHAR2(10),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS UX_USER_EMAIL ON TB_USER (nm_email);
+
+CREATE TABLE IF NOT EXISTS TB_PRODUCT (
+    no_product          VARCHAR2(30)    PRIMARY KEY,
+    nm_product          VARCHAR2(200),
+    nm_detail_explain   CLOB,
+    id_file             VARCHAR2(64),
+    dt_start_date       VARCHAR2(8),
+    dt_end_date         VARCHAR2(8),
+    qt_customer_price   NUMBER(10),
+    qt_sale_price       NUMBER(10),
+    qt_stock            NUMBER(10),
+    qt_delivery_fee     NUMBER(10),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE
+);
+
+CREATE INDEX IF NOT EXISTS IX_PRODUCT_PRICE ON TB_PRODUCT (qt_sale_price, no_product);
+
+CREATE TABLE IF NOT EXISTS TB_CATEGORY (
+    nb_category         NUMBER(10)      PRIMARY KEY,
+    nb_parent_category  NUMBER(10),
+    nm_category         VARCHAR2(100),
+    nm_full_category    VARCHAR2(1000),
+    nm_explain          VARCHAR2(1000),
+    cn_level            NUMBER(3),
+    cn_order            NUMBER(5),
+    yn_use              CHAR(1),
+    yn_delete           CHAR(1),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE
+);
+
+CREATE INDEX IF NOT EXISTS IX_CATEGORY_PARENT ON TB_CATEGORY (nb_parent_category);
+
+CREATE TABLE IF NOT EXISTS TB_CATEGORY_PRODUCT_MAPPING (
+    no_product          VARCHAR2(30),
+    nb_category         NUMBER(10),
+    cn_order            NUMBER(5),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE,
+    PRIMARY KEY (no_product, nb_category)
+);
+
+CREATE INDEX IF NOT EXISTS IX_MAPPING_CATEGORY ON TB_CATEGORY_PRODUCT_MAPPING (nb_category, no_product);
+
+CREATE TABLE IF NOT EXISTS TB_BASKET (
+    nb_basket           NUMBER(10)      PRIMARY KEY,
+    id_user             VARCHAR2(30),
+    qt_basket_amount    NUMBER(10),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE
+);
+
+CREATE INDEX IF NOT EXISTS IX_BASKET_USER ON TB_BASKET (id_user);
+
+CREATE TABLE IF NOT EXISTS TB_BASKET_ITEM (
+    nb_basket_item          NUMBER(10)      PRIMARY KEY,
+    nb_basket               NUMBER(10),
+    cn_basket_item_order    NUMBER(5),
+    no_product              VARCHAR2(30),
+    id_user                 VARCHAR2(30),
+    qt_basket_item_price    NUMBER(10),
+    qt_basket_item          NUMBER(5),
+    qt_basket_item_amount   NUMBER(10),
+    no_register             VARCHAR2(30),
+    da_first_date           DATE
+);
+
+CREATE INDEX IF NOT EXISTS IX_BASKET_ITEM_BASKET ON TB_BASKET_ITEM (nb_basket, no_product);
+
+CREATE TABLE IF NOT EXISTS TB_ORDER (
+    id_order            VARCHAR2(30)    PRIMARY KEY,
+    id_user             VARCHAR2(30),
+    qt_order_amount     NUMBER(10),
+    qt_deli_money       NUMBER(10),
+    qt_deli_period      NUMBER(3),
+    nm_order_person     VARCHAR2(50),
+    nm_receiver         VARCHAR2(50),
+    no_delivery_zipno   VARCHAR2(10),
+    nm_delivery_address VARCHAR2(500),
+    nm_receiver_telno   VARCHAR2(20),
+    nm_delivery_space   VARCHAR2(100),
+    cd_order_type       VARCHAR2(10),
+    da_order            DATE,
+    st_order            VARCHAR2(10),
+    st_payment          VARCHAR2(10),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE
+);
+
+CREATE INDEX IF NOT EXISTS IX_ORDER_USER ON TB_ORDER (id_user, da_order);
+
+CREATE TABLE IF NOT EXISTS TB_ORDER_ITEM (
+    id_order_item               VARCHAR2(30)    PRIMARY KEY,
+    id_order                    VARCHAR2(30),
+    cn_order_item               NUMBER(5),
+    no_product                  VARCHAR2(30),
+    id_user                     VARCHAR2(30),
+    qt_unit_price               NUMBER(10),
+    qt_order_item               NUMBER(5),
+    qt_order_item_amount        NUMBER(10),
+    qt_order_item_delivery_fee  NUMBER(10),
+    st_payment                  VARCHAR2(10),
+    no_register                 VARCHAR2(30),
+    da_first_date               DATE
+);
+
+CREATE INDEX IF NOT EXISTS IX_ORDER_ITEM_ORDER ON TB_ORDER_ITEM (id_order);
+
+CREATE TABLE IF NOT EXISTS TB_CONTENT (
+    id_file             VARCHAR2(64)    PRIMARY KEY,
+    nm_org_file         VARCHAR2(500),
+    nm_save_file        VARCHAR2(500),
+    nm_file_path        VARCHAR2(1000),
+    bo_save_file        BLOB,
+    nm_file_ext         VARCHAR2(20),
+    cd_file_type        VARCHAR2(100),
+    da_save             DATE,
+    cn_hit              NUMBER(9),
+    id_service          VARCHAR2(30),
+    id_org_file         VARCHAR2(64),
+    cn_content          NUMBER(12),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE,
+    nm_content_hash     VARCHAR2(64),
+    cn_ref              NUMBER(9)       DEFAULT 1 NOT NULL,
+    cd_variant          VARCHAR2(10)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS UX_CONTENT_HASH ON TB_CONTENT (nm_content_hash);
+CREATE UNIQUE INDEX IF NOT EXISTS UX_CONTENT_ORG_VARIANT ON TB_CONTENT (id_org_file, cd_variant);
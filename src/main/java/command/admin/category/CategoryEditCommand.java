@@ -12,7 +12,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 public class CategoryEditCommand implements Command {
@@ -78,10 +77,8 @@ public class CategoryEditCommand implements Command {
                 return null;
             }
 
-            // 상위 카테고리 선택을 위한 카테고리 목록 조회 (자기 자신은 제외)
-            List<CategoryDTO> parentCategoryDTOs = categoryService.getAllCategoryDTOs().stream()
-                    .filter(dto -> !dto.getId().equals(categoryId))
-                    .collect(Collectors.toList());
+            // 상위 카테고리 선택을 위한 카테고리 목록 조회 (자기 자신과 하위 카테고리는 제외)
+            List<CategoryDTO> parentCategoryDTOs = categoryService.getParentCategoryCandidates(categoryId);
 
             request.setAttribute("category", categoryDTO);
             request.setAttribute("parentCategories", parentCategoryDTOs);
@@ -110,9 +107,7 @@ public class CategoryEditCommand implements Command {
                 request.setAttribute("category", categoryDTO);
 
                 // 상위 카테고리 목록 가져오기 (폼 재표시용)
-                List<CategoryDTO> parentCategoryDTOs = categoryService.getAllCategoryDTOs().stream()
-                        .filter(dto -> !dto.getId().equals(categoryDTO.getId()))
-                        .collect(Collectors.toList());
+                List<CategoryDTO> parentCategoryDTOs = categoryService.getParentCategoryCandidates(categoryDTO.getId());
                 request.setAttribute("parentCategories", parentCategoryDTOs);
 
                 return "/WEB-INF/views/admin/category/categoryEdit.jsp";
@@ -128,9 +123,7 @@ public class CategoryEditCommand implements Command {
                 request.setAttribute("category", categoryDTO);
 
                 // 상위 카테고리 목록 가져오기 (폼 재표시용)
-                List<CategoryDTO> parentCategoryDTOs = categoryService.getAllCategoryDTOs().stream()
-                        .filter(dto -> !dto.getId().equals(categoryDTO.getId()))
-                        .collect(Collectors.toList());
+                List<CategoryDTO> parentCategoryDTOs = categoryService.getParentCategoryCandidates(categoryDTO.getId());
                 request.setAttribute("parentCategories", parentCategoryDTOs);
 
                 return "/WEB-INF/views/admin/category/categoryEdit.jsp";
@@ -148,9 +141,7 @@ public class CategoryEditCommand implements Command {
                 request.setAttribute("category", categoryDTO);
 
                 // 상위 카테고리 목록 가져오기 (폼 재표시용)
-                List<CategoryDTO> parentCategoryDTOs = categoryService.getAllCategoryDTOs().stream()
-                        .filter(dto -> !dto.getId().equals(categoryDTO.getId()))
-                        .collect(Collectors.toList());
+                List<CategoryDTO> parentCategoryDTOs = categoryService.getParentCategoryCandidates(categoryDTO.getId());
                 request.setAttribute("parentCategories", parentCategoryDTOs);
             } catch (Exception ex) {
                 log.error("상위 카테고리 목록 조회 중 오류 발생: {}", ex.getMessage());
@@ -39,11 +39,8 @@ public class CategoryListCommand implements Command {
             // 페이지 크기 설정 (선택적으로 조정 가능)
             pageDTO.setPageSize(10);
 
-            // 서비스 계층에서 페이지네이션 설정
-            pageDTO = categoryService.setupCategoryPage(pageDTO);
-
-            // 카테고리 목록 조회
-            List<CategoryDTO> pagedCategories = categoryService.getCategoriesByPage(pageDTO);
+            // 카테고리 목록과 페이지네이션 정보 조회
+            List<CategoryDTO> pagedCategories = categoryService.getCategoryPage(pageDTO);
 
             // 결과 저장
             if (pageDTO.getKeyword() != null && !pageDTO.getKeyword().trim().isEmpty()) {
@@ -43,11 +43,8 @@ public class ProductListCommand implements Command {
                 pageDTO.setSortBy("priceAsc");
             }
 
-            // 서비스 계층에서 페이지네이션 설정
-            pageDTO = productService.setupProductPage(pageDTO);
-
-            // 상품 목록 조회
-            List<ProductDTO> products = productService.getProductsByPage(pageDTO);
+            // 상품 목록과 페이지네이션 정보 조회
+            List<ProductDTO> products = productService.getProductPage(pageDTO, null);
 
             // 결과 저장
             if (pageDTO.getKeyword() != null && !pageDTO.getKeyword().trim().isEmpty()) {
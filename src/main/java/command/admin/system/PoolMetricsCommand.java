@@ -0,0 +1,52 @@
+package command.admin.system;
+
+import command.Command;
+import config.AppConfig;
+import domain.dao.CachedContentDAO;
+import domain.dao.ContentDAO;
+import domain.dto.PoolMetricsDTO;
+import lombok.extern.slf4j.Slf4j;
+import util.DatabaseConnection;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 커넥션 풀 상태와 커넥션 획득 시간 통계, 파일/화면 조각 캐시 적중률을 보여주는 Command 클래스
+ * URL: /admin/system/pool
+ */
+@Slf4j
+public class PoolMetricsCommand implements Command {
+
+    @Override
+    public String execute(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        log.info("PoolMetricsCommand 실행");
+
+        if (AppConfig.isInMemoryEngine()) {
+            request.setAttribute("errorMessage", "메모리 DAO 구현을 사용 중이므로 커넥션 풀이 없습니다.");
+            return "/WEB-INF/views/common/error.jsp";
+        }
+
+        PoolMetricsDTO metrics = DatabaseConnection.getPoolMetrics();
+        if (metrics == null) {
+            request.setAttribute("errorMessage", "커넥션 풀이 초기화되지 않았습니다.");
+            return "/WEB-INF/views/common/error.jsp";
+        }
+
+        request.setAttribute("metrics", metrics);
+        // 읽기 전용 복제본 풀 (설정된 경우에만)
+        request.setAttribute("replicaMetrics", DatabaseConnection.getReplicaPoolMetrics());
+
+        // 커넥션 풀 사용량을 줄이는 캐시들의 통계
+        AppConfig appConfig = AppConfig.getInstance();
+        ContentDAO contentDAO = appConfig.getContentDAO();
+        if (contentDAO instanceof CachedContentDAO) {
+            request.setAttribute("fileCache", ((CachedContentDAO) contentDAO).getCache());
+            request.setAttribute("missingVariants", ((CachedContentDAO) contentDAO).getMissingVariants());
+        }
+        request.setAttribute("fragmentCache", appConfig.getFragmentCache().getCache());
+        return "/WEB-INF/views/admin/system/poolMetrics.jsp";
+    }
+}
@@ -35,13 +35,8 @@ public class AdminUserListCommand implements Command {
             // 페이지 크기 설정
             pageDTO.setPageSize(10);
 
-            // 서비스 계층에서 페이지네이션 설정
-            pageDTO = userService.setupUserPage(pageDTO);
-
-            // 사용자 목록 조회
-            List<UserDTO> pagedUsers = userService.getUsersWithPagination(
-                    pageDTO.getCurrentPage(), pageDTO.getPageSize()
-            );
+            // 사용자 목록과 페이지네이션 정보 조회
+            List<UserDTO> pagedUsers = userService.getUserPage(pageDTO);
 
             // 결과 저장
             request.setAttribute("users", pagedUsers);
@@ -0,0 +1,31 @@
+package command.factory.admin;
+
+import command.Command;
+import command.CommandFactory;
+import command.admin.system.PoolMetricsCommand;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시스템 상태 관련 Command 객체를 생성하는 Factory 클래스
+ */
+@Slf4j
+public class AdminSystemCommandFactory implements CommandFactory {
+
+    @Override
+    public Command getCommand(String command) {
+        log.info("SystemCommandFactory: " + command + " 명령어 처리");
+
+        if (command == null) {
+            return null;
+        }
+
+        switch (command) {
+            case "list":
+            case "pool":
+                return new PoolMetricsCommand();
+            default:
+                log.warn("지원하지 않는 시스템 명령어: " + command);
+                return null;
+        }
+    }
+}
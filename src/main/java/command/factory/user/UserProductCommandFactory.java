@@ -4,6 +4,7 @@ import command.Command;
 import command.CommandFactory;
 import command.user.product.ProductDetailCommand;
 import command.user.product.ProductListCommand;
+import command.user.product.ProductSuggestCommand;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,6 +21,7 @@ public class UserProductCommandFactory implements CommandFactory {
         // 명령어와 해당 Command 객체 매핑
         commands.put("list.do", new ProductListCommand());
         commands.put("detail.do", new ProductDetailCommand());
+        commands.put("suggest", new ProductSuggestCommand()); // 검색어 자동완성 (JSON)
         // 추가 명령어는 여기에 등록
     }
 
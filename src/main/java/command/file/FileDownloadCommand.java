@@ -2,9 +2,12 @@ package command.file;
 
 import command.Command;
 import config.AppConfig;
+import domain.dao.ContentStream;
 import domain.dto.ContentDTO;
 import lombok.extern.slf4j.Slf4j;
 import service.FileService;
+import util.ByteRange;
+import util.ImageVariant;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -13,11 +16,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
 @Slf4j
 public class FileDownloadCommand implements Command {
+    // 파일 ID마다 내용이 고정되므로(수정 시 새 ID로 업로드) 1년 동안 재검증 없이 캐시
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // 요청한 크기 변형이 아직 생성되지 않아 원본으로 대신 응답할 때 (변형이 생기면 곧 다시 받도록 짧게 캐시)
+    private static final String FALLBACK_CACHE_CONTROL = "public, max-age=60";
+
     private final FileService fileService;
     private final boolean useDbStorage;
 
@@ -45,27 +54,104 @@ public class FileDownloadCommand implements Command {
             return null;
         }
 
-        // 파일 정보 조회
-        ContentDTO contentDTO = fileService.getFileById(fileId);
-        if (contentDTO == null) {
-            response.sendError(HttpServletResponse.SC_NOT_FOUND, "파일을 찾을 수 없습니다.");
+        // 크기 변형 (?size=thumb|card|detail, 없거나 알 수 없는 값이면 원본)
+        ImageVariant variant = ImageVariant.fromCode(request.getParameter("size"));
+
+        // 파일 ID(와 변형)가 곧 버전이므로, 이미 받은 파일이면 DB 조회와 조회수 갱신 없이 304 응답
+        String etag = variant != null ? "\"" + fileId + "-" + variant.getCode() + "\"" : "\"" + fileId + "\"";
+        if (isNotModified(request, etag)) {
+            setCacheHeaders(response, etag, CACHE_CONTROL);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
             return null;
         }
 
-        // 이미지 타입 확인 및 응답 설정
-        setContentTypeByExtension(response, contentDTO.getFileExtension());
+        // 파일 정보 조회 (파일 데이터는 전송할 때 스트림으로 읽고, 전송이 끝나면 커넥션 반환)
+        try (ContentStream contentStream = fileService.openFile(fileId, variant)) {
+            if (contentStream == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND, "파일을 찾을 수 없습니다.");
+                return null;
+            }
+            ContentDTO contentDTO = contentStream.getContent();
+
+            // 변형이 아직 없어 원본으로 대신 응답하면 원본의 ETag로 짧게 캐시하고,
+            // Last-Modified는 보내지 않아 이후 재검증이 변형의 ETag로만 판단되게 함
+            boolean fallback = variant != null && contentDTO.getVariant() == null;
+            String servedEtag = fallback ? "\"" + fileId + "\"" : etag;
+            String cacheControl = fallback ? FALLBACK_CACHE_CONTROL : CACHE_CONTROL;
 
-        if (useDbStorage) {
-            // DB에서 직접 바이너리 데이터 제공
-            serveFileFromDatabase(response, contentDTO);
-        } else {
-            // 파일 시스템에서 제공
-            serveFileFromFileSystem(response, contentDTO);
+            // 이미지 타입 확인 및 응답 설정
+            setContentTypeByExtension(response, contentDTO.getFileExtension());
+            response.setHeader("Accept-Ranges", "bytes");
+            if (!fallback && contentDTO.getSaveDate() != null) {
+                response.setDateHeader("Last-Modified", contentDTO.getSaveDate().getTime());
+            }
+
+            if (useDbStorage) {
+                // DB에서 직접 바이너리 데이터 제공
+                serveFileFromDatabase(request, response, contentStream, servedEtag, cacheControl);
+            } else {
+                // 파일 시스템에서 제공
+                serveFileFromFileSystem(request, response, contentDTO, servedEtag, cacheControl);
+            }
         }
 
         return null; // 직접 응답 생성하므로 null 반환
     }
 
+    /**
+     * 캐시 헤더 설정
+     * 오류 응답(404, 416)이 캐시되지 않도록 실제로 내용을 보낼 때만 호출합니다.
+     */
+    private void setCacheHeaders(HttpServletResponse response, String etag, String cacheControl) {
+        response.setHeader("ETag", etag);
+        response.setHeader("Cache-Control", cacheControl);
+    }
+
+    /**
+     * 조건부 요청 확인
+     * 내용이 바뀌지 않으므로 If-None-Match가 ETag와 같거나, If-None-Match 없이 If-Modified-Since만 있으면 변경 없음으로 봅니다.
+     */
+    private boolean isNotModified(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || etag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return request.getHeader("If-Modified-Since") != null;
+    }
+
+    /**
+     * 응답할 바이트 구간 결정
+     * If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 응답합니다.
+     * 만족할 수 없는 구간이면 416 응답을 보내고 UNSATISFIABLE을 반환합니다.
+     * @return 전체 응답이면 null
+     */
+    private ByteRange resolveRange(HttpServletRequest request, HttpServletResponse response,
+                                   long length, String etag) throws IOException {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            return null;
+        }
+
+        ByteRange range = ByteRange.parse(request.getHeader("Range"), length);
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setHeader("Content-Range", "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        } else if (range != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range", range.contentRange(length));
+        }
+        return range;
+    }
+
     /**
      * 파일 확장자에 따른 Content-Type 설정
      * @param response HTTP 응답
@@ -101,19 +187,33 @@ public class FileDownloadCommand implements Command {
     }
 
     /**
-     * DB에 저장된 파일 바이너리 데이터 제공
+     * DB에 저장된 파일 바이너리 데이터 제공 (BLOB 스트림을 고정 크기 버퍼로 복사)
      * @param response HTTP 응답
-     * @param contentDTO 파일 컨텐츠 객체
+     * @param contentStream 파일 메타데이터와 데이터 스트림
      * @throws IOException I/O 오류 발생 시
      */
-    private void serveFileFromDatabase(HttpServletResponse response, ContentDTO contentDTO) throws IOException {
-        if (contentDTO.getSaveFile() == null) {
+    private void serveFileFromDatabase(HttpServletRequest request, HttpServletResponse response,
+                                       ContentStream contentStream, String etag, String cacheControl) throws IOException {
+        if (!contentStream.hasData()) {
             response.sendError(HttpServletResponse.SC_NOT_FOUND, "파일 데이터가 없습니다.");
             return;
         }
 
+        long fileLength = contentStream.getLength();
+        ByteRange range = resolveRange(request, response, fileLength, etag);
+        if (range == ByteRange.UNSATISFIABLE) {
+            return;
+        }
+        setCacheHeaders(response, etag, cacheControl);
+        long offset = range != null ? range.getStart() : 0;
+        long length = range != null ? range.getLength() : fileLength;
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
         try (OutputStream outputStream = response.getOutputStream()) {
-            outputStream.write(contentDTO.getSaveFile());
+            contentStream.copyTo(outputStream, offset, length);
             outputStream.flush();
         }
     }
@@ -124,7 +224,8 @@ public class FileDownloadCommand implements Command {
      * @param contentDTO 파일 컨텐츠 객체
      * @throws IOException I/O 오류 발생 시
      */
-    private void serveFileFromFileSystem(HttpServletResponse response, ContentDTO contentDTO) throws IOException {
+    private void serveFileFromFileSystem(HttpServletRequest request, HttpServletResponse response,
+                                         ContentDTO contentDTO, String etag, String cacheControl) throws IOException {
         String filePath = contentDTO.getFilePath();
         if (filePath == null) {
             response.sendError(HttpServletResponse.SC_NOT_FOUND, "파일 경로가 없습니다.");
@@ -137,6 +238,36 @@ public class FileDownloadCommand implements Command {
             return;
         }
 
+        ByteRange range = resolveRange(request, response, file.length(), etag);
+        if (range == ByteRange.UNSATISFIABLE) {
+            return;
+        }
+        setCacheHeaders(response, etag, cacheControl);
+        response.setContentLengthLong(range != null ? range.getLength() : file.length());
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (range != null) {
+            // 요청 구간만 읽어서 전송
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                 OutputStream outputStream = response.getOutputStream()) {
+                randomAccessFile.seek(range.getStart());
+                byte[] buffer = new byte[4096];
+                long remaining = range.getLength();
+                int bytesRead;
+
+                while (remaining > 0
+                        && (bytesRead = randomAccessFile.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                    outputStream.write(buffer, 0, bytesRead);
+                    remaining -= bytesRead;
+                }
+
+                outputStream.flush();
+            }
+            return;
+        }
+
         try (InputStream inputStream = Files.newInputStream(Paths.get(filePath));
              OutputStream outputStream = response.getOutputStream()) {
 
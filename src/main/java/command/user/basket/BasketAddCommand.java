@@ -1,15 +1,14 @@
 package command.user.basket;
 
 import command.Command;
+import config.AppConfig;
 import domain.dto.BasketItemDTO;
 import domain.dto.ProductDTO;
 import domain.dto.UserDTO;
 import lombok.extern.slf4j.Slf4j;
 import service.BasketService;
 import domain.dao.BasketDAO;
-import domain.dao.BasketDAOImpl;
 import domain.dao.ProductDAO;
-import domain.dao.ProductDAOImpl;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -27,8 +26,8 @@ public class BasketAddCommand implements Command {
     private final ProductDAO productDAO;
 
     public BasketAddCommand() {
-        BasketDAO basketDAO = new BasketDAOImpl();
-        this.productDAO = new ProductDAOImpl();
+        BasketDAO basketDAO = AppConfig.getInstance().getBasketDAO();
+        this.productDAO = AppConfig.getInstance().getProductDAO();
         this.basketService = new BasketService(basketDAO, productDAO);
     }
 
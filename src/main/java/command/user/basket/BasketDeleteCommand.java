@@ -1,13 +1,12 @@
 package command.user.basket;
 
 import command.Command;
+import config.AppConfig;
 import domain.dto.UserDTO;
 import lombok.extern.slf4j.Slf4j;
 import service.BasketService;
 import domain.dao.BasketDAO;
-import domain.dao.BasketDAOImpl;
 import domain.dao.ProductDAO;
-import domain.dao.ProductDAOImpl;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -24,8 +23,8 @@ public class BasketDeleteCommand implements Command {
     private final BasketService basketService;
 
     public BasketDeleteCommand() {
-        BasketDAO basketDAO = new BasketDAOImpl();
-        ProductDAO productDAO = new ProductDAOImpl();
+        BasketDAO basketDAO = AppConfig.getInstance().getBasketDAO();
+        ProductDAO productDAO = AppConfig.getInstance().getProductDAO();
         this.basketService = new BasketService(basketDAO, productDAO);
     }
 
@@ -1,16 +1,12 @@
 package command.user.order;
 
 import command.Command;
-import domain.dao.BasketDAOImpl;
-import domain.dao.ProductDAOImpl;
 import domain.dto.OrderDTO;
 import domain.dto.OrderItemDTO;
 import domain.dto.UserDTO;
+import exception.OutOfStockException;
 import lombok.extern.slf4j.Slf4j;
-import service.BasketService;
 import service.OrderService;
-import config.AppConfig;
-import service.ProductService;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -29,8 +25,6 @@ import java.util.List;
 public class OrderCreateCommand implements Command {
 
     private OrderService orderService;
-    private BasketService basketService;
-    private ProductService productService;
 
     // 주문 상태 및 결제 상태 코드
     private static final String ORDER_STATUS_COMPLETE = "10"; // 주문완료
@@ -39,12 +33,6 @@ public class OrderCreateCommand implements Command {
     public OrderCreateCommand() {
         // 서비스 초기화
         this.orderService = new OrderService();
-        // BasketService 초기화
-        BasketDAOImpl basketDAO = new BasketDAOImpl();
-        ProductDAOImpl productDAO = new ProductDAOImpl();
-        this.basketService = new BasketService(basketDAO, productDAO);
-        this.productService = AppConfig.getInstance().getProductService();
-
     }
 
     @Override
@@ -122,63 +110,16 @@ public class OrderCreateCommand implements Command {
                 return "/WEB-INF/views/common/error.jsp";
             }
 
-            boolean allInStock = true;
-            List<String> outOfStockProducts = new ArrayList<>();
-
-            for (OrderItemDTO item : orderItems) {
-                int stock = productService.getProductStock(item.getProductCode());
-                if (stock < item.getQuantity()) {
-                    allInStock = false;
-                    outOfStockProducts.add(item.getProductName());
-                }
-            }
-
-            // 재고 부족 시 주문 취소
-            if (!allInStock) {
-                request.setAttribute("errorMessage", "다음 상품의 재고가 부족하여 주문이 취소되었습니다: " +
-                        String.join(", ", outOfStockProducts));
-                return "/WEB-INF/views/common/error.jsp";
-            }
-
-
-            // 주문 생성
-            String orderId = orderService.createOrder(orderDTO);
-
-            if (orderId == null) {
-                request.setAttribute("errorMessage", "주문 생성 중 오류가 발생했습니다.");
-                return "/WEB-INF/views/common/error.jsp";
-            }
-
-            // 주문 항목 저장
+            // 주문 항목 기본 정보 설정
             for (OrderItemDTO item : orderItems) {
-                log.info("주문 항목 생성 시도: {}", item.getProductCode());
-                item.setOrderId(orderId);
                 item.setPaymentStatus(PAYMENT_STATUS_COMPLETE); // 결제완료 상태
                 item.setRegisterId(userId);
-
-                boolean result = orderService.createOrderItem(item);
-                // 주문 성공 시 재고 차감
-                if (result) {
-                    productService.updateProductStock(item.getProductCode(),
-                            item.getQuantity());
-                }
-                log.info("주문 항목 생성 결과: {}", result);
-
-                if (!result) {
-                    log.error("주문 항목 생성 실패: {}", item.getProductCode());
-                }
             }
 
-            // 주문 금액 업데이트 (실제 주문 항목 기준)
-            orderService.updateOrderAmount(orderId);
-
             // 장바구니에서 주문한 경우, 주문한 상품만 장바구니에서 제거
             log.info("요청 파라미터 확인: {}", request.getParameterMap().keySet());
 
-// 장바구니에서 주문한 경우, 주문한 상품만 장바구니에서 제거하는 로직
-            log.info("장바구니 항목 삭제 시작");
-
-// 먼저 itemId 파라미터 확인
+            // 먼저 itemId 파라미터 확인
             String[] itemIdsArray = request.getParameterValues("itemId");
             List<Long> basketItemIds = new ArrayList<>();
 
@@ -225,16 +166,33 @@ public class OrderCreateCommand implements Command {
                 }
             }
 
-            // 장바구니 항목 삭제 실행
-            if (!basketItemIds.isEmpty()) {
-                log.info("장바구니에서 항목 {} 개 삭제 시도", basketItemIds.size());
-                boolean removed = basketService.removeSelectedItems(userId, basketItemIds);
-                log.info("장바구니 항목 삭제 결과: {}", removed);
-            } else {
+            if (basketItemIds.isEmpty()) {
                 log.info("삭제할 장바구니 항목이 없습니다. 이것은 직접 구매 또는 폼 제출 오류일 수 있습니다.");
                 // 전체 장바구니 비우기는 하지 않음
             }
 
+            // 주문 생성, 주문 항목 저장, 재고 차감, 장바구니 항목 삭제를 하나의 트랜잭션으로 처리
+            String orderId;
+            try {
+                orderId = orderService.placeOrder(orderDTO, orderItems, basketItemIds);
+            } catch (OutOfStockException e) {
+                // 재고 부족 시 주문 취소 (전체 롤백됨)
+                String productName = e.getProductCode();
+                for (OrderItemDTO item : orderItems) {
+                    if (e.getProductCode().equals(item.getProductCode()) && item.getProductName() != null) {
+                        productName = item.getProductName();
+                        break;
+                    }
+                }
+                request.setAttribute("errorMessage", "다음 상품의 재고가 부족하여 주문이 취소되었습니다: " + productName);
+                return "/WEB-INF/views/common/error.jsp";
+            }
+
+            if (orderId == null) {
+                request.setAttribute("errorMessage", "주문 생성 중 오류가 발생했습니다.");
+                return "/WEB-INF/views/common/error.jsp";
+            }
+
             // 세션에서 주문 항목 정보 제거 (주문 완료 후)
             session.removeAttribute("orderItems");
             session.removeAttribute("totalOrderAmount");
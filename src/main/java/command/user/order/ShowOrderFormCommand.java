@@ -2,8 +2,8 @@ package command.user.order;
 
 import command.Command;
 import config.AppConfig;
-import domain.dao.BasketDAOImpl;
-import domain.dao.ProductDAOImpl;
+import domain.dao.BasketDAO;
+import domain.dao.ProductDAO;
 import domain.dto.BasketDTO;
 import domain.dto.BasketItemDTO;
 import domain.dto.OrderItemDTO;
@@ -39,8 +39,8 @@ public class ShowOrderFormCommand implements Command {
         this.userService = AppConfig.getInstance().getUserService();
 
         // BasketService 초기화
-        BasketDAOImpl basketDAO = new BasketDAOImpl();
-        ProductDAOImpl productDAO = new ProductDAOImpl();
+        BasketDAO basketDAO = AppConfig.getInstance().getBasketDAO();
+        ProductDAO productDAO = AppConfig.getInstance().getProductDAO();
         this.basketService = new BasketService(basketDAO, productDAO);
     }
 
@@ -5,11 +5,14 @@ import domain.dto.ProductDTO;
 import service.ProductService;
 import config.AppConfig;
 import lombok.extern.slf4j.Slf4j;
+import util.CatalogVersion;
+import util.ConditionalGet;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.LocalDate;
 
 @Slf4j
 public class ProductDetailCommand implements Command {
@@ -36,6 +39,13 @@ public class ProductDetailCommand implements Command {
             return null;
         }
 
+        // 상품이 바뀌지 않았고 같은 사용자가 오늘 이미 받은 화면이면 DB 조회 없이 304 응답
+        String etag = ConditionalGet.etag(CatalogVersion.productVersion(productCode), "user.product.detail",
+                productCode, LocalDate.now(), ConditionalGet.viewer(request));
+        if (ConditionalGet.checkNotModified(request, response, etag, CatalogVersion.productLastModified(productCode))) {
+            return null;
+        }
+
         // 상품 코드로 상품 정보 조회
         ProductDTO product = productService.getProductDTOByCode(productCode);
 
@@ -4,8 +4,13 @@ import command.Command;
 import domain.dto.CategoryDTO;
 import domain.dto.PageDTO;
 import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
 import service.CategoryService;
 import service.ProductService;
+import tag.FragmentCacheTag;
+import util.CatalogVersion;
+import util.ConditionalGet;
+import util.FragmentCache;
 import config.AppConfig;
 import lombok.extern.slf4j.Slf4j;
 
@@ -13,6 +18,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -33,6 +39,7 @@ public class ProductListCommand implements Command {
         String pageParam = request.getParameter("page");
         String sortByParam = request.getParameter("sortBy");
         String keywordParam = request.getParameter("keyword");
+        String cursorParam = request.getParameter("cursor");
 
         // 카테고리 파라미터 처리
         String categoryIdParam = request.getParameter("categoryId");
@@ -46,16 +53,41 @@ public class ProductListCommand implements Command {
         }
 
         // PageDTO 객체 생성 및 초기화
-        PageDTO pageDTO = productService.createPageDTOFromParameters(pageParam, sortByParam, keywordParam);
+        PageDTO pageDTO = productService.createPageDTOFromParameters(pageParam, sortByParam, keywordParam, cursorParam);
 
         // 사용자 상품 목록에서는 페이지 크기를 16으로 설정 (admin과 구분)
         pageDTO.setPageSize(16);
 
-        // 페이지네이션 정보 계산 (카테고리 정보 포함)
-        pageDTO = productService.setupProductPage(pageDTO, categoryId);
+        // 가격 범위, 재고 있음, 판매 중 필터
+        productService.applyFilterParameters(pageDTO, request.getParameter("minPrice"),
+                request.getParameter("maxPrice"), request.getParameter("inStock"), request.getParameter("onSale"));
 
-        // 현재 페이지에 해당하는 상품 목록 조회 (카테고리 정보 포함)
-        List<ProductDTO> products = productService.getProductsByPage(pageDTO, categoryId);
+        // 버전은 조각 키보다 먼저 읽어, 그 사이 카탈로그가 바뀌면 ETag가 이전 버전으로 남아 다음 요청에서 다시 받게 함
+        long catalogVersion = CatalogVersion.current();
+        long lastModified = CatalogVersion.lastModified();
+
+        // 목록 조각(사이드바, 상품 목록, 페이지네이션)은 사용자와 관계없으므로 같은 조건이면 렌더링 결과를 재사용
+        // JSP는 categoryId 요청 파라미터를 그대로 사용하므로 키에도 원래 값을 사용하고,
+        // 판매 상태는 오늘 날짜로 정해지므로 날짜가 바뀌면 다시 렌더링되도록 날짜도 포함
+        String fragmentKey = FragmentCache.key("user.product.list", categoryIdParam, pageDTO.getSortBy(),
+                pageDTO.getKeyword(), pageDTO.getCurrentPage(), pageDTO.getCursor(), pageDTO.getPageSize(),
+                pageDTO.getFilterParams(), LocalDate.now());
+
+        // 같은 카탈로그 버전, 조건, 사용자로 이미 받은 화면이면 DB 조회 없이 304 응답
+        String etag = ConditionalGet.etag(catalogVersion, fragmentKey, ConditionalGet.viewer(request));
+        if (ConditionalGet.checkNotModified(request, response, etag, lastModified)) {
+            return null;
+        }
+
+        request.setAttribute("fragmentKey", fragmentKey);
+        if (FragmentCacheTag.preload(request, fragmentKey)) {
+            return "/WEB-INF/views/user/productList.jsp";
+        }
+
+        // 현재 페이지에 해당하는 상품 목록과 페이지네이션 정보 조회 (카테고리 정보 포함)
+        // 사이드바에 카테고리별/가격대별 상품 수를 표시하므로 패싯도 함께 조회
+        ProductQueryResult result = productService.getProductPage(pageDTO, categoryId, true);
+        List<ProductDTO> products = result.getProducts();
 
         // 모든 카테고리 목록 조회 (사이드바 표시용)
         List<CategoryDTO> categories = categoryService.getAllCategoryDTOs();
@@ -65,6 +97,8 @@ public class ProductListCommand implements Command {
         request.setAttribute("pageDTO", pageDTO);
         request.setAttribute("categories", categories);
         request.setAttribute("categoryId", categoryId);
+        request.setAttribute("categoryCounts", result.getCategoryCounts());
+        request.setAttribute("priceBuckets", result.getPriceBuckets());
 
         // JSP 페이지 경로 반환
         return "/WEB-INF/views/user/productList.jsp";
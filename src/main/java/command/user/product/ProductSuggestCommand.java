@@ -0,0 +1,76 @@
+package command.user.product;
+
+import command.Command;
+import config.AppConfig;
+import domain.dao.ProductSuggestIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import service.ProductService;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * 검색어 자동완성 (/user/product/suggest?q=검색어&limit=10)
+ * 메모리 색인에서 상품명 접두어(초성 포함)로 찾은 상품을 JSON 배열로 반환합니다. (DB 조회 없음)
+ * 응답 예: [{"code":"PT0000001","name":"무선 이어폰"}]
+ */
+@Slf4j
+public class ProductSuggestCommand implements Command {
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 20;
+    // 검색창 입력 중에만 쓰이므로 너무 긴 입력은 잘라서 처리
+    private static final int MAX_QUERY_LENGTH = 50;
+
+    private final ProductService productService;
+
+    public ProductSuggestCommand() {
+        this.productService = AppConfig.getInstance().getProductService();
+    }
+
+    @Override
+    public String execute(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        String query = request.getParameter("q");
+        if (query != null && query.length() > MAX_QUERY_LENGTH) {
+            query = query.substring(0, MAX_QUERY_LENGTH);
+        }
+        int limit = parseLimit(request.getParameter("limit"));
+
+        List<ProductSuggestIndex.Suggestion> suggestions = productService.suggestProducts(query, limit);
+
+        JSONArray items = new JSONArray();
+        for (ProductSuggestIndex.Suggestion suggestion : suggestions) {
+            JSONObject item = new JSONObject();
+            item.put("code", suggestion.getProductCode());
+            item.put("name", suggestion.getProductName());
+            items.add(item);
+        }
+
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        // 입력할 때마다 호출되므로 같은 검색어는 잠시 브라우저 캐시 사용
+        response.setHeader("Cache-Control", "private, max-age=30");
+
+        PrintWriter out = response.getWriter();
+        out.print(items.toJSONString());
+        out.flush();
+
+        return null; // 이미 직접 응답을 작성했으므로 null 반환
+    }
+
+    private int parseLimit(String limitParam) {
+        if (limitParam == null || limitParam.isEmpty()) {
+            return DEFAULT_LIMIT;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_LIMIT, Integer.parseInt(limitParam)));
+        } catch (NumberFormatException e) {
+            return DEFAULT_LIMIT;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package config;
 
 import domain.dao.*;
+import domain.dao.memory.*;
 import lombok.Getter;
 import service.*;
 import util.DatabaseConnection;
+import util.FragmentCache;
+import util.ReadOnlyRouting;
 
 import java.io.Serializable;
 
@@ -14,11 +17,33 @@ public class AppConfig implements Serializable {
     // volatile 키워드 추가로 멀티스레드 환경에서 변수의 가시성 보장
     private static volatile AppConfig instance;
 
+    // 상품 캐시 최대 항목 수
+    private static final int PRODUCT_CACHE_SIZE = 1000;
+    // 화면 조각 캐시 최대 항목 수
+    private static final int FRAGMENT_CACHE_SIZE = 500;
+    // 파일(이미지) 데이터 캐시 최대 크기 (힙 밖 direct 메모리 사용)
+    private static final long FILE_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+    // 캐시할 파일 하나의 최대 크기 (이미지 변형은 모두 들어가고, 큰 원본은 캐시하지 않음)
+    private static final long FILE_CACHE_MAX_ENTRY_BYTES = 2L * 1024 * 1024;
+
+    // DAO 구현 선택 (-Dapp.dao.engine=memory 이면 메모리 구현, 기본값 jdbc는 Oracle)
+    public static final String DAO_ENGINE_PROPERTY = "app.dao.engine";
+    public static final String DAO_ENGINE_MEMORY = "memory";
+
     private final UserDAO userDAO;
     private final ProductDAO productDAO;
     private final CategoryDAO categoryDAO;
     private final MappingDAO mappingDAO;
     private final ContentDAO contentDAO;
+    private final BasketDAO basketDAO;
+    private final OrderDAO orderDAO;
+
+    // 상품 검색/자동완성 색인 (SearchIndexedProductDAO가 상품 변경 시 함께 갱신)
+    private final SearchIndexedProductDAO productSearchDAO;
+    private final ProductSuggestIndex productSuggestIndex = new ProductSuggestIndex();
+
+    // 렌더링된 목록 화면 조각 캐시 (키에 카탈로그 버전 포함)
+    private final FragmentCache fragmentCache = new FragmentCache(FRAGMENT_CACHE_SIZE);
 
     private final UserService userService;
     private ProductService productService;
@@ -34,12 +59,35 @@ public class AppConfig implements Serializable {
      * 생성자를 private으로 선언하여 외부에서 인스턴스 생성 방지
      */
     private AppConfig() {
-        // 리포지토리 계층 초기화
-        this.userDAO = new UserDAOImpl();
-        this.productDAO = new ProductDAOImpl();
-        this.categoryDAO = new CategoryDAOImpl();
-        this.mappingDAO = new MappingDAOImpl();
-        this.contentDAO = new ContentDAOImpl();
+        if (isInMemoryEngine()) {
+            // 메모리 구현: 모든 DAO가 하나의 저장소를 공유 (DB 연결 없이 실행/성능 측정용)
+            InMemoryDatabase database = new InMemoryDatabase();
+            this.userDAO = new InMemoryUserDAO(database);
+            this.productSearchDAO = new SearchIndexedProductDAO(new InMemoryProductDAO(database), productSuggestIndex);
+            this.productDAO = productSearchDAO;
+            this.categoryDAO = new CachedCategoryDAO(new InMemoryCategoryDAO(database));
+            this.mappingDAO = new InMemoryMappingDAO(database);
+            this.contentDAO = new InMemoryContentDAO(database);
+            this.basketDAO = new InMemoryBasketDAO(database);
+            this.orderDAO = new InMemoryOrderDAO(database);
+        } else {
+            // 리포지토리 계층 초기화 (@ReadOnly 조회는 복제본 DB가 설정된 경우 복제본으로 라우팅)
+            this.userDAO = ReadOnlyRouting.wrap(UserDAO.class, new UserDAOImpl());
+            // 상품 단건 조회는 LRU 캐시를 거쳐 DB 부하를 줄이고, 상품 검색은 메모리의 n-gram 색인으로 처리
+            ProductDAOImpl productDAOImpl = new ProductDAOImpl();
+            this.productSearchDAO = new SearchIndexedProductDAO(
+                    ReadOnlyRouting.wrap(ProductDAO.class, productDAOImpl), productDAOImpl, productSuggestIndex);
+            this.productDAO = new CachedProductDAO(productSearchDAO, PRODUCT_CACHE_SIZE);
+            // 카테고리 트리는 메모리에 보관하고 변경 시 주 DB에서 다시 읽어 교체
+            CategoryDAOImpl categoryDAOImpl = new CategoryDAOImpl();
+            this.categoryDAO = new CachedCategoryDAO(
+                    ReadOnlyRouting.wrap(CategoryDAO.class, categoryDAOImpl), categoryDAOImpl);
+            this.mappingDAO = ReadOnlyRouting.wrap(MappingDAO.class, new MappingDAOImpl());
+            // 자주 내려받는 이미지는 힙 밖 캐시에서 커넥션 없이 응답
+            this.contentDAO = new CachedContentDAO(new ContentDAOImpl(), FILE_CACHE_MAX_BYTES, FILE_CACHE_MAX_ENTRY_BYTES);
+            this.basketDAO = new BasketDAOImpl();
+            this.orderDAO = ReadOnlyRouting.wrap(OrderDAO.class, new OrderDAOImpl());
+        }
 
         // 서비스 계층 초기화 및 의존성 주입
         this.userService = new UserService(userDAO);
@@ -69,6 +117,14 @@ public class AppConfig implements Serializable {
         return instance;
     }
 
+    /**
+     * 메모리 DAO 구현을 사용하는지 확인합니다.
+     * 메모리 구현에서는 DatabaseConnection(HikariCP)을 초기화하지 않습니다.
+     */
+    public static boolean isInMemoryEngine() {
+        return DAO_ENGINE_MEMORY.equalsIgnoreCase(System.getProperty(DAO_ENGINE_PROPERTY, "jdbc").trim());
+    }
+
     /**
      * 역직렬화 시 새 인스턴스 생성 방지
      */
@@ -81,7 +137,14 @@ public class AppConfig implements Serializable {
         this.fileService = new FileService(uploadPath, useDbStorage);
 
         // FileService에 의존하는 서비스 초기화
-        this.productService = new ProductService(productDAO, mappingService, fileService);
+        this.productService = new ProductService(productDAO, mappingService, categoryService, fileService,
+                productSuggestIndex);
+
+        // 첫 검색/자동완성 요청이 색인 구성을 기다리지 않도록 미리 구성
+        productSearchDAO.warmUp();
+
+        // 기존 이미지 중 크기 변형이 없는 파일의 변형 생성 (백그라운드)
+        fileService.startVariantBackfill();
     }
 
     public ProductService getProductService() {
@@ -95,7 +158,16 @@ public class AppConfig implements Serializable {
      * 애플리케이션 종료 시 자원 정리
      */
     public void closeResources() {
+        if (fileService != null) {
+            fileService.shutdown();
+        }
+        // 파일 캐시에 모아 둔 조회수를 커넥션 풀 종료 전에 반영
+        if (contentDAO instanceof CachedContentDAO) {
+            ((CachedContentDAO) contentDAO).flushHitCounts();
+        }
         // 애플리케이션 종료 시 HikariCP 풀 종료
-        DatabaseConnection.closePool();
+        if (!isInMemoryEngine()) {
+            DatabaseConnection.closePool();
+        }
     }
 }
\ No newline at end of file
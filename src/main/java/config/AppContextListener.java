@@ -20,7 +20,9 @@ public class AppContextListener implements ServletContextListener {
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
         log.info("애플리케이션 종료: HikariCP 리소스 정리");
-        // 애플리케이션 종료 시 HikariCP 풀 정리
-        DatabaseConnection.closePool();
+        // 애플리케이션 종료 시 HikariCP 풀 정리 (메모리 DAO 구현이면 풀이 없음)
+        if (!AppConfig.isInMemoryEngine()) {
+            DatabaseConnection.closePool();
+        }
     }
 }
\ No newline at end of file
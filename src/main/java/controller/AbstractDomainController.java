@@ -4,16 +4,24 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
 import java.io.IOException;
 import command.Command;
 import command.CommandFactory;
+import config.AppConfig;
 import lombok.extern.slf4j.Slf4j;
+import util.DatabaseConnection;
+import util.ReadOnlyRouting;
+import util.UnitOfWork;
 
 @Slf4j
 public abstract class AbstractDomainController extends HttpServlet {
     protected CommandFactory commandFactory;
     protected String domainPath; // 'user', 'admin' 등 도메인 경로
 
+    // 쓰기 후 조회를 주 DB로 고정할 만료 시각을 저장하는 세션 속성
+    private static final String PRIMARY_UNTIL_ATTRIBUTE = "dbPrimaryUntil";
+
     @Override
     protected void service(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         String requestURI = request.getRequestURI();
@@ -55,7 +63,21 @@ public abstract class AbstractDomainController extends HttpServlet {
                 return;
             }
 
-            String viewPage = cmd.execute(request, response);
+            // 요청 하나를 하나의 작업 단위로 처리 (DAO 호출이 커넥션 하나와 커밋/롤백 하나를 공유)
+            String viewPage;
+            ReadOnlyRouting.setPrimaryOnly(isPinnedToPrimary(request));
+            UnitOfWork.begin();
+            try {
+                viewPage = cmd.execute(request, response);
+                boolean wrote = UnitOfWork.hasWrites();
+                UnitOfWork.commit();
+                if (wrote) {
+                    pinToPrimary(request);
+                }
+            } finally {
+                UnitOfWork.end();
+                ReadOnlyRouting.setPrimaryOnly(false);
+            }
 
             if (viewPage != null) {
                 if (viewPage.startsWith("redirect:")) {
@@ -70,4 +92,33 @@ public abstract class AbstractDomainController extends HttpServlet {
             request.getRequestDispatcher("/WEB-INF/views/common/error.jsp").forward(request, response);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 최근에 쓰기를 한 세션인지 확인합니다. (복제 지연 동안 자신이 쓴 데이터를 주 DB에서 읽기 위함)
+     */
+    private boolean isPinnedToPrimary(HttpServletRequest request) {
+        if (AppConfig.isInMemoryEngine() || !DatabaseConnection.hasReplica()) {
+            return false;
+        }
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return false;
+        }
+        Object until = session.getAttribute(PRIMARY_UNTIL_ATTRIBUTE);
+        return until instanceof Long && (Long) until > System.currentTimeMillis();
+    }
+
+    /**
+     * 쓰기를 한 세션의 조회를 일정 시간 동안 주 DB로 고정합니다.
+     */
+    private void pinToPrimary(HttpServletRequest request) {
+        if (AppConfig.isInMemoryEngine() || !DatabaseConnection.hasReplica()) {
+            return;
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute(PRIMARY_UNTIL_ATTRIBUTE,
+                    System.currentTimeMillis() + DatabaseConnection.getReplicaStickyMillis());
+        }
+    }
+}
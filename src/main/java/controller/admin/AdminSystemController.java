@@ -0,0 +1,23 @@
+package controller.admin;
+
+import command.factory.admin.AdminSystemCommandFactory;
+import controller.AbstractDomainController;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.servlet.annotation.WebServlet;
+
+/**
+ * 관리자 시스템 상태 컨트롤러
+ * URL 패턴: /admin/system/*
+ */
+@WebServlet("/admin/system/*")
+@Slf4j
+public class AdminSystemController extends AbstractDomainController {
+
+    public AdminSystemController() {
+        // 도메인 경로 설정
+        this.domainPath = "admin/system";
+        // 명령어 팩토리 설정
+        this.commandFactory = new AdminSystemCommandFactory();
+    }
+}
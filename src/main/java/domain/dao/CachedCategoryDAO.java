@@ -0,0 +1,204 @@
+package domain.dao;
+
+import domain.dto.CategoryDTO;
+import domain.dto.PageDTO;
+import lombok.extern.slf4j.Slf4j;
+import util.UnitOfWork;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리를 메모리에 보관하는 CategoryDAO 데코레이터
+ * findAll, findById, findByParentId는 DB 대신 불변 트리(CategoryTree)에서 응답하고,
+ * (트리에는 삭제되지 않은 카테고리만 있으므로 findById가 트리에서 찾지 못하면 위임 DAO에서 조회)
+ * 저장, 수정, 삭제, 사용 상태/순서 변경 후에는 전체를 다시 읽어 새 트리로 교체합니다.
+ * 검색, 페이지 조회, 개수 조회는 그대로 위임합니다.
+ */
+@Slf4j
+public class CachedCategoryDAO implements CategoryDAO {
+    private final CategoryDAO delegate;
+    // 트리를 다시 읽을 DAO (복제 지연의 영향을 받지 않도록 주 DB에서 조회)
+    private final CategoryDAO loader;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Object loadLock = new Object();
+    private volatile CategoryTree tree;
+
+    // 작업 단위 안에서 여러 번 변경해도 종료 후 한 번만 다시 읽기 위함
+    private final ThreadLocal<Boolean> reloadScheduled = new ThreadLocal<>();
+
+    public CachedCategoryDAO(CategoryDAO delegate) {
+        this(delegate, delegate);
+    }
+
+    public CachedCategoryDAO(CategoryDAO delegate, CategoryDAO loader) {
+        this.delegate = delegate;
+        this.loader = loader;
+    }
+
+    /**
+     * 현재 카테고리 트리 (처음 호출 시 한 번 구성)
+     */
+    public CategoryTree getTree() {
+        CategoryTree current = tree;
+        if (current == null) {
+            synchronized (loadLock) {
+                current = tree;
+                if (current == null) {
+                    current = reload();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 카테고리 전체를 다시 읽어 새 트리로 교체합니다.
+     * 늦게 끝난 이전 조회가 더 최신 트리를 덮어쓰지 않도록 조회 시작 순서(버전)를 비교합니다.
+     * @return 이번에 읽은 트리
+     */
+    public CategoryTree reload() {
+        long version = versionSequence.incrementAndGet();
+        List<CategoryDTO> categories = loader.findAll();
+        CategoryTree loaded = CategoryTree.build(version, categories);
+
+        synchronized (this) {
+            CategoryTree current = tree;
+            if (current == null || current.getVersion() < version) {
+                // 카테고리가 없어도 빈 트리를 보관하여 조회마다 DB를 다시 읽지 않음 (다음 변경 시 다시 읽음)
+                tree = loaded;
+                log.debug("카테고리 트리 교체: version={}, size={}", version, loaded.size());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 카테고리 변경 후 트리를 다시 구성합니다.
+     * 작업 단위 안의 변경은 커밋 전이므로 작업 단위가 끝난 뒤 다시 읽고, 그 전까지는 기존 트리를 계속 사용합니다.
+     */
+    private void refresh() {
+        if (!UnitOfWork.isActive()) {
+            reload();
+            return;
+        }
+        if (reloadScheduled.get() != null) {
+            return;
+        }
+        reloadScheduled.set(Boolean.TRUE);
+        UnitOfWork.afterCompletion(() -> {
+            reloadScheduled.remove();
+            reload();
+        });
+    }
+
+    @Override
+    public List<CategoryDTO> findAll() {
+        return getTree().toDTOs();
+    }
+
+    @Override
+    public CategoryDTO findById(Long nbCategory) {
+        CategoryTree.Node node = getTree().getNode(nbCategory);
+        return node != null ? node.toDTO() : delegate.findById(nbCategory);
+    }
+
+    @Override
+    public List<CategoryDTO> findByParentId(Long nbParentCategory) {
+        return CategoryTree.toDTOs(getTree().getChildren(nbParentCategory));
+    }
+
+    @Override
+    public int save(CategoryDTO category) {
+        try {
+            return delegate.save(category);
+        } finally {
+            refresh();
+        }
+    }
+
+    @Override
+    public boolean update(CategoryDTO category) {
+        try {
+            return delegate.update(category);
+        } finally {
+            refresh();
+        }
+    }
+
+    @Override
+    public boolean delete(Long nbCategory) {
+        try {
+            return delegate.delete(nbCategory);
+        } finally {
+            refresh();
+        }
+    }
+
+    @Override
+    public int deleteSubtree(Long nbCategory) {
+        try {
+            return delegate.deleteSubtree(nbCategory);
+        } finally {
+            refresh();
+        }
+    }
+
+    @Override
+    public int updateDescendantPaths(Long nbCategory, String nmFullCategory, int cnLevel) {
+        try {
+            return delegate.updateDescendantPaths(nbCategory, nmFullCategory, cnLevel);
+        } finally {
+            refresh();
+        }
+    }
+
+    @Override
+    public boolean updateUseStatus(Long nbCategory, String ynUse) {
+        try {
+            return delegate.updateUseStatus(nbCategory, ynUse);
+        } finally {
+            refresh();
+        }
+    }
+
+    @Override
+    public boolean updateOrder(Long nbCategory, int cnOrder) {
+        try {
+            return delegate.updateOrder(nbCategory, cnOrder);
+        } finally {
+            refresh();
+        }
+    }
+
+    @Override
+    public List<CategoryDTO> searchByName(String nmCategory) {
+        return delegate.searchByName(nmCategory);
+    }
+
+    @Override
+    public List<CategoryDTO> findAllWithPagination(int offset, int limit) {
+        return delegate.findAllWithPagination(offset, limit);
+    }
+
+    @Override
+    public List<CategoryDTO> searchByNameWithPagination(String nmCategory, int offset, int limit) {
+        return delegate.searchByNameWithPagination(nmCategory, offset, limit);
+    }
+
+    @Override
+    public List<CategoryDTO> findPage(PageDTO pageDTO) {
+        return delegate.findPage(pageDTO);
+    }
+
+    @Override
+    public int countAll() {
+        return delegate.countAll();
+    }
+
+    @Override
+    public int countByName(String nmCategory) {
+        return delegate.countByName(nmCategory);
+    }
+}
@@ -0,0 +1,391 @@
+package domain.dao;
+
+import domain.dto.ContentDTO;
+import lombok.extern.slf4j.Slf4j;
+import util.ImageVariant;
+import util.LruCache;
+import util.OffHeapCache;
+import util.UnitOfWork;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 자주 내려받는 파일 데이터를 힙 밖(OffHeapCache)에 캐시하는 ContentDAO 데코레이터
+ * 다운로드(조회수 증가 후 openByFileId/openVariant)된 파일을 한 번 읽어 direct 버퍼에 보관하고,
+ * 이후 요청은 커넥션 풀을 거치지 않고 버퍼에서 바로 응답합니다.
+ * 캐시된 파일의 조회수는 메모리에 모았다가 일정 횟수마다 한 번에 반영합니다.
+ * 아직 없는 이미지 변형은 없다는 사실을 기록해 두어, 원본으로 대신 응답할 때마다 변형을 다시 조회하지 않습니다.
+ * 파일을 수정/삭제하는 메서드 호출 시 해당 파일(과 이미지 변형)의 캐시를 무효화합니다.
+ */
+@Slf4j
+public class CachedContentDAO implements ContentDAO {
+    // 모아 둔 조회수를 DB에 반영하는 단위
+    private static final int HIT_FLUSH_THRESHOLD = 100;
+    // 최근 다운로드 요청된 파일 ID 추적 수 (변형 생성 등 다운로드가 아닌 조회는 캐시하지 않기 위함)
+    private static final int REQUESTED_TRACKING_SIZE = 10000;
+    // 없는 것으로 기록해 둘 이미지 변형 수
+    private static final int MISSING_VARIANT_TRACKING_SIZE = 10000;
+
+    private final ContentDAO delegate;
+    private final OffHeapCache<String, ContentDTO> cache;
+    private final LruCache<String, Boolean> requested = new LruCache<>(REQUESTED_TRACKING_SIZE);
+    // 조회했지만 없었던 이미지 변형 (변형 키, 해당 변형 저장 또는 원본 무효화 시 제거)
+    private final LruCache<String, Boolean> missingVariants = new LruCache<>(MISSING_VARIANT_TRACKING_SIZE);
+    private final ConcurrentHashMap<String, AtomicInteger> pendingHits = new ConcurrentHashMap<>();
+
+    // 무효화 세대 번호: 조회 도중 무효화가 일어나면 오래된 데이터를 캐시에 넣지 않기 위함
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param maxBytes 캐시할 파일 데이터의 최대 총 바이트 수
+     * @param maxEntryBytes 캐시할 파일 하나의 최대 바이트 수
+     */
+    public CachedContentDAO(ContentDAO delegate, long maxBytes, long maxEntryBytes) {
+        this.delegate = delegate;
+        this.cache = new OffHeapCache<>(maxBytes, maxEntryBytes);
+    }
+
+    @Override
+    public ContentDTO findByFileId(String fileId) {
+        return delegate.findByFileId(fileId);
+    }
+
+    @Override
+    public ContentStream openByFileId(String fileId) {
+        return open(fileId, fileId, () -> delegate.openByFileId(fileId));
+    }
+
+    /**
+     * 이미지 변형을 엽니다. 없는 것으로 기록된 변형이면 DB를 조회하지 않고 null을 반환합니다.
+     */
+    @Override
+    public ContentStream openVariant(String orgFileId, String variant) {
+        String key = variantKey(orgFileId, variant);
+        if (key == null) {
+            return delegate.openVariant(orgFileId, variant);
+        }
+        if (missingVariants.get(key) != null) {
+            return null;
+        }
+
+        long startGeneration = generation.get();
+        ContentStream contentStream = open(key, orgFileId, () -> delegate.openVariant(orgFileId, variant));
+        if (contentStream == null) {
+            synchronized (this) {
+                // 조회 도중 변형이 저장되었으면 기록하지 않음
+                if (startGeneration == generation.get()) {
+                    missingVariants.put(key, Boolean.TRUE);
+                }
+            }
+        }
+        return contentStream;
+    }
+
+    /**
+     * 캐시에서 파일 스트림을 열고, 없으면 위임 DAO에서 읽어 캐시에 저장합니다.
+     * 읽어서 캐시한 경우 커넥션은 데이터를 읽은 직후 반환되므로 응답 전송 동안 커넥션을 잡고 있지 않습니다.
+     * @param key 캐시 키
+     * @param fileId 다운로드 요청 여부를 확인할 파일 ID (변형이면 원본 ID)
+     */
+    private ContentStream open(String key, String fileId, Supplier<ContentStream> loader) {
+        if (key == null) {
+            return loader.get();
+        }
+
+        OffHeapCache.Entry<ContentDTO> entry = cache.get(key);
+        if (entry != null) {
+            return toStream(entry.getMetadata(), entry.getData());
+        }
+
+        long startGeneration = generation.get();
+        ContentStream contentStream = loader.get();
+        if (contentStream == null || !contentStream.hasData()
+                || contentStream.getLength() > cache.getMaxEntryBytes() || requested.get(fileId) == null) {
+            return contentStream;
+        }
+
+        ContentDTO metadata = copyOf(contentStream.getContent());
+        ByteBuffer data;
+        try (ContentStream source = contentStream; InputStream in = source.openStream()) {
+            data = OffHeapCache.read(in, (int) source.getLength());
+        } catch (IOException e) {
+            log.warn("파일 캐시 저장 실패, 캐시 없이 제공: {} ({})", key, e.getMessage());
+            return loader.get();
+        } catch (OutOfMemoryError e) {
+            // direct 메모리 한도 초과: 캐시 없이 다시 열어 제공
+            log.warn("파일 캐시 저장 실패, direct 메모리 부족: {} ({})", key, cache);
+            return loader.get();
+        }
+
+        synchronized (this) {
+            if (startGeneration == generation.get()) {
+                cache.put(key, metadata, data);
+            }
+        }
+        return toStream(metadata, data);
+    }
+
+    /**
+     * 캐시된 데이터를 읽는 파일 스트림 (반환할 자원 없음)
+     */
+    private ContentStream toStream(ContentDTO metadata, ByteBuffer data) {
+        return new ContentStream(copyOf(metadata), data.remaining(), (offset, length) -> {
+            ByteBuffer range = data.duplicate();
+            range.position((int) Math.min(offset, range.limit()));
+            range.limit((int) Math.min(range.limit(), offset + length));
+            return OffHeapCache.newInputStream(range);
+        }, null);
+    }
+
+    @Override
+    public List<ContentDTO> findByServiceId(String serviceId) {
+        return delegate.findByServiceId(serviceId);
+    }
+
+    @Override
+    public String save(ContentDTO contentDTO) {
+        try {
+            return delegate.save(contentDTO);
+        } finally {
+            forgetMissingVariant(contentDTO);
+        }
+    }
+
+    @Override
+    public String save(ContentDTO contentDTO, InputStream data, long length) {
+        try {
+            return delegate.save(contentDTO, data, length);
+        } finally {
+            forgetMissingVariant(contentDTO);
+        }
+    }
+
+    /**
+     * 이미지 변형을 저장하면 없는 것으로 기록해 둔 해당 변형을 지웁니다.
+     * 작업 단위 안의 저장은 커밋 전이므로 종료 후 한 번 더 지웁니다.
+     */
+    private void forgetMissingVariant(ContentDTO contentDTO) {
+        String key = contentDTO != null ? variantKey(contentDTO.getOrgFileId(), contentDTO.getVariant()) : null;
+        if (key == null) {
+            return;
+        }
+        Runnable forget = () -> {
+            synchronized (this) {
+                generation.incrementAndGet();
+                missingVariants.remove(key);
+            }
+        };
+        forget.run();
+        if (UnitOfWork.isActive()) {
+            UnitOfWork.afterCompletion(forget);
+        }
+    }
+
+    @Override
+    public boolean update(ContentDTO contentDTO) {
+        try {
+            return delegate.update(contentDTO);
+        } finally {
+            invalidate(contentDTO != null ? contentDTO.getFileId() : null);
+        }
+    }
+
+    @Override
+    public boolean delete(String fileId) {
+        try {
+            return delegate.delete(fileId);
+        } finally {
+            invalidate(fileId);
+        }
+    }
+
+    /**
+     * 다운로드 요청으로 조회수를 올립니다.
+     * 캐시된 파일이면 DB에 바로 반영하지 않고 모았다가 HIT_FLUSH_THRESHOLD마다 한 번에 반영하며,
+     * 캐시된 파일은 삭제 시 캐시도 무효화되므로 DB 확인 없이 존재하는 것으로 봅니다.
+     */
+    @Override
+    public boolean incrementHitCount(String fileId) {
+        if (fileId == null) {
+            return delegate.incrementHitCount(null);
+        }
+        requested.put(fileId, Boolean.TRUE);
+
+        if (isCached(fileId)) {
+            AtomicInteger pending = pendingHits.computeIfAbsent(fileId, id -> new AtomicInteger());
+            if (pending.incrementAndGet() >= HIT_FLUSH_THRESHOLD) {
+                flushHitCount(fileId);
+            }
+            return true;
+        }
+
+        // 캐시되지 않은 파일은 모아 둔 조회수와 함께 바로 반영 (반영 결과로 존재 여부 확인)
+        AtomicInteger pending = pendingHits.get(fileId);
+        int count = 1 + (pending != null ? pending.getAndSet(0) : 0);
+        return delegate.addHitCount(fileId, count);
+    }
+
+    @Override
+    public boolean addHitCount(String fileId, int count) {
+        return delegate.addHitCount(fileId, count);
+    }
+
+    @Override
+    public ContentDTO findByContentHash(String contentHash) {
+        return delegate.findByContentHash(contentHash);
+    }
+
+    @Override
+    public boolean assignContentHash(String fileId, String contentHash) {
+        return delegate.assignContentHash(fileId, contentHash);
+    }
+
+    @Override
+    public boolean addReference(String fileId) {
+        return delegate.addReference(fileId);
+    }
+
+    @Override
+    public boolean releaseReference(String fileId) {
+        return delegate.releaseReference(fileId);
+    }
+
+    @Override
+    public boolean deleteIfUnreferenced(String fileId) {
+        try {
+            return delegate.deleteIfUnreferenced(fileId);
+        } finally {
+            invalidate(fileId);
+        }
+    }
+
+    @Override
+    public List<ContentDTO> findVariants(String orgFileId) {
+        return delegate.findVariants(orgFileId);
+    }
+
+    @Override
+    public List<String> findFileIdsMissingVariants(String afterFileId, int variantCount, int limit) {
+        return delegate.findFileIdsMissingVariants(afterFileId, variantCount, limit);
+    }
+
+    /**
+     * 특정 파일(과 그 이미지 변형)의 캐시를 무효화합니다.
+     * 파일 ID를 알 수 없는 경우 전체 캐시를 비웁니다.
+     */
+    public void invalidate(String fileId) {
+        evict(fileId);
+        if (fileId != null) {
+            // 삭제된 파일이면 반영할 행이 없으므로 무시됨
+            AtomicInteger pending = pendingHits.remove(fileId);
+            if (pending != null && pending.get() > 0) {
+                delegate.addHitCount(fileId, pending.getAndSet(0));
+            }
+        }
+        log.debug("파일 캐시 무효화: {}", fileId != null ? fileId : "(전체)");
+
+        // 작업 단위 안에서의 변경은 커밋 전이므로, 그 사이 다른 요청이 이전 데이터를 캐시하지 않도록 종료 후 한 번 더 무효화
+        if (UnitOfWork.isActive()) {
+            UnitOfWork.afterCompletion(() -> evict(fileId));
+        }
+    }
+
+    private void evict(String fileId) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            if (fileId == null) {
+                cache.clear();
+                missingVariants.clear();
+            } else {
+                cache.removeIf(content -> fileId.equals(content.getFileId())
+                        || (content.getVariant() != null && fileId.equals(content.getOrgFileId())));
+                for (ImageVariant variant : ImageVariant.values()) {
+                    missingVariants.remove(variantKey(fileId, variant.getCode()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 조회수를 모두 DB에 반영합니다. (애플리케이션 종료 시, 커넥션 풀 종료 전에 호출)
+     */
+    public void flushHitCounts() {
+        for (String fileId : pendingHits.keySet()) {
+            flushHitCount(fileId);
+        }
+        log.info("파일 캐시 통계: {}, 없는 변형 기록: {}", cache, missingVariants);
+    }
+
+    private void flushHitCount(String fileId) {
+        AtomicInteger pending = pendingHits.get(fileId);
+        int count = pending != null ? pending.getAndSet(0) : 0;
+        if (count > 0) {
+            delegate.addHitCount(fileId, count);
+        }
+    }
+
+    /**
+     * 원본 또는 이미지 변형 중 하나라도 캐시되어 있는지 확인합니다.
+     */
+    private boolean isCached(String fileId) {
+        if (cache.containsKey(fileId)) {
+            return true;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (cache.containsKey(variantKey(fileId, variant.getCode()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String variantKey(String orgFileId, String variant) {
+        return orgFileId != null && variant != null ? orgFileId + "#" + variant : null;
+    }
+
+    /**
+     * 캐시 통계 (적중/실패/제거 횟수, 사용 바이트 수)
+     */
+    public OffHeapCache<String, ContentDTO> getCache() {
+        return cache;
+    }
+
+    /**
+     * 없는 것으로 기록된 이미지 변형 통계 (적중 횟수만큼 변형 조회를 생략)
+     */
+    public LruCache<String, Boolean> getMissingVariants() {
+        return missingVariants;
+    }
+
+    /**
+     * 호출자가 반환된 DTO를 수정해도 캐시된 값이 바뀌지 않도록 복사본을 만듭니다. (파일 데이터 제외)
+     */
+    private ContentDTO copyOf(ContentDTO source) {
+        ContentDTO copy = new ContentDTO();
+        copy.setFileId(source.getFileId());
+        copy.setOriginalFileName(source.getOriginalFileName());
+        copy.setSavedFileName(source.getSavedFileName());
+        copy.setFilePath(source.getFilePath());
+        copy.setFileExtension(source.getFileExtension());
+        copy.setFileType(source.getFileType());
+        copy.setSaveDate(source.getSaveDate() != null ? new Date(source.getSaveDate().getTime()) : null);
+        copy.setHitCount(source.getHitCount());
+        copy.setServiceId(source.getServiceId());
+        copy.setOrgFileId(source.getOrgFileId());
+        copy.setContent(source.getContent());
+        copy.setRegisterNo(source.getRegisterNo());
+        copy.setFirstDate(source.getFirstDate() != null ? new Date(source.getFirstDate().getTime()) : null);
+        copy.setContentHash(source.getContentHash());
+        copy.setRefCount(source.getRefCount());
+        copy.setVariant(source.getVariant());
+        return copy;
+    }
+}
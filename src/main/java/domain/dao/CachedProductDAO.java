@@ -0,0 +1,214 @@
+package domain.dao;
+
+import domain.dto.ProductCriteria;
+import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
+import lombok.extern.slf4j.Slf4j;
+import util.LruCache;
+import util.UnitOfWork;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 단건 조회 결과를 캐시하는 ProductDAO 데코레이터
+ * findByProductCode 결과를 LRU 캐시에 보관하고,
+ * 상품을 변경하는 메서드 호출 시 해당 상품의 캐시를 무효화합니다.
+ * 목록/개수 조회는 캐시하지 않고 그대로 위임합니다.
+ */
+@Slf4j
+public class CachedProductDAO implements ProductDAO {
+    private final ProductDAO delegate;
+    private final LruCache<String, ProductDTO> cache;
+
+    // 무효화 세대 번호: 조회 도중 무효화가 일어나면 오래된 값을 캐시에 넣지 않기 위함
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachedProductDAO(ProductDAO delegate, int maxSize) {
+        this.delegate = delegate;
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    @Override
+    public ProductDTO findByProductCode(String productCode) {
+        if (productCode == null) {
+            return delegate.findByProductCode(null);
+        }
+
+        ProductDTO cached = cache.get(productCode);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        long startGeneration = generation.get();
+        ProductDTO product = delegate.findByProductCode(productCode);
+        if (product != null) {
+            synchronized (this) {
+                if (startGeneration == generation.get()) {
+                    cache.put(productCode, copyOf(product));
+                }
+            }
+        }
+        return product;
+    }
+
+    @Override
+    public List<ProductDTO> findByProductCodes(List<String> productCodes) {
+        return delegate.findByProductCodes(productCodes);
+    }
+
+    @Override
+    public void save(ProductDTO productDTO) {
+        try {
+            delegate.save(productDTO);
+        } finally {
+            invalidate(productDTO != null ? productDTO.getProductCode() : null);
+        }
+    }
+
+    @Override
+    public void modify(ProductDTO productDTO) {
+        try {
+            delegate.modify(productDTO);
+        } finally {
+            invalidate(productDTO != null ? productDTO.getProductCode() : null);
+        }
+    }
+
+    @Override
+    public boolean delete(String productCode) {
+        try {
+            return delegate.delete(productCode);
+        } finally {
+            invalidate(productCode);
+        }
+    }
+
+    @Override
+    public boolean modifyStock(String productCode, int stock) {
+        try {
+            return delegate.modifyStock(productCode, stock);
+        } finally {
+            invalidate(productCode);
+        }
+    }
+
+    @Override
+    public boolean modifySaleStatus(String productCode, String startDate, String endDate) {
+        try {
+            return delegate.modifySaleStatus(productCode, startDate, endDate);
+        } finally {
+            invalidate(productCode);
+        }
+    }
+
+    @Override
+    public int updateProductStock(String productCode, int newStock) {
+        try {
+            return delegate.updateProductStock(productCode, newStock);
+        } finally {
+            invalidate(productCode);
+        }
+    }
+
+    @Override
+    public int decreaseStock(String productCode, int quantity) {
+        try {
+            return delegate.decreaseStock(productCode, quantity);
+        } finally {
+            invalidate(productCode);
+        }
+    }
+
+    @Override
+    public int increaseStock(String productCode, int quantity) {
+        try {
+            return delegate.increaseStock(productCode, quantity);
+        } finally {
+            invalidate(productCode);
+        }
+    }
+
+    @Override
+    public int getProductStock(String productCode) {
+        // 재고 확인은 항상 최신 값이 필요하므로 DB에서 직접 조회
+        return delegate.getProductStock(productCode);
+    }
+
+    @Override
+    public List<ProductDTO> findAllDetailsWithPagination(int offset, int limit) {
+        return delegate.findAllDetailsWithPagination(offset, limit);
+    }
+
+    @Override
+    public int countAll() {
+        return delegate.countAll();
+    }
+
+    @Override
+    public ProductQueryResult findByCriteria(ProductCriteria criteria) {
+        return delegate.findByCriteria(criteria);
+    }
+
+    /**
+     * 특정 상품의 캐시를 무효화합니다.
+     * 상품 코드를 알 수 없는 경우 전체 캐시를 비웁니다.
+     */
+    public void invalidate(String productCode) {
+        evict(productCode);
+        log.debug("상품 캐시 무효화: {}", productCode != null ? productCode : "(전체)");
+
+        // 작업 단위 안에서의 변경은 커밋 전이므로, 그 사이 다른 요청이 이전 값을 캐시하지 않도록 종료 후 한 번 더 무효화
+        if (UnitOfWork.isActive()) {
+            UnitOfWork.afterCompletion(() -> evict(productCode));
+        }
+    }
+
+    private void evict(String productCode) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            if (productCode == null) {
+                cache.clear();
+            } else {
+                cache.remove(productCode);
+            }
+        }
+    }
+
+    /**
+     * 전체 상품 캐시를 비웁니다.
+     */
+    public void invalidateAll() {
+        invalidate(null);
+    }
+
+    /**
+     * 캐시 통계 (적중/실패/제거 횟수)
+     */
+    public LruCache<String, ProductDTO> getCache() {
+        return cache;
+    }
+
+    /**
+     * 호출자가 반환된 DTO를 수정해도 캐시된 값이 바뀌지 않도록 복사본을 만듭니다.
+     */
+    private ProductDTO copyOf(ProductDTO source) {
+        Date firstDate = source.getFirstDate() != null ? new Date(source.getFirstDate().getTime()) : null;
+        return new ProductDTO(
+                source.getProductCode(),
+                source.getProductName(),
+                source.getDetailExplain(),
+                source.getFileId(),
+                source.getStartDate(),
+                source.getEndDate(),
+                source.getCustomerPrice(),
+                source.getSalePrice(),
+                source.getStock(),
+                source.getDeliveryFee(),
+                source.getRegisterId(),
+                firstDate,
+                source.getStatus()
+        );
+    }
+}
@@ -1,18 +1,22 @@
 package domain.dao;
 
 import domain.dto.CategoryDTO;
+import domain.dto.PageDTO;
+import util.ReadOnly;
 
 import java.util.List;
 
 public interface CategoryDAO {
     
     // 모든 카테고리 조회
+    @ReadOnly
     List<CategoryDTO> findAll();
     
     // 카테고리 식별번호로 카테고리 조회
     CategoryDTO findById(Long nbCategory);
     
     // 상위 카테고리로 하위 카테고리 목록 조회
+    @ReadOnly
     List<CategoryDTO> findByParentId(Long nbParentCategory);
 
     // 카테고리 저장
@@ -23,6 +27,12 @@ public interface CategoryDAO {
     
     // 카테고리 삭제 (논리적 삭제 - YN_DELETE 필드 'Y'로 변경)
     boolean delete(Long nbCategory);
+
+    // 카테고리와 모든 하위 카테고리를 한 번에 논리적 삭제 (삭제된 카테고리 수 반환)
+    int deleteSubtree(Long nbCategory);
+
+    // 모든 하위 카테고리의 전체 카테고리명과 레벨을 한 번에 다시 계산 (상위 카테고리의 전체 카테고리명과 레벨 기준, 수정된 카테고리 수 반환)
+    int updateDescendantPaths(Long nbCategory, String nmFullCategory, int cnLevel);
     
     // 카테고리 사용/비사용 설정
     boolean updateUseStatus(Long nbCategory, String ynUse);
@@ -31,17 +41,26 @@ public interface CategoryDAO {
     boolean updateOrder(Long nbCategory, int cnOrder);
     
     // 카테고리명 검색
+    @ReadOnly
     List<CategoryDTO> searchByName(String nmCategory);
 
     // 페이지네이션 처리된 카테고리 목록 조회
+    @ReadOnly
     List<CategoryDTO> findAllWithPagination(int offset, int limit);
 
     // 검색 결과에 페이지네이션 적용
+    @ReadOnly
     List<CategoryDTO> searchByNameWithPagination(String nmCategory, int offset, int limit);
 
+    // 페이지 목록과 전체 개수를 한 번에 조회 (검색어가 있으면 검색 결과, 조회된 행이 있으면 pageDTO 전체 개수도 설정)
+    @ReadOnly
+    List<CategoryDTO> findPage(PageDTO pageDTO);
+
     // 전체 카테고리 개수 조회
+    @ReadOnly
     int countAll();
 
     // 검색 결과 카테고리 개수 조회
+    @ReadOnly
     int countByName(String nmCategory);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package domain.dao;
 
 import domain.dto.CategoryDTO;
+import domain.dto.PageDTO;
 import lombok.extern.slf4j.Slf4j;
 import util.DatabaseConnection;
 
@@ -230,6 +231,53 @@ public class CategoryDAOImpl implements CategoryDAO {
         return false;
     }
 
+    @Override
+    public int deleteSubtree(Long nbCategory) {
+        // 계층 쿼리로 하위 카테고리 전체를 구해 한 문장으로 삭제 (이미 삭제된 하위 트리는 따라가지 않음)
+        String sql = "UPDATE tb_category SET yn_delete = 'Y' WHERE nb_category IN (" +
+                "SELECT nb_category FROM tb_category START WITH nb_category = ? " +
+                "CONNECT BY NOCYCLE PRIOR nb_category = nb_parent_category AND yn_delete = 'N')";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, nbCategory);
+
+            return pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            log.error("하위 카테고리 포함 삭제 중 오류 발생: {}", nbCategory, e);
+        }
+
+        return 0;
+    }
+
+    @Override
+    public int updateDescendantPaths(Long nbCategory, String nmFullCategory, int cnLevel) {
+        // SYS_CONNECT_BY_PATH는 직계 하위부터의 경로(" > 중분류 > 소분류")를 만들어 주므로 상위 카테고리의 전체 카테고리명 뒤에 붙임
+        String sql = "MERGE INTO tb_category t USING (" +
+                "SELECT nb_category, ? || SYS_CONNECT_BY_PATH(nm_category, ' > ') AS nm_full_category, ? + LEVEL AS cn_level " +
+                "FROM tb_category START WITH nb_parent_category = ? AND yn_delete = 'N' " +
+                "CONNECT BY NOCYCLE PRIOR nb_category = nb_parent_category AND yn_delete = 'N'" +
+                ") s ON (t.nb_category = s.nb_category) " +
+                "WHEN MATCHED THEN UPDATE SET t.nm_full_category = s.nm_full_category, t.cn_level = s.cn_level";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, nmFullCategory);
+            pstmt.setInt(2, cnLevel);
+            pstmt.setLong(3, nbCategory);
+
+            return pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            log.error("하위 카테고리 전체 카테고리명 갱신 중 오류 발생: {}", nbCategory, e);
+        }
+
+        return 0;
+    }
+
     @Override
     public boolean updateUseStatus(Long nbCategory, String ynUse) {
         String sql = "UPDATE tb_category SET yn_use = ? WHERE nb_category = ?";
@@ -371,6 +419,44 @@ public class CategoryDAOImpl implements CategoryDAO {
         return categories;
     }
 
+    @Override
+    public List<CategoryDTO> findPage(PageDTO pageDTO) {
+        List<CategoryDTO> categories = new ArrayList<>();
+        String keyword = pageDTO.getKeyword();
+        boolean searching = keyword != null && !keyword.trim().isEmpty();
+
+        // COUNT(*) OVER()로 전체 건수를 목록과 같은 쿼리에서 조회
+        String sql = searching
+                ? "SELECT c.*, COUNT(*) OVER() AS total_count FROM tb_category c " +
+                  "WHERE nm_category LIKE ? AND yn_delete = 'N' ORDER BY cn_level, cn_order OFFSET ? ROWS FETCH NEXT ? ROWS ONLY"
+                : "SELECT c.*, COUNT(*) OVER() AS total_count FROM tb_category c " +
+                  "WHERE yn_delete = 'N' ORDER BY cn_order, nm_full_category OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (searching) {
+                pstmt.setString(index++, "%" + keyword + "%");
+            }
+            pstmt.setInt(index++, pageDTO.getOffset());
+            pstmt.setInt(index, pageDTO.getPageSize());
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    if (categories.isEmpty()) {
+                        pageDTO.setTotalCount(rs.getInt("total_count"));
+                    }
+                    categories.add(mapResultSetToCategory(rs));
+                }
+            }
+        } catch (SQLException e) {
+            log.error("카테고리 페이지 조회 중 오류 발생: {}", keyword, e);
+        }
+
+        return categories;
+    }
+
     @Override
     public int countAll() {
         String sql = "SELECT COUNT(*) FROM tb_category WHERE yn_delete = 'N'";
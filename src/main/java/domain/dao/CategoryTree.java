@@ -0,0 +1,277 @@
+package domain.dao;
+
+import domain.dto.CategoryDTO;
+
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 삭제되지 않은 카테고리 전체의 불변 스냅샷
+ * ID → 노드 맵과 상위 → 하위 목록 인덱스를 함께 가지며, 한 번 만들어진 뒤에는 변경되지 않습니다.
+ * 카테고리가 바뀌면 새 트리를 만들어 통째로 교체합니다. (CachedCategoryDAO)
+ *
+ * 각 노드에는 전위 순회 번호로 만든 중첩 집합(nested set) 구간 [left, right]가 있어,
+ * 카테고리와 모든 하위 카테고리는 전위 순회 목록의 연속 구간으로 바로 구할 수 있습니다.
+ */
+public final class CategoryTree {
+    // ORDER BY cn_order (Oracle 오름차순과 같이 NULL은 마지막)
+    private static final Comparator<Node> CHILD_ORDER =
+            Comparator.comparing(Node::getOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final long version;
+    private final List<Node> nodes;                        // findAll 순서 (cn_order, nm_full_category)
+    private final Map<Long, Node> nodesById;
+    private final Map<Long, List<Node>> childrenByParent;  // 키가 null이면 최상위 카테고리
+    private final List<Node> preorder;                     // 전위 순회 순서 (인덱스 = Node.left)
+
+    private CategoryTree(long version, List<Node> nodes, Map<Long, Node> nodesById,
+                         Map<Long, List<Node>> childrenByParent, List<Node> preorder) {
+        this.version = version;
+        this.nodes = nodes;
+        this.nodesById = nodesById;
+        this.childrenByParent = childrenByParent;
+        this.preorder = preorder;
+    }
+
+    /**
+     * 카테고리 목록으로 트리를 만듭니다.
+     * @param version 트리 버전 (나중에 만든 트리일수록 큰 값)
+     * @param categories CategoryDAO.findAll() 결과 (정렬 순서를 그대로 유지)
+     */
+    public static CategoryTree build(long version, List<CategoryDTO> categories) {
+        List<Node> nodes = new ArrayList<>(categories.size());
+        Map<Long, Node> nodesById = new LinkedHashMap<>();
+        Map<Long, List<Node>> children = new HashMap<>();
+
+        for (CategoryDTO category : categories) {
+            if (category == null || category.getId() == null) {
+                continue;
+            }
+            Node node = new Node(copy(category));
+            nodes.add(node);
+            nodesById.put(node.getId(), node);
+            children.computeIfAbsent(node.getParentId(), parentId -> new ArrayList<>()).add(node);
+        }
+
+        Map<Long, List<Node>> childrenByParent = new HashMap<>();
+        for (Map.Entry<Long, List<Node>> entry : children.entrySet()) {
+            List<Node> siblings = entry.getValue();
+            siblings.sort(CHILD_ORDER);
+            childrenByParent.put(entry.getKey(), Collections.unmodifiableList(siblings));
+        }
+
+        // 중첩 집합 구간 번호 매기기 (상위 카테고리가 삭제된 카테고리도 최상위처럼 번호를 매김)
+        List<Node> preorder = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            boolean top = node.getParentId() == null || !nodesById.containsKey(node.getParentId());
+            if (top && node.left < 0) {
+                number(node, childrenByParent, preorder);
+            }
+        }
+
+        return new CategoryTree(version,
+                Collections.unmodifiableList(nodes),
+                Collections.unmodifiableMap(nodesById),
+                Collections.unmodifiableMap(childrenByParent),
+                Collections.unmodifiableList(preorder));
+    }
+
+    /**
+     * 하위 트리를 전위 순회하며 left/right 번호를 매깁니다. (깊은 트리에서도 스택 넘침이 없도록 반복문 사용)
+     */
+    private static void number(Node root, Map<Long, List<Node>> childrenByParent, List<Node> preorder) {
+        Deque<Node> path = new ArrayDeque<>();
+        Deque<Iterator<Node>> pending = new ArrayDeque<>();
+        root.left = preorder.size();
+        preorder.add(root);
+        path.push(root);
+        pending.push(childrenByParent.getOrDefault(root.getId(), Collections.emptyList()).iterator());
+
+        while (!path.isEmpty()) {
+            Iterator<Node> children = pending.peek();
+            if (children.hasNext()) {
+                Node child = children.next();
+                // 잘못된 데이터로 순환이 생겨도 한 번씩만 방문
+                if (child.left >= 0) {
+                    continue;
+                }
+                child.left = preorder.size();
+                preorder.add(child);
+                path.push(child);
+                pending.push(childrenByParent.getOrDefault(child.getId(), Collections.emptyList()).iterator());
+            } else {
+                pending.pop();
+                path.pop().right = preorder.size() - 1;
+            }
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 전체 노드 (cn_order, nm_full_category 순)
+     */
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public Node getNode(Long categoryId) {
+        return categoryId != null ? nodesById.get(categoryId) : null;
+    }
+
+    /**
+     * 상위 카테고리의 직계 하위 노드 (cn_order 순)
+     * @param parentId 상위 카테고리 ID (null이면 최상위 카테고리)
+     */
+    public List<Node> getChildren(Long parentId) {
+        return childrenByParent.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    public List<Node> getRoots() {
+        return getChildren(null);
+    }
+
+    public Node getParent(Long categoryId) {
+        Node node = getNode(categoryId);
+        return node != null ? getNode(node.getParentId()) : null;
+    }
+
+    /**
+     * 카테고리 자신과 모든 하위 카테고리의 ID (전위 순회 순, 자신이 먼저)
+     * 중첩 집합 구간으로 한 번에 구하므로 트리 깊이와 관계없이 결과 크기만큼만 비용이 듭니다.
+     * 카테고리가 없으면 빈 목록을 반환합니다.
+     */
+    public List<Long> getSubtreeIds(Long categoryId) {
+        Node root = getNode(categoryId);
+        if (root == null) {
+            return Collections.emptyList();
+        }
+        if (root.left < 0) {
+            // 순환 참조로 번호가 매겨지지 않은 노드
+            return Collections.singletonList(root.getId());
+        }
+
+        List<Long> ids = new ArrayList<>(root.right - root.left + 1);
+        for (Node node : preorder.subList(root.left, root.right + 1)) {
+            ids.add(node.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * descendant가 ancestor 자신이거나 그 하위 카테고리인지 확인합니다.
+     */
+    public boolean isSelfOrDescendant(Long descendantId, Long ancestorId) {
+        Node descendant = getNode(descendantId);
+        Node ancestor = getNode(ancestorId);
+        if (descendant == null || ancestor == null) {
+            return false;
+        }
+        if (descendant == ancestor) {
+            return true;
+        }
+        return ancestor.left >= 0 && descendant.left >= 0
+                && ancestor.left <= descendant.left && descendant.right <= ancestor.right;
+    }
+
+    /**
+     * 전체 카테고리를 DTO 복사본으로 반환합니다. (호출자가 수정해도 트리는 바뀌지 않음)
+     */
+    public List<CategoryDTO> toDTOs() {
+        return toDTOs(nodes);
+    }
+
+    public static List<CategoryDTO> toDTOs(List<Node> nodes) {
+        List<CategoryDTO> categories = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            categories.add(node.toDTO());
+        }
+        return categories;
+    }
+
+    private static CategoryDTO copy(CategoryDTO source) {
+        Timestamp firstDate = source.getDaFirstDate() != null ? new Timestamp(source.getDaFirstDate().getTime()) : null;
+        return new CategoryDTO(
+                source.getId(),
+                source.getParentId(),
+                source.getName(),
+                source.getFullName(),
+                source.getDescription(),
+                source.getLevel(),
+                source.getOrder(),
+                source.getUseYn(),
+                source.getDeleteYn(),
+                source.getRegisterId(),
+                firstDate
+        );
+    }
+
+    /**
+     * 트리의 카테고리 노드 (읽기 전용)
+     */
+    public static final class Node {
+        private final CategoryDTO row;
+        // 중첩 집합 구간 (build 중에만 설정되며 이후 변경되지 않음)
+        private int left = -1;
+        private int right = -1;
+
+        private Node(CategoryDTO row) {
+            this.row = row;
+        }
+
+        public Long getId() {
+            return row.getId();
+        }
+
+        public Long getParentId() {
+            return row.getParentId();
+        }
+
+        public String getName() {
+            return row.getName();
+        }
+
+        public String getFullName() {
+            return row.getFullName();
+        }
+
+        public Integer getLevel() {
+            return row.getLevel();
+        }
+
+        public Integer getOrder() {
+            return row.getOrder();
+        }
+
+        public String getUseYn() {
+            return row.getUseYn();
+        }
+
+        public int getLeft() {
+            return left;
+        }
+
+        public int getRight() {
+            return right;
+        }
+
+        public CategoryDTO toDTO() {
+            return copy(row);
+        }
+    }
+}
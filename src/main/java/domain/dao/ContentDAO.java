@@ -2,17 +2,25 @@ package domain.dao;
 
 import domain.dto.ContentDTO;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface ContentDAO {
     // 파일 ID로 컨텐츠 조회
     ContentDTO findByFileId(String fileId);
+
+    // 파일 ID로 메타데이터와 파일 데이터 스트림 조회 (파일 데이터를 배열로 읽지 않음, 사용 후 close 필요)
+    ContentStream openByFileId(String fileId);
     
     // 서비스 ID로 컨텐츠 목록 조회
     List<ContentDTO> findByServiceId(String serviceId);
     
     // 컨텐츠 저장
+    // 이미지 변형은 원본과 변형 코드당 하나만 저장되며, 이미 있으면 저장하지 않고 기존 변형의 ID를 반환 (contentDTO의 ID는 설정하지 않음)
     String save(ContentDTO contentDTO);
+
+    // 컨텐츠 저장 (파일 데이터를 배열 대신 스트림으로 전달, data가 null이면 파일 데이터 없음)
+    String save(ContentDTO contentDTO, InputStream data, long length);
     
     // 컨텐츠 수정
     boolean update(ContentDTO contentDTO);
@@ -22,4 +30,32 @@ public interface ContentDAO {
     
     // 조회수 증가
     boolean incrementHitCount(String fileId);
+
+    // 조회수를 count만큼 증가 (모아 둔 조회수 반영용, 컨텐츠가 없으면 false)
+    boolean addHitCount(String fileId, int count);
+
+    // 내용 해시로 컨텐츠 조회 (파일 데이터 제외)
+    ContentDTO findByContentHash(String contentHash);
+
+    // 내용 해시 지정 (같은 해시의 컨텐츠가 이미 있으면 false)
+    boolean assignContentHash(String fileId, String contentHash);
+
+    // 참조 수 증가 (컨텐츠가 없으면 false)
+    boolean addReference(String fileId);
+
+    // 다른 참조가 남아 있으면 참조 수만 줄이고 true, 마지막 참조이면 변경 없이 false
+    boolean releaseReference(String fileId);
+
+    // 마지막 참조인 경우에만 컨텐츠 삭제 (그 사이 참조가 추가되었으면 false)
+    boolean deleteIfUnreferenced(String fileId);
+
+    // 원본 파일 ID와 변형 코드로 이미지 변형의 메타데이터와 파일 데이터 스트림 조회 (사용 후 close 필요)
+    ContentStream openVariant(String orgFileId, String variant);
+
+    // 원본 파일의 이미지 변형 목록 조회 (파일 데이터 제외)
+    List<ContentDTO> findVariants(String orgFileId);
+
+    // 이미지 변형이 variantCount개보다 적은 원본 이미지 ID를 afterFileId 다음부터 ID 순으로 조회 (변형 일괄 생성용)
+    // 변형을 만들 수 없다고 표시된(ImageVariant.UNSUPPORTED) 원본은 제외
+    List<String> findFileIdsMissingVariants(String afterFileId, int variantCount, int limit);
 }
\ No newline at end of file
@@ -2,14 +2,31 @@ package domain.dao;
 
 import domain.dto.ContentDTO;
 import util.DatabaseConnection;
+import util.ImageVariant;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * 같은 내용의 파일은 내용 해시(nm_content_hash)로 찾아 한 행을 공유하고, 참조 수(cn_ref)가 0이 될 때만 삭제합니다.
+ * 이미지 크기 변형은 원본 ID(id_org_file)와 변형 코드(cd_variant)를 가진 별도 행으로 저장합니다.
+ * 필요한 스키마:
+ *   ALTER TABLE TB_CONTENT ADD (nm_content_hash VARCHAR2(64), cn_ref NUMBER(9) DEFAULT 1 NOT NULL);
+ *   CREATE UNIQUE INDEX UX_CONTENT_HASH ON TB_CONTENT (nm_content_hash);
+ *   ALTER TABLE TB_CONTENT ADD (cd_variant VARCHAR2(10));
+ *   CREATE UNIQUE INDEX UX_CONTENT_ORG_VARIANT ON TB_CONTENT (id_org_file, cd_variant);
+ *   (이전에 IX_CONTENT_ORG_VARIANT를 만들었으면 DROP INDEX IX_CONTENT_ORG_VARIANT 후 생성)
+ * 같은 변형을 동시에 저장하면 고유 인덱스 위반이 나며, 이 경우 먼저 저장된 변형을 그대로 사용합니다.
+ */
 public class ContentDAOImpl implements ContentDAO {
+    // 파일 데이터(bo_save_file)를 제외한 컬럼
+    private static final String METADATA_COLUMNS = "id_file, nm_org_file, nm_save_file, nm_file_path, nm_file_ext, " +
+            "cd_file_type, da_save, cn_hit, id_service, id_org_file, cn_content, no_register, da_first_date, " +
+            "nm_content_hash, cn_ref, cd_variant";
     
     @Override
     public ContentDTO findByFileId(String fileId) {
@@ -37,6 +54,55 @@ public class ContentDAOImpl implements ContentDAO {
         return contentDTO;
     }
     
+    @Override
+    public ContentStream openByFileId(String fileId) {
+        return openStream("SELECT " + METADATA_COLUMNS + ", bo_save_file FROM TB_CONTENT WHERE id_file = ?", fileId);
+    }
+
+    @Override
+    public ContentStream openVariant(String orgFileId, String variant) {
+        return openStream("SELECT " + METADATA_COLUMNS + ", bo_save_file FROM TB_CONTENT " +
+                "WHERE id_org_file = ? AND cd_variant = ?", orgFileId, variant);
+    }
+
+    // 한 행을 조회해 메타데이터와 BLOB 스트림으로 반환 (조회 결과가 없으면 null)
+    private ContentStream openStream(String sql, String... params) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            pstmt = conn.prepareStatement(sql);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setString(i + 1, params[i]);
+            }
+            rs = pstmt.executeQuery();
+
+            if (!rs.next()) {
+                closeResources(rs, pstmt, conn);
+                return null;
+            }
+
+            ContentDTO contentDTO = resultSetToMetadata(rs);
+            Blob blob = rs.getBlob("BO_SAVE_FILE");
+            long length = blob != null ? blob.length() : -1;
+
+            // 커넥션은 스트림을 닫을 때 반환 (Blob 로케이터는 커넥션이 열려 있는 동안만 유효)
+            ResultSet openRs = rs;
+            PreparedStatement openPstmt = pstmt;
+            Connection openConn = conn;
+            return new ContentStream(contentDTO, length,
+                    (offset, count) -> blob.getBinaryStream(offset + 1, count), // Blob 위치는 1부터
+                    () -> closeResources(openRs, openPstmt, openConn));
+        } catch (SQLException e) {
+            e.printStackTrace();
+            closeResources(rs, pstmt, conn);
+            return null;
+        }
+    }
+
     @Override
     public List<ContentDTO> findByServiceId(String serviceId) {
         List<ContentDTO> contents = new ArrayList<>();
@@ -47,7 +113,8 @@ public class ContentDAOImpl implements ContentDAO {
         try {
             conn = DatabaseConnection.getConnection();
             
-            String sql = "SELECT * FROM TB_CONTENT WHERE id_service = ?";
+            // 이미지 변형은 원본에 딸린 파일이므로 제외
+            String sql = "SELECT * FROM TB_CONTENT WHERE id_service = ? AND cd_variant IS NULL";
             pstmt = conn.prepareStatement(sql);
             pstmt.setString(1, serviceId);
             rs = pstmt.executeQuery();
@@ -66,6 +133,12 @@ public class ContentDAOImpl implements ContentDAO {
     
     @Override
     public String save(ContentDTO contentDTO) {
+        byte[] data = contentDTO.getSaveFile();
+        return save(contentDTO, data != null ? new ByteArrayInputStream(data) : null, data != null ? data.length : 0);
+    }
+
+    @Override
+    public String save(ContentDTO contentDTO, InputStream data, long length) {
         Connection conn = null;
         PreparedStatement pstmt = null;
         String fileId = UUID.randomUUID().toString().replace("-", "");
@@ -79,8 +152,8 @@ public class ContentDAOImpl implements ContentDAO {
             
             String sql = "INSERT INTO TB_CONTENT (id_file, nm_org_file, nm_save_file, nm_file_path, " +
                     "bo_save_file, nm_file_ext, cd_file_type, da_save, cn_hit, id_service, id_org_file, " +
-                    "cn_content, no_register, da_first_date) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, SYSDATE, 0, ?, ?, ?, ?, SYSDATE)";
+                    "cn_content, no_register, da_first_date, nm_content_hash, cn_ref, cd_variant) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, SYSDATE, 0, ?, ?, ?, ?, SYSDATE, ?, 1, ?)";
             
             pstmt = conn.prepareStatement(sql);
             pstmt.setString(1, fileId);
@@ -88,9 +161,9 @@ public class ContentDAOImpl implements ContentDAO {
             pstmt.setString(3, contentDTO.getSavedFileName());
             pstmt.setString(4, contentDTO.getFilePath());
             
-            // BLOB 데이터 처리
-            if (contentDTO.getSaveFile() != null) {
-                pstmt.setBinaryStream(5, new ByteArrayInputStream(contentDTO.getSaveFile()), contentDTO.getSaveFile().length);
+            // BLOB 데이터 처리 (드라이버가 실행 중에 스트림에서 직접 읽음)
+            if (data != null) {
+                pstmt.setBinaryStream(5, data, length);
             } else {
                 pstmt.setNull(5, Types.BLOB);
             }
@@ -101,16 +174,49 @@ public class ContentDAOImpl implements ContentDAO {
             pstmt.setString(9, contentDTO.getOrgFileId());
             pstmt.setString(10, contentDTO.getContent());
             pstmt.setString(11, contentDTO.getRegisterNo());
+            pstmt.setString(12, contentDTO.getContentHash());
+            pstmt.setString(13, contentDTO.getVariant());
 
             pstmt.executeUpdate();
             contentDTO.setFileId(fileId); // 생성된 ID를 객체에 설정
             return fileId;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            if (contentDTO.getVariant() == null) {
+                e.printStackTrace();
+                return null;
+            }
+            // 같은 원본의 같은 변형이 먼저 저장됨 (UX_CONTENT_ORG_VARIANT) - 커넥션 반환 후 기존 변형 ID 조회
         } catch (SQLException e) {
             e.printStackTrace();
             return null;
         } finally {
             closeResources(null, pstmt, conn);
         }
+        return findVariantFileId(contentDTO.getOrgFileId(), contentDTO.getVariant());
+    }
+
+    // 원본 파일 ID와 변형 코드로 이미지 변형의 파일 ID 조회 (없으면 null)
+    private String findVariantFileId(String orgFileId, String variant) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            String sql = "SELECT id_file FROM TB_CONTENT WHERE id_org_file = ? AND cd_variant = ?";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, orgFileId);
+            pstmt.setString(2, variant);
+            rs = pstmt.executeQuery();
+
+            return rs.next() ? rs.getString("ID_FILE") : null;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            closeResources(rs, pstmt, conn);
+        }
     }
     
     @Override
@@ -186,6 +292,11 @@ public class ContentDAOImpl implements ContentDAO {
     
     @Override
     public boolean incrementHitCount(String fileId) {
+        return addHitCount(fileId, 1);
+    }
+
+    @Override
+    public boolean addHitCount(String fileId, int count) {
         Connection conn = null;
         PreparedStatement pstmt = null;
         boolean success = false;
@@ -193,9 +304,10 @@ public class ContentDAOImpl implements ContentDAO {
         try {
             conn = DatabaseConnection.getConnection();
             
-            String sql = "UPDATE TB_CONTENT SET cn_hit = cn_hit + 1 WHERE id_file = ?";
+            String sql = "UPDATE TB_CONTENT SET cn_hit = cn_hit + ? WHERE id_file = ?";
             pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, fileId);
+            pstmt.setInt(1, count);
+            pstmt.setString(2, fileId);
             
             int affectedRows = pstmt.executeUpdate();
             success = (affectedRows > 0);
@@ -207,20 +319,176 @@ public class ContentDAOImpl implements ContentDAO {
         return success;
     }
     
+    @Override
+    public ContentDTO findByContentHash(String contentHash) {
+        ContentDTO contentDTO = null;
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            String sql = "SELECT " + METADATA_COLUMNS + " FROM TB_CONTENT WHERE nm_content_hash = ?";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, contentHash);
+            rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                contentDTO = resultSetToMetadata(rs);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            closeResources(rs, pstmt, conn);
+        }
+        return contentDTO;
+    }
+
+    @Override
+    public boolean assignContentHash(String fileId, String contentHash) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        boolean success = false;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            String sql = "UPDATE TB_CONTENT SET nm_content_hash = ? WHERE id_file = ?";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, contentHash);
+            pstmt.setString(2, fileId);
+
+            success = pstmt.executeUpdate() > 0;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // 같은 해시의 컨텐츠가 먼저 저장됨 (UX_CONTENT_HASH)
+            success = false;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            closeResources(null, pstmt, conn);
+        }
+        return success;
+    }
+
+    @Override
+    public boolean addReference(String fileId) {
+        return updateReference("UPDATE TB_CONTENT SET cn_ref = cn_ref + 1 WHERE id_file = ?", fileId);
+    }
+
+    @Override
+    public boolean releaseReference(String fileId) {
+        // 마지막 참조(cn_ref = 1)는 줄이지 않고 deleteIfUnreferenced로 행과 함께 삭제
+        return updateReference("UPDATE TB_CONTENT SET cn_ref = cn_ref - 1 WHERE id_file = ? AND cn_ref > 1", fileId);
+    }
+
+    @Override
+    public boolean deleteIfUnreferenced(String fileId) {
+        return updateReference("DELETE FROM TB_CONTENT WHERE id_file = ? AND cn_ref <= 1", fileId);
+    }
+
+    @Override
+    public List<ContentDTO> findVariants(String orgFileId) {
+        List<ContentDTO> variants = new ArrayList<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            String sql = "SELECT " + METADATA_COLUMNS + " FROM TB_CONTENT WHERE id_org_file = ? AND cd_variant IS NOT NULL";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, orgFileId);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                variants.add(resultSetToMetadata(rs));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            closeResources(rs, pstmt, conn);
+        }
+        return variants;
+    }
+
+    @Override
+    public List<String> findFileIdsMissingVariants(String afterFileId, int variantCount, int limit) {
+        List<String> fileIds = new ArrayList<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            // 원본 이미지 중 변형이 모두 만들어지지 않은 것 (변형을 만들 수 없다고 표시된 원본 제외, ID 순으로 이어서 조회)
+            String sql = "SELECT c.id_file FROM TB_CONTENT c " +
+                    "WHERE c.cd_variant IS NULL AND c.cd_file_type = 'IMG' AND (? IS NULL OR c.id_file > ?) " +
+                    "AND (SELECT COUNT(*) FROM TB_CONTENT v WHERE v.id_org_file = c.id_file AND v.cd_variant IS NOT NULL) < ? " +
+                    "AND NOT EXISTS (SELECT 1 FROM TB_CONTENT s WHERE s.id_org_file = c.id_file AND s.cd_variant = ?) " +
+                    "ORDER BY c.id_file FETCH FIRST ? ROWS ONLY";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, afterFileId);
+            pstmt.setString(2, afterFileId);
+            pstmt.setInt(3, variantCount);
+            pstmt.setString(4, ImageVariant.UNSUPPORTED);
+            pstmt.setInt(5, limit);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                fileIds.add(rs.getString("ID_FILE"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            closeResources(rs, pstmt, conn);
+        }
+        return fileIds;
+    }
+
+    // 파일 ID 하나를 조건으로 하는 참조 수 변경 (한 건 이상 변경되면 true)
+    private boolean updateReference(String sql, String fileId) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        boolean success = false;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, fileId);
+
+            success = pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            closeResources(null, pstmt, conn);
+        }
+        return success;
+    }
+
     // ResultSet을 Content 객체로 변환하는 헬퍼 메서드
     private ContentDTO resultSetToContent(ResultSet rs) throws SQLException {
-        ContentDTO contentDTO = new ContentDTO();
-        contentDTO.setFileId(rs.getString("ID_FILE"));
-        contentDTO.setOriginalFileName(rs.getString("NM_ORG_FILE"));
-        contentDTO.setSavedFileName(rs.getString("NM_SAVE_FILE"));
-        contentDTO.setFilePath(rs.getString("NM_FILE_PATH"));
-        
+        ContentDTO contentDTO = resultSetToMetadata(rs);
+
         // BLOB 데이터 읽기 (필요한 경우)
         Blob blob = rs.getBlob("BO_SAVE_FILE");
         if (blob != null) {
             contentDTO.setSaveFile(blob.getBytes(1, (int) blob.length()));
         }
-        
+
+        return contentDTO;
+    }
+
+    // ResultSet을 파일 데이터 없는 Content 객체로 변환하는 헬퍼 메서드
+    private ContentDTO resultSetToMetadata(ResultSet rs) throws SQLException {
+        ContentDTO contentDTO = new ContentDTO();
+        contentDTO.setFileId(rs.getString("ID_FILE"));
+        contentDTO.setOriginalFileName(rs.getString("NM_ORG_FILE"));
+        contentDTO.setSavedFileName(rs.getString("NM_SAVE_FILE"));
+        contentDTO.setFilePath(rs.getString("NM_FILE_PATH"));
         contentDTO.setFileExtension(rs.getString("NM_FILE_EXT"));
         contentDTO.setFileType(rs.getString("CD_FILE_TYPE"));
         contentDTO.setSaveDate(rs.getDate("DA_SAVE"));
@@ -230,6 +498,9 @@ public class ContentDAOImpl implements ContentDAO {
         contentDTO.setContent(rs.getString("CN_CONTENT"));
         contentDTO.setRegisterNo(rs.getString("NO_REGISTER"));
         contentDTO.setFirstDate(rs.getDate("DA_FIRST_DATE"));
+        contentDTO.setContentHash(rs.getString("NM_CONTENT_HASH"));
+        contentDTO.setRefCount(rs.getInt("CN_REF"));
+        contentDTO.setVariant(rs.getString("CD_VARIANT"));
         
         return contentDTO;
     }
@@ -0,0 +1,121 @@
+package domain.dao;
+
+import domain.dto.ContentDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+/**
+ * 파일 메타데이터와 파일 데이터 스트림 (ContentDAO.openByFileId 결과)
+ * 파일 데이터는 배열로 읽지 않고 copyTo에서 스트림으로 열어 고정 크기 버퍼로 복사하므로,
+ * 파일 크기와 관계없이 다운로드당 힙 사용량이 일정합니다.
+ * JDBC 구현은 close까지 커넥션을 잡고 있으므로 반드시 try-with-resources로 사용합니다.
+ */
+public class ContentStream implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    // 요청 스레드마다 하나의 복사 버퍼를 재사용
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    /**
+     * 파일 데이터의 일부 구간을 여는 함수 (offset은 0부터)
+     */
+    @FunctionalInterface
+    public interface Opener {
+        InputStream open(long offset, long length) throws SQLException, IOException;
+    }
+
+    private final ContentDTO content;
+    private final long length;
+    private final Opener opener;
+    private final Runnable releaser;
+    private boolean closed;
+
+    /**
+     * @param content 파일 메타데이터 (saveFile은 비어 있음)
+     * @param length 파일 데이터 길이 (데이터가 없으면 -1)
+     * @param opener 파일 데이터 구간을 여는 함수
+     * @param releaser close 시 실행할 자원 반환 (null 허용)
+     */
+    public ContentStream(ContentDTO content, long length, Opener opener, Runnable releaser) {
+        this.content = content;
+        this.length = length;
+        this.opener = opener;
+        this.releaser = releaser;
+    }
+
+    public ContentDTO getContent() {
+        return content;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public boolean hasData() {
+        return length >= 0;
+    }
+
+    /**
+     * 파일 데이터 전체를 읽는 스트림을 엽니다. (이미지 디코딩 등 InputStream이 필요한 경우)
+     * 반환된 스트림은 이 객체를 닫기 전에 사용해야 합니다.
+     */
+    public InputStream openStream() throws IOException {
+        if (closed) {
+            throw new IOException("이미 닫힌 파일 스트림입니다.");
+        }
+        if (!hasData()) {
+            throw new IOException("파일 데이터가 없습니다.");
+        }
+        try {
+            return opener.open(0, length);
+        } catch (SQLException e) {
+            throw new IOException("파일 데이터 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파일 데이터의 구간을 출력 스트림으로 복사합니다.
+     * @param offset 시작 위치 (0부터)
+     * @param count 복사할 바이트 수
+     * @return 실제로 복사한 바이트 수
+     */
+    public long copyTo(OutputStream out, long offset, long count) throws IOException {
+        if (closed) {
+            throw new IOException("이미 닫힌 파일 스트림입니다.");
+        }
+        if (!hasData() || count <= 0) {
+            return 0;
+        }
+
+        byte[] buffer = BUFFER.get();
+        long copied = 0;
+        try (InputStream in = opener.open(offset, count)) {
+            int bytesRead;
+            while (copied < count
+                    && (bytesRead = in.read(buffer, 0, (int) Math.min(buffer.length, count - copied))) != -1) {
+                out.write(buffer, 0, bytesRead);
+                copied += bytesRead;
+            }
+        } catch (SQLException e) {
+            throw new IOException("파일 데이터 읽기 실패: " + e.getMessage(), e);
+        }
+        return copied;
+    }
+
+    /**
+     * 커넥션 등 자원을 반환합니다. (여러 번 호출해도 한 번만 반환)
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            if (releaser != null) {
+                releaser.run();
+            }
+        }
+    }
+}
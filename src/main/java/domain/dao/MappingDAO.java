@@ -4,6 +4,7 @@ import domain.dto.CategoryDTO;
 import domain.dto.MappingDTO;
 import domain.dto.PageDTO;
 import domain.dto.ProductDTO;
+import util.ReadOnly;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -11,15 +12,19 @@ import java.util.List;
 public interface MappingDAO {
 
     // 모든 매핑 가져오기
+    @ReadOnly
     List<MappingDTO> getAllMappings() throws SQLException;
 
-    // 페이지네이션이 적용된 매핑 목록 가져오기
+    // 페이지네이션이 적용된 매핑 목록 가져오기 (조회된 행이 있으면 pageDTO 전체 개수도 설정)
+    @ReadOnly
     List<MappingDTO> getMappingsWithPagination(PageDTO pageDTO) throws SQLException;
 
     // 전체 매핑 수 카운트
+    @ReadOnly
     int getTotalMappingCount() throws SQLException;
 
     // 키워드 검색 결과의 총 개수
+    @ReadOnly
     int getSearchMappingCount(String keyword) throws SQLException;
 
     // 상품 코드와 카테고리 ID로 매핑 가져오기
@@ -35,15 +40,19 @@ public interface MappingDAO {
     boolean deleteMappingByProductAndCategory(String productCode, Long categoryId) throws SQLException;
 
     // 키워드로 매핑 검색
+    @ReadOnly
     List<MappingDTO> searchMappings(String keyword) throws SQLException;
 
-    // 키워드로 매핑 검색 + 페이지네이션
+    // 키워드로 매핑 검색 + 페이지네이션 (조회된 행이 있으면 pageDTO 전체 개수도 설정)
+    @ReadOnly
     List<MappingDTO> searchMappings(String keyword, PageDTO pageDTO) throws SQLException;
 
     // 모든 카테고리 정보 가져오기 (매핑 폼에서 사용)
+    @ReadOnly
     List<CategoryDTO> getAllCategories() throws SQLException;
 
     // 모든 상품 정보 가져오기 (매핑 폼에서 사용)
+    @ReadOnly
     List<ProductDTO> getAllProducts() throws SQLException;
 
     // 상품 코드로 매핑된 카테고리 목록 가져오기
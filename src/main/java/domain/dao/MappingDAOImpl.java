@@ -65,7 +65,7 @@ public class MappingDAOImpl implements MappingDAO {
             String sql = "SELECT * FROM (" +
                     "    SELECT t.*, ROWNUM AS rnum FROM (" +
                     "        SELECT p.NO_PRODUCT, m.NB_CATEGORY, NM_PRODUCT, NM_FULL_CATEGORY, " +
-                    "        m.CN_ORDER, m.NO_REGISTER, m.DA_FIRST_DATE " +
+                    "        m.CN_ORDER, m.NO_REGISTER, m.DA_FIRST_DATE, COUNT(*) OVER() AS TOTAL_COUNT " +
                     "        FROM tb_product p " +
                     "        JOIN tb_category_product_mapping m ON p.no_product = m.no_product " +
                     "        JOIN tb_category c ON m.nb_category = c.nb_category " +
@@ -75,12 +75,16 @@ public class MappingDAOImpl implements MappingDAO {
                     ") WHERE rnum >= ?";
 
             pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, pageDTO.getEndRow());
+            pstmt.setInt(1, pageDTO.getFetchEndRow());
             pstmt.setInt(2, pageDTO.getStartRow());
 
             rs = pstmt.executeQuery();
 
             while (rs.next()) {
+                // 전체 매핑 수는 같은 결과 집합에서 함께 설정
+                if (mappingList.isEmpty()) {
+                    pageDTO.setTotalCount(rs.getInt("TOTAL_COUNT"));
+                }
                 MappingDTO mapping = resultSetToMappingDTO(rs);
                 mappingList.add(mapping);
             }
@@ -137,7 +141,7 @@ public class MappingDAOImpl implements MappingDAO {
             String sql = "SELECT * FROM (" +
                     "    SELECT t.*, ROWNUM AS rnum FROM (" +
                     "        SELECT p.NO_PRODUCT, m.NB_CATEGORY, NM_PRODUCT, NM_FULL_CATEGORY, " +
-                    "        m.CN_ORDER, m.NO_REGISTER, m.DA_FIRST_DATE " +
+                    "        m.CN_ORDER, m.NO_REGISTER, m.DA_FIRST_DATE, COUNT(*) OVER() AS TOTAL_COUNT " +
                     "        FROM tb_product p " +
                     "        JOIN tb_category_product_mapping m ON p.no_product = m.no_product " +
                     "        JOIN tb_category c ON m.nb_category = c.nb_category " +
@@ -153,12 +157,16 @@ public class MappingDAOImpl implements MappingDAO {
             pstmt.setString(1, searchPattern);
             pstmt.setString(2, searchPattern);
             pstmt.setString(3, searchPattern);
-            pstmt.setInt(4, pageDTO.getEndRow());
+            pstmt.setInt(4, pageDTO.getFetchEndRow());
             pstmt.setInt(5, pageDTO.getStartRow());
 
             rs = pstmt.executeQuery();
 
             while (rs.next()) {
+                // 검색 결과 수는 같은 결과 집합에서 함께 설정
+                if (mappingList.isEmpty()) {
+                    pageDTO.setTotalCount(rs.getInt("TOTAL_COUNT"));
+                }
                 MappingDTO mapping = resultSetToMappingDTO(rs);
                 mappingList.add(mapping);
             }
@@ -3,6 +3,8 @@ package domain.dao;
 import domain.dto.OrderDTO;
 import domain.dto.OrderItemDTO;
 import domain.dto.PageDTO;
+import exception.OutOfStockException;
+import util.ReadOnly;
 
 import java.util.List;
 
@@ -12,15 +14,18 @@ import java.util.List;
 public interface OrderDAO {
     /**
      * 주문 목록을 조회합니다.
+     * 조회된 행이 있으면 같은 쿼리 결과로 pageDTO의 전체 주문 수도 설정합니다.
      * @param pageDTO 페이징 정보
      * @return 주문 목록
      */
+    @ReadOnly
     List<OrderDTO> getOrderList(PageDTO pageDTO);
 
     /**
      * 주문의 총 개수를 조회합니다.
      * @return 총 주문 개수
      */
+    @ReadOnly
     int getTotalOrderCount();
 
     /**
@@ -58,6 +63,18 @@ public interface OrderDAO {
      */
     int createOrderItem(OrderItemDTO orderItemDTO);
 
+    /**
+     * 주문, 주문 항목 저장과 재고 차감, 장바구니 항목 삭제를 하나의 트랜잭션으로 처리합니다.
+     * 주문 항목 저장과 재고 차감은 JDBC 배치로 실행되며, 하나라도 실패하면 전체가 롤백됩니다.
+     * @param orderDTO 주문 정보 (주문 금액은 호출 측에서 계산하여 설정)
+     * @param orderItems 주문 항목 목록
+     * @param basketItemIds 함께 삭제할 장바구니 항목 ID 목록 (없으면 null 또는 빈 목록)
+     * @return 생성된 주문 ID, 실패 시 null
+     * @throws OutOfStockException 재고가 부족한 상품이 있는 경우 (트랜잭션은 롤백됨)
+     */
+    String placeOrder(OrderDTO orderDTO, List<OrderItemDTO> orderItems, List<Long> basketItemIds)
+            throws OutOfStockException;
+
     /**
      * 주문 상태를 업데이트합니다.
      * @param orderId 주문 ID
@@ -104,6 +121,7 @@ public interface OrderDAO {
 
     /**
      * 사용자 ID로 주문 목록을 조회합니다.
+     * 조회된 행이 있으면 같은 쿼리 결과로 pageDTO의 전체 주문 수도 설정합니다.
      * @param userId 사용자 ID
      * @param pageDTO 페이징 정보
      * @return 사용자의 주문 목록
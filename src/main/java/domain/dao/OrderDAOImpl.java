@@ -4,6 +4,7 @@ import util.DatabaseConnection;
 import domain.dto.OrderDTO;
 import domain.dto.OrderItemDTO;
 import domain.dto.PageDTO;
+import exception.OutOfStockException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.*;
@@ -28,7 +29,8 @@ public class OrderDAOImpl implements OrderDAO {
             String sql = "SELECT * FROM (" +
                     "    SELECT t.*, ROWNUM AS rnum FROM (" +
                     "        SELECT o.*, " +
-                    "        (SELECT COUNT(*) FROM tb_order_item i WHERE i.id_order = o.id_order) AS total_item_count " +
+                    "        (SELECT COUNT(*) FROM tb_order_item i WHERE i.id_order = o.id_order) AS total_item_count, " +
+                    "        COUNT(*) OVER() AS total_count " +
                     "        FROM tb_order o " +
                     "        ORDER BY o.da_order DESC" +
                     "    ) t" +
@@ -36,12 +38,16 @@ public class OrderDAOImpl implements OrderDAO {
                     ") WHERE rnum >= ?";
 
             pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, pageDTO.getEndRow());
+            pstmt.setInt(1, pageDTO.getFetchEndRow());
             pstmt.setInt(2, pageDTO.getStartRow());
 
             rs = pstmt.executeQuery();
 
             while (rs.next()) {
+                // 전체 주문 수는 같은 결과 집합에서 함께 설정
+                if (orderList.isEmpty()) {
+                    pageDTO.setTotalCount(rs.getInt("total_count"));
+                }
                 OrderDTO order = resultSetToOrderDTO(rs);
                 orderList.add(order);
             }
@@ -288,6 +294,167 @@ public class OrderDAOImpl implements OrderDAO {
         return result;
     }
 
+    @Override
+    public String placeOrder(OrderDTO orderDTO, List<OrderItemDTO> orderItems, List<Long> basketItemIds)
+            throws OutOfStockException {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        String orderId = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+            conn.setAutoCommit(false); // 트랜잭션 시작
+
+            // 1. 새 주문 ID 조회
+            String getIdSql = "SELECT 'OD' || LPAD(seq_tb_order.nextval, 7, '0') AS id_order FROM DUAL";
+            pstmt = conn.prepareStatement(getIdSql);
+            rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                orderId = rs.getString("id_order");
+            } else {
+                throw new SQLException("주문 ID 생성 실패");
+            }
+
+            rs.close();
+            rs = null;
+            pstmt.close();
+
+            // 2. 주문 삽입 (주문 금액은 호출 측에서 메모리로 계산한 값 사용)
+            String insertOrderSql = "INSERT INTO tb_order (id_order, id_user, qt_order_amount, qt_deli_money, " +
+                    "qt_deli_period, nm_order_person, nm_receiver, no_delivery_zipno, nm_delivery_address, " +
+                    "nm_receiver_telno, nm_delivery_space, cd_order_type, da_order, st_order, st_payment, " +
+                    "no_register, da_first_date) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, SYSDATE, ?, ?, ?, SYSDATE)";
+
+            pstmt = conn.prepareStatement(insertOrderSql);
+
+            pstmt.setString(1, orderId);
+            pstmt.setString(2, orderDTO.getUserId());
+            pstmt.setInt(3, orderDTO.getOrderAmount() != null ? orderDTO.getOrderAmount() : 0);
+            pstmt.setInt(4, orderDTO.getDeliveryFee() != null ? orderDTO.getDeliveryFee() : 0);
+            pstmt.setInt(5, orderDTO.getDeliveryPeriod() != null ? orderDTO.getDeliveryPeriod() : 0);
+            pstmt.setString(6, orderDTO.getOrderPersonName());
+            pstmt.setString(7, orderDTO.getReceiverName());
+            pstmt.setString(8, orderDTO.getDeliveryZipno());
+            pstmt.setString(9, orderDTO.getDeliveryAddress());
+            pstmt.setString(10, orderDTO.getReceiverTelno());
+            pstmt.setString(11, orderDTO.getDeliverySpace());
+            pstmt.setString(12, orderDTO.getOrderType() != null ? orderDTO.getOrderType() : "10");
+            pstmt.setString(13, orderDTO.getOrderStatus() != null ? orderDTO.getOrderStatus() : "10");
+            pstmt.setString(14, orderDTO.getPaymentStatus() != null ? orderDTO.getPaymentStatus() : "20");
+            pstmt.setString(15, orderDTO.getRegisterId());
+
+            pstmt.executeUpdate();
+            pstmt.close();
+
+            // 3. 주문 항목 배치 삽입
+            String insertItemSql = "INSERT INTO tb_order_item (id_order_item, id_order, cn_order_item, " +
+                    "no_product, id_user, qt_unit_price, qt_order_item, qt_order_item_amount, " +
+                    "qt_order_item_delivery_fee, st_payment, no_register, da_first_date) " +
+                    "VALUES ('OT' || LPAD(seq_tb_order_item.nextval, 7, '0'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, SYSDATE)";
+
+            pstmt = conn.prepareStatement(insertItemSql);
+
+            int itemOrder = 1;
+            for (OrderItemDTO item : orderItems) {
+                item.setOrderId(orderId);
+                if (item.getOrderItemCount() == null) {
+                    item.setOrderItemCount(itemOrder);
+                }
+                itemOrder++;
+
+                pstmt.setString(1, orderId);
+                pstmt.setInt(2, item.getOrderItemCount());
+                pstmt.setString(3, item.getProductCode());
+                pstmt.setString(4, item.getUserId() != null ? item.getUserId() : orderDTO.getUserId());
+                pstmt.setInt(5, item.getUnitPrice() != null ? item.getUnitPrice() : 0);
+                pstmt.setInt(6, item.getQuantity() != null ? item.getQuantity() : 1);
+                pstmt.setInt(7, item.getAmount() != null ? item.getAmount() : 0);
+                pstmt.setInt(8, item.getDeliveryFee() != null ? item.getDeliveryFee() : 0);
+                pstmt.setString(9, item.getPaymentStatus() != null ? item.getPaymentStatus() : "20");
+                pstmt.setString(10, item.getRegisterId());
+                pstmt.addBatch();
+            }
+
+            pstmt.executeBatch();
+            pstmt.close();
+
+            // 4. 재고 차감 배치 실행 (재고가 충분한 경우에만 차감되도록 조건부 UPDATE)
+            String decreaseStockSql = "UPDATE tb_product SET qt_stock = qt_stock - ? " +
+                    "WHERE no_product = ? AND qt_stock >= ?";
+
+            pstmt = conn.prepareStatement(decreaseStockSql);
+
+            for (OrderItemDTO item : orderItems) {
+                int quantity = item.getQuantity() != null ? item.getQuantity() : 1;
+                pstmt.setInt(1, quantity);
+                pstmt.setString(2, item.getProductCode());
+                pstmt.setInt(3, quantity);
+                pstmt.addBatch();
+            }
+
+            int[] stockResults = pstmt.executeBatch();
+            pstmt.close();
+
+            // 갱신된 행이 없는 항목은 재고 부족으로 보고 전체 롤백
+            for (int i = 0; i < stockResults.length; i++) {
+                if (stockResults[i] == 0) {
+                    String productCode = orderItems.get(i).getProductCode();
+                    DatabaseConnection.rollbackTransaction(conn);
+                    throw new OutOfStockException(productCode, "재고가 부족합니다: " + productCode);
+                }
+            }
+
+            // 5. 주문한 장바구니 항목 삭제 및 장바구니 총액 갱신
+            if (basketItemIds != null && !basketItemIds.isEmpty()) {
+                StringBuilder placeholders = new StringBuilder();
+                for (int i = 0; i < basketItemIds.size(); i++) {
+                    placeholders.append(i == 0 ? "?" : ",?");
+                }
+
+                String deleteBasketSql = "DELETE FROM tb_basket_item " +
+                        "WHERE nb_basket = (SELECT nb_basket FROM tb_basket WHERE id_user = ?) " +
+                        "AND nb_basket_item IN (" + placeholders + ")";
+
+                pstmt = conn.prepareStatement(deleteBasketSql);
+                pstmt.setString(1, orderDTO.getUserId());
+                int paramIndex = 2;
+                for (Long basketItemId : basketItemIds) {
+                    pstmt.setLong(paramIndex++, basketItemId);
+                }
+                pstmt.executeUpdate();
+                pstmt.close();
+
+                String updateBasketSql = "UPDATE tb_basket b SET qt_basket_amount = " +
+                        "(SELECT NVL(SUM(bi.qt_basket_item_amount), 0) FROM tb_basket_item bi WHERE bi.nb_basket = b.nb_basket) " +
+                        "WHERE b.id_user = ?";
+
+                pstmt = conn.prepareStatement(updateBasketSql);
+                pstmt.setString(1, orderDTO.getUserId());
+                pstmt.executeUpdate();
+            }
+
+            DatabaseConnection.commitTransaction(conn); // 트랜잭션 커밋
+
+        } catch (SQLException e) {
+            log.error("주문 처리 중 오류 발생: " + e.getMessage(), e);
+            try {
+                if (conn != null) {
+                    DatabaseConnection.rollbackTransaction(conn); // 트랜잭션 롤백
+                }
+            } catch (SQLException ex) {
+                log.error("트랜잭션 롤백 중 오류 발생: " + ex.getMessage(), ex);
+            }
+            return null;
+        } finally {
+            closeResources(rs, pstmt, conn);
+        }
+
+        return orderId;
+    }
+
     @Override
     public int updateOrderStatus(String orderId, String orderStatus) {
         Connection conn = null;
@@ -509,7 +676,8 @@ public class OrderDAOImpl implements OrderDAO {
             String sql = "SELECT * FROM (" +
                     "    SELECT t.*, ROWNUM AS rnum FROM (" +
                     "        SELECT o.*, " +
-                    "        (SELECT COUNT(*) FROM tb_order_item i WHERE i.id_order = o.id_order) AS total_item_count " +
+                    "        (SELECT COUNT(*) FROM tb_order_item i WHERE i.id_order = o.id_order) AS total_item_count, " +
+                    "        COUNT(*) OVER() AS total_count " +
                     "        FROM tb_order o " +
                     "        WHERE o.id_user = ? " +
                     "        ORDER BY o.da_order DESC" +
@@ -520,12 +688,16 @@ public class OrderDAOImpl implements OrderDAO {
             pstmt = conn.prepareStatement(sql);
 
             pstmt.setString(1, userId);
-            pstmt.setInt(2, pageDTO.getEndRow());
+            pstmt.setInt(2, pageDTO.getFetchEndRow());
             pstmt.setInt(3, pageDTO.getStartRow());
 
             rs = pstmt.executeQuery();
 
             while (rs.next()) {
+                // 사용자의 전체 주문 수는 같은 결과 집합에서 함께 설정
+                if (orderList.isEmpty()) {
+                    pageDTO.setTotalCount(rs.getInt("total_count"));
+                }
                 OrderDTO order = resultSetToOrderDTO(rs);
                 orderList.add(order);
             }
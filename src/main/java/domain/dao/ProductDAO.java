@@ -1,6 +1,9 @@
 package domain.dao;
 
+import domain.dto.ProductCriteria;
 import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
+import util.ReadOnly;
 
 import java.util.List;
 
@@ -8,6 +11,10 @@ public interface ProductDAO {
     // 상품 코드로 상품 조회
     ProductDTO findByProductCode(String productCode);
 
+    // 여러 상품을 상품 코드로 한 번에 조회 (productCodes 순서대로, 없는 상품은 제외, 목록 화면용 컬럼만 조회)
+    @ReadOnly
+    List<ProductDTO> findByProductCodes(List<String> productCodes);
+
     // 상품 저장 (등록)
     void save(ProductDTO productDTO);
 
@@ -23,28 +30,27 @@ public interface ProductDAO {
     // 판매 상태 관리 (판매 기간에 따른 상태 계산)
     boolean modifySaleStatus(String productCode, String startDate, String endDate);
 
-    // 페이지네이션
-    List<ProductDTO> findAllWithPagination(int offset, int limit);
-
-    // 정렬된 상품 목록 조회 (가격순) + 페이지네이션
-    List<ProductDTO> findAllOrderByPriceWithPagination(boolean ascending, int offset, int limit);
+    // 목록 조회 메서드는 목록 화면에 필요한 컬럼만 조회합니다.
+    // (상세 설명, 배송비, 등록자, 등록일은 비어 있으며 전체 정보는 findByProductCode로 조회)
+    // 화면의 상품 목록(검색, 카테고리, 정렬, 페이지/커서)은 모두 findByCriteria 한 경로로 조회합니다.
 
-    // 상품명으로 상품 검색 + 페이지네이션
-    List<ProductDTO> findByProductNameWithPagination(String keyword, int offset, int limit);
+    // 상세 설명을 포함한 전체 컬럼 페이지네이션 (검색 색인 구성용)
+    @ReadOnly
+    List<ProductDTO> findAllDetailsWithPagination(int offset, int limit);
 
-     // 상품명으로 상품 검색 + 가격 정렬 + 페이지네이션
-    List<ProductDTO> findByProductNameOrderByPriceWithPagination(String keyword, boolean ascending, int offset, int limit);
-
-    // 전체 상품 개수
+    // 전체 상품 개수 (검색 색인 구성 결과 확인용)
+    @ReadOnly
     int countAll();
 
-    // 검색 결과 상품 개수
-    int countByProductName(String keyword);
-
-    // 카테고리별 상품 조회
-    List<ProductDTO> findByCategoryId(Long categoryId, int offset, int limit);
-    int countByCategoryId(Long categoryId);
-    List<ProductDTO> findByCategoryIdOrderByPriceWithPagination(Long categoryId, boolean ascending, int offset, int limit);
+    /**
+     * 조건 기반 상품 목록 조회 (검색어, 카테고리, 가격 범위, 재고, 판매 기간, 정렬, 페이지/커서)
+     * 현재 페이지 목록과 전체 건수, 요청 시 카테고리별/가격대별 상품 수를 한 번의 쿼리로 조회합니다.
+     * 가격대별 상품 수는 가격 범위 조건을 제외하고 집계하므로 다른 가격대로 바꿨을 때의 결과 수를 보여줄 수 있습니다.
+     * @param criteria 조회 조건
+     * @return 화면 표시 순서대로 정렬된 현재 페이지 목록과 집계 결과
+     */
+    @ReadOnly
+    ProductQueryResult findByCriteria(ProductCriteria criteria);
 
     /**
      * 상품의 현재 재고 수량을 조회합니다.
@@ -61,4 +67,20 @@ public interface ProductDAO {
      */
     int updateProductStock(String productCode, int newStock);
 
+    /**
+     * 재고가 충분한 경우에만 주문 수량만큼 재고를 차감합니다. (단일 UPDATE로 원자적 처리)
+     * @param productCode 상품 코드
+     * @param quantity 차감할 수량 (1 이상, 아니면 갱신하지 않고 0 반환)
+     * @return 성공 시 1, 재고 부족, 잘못된 수량 또는 실패 시 0
+     */
+    int decreaseStock(String productCode, int quantity);
+
+    /**
+     * 재고를 지정한 수량만큼 증가시킵니다. (단일 UPDATE로 원자적 처리)
+     * @param productCode 상품 코드
+     * @param quantity 증가시킬 수량 (1 이상, 아니면 갱신하지 않고 0 반환)
+     * @return 성공 시 1, 잘못된 수량 또는 실패 시 0
+     */
+    int increaseStock(String productCode, int quantity);
+
 }
\ No newline at end of file
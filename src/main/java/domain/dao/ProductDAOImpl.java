@@ -1,14 +1,28 @@
 package domain.dao;
 
+import domain.dto.ProductCriteria;
 import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
 import lombok.extern.slf4j.Slf4j;
 import util.DatabaseConnection;
+import util.KeysetCursor;
 
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 @Slf4j
 public class ProductDAOImpl implements ProductDAO {
+    // Oracle IN 목록 최대 항목 수
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
+    // 목록 화면용 컬럼 (상세 설명 CLOB, 등록자, 등록일 등 목록에서 쓰지 않는 컬럼은 제외, resultSetToProductSummary와 함께 사용)
+    private static final String SUMMARY_COLUMNS = "p.no_product, p.nm_product, p.id_file, p.dt_start_date, p.dt_end_date, " +
+            "p.qt_customer_price, p.qt_sale_price, p.qt_stock";
 
     public ProductDAOImpl() {
 
@@ -41,6 +55,48 @@ public class ProductDAOImpl implements ProductDAO {
     }
 
 
+    @Override
+    public List<ProductDTO> findByProductCodes(List<String> productCodes) {
+        List<ProductDTO> products = new ArrayList<>();
+        if (productCodes.isEmpty()) {
+            return products;
+        }
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            int slots = inListBindSlots(productCodes.size());
+            StringBuilder sql = new StringBuilder("SELECT " + SUMMARY_COLUMNS + " FROM TB_PRODUCT p WHERE ");
+            appendInList(sql, "p.no_product", slots);
+            pstmt = conn.prepareStatement(sql.toString());
+            for (int i = 0; i < slots; i++) {
+                pstmt.setString(i + 1, productCodes.get(Math.min(i, productCodes.size() - 1)));
+            }
+            rs = pstmt.executeQuery();
+
+            Map<String, ProductDTO> found = new HashMap<>();
+            while (rs.next()) {
+                ProductDTO productDTO = resultSetToProductSummary(rs);
+                found.put(productDTO.getProductCode(), productDTO);
+            }
+            // IN 조회는 순서를 보장하지 않으므로 요청한 순서대로 정렬
+            for (String productCode : productCodes) {
+                ProductDTO productDTO = found.get(productCode);
+                if (productDTO != null) {
+                    products.add(productDTO);
+                }
+            }
+        } catch (SQLException e) {
+            log.error("상품 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            closeResources(rs, pstmt, conn);
+        }
+        return products;
+    }
+
     @Override
     public void save(ProductDTO productDTO) {
         Connection conn = null;
@@ -332,36 +388,35 @@ public class ProductDAOImpl implements ProductDAO {
         return productDTO;
     }
 
-    @Override
-    public List<ProductDTO> findAllWithPagination(int offset, int limit) {
-        List<ProductDTO> products = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+    /**
+     * 목록 화면용 행 매핑 (SUMMARY_COLUMNS로 조회한 결과)
+     * 상세 설명, 배송비, 등록자, 등록일은 채우지 않으므로 전체 정보가 필요하면 findByProductCode를 사용합니다.
+     */
+    private ProductDTO resultSetToProductSummary(ResultSet rs) throws SQLException {
+        ProductDTO productDTO = new ProductDTO();
+        productDTO.setProductCode(rs.getString("NO_PRODUCT"));
+        productDTO.setProductName(rs.getString("NM_PRODUCT"));
+        productDTO.setFileId(rs.getString("ID_FILE"));
+        productDTO.setStartDate(rs.getString("DT_START_DATE"));
+        productDTO.setEndDate(rs.getString("DT_END_DATE"));
 
-        try {
-            conn = DatabaseConnection.getConnection();
+        int customerPrice = rs.getInt("QT_CUSTOMER_PRICE");
+        if (!rs.wasNull()) {
+            productDTO.setCustomerPrice(customerPrice);
+        }
 
-            String sql = "SELECT * FROM TB_PRODUCT ORDER BY NO_PRODUCT OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, offset);
-            pstmt.setInt(2, limit);
-            rs = pstmt.executeQuery();
+        productDTO.setSalePrice(rs.getInt("QT_SALE_PRICE"));
 
-            while (rs.next()) {
-                ProductDTO productDTO = resultSetToProductDTO(rs);
-                products.add(productDTO);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            closeResources(rs, pstmt, conn);
+        int stock = rs.getInt("QT_STOCK");
+        if (!rs.wasNull()) {
+            productDTO.setStock(stock);
         }
-        return products;
+
+        return productDTO;
     }
 
     @Override
-    public List<ProductDTO> findAllOrderByPriceWithPagination(boolean ascending, int offset, int limit) {
+    public List<ProductDTO> findAllDetailsWithPagination(int offset, int limit) {
         List<ProductDTO> products = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
@@ -370,49 +425,17 @@ public class ProductDAOImpl implements ProductDAO {
         try {
             conn = DatabaseConnection.getConnection();
 
-            String sql = "SELECT * FROM TB_PRODUCT ORDER BY qt_sale_price " + (ascending ? "ASC" : "DESC") +
-                    " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+            String sql = "SELECT * FROM TB_PRODUCT ORDER BY NO_PRODUCT OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
             pstmt = conn.prepareStatement(sql);
             pstmt.setInt(1, offset);
             pstmt.setInt(2, limit);
             rs = pstmt.executeQuery();
 
             while (rs.next()) {
-                ProductDTO productDTO = resultSetToProductDTO(rs);
-                products.add(productDTO);
+                products.add(resultSetToProductDTO(rs));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            closeResources(rs, pstmt, conn);
-        }
-        return products;
-    }
-
-    @Override
-    public List<ProductDTO> findByProductNameWithPagination(String keyword, int offset, int limit) {
-        List<ProductDTO> products = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DatabaseConnection.getConnection();
-
-            String sql = "SELECT * FROM TB_PRODUCT WHERE nm_product LIKE ? " +
-                    "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, "%" + keyword + "%");
-            pstmt.setInt(2, offset);
-            pstmt.setInt(3, limit);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                ProductDTO productDTO = resultSetToProductDTO(rs);
-                products.add(productDTO);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("상품 전체 정보 목록 조회 중 오류 발생: {}", e.getMessage(), e);
         } finally {
             closeResources(rs, pstmt, conn);
         }
@@ -445,157 +468,280 @@ public class ProductDAOImpl implements ProductDAO {
     }
 
     @Override
-    public int countByProductName(String keyword) {
+    public ProductQueryResult findByCriteria(ProductCriteria criteria) {
+        List<ProductDTO> products = new ArrayList<>();
+        int totalCount = 0;
+        Map<Long, Integer> categoryCounts = new HashMap<>();
+        Map<Integer, Integer> bucketCounts = new HashMap<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
-        int count = 0;
-
-        try {
-            conn = DatabaseConnection.getConnection();
 
-            String sql = "SELECT COUNT(*) FROM TB_PRODUCT WHERE nm_product LIKE ?";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, "%" + keyword + "%");
-            rs = pstmt.executeQuery();
+        // 정렬 조건: 가격순은 동일 가격을 상품코드로 정렬, 이전 페이지 방향이면 정렬을 뒤집어 조회
+        KeysetCursor cursor = criteria.getCursor();
+        boolean backward = cursor != null && cursor.isBackward();
+        boolean descending;
+        if (criteria.isPriceSort()) {
+            descending = "priceDesc".equals(criteria.getSortBy()) != backward;
+        } else {
+            descending = "newest".equals(criteria.getSortBy()) != backward;
+        }
+        String direction = descending ? "DESC" : "ASC";
+        String operator = descending ? "<" : ">";
+        String orderBy = criteria.isPriceSort()
+                ? "qt_sale_price " + direction + ", no_product " + direction
+                : "no_product " + direction;
+        boolean seekByPrice = criteria.isPriceSort() && cursor != null && cursor.getSalePrice() != null;
+
+        // f: 가격 범위를 제외한 모든 조건을 적용한 상품 (가격대 집계용)
+        // 바인딩 값은 SQL에 자리를 추가한 순서대로 filterParams에 담음
+        List<Object> filterParams = new ArrayList<>();
+        StringBuilder filtered = new StringBuilder();
+        filtered.append("SELECT /*+ MATERIALIZE */ p.no_product, p.qt_sale_price, ");
+        if (criteria.hasPriceRange()) {
+            filtered.append("CASE WHEN 1 = 1");
+            if (criteria.getMinPrice() != null) {
+                filtered.append(" AND p.qt_sale_price >= ?");
+                filterParams.add(criteria.getMinPrice());
+            }
+            if (criteria.getMaxPrice() != null) {
+                filtered.append(" AND p.qt_sale_price <= ?");
+                filterParams.add(criteria.getMaxPrice());
+            }
+            filtered.append(" THEN 1 ELSE 0 END AS in_range, ");
+        } else {
+            filtered.append("1 AS in_range, ");
+        }
+        if (criteria.isWithFacets()) {
+            int[] boundaries = criteria.getPriceBoundaries();
+            filtered.append("CASE");
+            for (int i = 0; i < boundaries.length; i++) {
+                filtered.append(" WHEN p.qt_sale_price < ? THEN ").append(i);
+                filterParams.add(boundaries[i]);
+            }
+            filtered.append(" ELSE ").append(boundaries.length).append(" END AS price_bucket ");
+        } else {
+            filtered.append("0 AS price_bucket ");
+        }
+        filtered.append("FROM TB_PRODUCT p WHERE 1 = 1 ");
 
-            if (rs.next()) {
-                count = rs.getInt(1);
+        if (criteria.getCategoryIds() != null) {
+            filtered.append("AND ");
+            appendCategoryCondition(filtered, criteria.getCategoryIds());
+            addInListParams(filterParams, criteria.getCategoryIds());
+        }
+        if (criteria.getProductCodes() != null) {
+            if (criteria.getProductCodes().isEmpty()) {
+                filtered.append("AND 1 = 0 ");
+            } else {
+                filtered.append("AND ");
+                appendInList(filtered, "p.no_product", inListBindSlots(criteria.getProductCodes().size()));
+                filtered.append(" ");
+                addInListParams(filterParams, criteria.getProductCodes());
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            closeResources(rs, pstmt, conn);
         }
-        return count;
-    }
+        if (criteria.hasKeyword()) {
+            appendKeywordCondition(filtered, filterParams, criteria.getKeyword());
+        }
+        if (criteria.isInStockOnly()) {
+            filtered.append("AND p.qt_stock > 0 ");
+        }
+        if (criteria.isOnSaleOnly()) {
+            String saleDate = criteria.getSaleDate() != null
+                    ? criteria.getSaleDate()
+                    : LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+            filtered.append("AND p.dt_start_date <= ? AND p.dt_end_date >= ? ");
+            filterParams.add(saleDate);
+            filterParams.add(saleDate);
+        }
 
-    @Override
-    public List<ProductDTO> findByProductNameOrderByPriceWithPagination(String keyword, boolean ascending, int offset, int limit) {
-        List<ProductDTO> products = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+        // f는 WITH 절로 한 번만 정의해 페이지 행과 모든 집계가 같은 결과를 공유 (Oracle은 MATERIALIZE 힌트로 한 번만 계산)
+        // H2는 부분 질의에서 참조하는 WITH 절의 바인딩 값을 적용하지 않으므로 H2에서만 쓰는 곳마다 f를 펼침
+        boolean inlineFilter = DatabaseConnection.isH2();
+        String filter = filtered.toString();
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder();
+        if (!inlineFilter) {
+            sql.append("WITH f AS (").append(filter).append(") ");
+            params.addAll(filterParams);
+        }
+
+        // 페이지 행(P): 가격 범위까지 적용한 결과 중 현재 페이지 (rn은 화면 정렬 순서)
+        sql.append("SELECT x.row_type, x.facet_key, x.facet_count, ").append(SUMMARY_COLUMNS).append(" FROM (")
+           .append("SELECT 'P' AS row_type, CAST(NULL AS NUMBER) AS facet_key, CAST(NULL AS NUMBER) AS facet_count, ")
+           .append("rn, no_product FROM (SELECT no_product, ROW_NUMBER() OVER (ORDER BY ").append(orderBy).append(") AS rn FROM ");
+        appendFilterSource(sql, params, filter, filterParams, inlineFilter);
+        sql.append("WHERE in_range = 1 ");
+        if (seekByPrice) {
+            sql.append("AND (qt_sale_price ").append(operator).append(" ? ")
+               .append("OR (qt_sale_price = ? AND no_product ").append(operator).append(" ?)) ");
+            params.add(cursor.getSalePrice());
+            params.add(cursor.getSalePrice());
+            params.add(cursor.getProductCode());
+        } else if (cursor != null && !criteria.isPriceSort()) {
+            sql.append("AND no_product ").append(operator).append(" ? ");
+            params.add(cursor.getProductCode());
+        }
+        sql.append("ORDER BY ").append(orderBy);
+        if (cursor != null) {
+            sql.append(" FETCH FIRST ? ROWS ONLY) pg ");
+        } else {
+            sql.append(" OFFSET ? ROWS FETCH NEXT ? ROWS ONLY) pg ");
+            params.add(Math.max(0, criteria.getOffset()));
+        }
+        params.add(Math.max(0, criteria.getLimit()));
+
+        // 전체 건수(T), 카테고리별(C)/가격대별(B) 집계를 같은 결과로 합친 뒤 페이지 행에만 상품 컬럼을 붙임
+        sql.append("UNION ALL SELECT 'T', NULL, COUNT(*), NULL, NULL FROM ");
+        appendFilterSource(sql, params, filter, filterParams, inlineFilter);
+        sql.append("WHERE in_range = 1 ");
+        if (criteria.isWithFacets()) {
+            sql.append("UNION ALL SELECT 'C', m.nb_category, COUNT(*), NULL, NULL FROM ");
+            appendFilterSource(sql, params, filter, filterParams, inlineFilter);
+            sql.append("JOIN TB_CATEGORY_PRODUCT_MAPPING m ON m.no_product = f.no_product ")
+               .append("WHERE f.in_range = 1 GROUP BY m.nb_category ")
+               .append("UNION ALL SELECT 'B', price_bucket, COUNT(*), NULL, NULL FROM ");
+            appendFilterSource(sql, params, filter, filterParams, inlineFilter);
+            sql.append("GROUP BY price_bucket ");
+        }
+        sql.append(") x LEFT JOIN TB_PRODUCT p ON p.no_product = x.no_product ")
+           .append("ORDER BY x.row_type, x.rn");
 
         try {
             conn = DatabaseConnection.getConnection();
-
-            String sql = "SELECT * FROM TB_PRODUCT WHERE nm_product LIKE ? " +
-                    "ORDER BY qt_sale_price " + (ascending ? "ASC" : "DESC") +
-                    " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
-
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, "%" + keyword + "%");
-            pstmt.setInt(2, offset);
-            pstmt.setInt(3, limit);
+            pstmt = conn.prepareStatement(sql.toString());
+            bindParams(pstmt, params);
             rs = pstmt.executeQuery();
 
             while (rs.next()) {
-                ProductDTO productDTO = resultSetToProductDTO(rs);
-                products.add(productDTO);
+                String rowType = rs.getString("ROW_TYPE");
+                if ("P".equals(rowType)) {
+                    products.add(resultSetToProductSummary(rs));
+                } else if ("T".equals(rowType)) {
+                    totalCount = rs.getInt("FACET_COUNT");
+                } else if ("C".equals(rowType)) {
+                    categoryCounts.put(rs.getLong("FACET_KEY"), rs.getInt("FACET_COUNT"));
+                } else if ("B".equals(rowType)) {
+                    bucketCounts.put(rs.getInt("FACET_KEY"), rs.getInt("FACET_COUNT"));
+                }
+            }
+
+            if (backward) {
+                Collections.reverse(products);
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("조건 기반 상품 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ProductQueryResult.empty();
         } finally {
             closeResources(rs, pstmt, conn);
         }
-        return products;
-    }
 
-    @Override
-    public List<ProductDTO> findByCategoryId(Long categoryId, int offset, int limit) {
-        List<ProductDTO> products = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DatabaseConnection.getConnection();
-
-            String sql = "SELECT p.* FROM TB_PRODUCT p " +
-                    "JOIN TB_CATEGORY_PRODUCT_MAPPING m ON p.no_product = m.no_product " +
-                    "WHERE m.nb_category = ? " +
-                    "ORDER BY p.da_first_date DESC " +
-                    "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
-
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, categoryId);
-            pstmt.setInt(2, offset);
-            pstmt.setInt(3, limit);
-            rs = pstmt.executeQuery();
+        return new ProductQueryResult(products, totalCount,
+                ProductQueryResult.categoryCounts(categoryCounts),
+                criteria.isWithFacets()
+                        ? ProductQueryResult.priceBuckets(criteria.getPriceBoundaries(), bucketCounts)
+                        : Collections.emptyList());
+    }
 
-            while (rs.next()) {
-                ProductDTO productDTO = resultSetToProductDTO(rs);
-                products.add(productDTO);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            closeResources(rs, pstmt, conn);
+    /**
+     * 검색어 조건을 추가합니다.
+     * 검색 색인(ProductSearchIndex)과 같은 기준으로, 검색어의 모든 단어가 상품명이나 상세 설명에 포함된 상품을 찾습니다.
+     * (색인이 없거나 후보가 많아 DB에서 거를 때도 결과가 색인과 같도록 함, 단어가 없는 검색어는 상품명 부분 일치)
+     */
+    private static void appendKeywordCondition(StringBuilder sql, List<Object> params, String keyword) {
+        List<String> terms = ProductSearchIndex.terms(keyword);
+        if (terms.isEmpty()) {
+            sql.append("AND p.nm_product LIKE ? ");
+            params.add("%" + keyword + "%");
+            return;
+        }
+        for (String term : terms) {
+            sql.append("AND (LOWER(p.nm_product) LIKE ? OR LOWER(p.nm_detail_explain) LIKE ?) ");
+            params.add("%" + term + "%");
+            params.add("%" + term + "%");
         }
-        return products;
     }
 
-    @Override
-    public int countByCategoryId(Long categoryId) {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        int count = 0;
+    /**
+     * 목록 조건 결과(f)를 FROM 절에 추가합니다.
+     * WITH 절로 정의한 경우 이름만 추가하고, 펼치는 경우 부분 질의와 그 바인딩 값을 추가합니다.
+     */
+    private static void appendFilterSource(StringBuilder sql, List<Object> params, String filter,
+                                           List<Object> filterParams, boolean inline) {
+        if (inline) {
+            sql.append("(").append(filter).append(") f ");
+            params.addAll(filterParams);
+        } else {
+            sql.append("f ");
+        }
+    }
 
-        try {
-            conn = DatabaseConnection.getConnection();
+    /**
+     * 카테고리 조건을 추가합니다. (카테고리 목록 중 하나라도 매핑된 상품)
+     * JOIN 대신 EXISTS를 사용해 상위/하위 카테고리에 함께 매핑된 상품이 중복되지 않게 하고,
+     * IN 목록 길이를 2의 거듭제곱으로 맞춰 하위 카테고리 수가 달라도 같은 SQL과 실행 계획을 재사용합니다.
+     */
+    private void appendCategoryCondition(StringBuilder sql, List<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            sql.append("1 = 0 ");
+            return;
+        }
 
-            String sql = "SELECT COUNT(*) FROM TB_PRODUCT p " +
-                    "JOIN TB_CATEGORY_PRODUCT_MAPPING m ON p.no_product = m.no_product " +
-                    "WHERE m.nb_category = ?";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, categoryId);
-            rs = pstmt.executeQuery();
+        sql.append("EXISTS (SELECT 1 FROM TB_CATEGORY_PRODUCT_MAPPING m ")
+           .append("WHERE m.no_product = p.no_product AND ");
+        appendInList(sql, "m.nb_category", inListBindSlots(categoryIds.size()));
+        sql.append(") ");
+    }
 
-            if (rs.next()) {
-                count = rs.getInt(1);
+    /**
+     * column IN (?, ...) 조건을 추가합니다.
+     * Oracle IN 목록은 최대 1000개이므로 나눠서 OR로 연결합니다.
+     */
+    private void appendInList(StringBuilder sql, String column, int slots) {
+        sql.append("(");
+        for (int start = 0; start < slots; start += MAX_IN_LIST_SIZE) {
+            if (start > 0) {
+                sql.append(" OR ");
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            closeResources(rs, pstmt, conn);
+            sql.append(column).append(" IN (");
+            int end = Math.min(slots, start + MAX_IN_LIST_SIZE);
+            for (int i = start; i < end; i++) {
+                sql.append(i > start ? ", ?" : "?");
+            }
+            sql.append(")");
         }
-        return count;
+        sql.append(")");
     }
 
-    @Override
-    public List<ProductDTO> findByCategoryIdOrderByPriceWithPagination(Long categoryId, boolean ascending, int offset, int limit) {
-        List<ProductDTO> products = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DatabaseConnection.getConnection();
-
-            String sql = "SELECT p.* FROM TB_PRODUCT p " +
-                    "JOIN TB_CATEGORY_PRODUCT_MAPPING m ON p.no_product = m.no_product " +
-                    "WHERE m.nb_category = ? " +
-                    "ORDER BY p.qt_sale_price " + (ascending ? "ASC" : "DESC") + " " +
-                    "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+    private int inListBindSlots(int count) {
+        int slots = Integer.highestOneBit(count);
+        return slots < count ? slots << 1 : slots;
+    }
 
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, categoryId);
-            pstmt.setInt(2, offset);
-            pstmt.setInt(3, limit);
-            rs = pstmt.executeQuery();
+    /**
+     * appendInList로 추가한 자리에 바인딩할 값을 params에 추가합니다. (남는 자리는 마지막 값을 반복)
+     */
+    private void addInListParams(List<Object> params, List<?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        int slots = inListBindSlots(values.size());
+        for (int i = 0; i < slots; i++) {
+            params.add(values.get(Math.min(i, values.size() - 1)));
+        }
+    }
 
-            while (rs.next()) {
-                ProductDTO productDTO = resultSetToProductDTO(rs);
-                products.add(productDTO);
+    private void bindParams(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        int index = 1;
+        for (Object param : params) {
+            if (param instanceof Long) {
+                pstmt.setLong(index++, (Long) param);
+            } else if (param instanceof Integer) {
+                pstmt.setInt(index++, (Integer) param);
+            } else {
+                pstmt.setString(index++, (String) param);
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            closeResources(rs, pstmt, conn);
         }
-        return products;
     }
 
     private void closeResources(ResultSet rs, PreparedStatement pstmt, Connection conn) {
@@ -655,4 +801,60 @@ public class ProductDAOImpl implements ProductDAO {
 
         return result;
     }
+
+    @Override
+    public int decreaseStock(String productCode, int quantity) {
+        // 0 이하의 수량은 조건(qt_stock >= ?)을 항상 통과해 재고를 늘리므로 실행하지 않음
+        if (quantity <= 0) {
+            log.warn("잘못된 재고 차감 수량: 상품코드={}, 수량={}", productCode, quantity);
+            return 0;
+        }
+        int result = 0;
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+            // 재고 확인과 차감을 하나의 UPDATE로 처리하여 동시 주문 시 초과 판매 방지
+            String sql = "UPDATE tb_product SET qt_stock = qt_stock - ? WHERE no_product = ? AND qt_stock >= ?";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, quantity);
+            pstmt.setString(2, productCode);
+            pstmt.setInt(3, quantity);
+            result = pstmt.executeUpdate();
+        } catch (SQLException e) {
+            log.error("상품 재고 차감 중 오류 발생: " + e.getMessage(), e);
+        } finally {
+            closeResources(null, pstmt, conn);
+        }
+
+        return result;
+    }
+
+    @Override
+    public int increaseStock(String productCode, int quantity) {
+        // 0 이하의 수량은 재고를 줄이거나 음수로 만들 수 있으므로 실행하지 않음
+        if (quantity <= 0) {
+            log.warn("잘못된 재고 증가 수량: 상품코드={}, 수량={}", productCode, quantity);
+            return 0;
+        }
+        int result = 0;
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+            String sql = "UPDATE tb_product SET qt_stock = NVL(qt_stock, 0) + ? WHERE no_product = ?";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, quantity);
+            pstmt.setString(2, productCode);
+            result = pstmt.executeUpdate();
+        } catch (SQLException e) {
+            log.error("상품 재고 증가 중 오류 발생: " + e.getMessage(), e);
+        } finally {
+            closeResources(null, pstmt, conn);
+        }
+
+        return result;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,382 @@
+package domain.dao;
+
+import domain.dto.ProductDTO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 상품명(nm_product)과 상세 설명(nm_detail_explain)의 n-gram 역색인
+ * 단어를 글자 단위 1-gram, 2-gram으로 나눠 색인하므로 형태소 분석 없이도 한글 부분 일치 검색이 가능합니다.
+ * 검색어를 공백과 기호로 나눈 단어가 모두 상품명이나 상세 설명에 들어 있는 상품만 결과에 포함합니다.
+ * (단어마다 LIKE '%단어%' 조건을 AND로 연결한 것과 같으며, n-gram 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인)
+ *
+ * 관련도는 검색어 n-gram의 출현 횟수에 희귀도(idf)를 곱한 합이며, 상품명 출현은 상세 설명보다 높게 반영합니다.
+ * 상품 등록/수정/삭제 시 put/remove로 해당 상품만 갱신합니다. (SearchIndexedProductDAO)
+ */
+public class ProductSearchIndex {
+    // 상품명에서 나온 n-gram의 가중치 (상세 설명은 1)
+    private static final int NAME_WEIGHT = 3;
+    // 상품명이 검색어로 시작하면 더하는 점수
+    private static final double PREFIX_BONUS = 10.0;
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // n-gram → (상품코드 → 가중 출현 횟수)
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, Document> documents = new HashMap<>();
+
+    /**
+     * 색인된 상품 (정렬과 검색어 확인에 필요한 값만 보관)
+     */
+    private static final class Document {
+        private final String productCode;
+        private final String name;      // 정규화된 상품명
+        private final String detail;    // 정규화된 상세 설명
+        private final Integer salePrice;
+        private final Set<String> grams;
+
+        private Document(String productCode, String name, String detail, Integer salePrice, Set<String> grams) {
+            this.productCode = productCode;
+            this.name = name;
+            this.detail = detail;
+            this.salePrice = salePrice;
+            this.grams = grams;
+        }
+    }
+
+    /**
+     * 검색 결과 페이지
+     */
+    public static final class Result {
+        private final int totalCount;
+        private final List<String> productCodes;
+
+        private Result(int totalCount, List<String> productCodes) {
+            this.totalCount = totalCount;
+            this.productCodes = productCodes;
+        }
+
+        // 페이지와 관계없는 전체 결과 수
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        // 현재 페이지의 상품코드 (정렬 순서)
+        public List<String> getProductCodes() {
+            return productCodes;
+        }
+    }
+
+    /**
+     * 상품을 색인에 추가하거나 기존 색인을 교체합니다.
+     */
+    public void put(ProductDTO product) {
+        if (product == null || product.getProductCode() == null) {
+            return;
+        }
+        String name = normalize(product.getProductName());
+        String detail = normalize(stripTags(product.getDetailExplain()));
+
+        Map<String, Integer> weights = new HashMap<>();
+        addGrams(weights, name, NAME_WEIGHT);
+        addGrams(weights, detail, 1);
+        Document document = new Document(product.getProductCode(), name, detail, product.getSalePrice(),
+                weights.keySet());
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(product.getProductCode());
+            documents.put(document.productCode, document);
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), gram -> new HashMap<>())
+                        .put(document.productCode, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품을 색인에서 제거합니다.
+     */
+    public void remove(String productCode) {
+        if (productCode == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(productCode);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어로 색인을 조회할 수 있는지 확인합니다. (글자나 숫자가 하나도 없으면 색인으로 처리할 수 없음)
+     */
+    public static boolean isSearchable(String keyword) {
+        return !terms(keyword).isEmpty();
+    }
+
+    /**
+     * 검색 결과 개수
+     */
+    public int count(String keyword) {
+        List<String> terms = terms(keyword);
+        lock.readLock().lock();
+        try {
+            return matches(terms).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어에 일치하는 모든 상품코드 (정렬하지 않음)
+     */
+    public List<String> productCodes(String keyword) {
+        List<String> terms = terms(keyword);
+        List<String> productCodes = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Document document : matches(terms)) {
+                productCodes.add(document.productCode);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return productCodes;
+    }
+
+    /**
+     * 검색 결과 한 페이지를 조회합니다.
+     * @param keyword 검색어 (공백으로 구분된 단어는 모두 포함해야 함)
+     * @param sortBy priceAsc, priceDesc (그 외에는 관련도순, 같은 점수는 상품코드 순)
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     */
+    public Result search(String keyword, String sortBy, int offset, int limit) {
+        List<String> terms = terms(keyword);
+        List<Document> matched;
+        lock.readLock().lock();
+        try {
+            matched = matches(terms);
+            if ("priceAsc".equals(sortBy)) {
+                matched.sort(Comparator.comparing((Document document) -> document.salePrice,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(document -> document.productCode));
+            } else if ("priceDesc".equals(sortBy)) {
+                matched.sort(Comparator.comparing((Document document) -> document.salePrice,
+                                Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(document -> document.productCode, Comparator.reverseOrder()));
+            } else if (!matched.isEmpty()) {
+                Map<Document, Double> scores = score(matched, terms, normalize(keyword).trim());
+                matched.sort(Comparator.comparing((Document document) -> scores.get(document), Comparator.reverseOrder())
+                        .thenComparing(document -> document.productCode));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = Math.max(0, Math.min(offset, matched.size()));
+        int to = Math.max(from, Math.min(matched.size(), from + Math.max(0, limit)));
+        List<String> productCodes = new ArrayList<>(to - from);
+        for (Document document : matched.subList(from, to)) {
+            productCodes.add(document.productCode);
+        }
+        return new Result(matched.size(), productCodes);
+    }
+
+    /**
+     * 모든 검색어 단어를 포함하는 상품 (읽기 락 안에서 호출)
+     * n-gram 교집합으로 후보를 좁힌 뒤 실제 부분 문자열 포함 여부를 확인합니다.
+     */
+    private List<Document> matches(List<String> terms) {
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 결과가 적은 n-gram부터 교집합
+        List<Map<String, Integer>> lists = new ArrayList<>();
+        for (String gram : queryGrams(terms)) {
+            Map<String, Integer> list = postings.get(gram);
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        List<Document> matched = new ArrayList<>();
+        candidates:
+        for (String productCode : lists.get(0).keySet()) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).containsKey(productCode)) {
+                    continue candidates;
+                }
+            }
+            Document document = documents.get(productCode);
+            for (String term : terms) {
+                if (!document.name.contains(term) && !document.detail.contains(term)) {
+                    continue candidates;
+                }
+            }
+            matched.add(document);
+        }
+        return matched;
+    }
+
+    /**
+     * 관련도 점수 (읽기 락 안에서 호출)
+     */
+    private Map<Document, Double> score(List<Document> matched, List<String> terms, String phrase) {
+        Set<String> grams = queryGrams(terms);
+        Map<String, Double> idf = new HashMap<>();
+        for (String gram : grams) {
+            idf.put(gram, Math.log(1.0 + (double) documents.size() / postings.get(gram).size()));
+        }
+
+        Map<Document, Double> scores = new HashMap<>();
+        for (Document document : matched) {
+            double score = 0;
+            for (String gram : grams) {
+                score += postings.get(gram).get(document.productCode) * idf.get(gram);
+            }
+            if (document.name.startsWith(phrase)) {
+                score += PREFIX_BONUS;
+            }
+            scores.put(document, score);
+        }
+        return scores;
+    }
+
+    private void removeDocument(String productCode) {
+        Document previous = documents.remove(productCode);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams) {
+            Map<String, Integer> list = postings.get(gram);
+            if (list != null) {
+                list.remove(productCode);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 텍스트의 단어별 1-gram, 2-gram 출현 횟수에 가중치를 곱해 더합니다.
+     */
+    private static void addGrams(Map<String, Integer> weights, String text, int weight) {
+        for (String word : words(text)) {
+            for (String gram : grams(word)) {
+                weights.merge(gram, weight, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * 검색어 단어의 n-gram (한 글자 단어는 1-gram, 그 외에는 2-gram)
+     */
+    private static Set<String> queryGrams(List<String> terms) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String term : terms) {
+            if (term.codePointCount(0, term.length()) == 1) {
+                grams.add(term);
+            } else {
+                grams.addAll(bigrams(term));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> grams(String word) {
+        List<String> grams = new ArrayList<>();
+        word.codePoints().forEach(codePoint -> grams.add(new String(Character.toChars(codePoint))));
+        grams.addAll(bigrams(word));
+        return grams;
+    }
+
+    private static List<String> bigrams(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        List<String> bigrams = new ArrayList<>(Math.max(0, codePoints.length - 1));
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            bigrams.add(new String(codePoints, i, 2));
+        }
+        return bigrams;
+    }
+
+    /**
+     * 검색어를 색인과 같은 방식으로 정규화해 단어로 나눕니다. (중복 제거, 입력 순서 유지)
+     * 색인을 쓰지 않는 조회(DB LIKE, 메모리 구현)도 이 단어로 일치 여부를 판단해 결과가 색인과 같게 합니다.
+     */
+    public static List<String> terms(String keyword) {
+        return new ArrayList<>(new LinkedHashSet<>(words(normalize(keyword))));
+    }
+
+    /**
+     * 상품이 모든 검색어 단어를 상품명이나 상세 설명(태그 제외)에 포함하는지 색인과 같은 기준으로 확인합니다.
+     */
+    public static boolean containsAll(ProductDTO product, List<String> terms) {
+        String name = normalize(product.getProductName());
+        String detail = normalize(stripTags(product.getDetailExplain()));
+        for (String term : terms) {
+            if (!name.contains(term) && !detail.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> words(String text) {
+        if (text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATOR.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 한글 자모 조합형/완성형 차이와 대소문자를 없앱니다.
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static String stripTags(String html) {
+        return html != null ? TAG.matcher(html).replaceAll(" ") : null;
+    }
+}
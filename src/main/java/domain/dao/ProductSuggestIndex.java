@@ -0,0 +1,316 @@
+package domain.dao;
+
+import domain.dto.ProductDTO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 상품명 자동완성용 접두어 색인
+ * 상품명과 상품명 안의 각 단어로 시작하는 부분(예: "무선 이어폰"의 "이어폰")을 정렬된 배열로 보관하고
+ * 이진 탐색으로 접두어 범위를 찾습니다. 초성 배열을 따로 두어 "ㅁㅅ"처럼 초성만 입력해도 찾을 수 있고,
+ * 입력 중인 "무ㅅ"처럼 마지막 글자가 자음이면 그 자음으로 시작하는 글자까지 포함합니다.
+ *
+ * 조회는 불변 스냅샷만 읽으므로 락이 없고, 상품 변경 시에는 변경된 상품의 항목만 바꾼 새 스냅샷으로 교체합니다.
+ * 색인이 준비되기 전에는 빈 결과를 반환합니다. (DB를 조회하지 않음)
+ */
+public class ProductSuggestIndex {
+    // 한글 호환 자모 초성 (가 ~ 힣의 초성 순서)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private static final Comparator<Entry> BY_KEY = Comparator.comparing((Entry entry) -> entry.key)
+            .thenComparing(entry -> entry.productCode);
+    private static final Comparator<Entry> BY_CHOSUNG = Comparator.comparing((Entry entry) -> entry.chosung)
+            .thenComparing(entry -> entry.productCode);
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+
+    /**
+     * 색인 항목 (상품명 또는 상품명 중간 단어부터의 부분)
+     */
+    private static final class Entry {
+        private final String productCode;
+        private final String productName;   // 화면에 보여줄 원래 상품명
+        private final String key;           // 정규화된 검색 키
+        private final String chosung;       // 검색 키의 초성 (공백 제외)
+
+        private Entry(String productCode, String productName, String key) {
+            this.productCode = productCode;
+            this.productName = productName;
+            this.key = key;
+            this.chosung = toChosung(key);
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (같은 항목을 상품명 순과 초성 순으로 정렬한 두 배열)
+     */
+    private static final class Snapshot {
+        private final Entry[] byKey;
+        private final Entry[] byChosung;
+        private final String[] keys;
+        private final String[] chosungs;
+
+        private Snapshot(Entry[] byKey, Entry[] byChosung) {
+            this.byKey = byKey;
+            this.byChosung = byChosung;
+            this.keys = new String[byKey.length];
+            this.chosungs = new String[byChosung.length];
+            for (int i = 0; i < byKey.length; i++) {
+                keys[i] = byKey[i].key;
+                chosungs[i] = byChosung[i].chosung;
+            }
+        }
+    }
+
+    /**
+     * 추천 결과 항목
+     */
+    public static final class Suggestion {
+        private final String productCode;
+        private final String productName;
+
+        private Suggestion(String productCode, String productName) {
+            this.productCode = productCode;
+            this.productName = productName;
+        }
+
+        public String getProductCode() {
+            return productCode;
+        }
+
+        public String getProductName() {
+            return productName;
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 전체 상품으로 색인을 다시 만듭니다.
+     */
+    public void reload(List<ProductDTO> products) {
+        List<Entry> entries = new ArrayList<>();
+        for (ProductDTO product : products) {
+            addEntries(entries, product);
+        }
+        Entry[] byKey = entries.toArray(new Entry[0]);
+        Entry[] byChosung = byKey.clone();
+        Arrays.sort(byKey, BY_KEY);
+        Arrays.sort(byChosung, BY_CHOSUNG);
+
+        synchronized (writeLock) {
+            snapshot = new Snapshot(byKey, byChosung);
+        }
+    }
+
+    /**
+     * 상품 하나의 항목을 추가하거나 교체합니다. (색인이 준비되기 전이면 무시)
+     */
+    public void put(ProductDTO product) {
+        if (product == null || product.getProductCode() == null) {
+            return;
+        }
+        List<Entry> added = new ArrayList<>();
+        addEntries(added, product);
+        replace(product.getProductCode(), added);
+    }
+
+    /**
+     * 상품 하나의 항목을 제거합니다.
+     */
+    public void remove(String productCode) {
+        if (productCode != null) {
+            replace(productCode, Collections.emptyList());
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 상품을 상품명 순으로 최대 limit개 반환합니다. (같은 상품은 한 번만)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String query = normalize(prefix);
+        if (current == null || query.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Suggestion> found = new LinkedHashMap<>();
+        if (isChosungOnly(query)) {
+            // 초성만 입력: 초성 배열에서 접두어 범위 조회 (공백 무시)
+            String chosung = SPACES.matcher(query).replaceAll("");
+            collect(current.byChosung, current.chosungs, chosung, null, limit, found);
+        } else {
+            char last = query.charAt(query.length() - 1);
+            if (query.length() > 1 && isChosung(last)) {
+                // 입력 중인 마지막 글자가 자음이면 앞부분으로 범위를 찾고 다음 글자의 초성을 비교
+                collect(current.byKey, current.keys, query.substring(0, query.length() - 1), last, limit, found);
+            } else {
+                collect(current.byKey, current.keys, query, null, limit, found);
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    private static void collect(Entry[] entries, String[] keys, String prefix, Character nextChosung,
+                                int limit, Map<String, Suggestion> found) {
+        int position = Arrays.binarySearch(keys, prefix);
+        if (position < 0) {
+            position = -position - 1;
+        } else {
+            // 같은 키가 여러 개면 첫 번째부터
+            while (position > 0 && keys[position - 1].equals(prefix)) {
+                position--;
+            }
+        }
+
+        for (int i = position; i < entries.length && found.size() < limit; i++) {
+            String key = keys[i];
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (nextChosung != null) {
+                if (key.length() <= prefix.length()) {
+                    continue;
+                }
+                char next = key.charAt(prefix.length());
+                if (next != nextChosung && chosungOf(next) != nextChosung) {
+                    continue;
+                }
+            }
+            Entry entry = entries[i];
+            found.putIfAbsent(entry.productCode, new Suggestion(entry.productCode, entry.productName));
+        }
+    }
+
+    /**
+     * 상품의 항목을 교체한 새 스냅샷을 만듭니다. (정렬된 배열에 병합하므로 전체 재정렬 없이 O(n))
+     */
+    private void replace(String productCode, List<Entry> added) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            snapshot = new Snapshot(merge(current.byKey, productCode, added, BY_KEY),
+                    merge(current.byChosung, productCode, added, BY_CHOSUNG));
+        }
+    }
+
+    private static Entry[] merge(Entry[] sorted, String productCode, List<Entry> added, Comparator<Entry> order) {
+        List<Entry> insert = new ArrayList<>(added);
+        insert.sort(order);
+
+        List<Entry> merged = new ArrayList<>(sorted.length + insert.size());
+        int next = 0;
+        for (Entry entry : sorted) {
+            if (entry.productCode.equals(productCode)) {
+                continue;
+            }
+            while (next < insert.size() && order.compare(insert.get(next), entry) < 0) {
+                merged.add(insert.get(next++));
+            }
+            merged.add(entry);
+        }
+        while (next < insert.size()) {
+            merged.add(insert.get(next++));
+        }
+        return merged.toArray(new Entry[0]);
+    }
+
+    /**
+     * 상품명 전체와 두 번째 단어부터 시작하는 부분을 각각 항목으로 추가합니다.
+     */
+    private static void addEntries(List<Entry> entries, ProductDTO product) {
+        String name = product.getProductName();
+        String key = normalize(name);
+        if (product.getProductCode() == null || key.isEmpty()) {
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < key.length(); i++) {
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                String suffix = key.substring(i);
+                if (keys.add(suffix)) {
+                    entries.add(new Entry(product.getProductCode(), name, suffix));
+                }
+            }
+        }
+    }
+
+    /**
+     * 대소문자와 한글 조합형/완성형 차이를 없애고 연속된 공백을 하나로 줄입니다.
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        // NFKC는 호환 자모(ㄱ)를 첫가끝 자모로 바꾸므로 초성 입력을 유지하도록 NFC 사용
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return SPACES.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 문자열의 초성 (한글 음절은 초성으로 바꾸고 공백은 제외, 나머지 문자는 그대로)
+     */
+    private static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ' ') {
+                chosung.append(chosungOf(c));
+            }
+        }
+        return chosung.toString();
+    }
+
+    private static char chosungOf(char c) {
+        if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+            return CHOSUNG[(c - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSUNG];
+        }
+        return c;
+    }
+
+    private static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 초성 자음인지 확인합니다.
+     */
+    private static boolean isChosungOnly(String text) {
+        boolean any = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (!isChosung(c)) {
+                return false;
+            }
+            any = true;
+        }
+        return any;
+    }
+}
@@ -0,0 +1,372 @@
+package domain.dao;
+
+import domain.dto.ProductCriteria;
+import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
+import lombok.extern.slf4j.Slf4j;
+import util.UnitOfWork;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 검색을 메모리의 n-gram 역색인(ProductSearchIndex)으로 처리하는 ProductDAO 데코레이터
+ * 조건 조회(findByCriteria)에서 검색어만 있는 조회는 색인에서 관련도순(또는 가격순) 페이지의 상품코드를 구한 뒤
+ * 그 상품만 한 번에 조회하고, 다른 조건이나 집계가 함께 있으면 검색어를 색인에서 구한 상품코드 조건으로 바꿔 위임합니다.
+ * 관련도순 조회는 이때도 결과를 색인 순서로 정렬합니다.
+ * save, modify, delete 후에는 해당 상품만 다시 읽어 색인을 갱신합니다. 나머지 메서드는 그대로 위임합니다.
+ * 색인은 첫 검색 때(또는 warmUp 호출 시) 전체 상품을 읽어 구성하며, 구성 전이거나 실패한 경우에는 기존 LIKE 조회를 사용합니다.
+ * 자동완성 색인(ProductSuggestIndex)도 같은 시점에 함께 구성/갱신합니다.
+ */
+@Slf4j
+public class SearchIndexedProductDAO implements ProductDAO {
+    // 색인 구성 시 한 번에 읽을 상품 수
+    private static final int LOAD_BATCH_SIZE = 1000;
+    // 조건 조회에서 검색어를 상품코드 조건으로 바꿀 최대 후보 수
+    private static final int MAX_CRITERIA_CANDIDATES = 4096;
+
+    private final ProductDAO delegate;
+    // 색인을 구성/갱신할 때 상품을 읽을 DAO (복제 지연의 영향을 받지 않도록 주 DB에서 조회)
+    private final ProductDAO loader;
+    private final ProductSuggestIndex suggestIndex;
+
+    private final Object loadLock = new Object();
+    private volatile ProductSearchIndex index;
+
+    // 색인 구성 중에 변경된 상품 (구성이 끝난 뒤 다시 읽음)
+    private final Object pendingLock = new Object();
+    private final Set<String> pendingChanges = new LinkedHashSet<>();
+    private boolean loading;
+
+    public SearchIndexedProductDAO(ProductDAO delegate, ProductSuggestIndex suggestIndex) {
+        this(delegate, delegate, suggestIndex);
+    }
+
+    public SearchIndexedProductDAO(ProductDAO delegate, ProductDAO loader, ProductSuggestIndex suggestIndex) {
+        this.delegate = delegate;
+        this.loader = loader;
+        this.suggestIndex = suggestIndex;
+    }
+
+    /**
+     * 색인을 백그라운드에서 미리 구성합니다. (첫 검색/자동완성 요청이 DB 전체 조회를 기다리지 않도록)
+     */
+    public void warmUp() {
+        Thread thread = new Thread(() -> {
+            try {
+                getIndex();
+            } catch (RuntimeException e) {
+                log.error("상품 검색 색인 구성 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }, "product-search-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 검색 색인 (처음 호출 시 한 번 구성, 구성에 실패하면 null)
+     */
+    public ProductSearchIndex getIndex() {
+        ProductSearchIndex current = index;
+        if (current == null) {
+            synchronized (loadLock) {
+                current = index;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 전체 상품을 읽어 색인을 구성합니다. (loadLock 안에서 호출)
+     */
+    private ProductSearchIndex load() {
+        synchronized (pendingLock) {
+            loading = true;
+        }
+
+        ProductSearchIndex loaded = new ProductSearchIndex();
+        List<ProductDTO> products = new ArrayList<>();
+        int offset = 0;
+        List<ProductDTO> batch;
+        do {
+            batch = loader.findAllDetailsWithPagination(offset, LOAD_BATCH_SIZE);
+            for (ProductDTO product : batch) {
+                loaded.put(product);
+            }
+            products.addAll(batch);
+            offset += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        // 조회 실패 시에도 빈 목록이 반환되므로 상품이 있는데 비어 있으면 색인을 사용하지 않고 다음 검색 때 다시 구성
+        boolean failed = loaded.size() == 0 && loader.countAll() > 0;
+
+        List<String> changed;
+        synchronized (pendingLock) {
+            if (!failed) {
+                suggestIndex.reload(products);
+                index = loaded;
+            }
+            loading = false;
+            changed = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        if (failed) {
+            log.warn("상품 검색 색인 구성 실패: LIKE 검색으로 대체합니다.");
+            return null;
+        }
+
+        for (String productCode : changed) {
+            reindex(loaded, productCode);
+        }
+        log.info("상품 검색 색인 구성: {}건", loaded.size());
+        return loaded;
+    }
+
+    /**
+     * 상품 변경 후 해당 상품의 색인을 갱신합니다.
+     * 작업 단위 안의 변경은 커밋 전이므로 작업 단위가 끝난 뒤 주 DB에서 다시 읽어 반영합니다. (롤백된 변경은 반영되지 않음)
+     */
+    private void refresh(String productCode) {
+        if (productCode == null) {
+            return;
+        }
+        UnitOfWork.afterCompletion(() -> {
+            ProductSearchIndex current = index;
+            if (current == null) {
+                synchronized (pendingLock) {
+                    current = index;
+                    if (current == null) {
+                        // 색인이 아직 없으면 구성될 때 최신 상태를 읽으므로 구성 중일 때만 기록
+                        if (loading) {
+                            pendingChanges.add(productCode);
+                        }
+                        return;
+                    }
+                }
+            }
+            reindex(current, productCode);
+        });
+    }
+
+    private void reindex(ProductSearchIndex target, String productCode) {
+        ProductDTO product = loader.findByProductCode(productCode);
+        if (product != null) {
+            target.put(product);
+            suggestIndex.put(product);
+        } else {
+            target.remove(productCode);
+            suggestIndex.remove(productCode);
+        }
+    }
+
+    /**
+     * 색인으로 검색할 수 있으면 색인을, 아니면 null을 반환합니다.
+     */
+    private ProductSearchIndex indexFor(String keyword) {
+        if (keyword == null || !ProductSearchIndex.isSearchable(keyword)) {
+            return null;
+        }
+        return getIndex();
+    }
+
+    /**
+     * 색인 검색 결과 페이지의 상품을 한 번에 조회합니다. (색인 순서 유지)
+     */
+    private ProductQueryResult searchPage(ProductSearchIndex searchIndex, ProductCriteria criteria) {
+        ProductSearchIndex.Result result = searchIndex.search(criteria.getKeyword(), criteria.getSortBy(),
+                Math.max(0, criteria.getOffset()), Math.max(0, criteria.getLimit()));
+        List<ProductDTO> products = result.getProductCodes().isEmpty()
+                ? new ArrayList<>()
+                : delegate.findByProductCodes(result.getProductCodes());
+        return new ProductQueryResult(products, result.getTotalCount(), Collections.emptyMap(), Collections.emptyList());
+    }
+
+    /**
+     * 관련도순 조회에 검색어 외의 조건, 커서, 집계가 함께 있으면 색인의 관련도 순서를 유지해 페이지를 구합니다.
+     * 다른 조건이 없으면 페이지는 색인에서 잘라 조회하고 집계만 위임하며,
+     * 다른 조건이 있으면 후보 중 조건을 통과한 상품 전체를 위임 조회한 뒤 색인 순서로 정렬해 페이지를 자릅니다.
+     * (후보가 너무 많은데 다른 조건도 있으면 위임, 이때는 LIKE 조회의 상품코드 순)
+     */
+    private ProductQueryResult rankedPage(ProductSearchIndex searchIndex, ProductCriteria criteria) {
+        List<String> ranked = searchIndex.search(criteria.getKeyword(), criteria.getSortBy(), 0, Integer.MAX_VALUE)
+                .getProductCodes();
+        boolean tooMany = ranked.size() > MAX_CRITERIA_CANDIDATES;
+        int offset = Math.max(0, criteria.getOffset());
+        int limit = Math.max(0, criteria.getLimit());
+
+        if (!hasDatabaseFilters(criteria)) {
+            List<String> page = ranked.subList(Math.min(offset, ranked.size()),
+                    (int) Math.min((long) offset + limit, ranked.size()));
+            List<ProductDTO> products = page.isEmpty() ? new ArrayList<>() : delegate.findByProductCodes(page);
+            if (!criteria.isWithFacets()) {
+                return new ProductQueryResult(products, ranked.size(), Collections.emptyMap(), Collections.emptyList());
+            }
+            // 집계만 조회 (후보가 너무 많으면 색인과 같은 기준의 LIKE 조회로 집계)
+            ProductCriteria facets = criteria.copy();
+            if (!tooMany) {
+                facets.setKeyword(null);
+                facets.setProductCodes(ranked);
+            }
+            facets.setOffset(0);
+            facets.setLimit(0);
+            ProductQueryResult counted = delegate.findByCriteria(facets);
+            return new ProductQueryResult(products, ranked.size(), counted.getCategoryCounts(), counted.getPriceBuckets());
+        }
+
+        if (tooMany) {
+            return delegate.findByCriteria(criteria);
+        }
+        ProductCriteria indexed = criteria.copy();
+        indexed.setKeyword(null);
+        indexed.setProductCodes(ranked);
+        indexed.setOffset(0);
+        indexed.setLimit(ranked.size());
+        ProductQueryResult filtered = delegate.findByCriteria(indexed);
+
+        Map<String, Integer> rank = new HashMap<>(ranked.size() * 2);
+        for (int i = 0; i < ranked.size(); i++) {
+            rank.put(ranked.get(i), i);
+        }
+        List<ProductDTO> matched = new ArrayList<>(filtered.getProducts());
+        matched.sort(Comparator.comparingInt(product -> rank.getOrDefault(product.getProductCode(), Integer.MAX_VALUE)));
+        List<ProductDTO> products = new ArrayList<>(matched.subList(Math.min(offset, matched.size()),
+                (int) Math.min((long) offset + limit, matched.size())));
+        return new ProductQueryResult(products, filtered.getTotalCount(),
+                filtered.getCategoryCounts(), filtered.getPriceBuckets());
+    }
+
+    /**
+     * 카테고리, 가격 범위, 재고, 판매 기간처럼 DB에서 걸러야 하는 조건이 있는지 확인합니다.
+     */
+    private static boolean hasDatabaseFilters(ProductCriteria criteria) {
+        return criteria.getCategoryIds() != null || criteria.hasPriceRange()
+                || criteria.isInStockOnly() || criteria.isOnSaleOnly();
+    }
+
+    /**
+     * 검색어 외의 조건, 커서, 집계가 없어 색인만으로 페이지를 구할 수 있는 조회인지 확인합니다.
+     * (최신순 정렬은 색인이 지원하지 않으므로 제외)
+     */
+    private static boolean isKeywordOnly(ProductCriteria criteria) {
+        return !hasDatabaseFilters(criteria) && criteria.getCursor() == null && !criteria.isWithFacets()
+                && !"newest".equals(criteria.getSortBy());
+    }
+
+    /**
+     * 색인의 관련도순으로 정렬하는 조회인지 확인합니다. (가격순, 최신순이 아니고 커서가 없는 조회)
+     */
+    private static boolean isRelevanceSort(ProductCriteria criteria) {
+        return !criteria.isPriceSort() && !"newest".equals(criteria.getSortBy()) && criteria.getCursor() == null;
+    }
+
+    @Override
+    public ProductQueryResult findByCriteria(ProductCriteria criteria) {
+        // 검색어만 있으면 색인에서 페이지를 구하고, 관련도순이면 색인 순서를 유지해 페이지를 구하며,
+        // 그 외(가격순, 최신순, 커서)에는 검색어를 색인에서 구한 후보 상품코드 조건으로 바꾸고 나머지 조건과 정렬, 집계는 그대로 위임
+        ProductSearchIndex searchIndex = criteria.getProductCodes() == null ? indexFor(criteria.getKeyword()) : null;
+        if (searchIndex == null) {
+            return delegate.findByCriteria(criteria);
+        }
+        if (isKeywordOnly(criteria)) {
+            return searchPage(searchIndex, criteria);
+        }
+        if (isRelevanceSort(criteria)) {
+            return rankedPage(searchIndex, criteria);
+        }
+        List<String> candidates = searchIndex.productCodes(criteria.getKeyword());
+        if (candidates.size() > MAX_CRITERIA_CANDIDATES) {
+            // 후보가 너무 많으면 IN 목록보다 LIKE 조회가 유리 (LIKE 조건도 색인과 같은 기준으로 단어별 일치)
+            return delegate.findByCriteria(criteria);
+        }
+        ProductCriteria indexed = criteria.copy();
+        indexed.setKeyword(null);
+        indexed.setProductCodes(candidates);
+        return delegate.findByCriteria(indexed);
+    }
+
+    @Override
+    public void save(ProductDTO productDTO) {
+        try {
+            delegate.save(productDTO);
+        } finally {
+            refresh(productDTO != null ? productDTO.getProductCode() : null);
+        }
+    }
+
+    @Override
+    public void modify(ProductDTO productDTO) {
+        try {
+            delegate.modify(productDTO);
+        } finally {
+            refresh(productDTO != null ? productDTO.getProductCode() : null);
+        }
+    }
+
+    @Override
+    public boolean delete(String productCode) {
+        try {
+            return delegate.delete(productCode);
+        } finally {
+            refresh(productCode);
+        }
+    }
+
+    @Override
+    public ProductDTO findByProductCode(String productCode) {
+        return delegate.findByProductCode(productCode);
+    }
+
+    @Override
+    public List<ProductDTO> findByProductCodes(List<String> productCodes) {
+        return delegate.findByProductCodes(productCodes);
+    }
+
+    @Override
+    public boolean modifyStock(String productCode, int stock) {
+        return delegate.modifyStock(productCode, stock);
+    }
+
+    @Override
+    public boolean modifySaleStatus(String productCode, String startDate, String endDate) {
+        return delegate.modifySaleStatus(productCode, startDate, endDate);
+    }
+
+    @Override
+    public List<ProductDTO> findAllDetailsWithPagination(int offset, int limit) {
+        return delegate.findAllDetailsWithPagination(offset, limit);
+    }
+
+    @Override
+    public int countAll() {
+        return delegate.countAll();
+    }
+
+    @Override
+    public int getProductStock(String productCode) {
+        return delegate.getProductStock(productCode);
+    }
+
+    @Override
+    public int updateProductStock(String productCode, int newStock) {
+        return delegate.updateProductStock(productCode, newStock);
+    }
+
+    @Override
+    public int decreaseStock(String productCode, int quantity) {
+        return delegate.decreaseStock(productCode, quantity);
+    }
+
+    @Override
+    public int increaseStock(String productCode, int quantity) {
+        return delegate.increaseStock(productCode, quantity);
+    }
+}
@@ -1,6 +1,8 @@
 package domain.dao;
 
+import domain.dto.PageDTO;
 import domain.dto.UserDTO;
+import util.ReadOnly;
 
 import java.util.List;
 
@@ -28,6 +30,7 @@ public interface UserDAO {
      * 모든 사용자 조회
      * @return 사용자 목록
      */
+    @ReadOnly
     List<UserDTO> findAll();
 
     /**
@@ -49,11 +52,22 @@ public interface UserDAO {
      * @param limit 조회할 항목 수
      * @return 페이지네이션이 적용된 사용자 목록
      */
+    @ReadOnly
     List<UserDTO> findAllWithPagination(int offset, int limit);
 
+    /**
+     * 사용자 목록 페이지와 전체 사용자 수를 한 번의 쿼리로 조회
+     * 조회된 행이 있으면 pageDTO의 전체 개수도 함께 설정합니다.
+     * @param pageDTO 페이지 정보
+     * @return 현재 페이지의 사용자 목록
+     */
+    @ReadOnly
+    List<UserDTO> findPage(PageDTO pageDTO);
+
     /**
      * 전체 사용자 수 조회
      * @return 전체 사용자 수
      */
+    @ReadOnly
     int countAll();
 }
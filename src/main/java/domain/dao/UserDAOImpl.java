@@ -1,5 +1,6 @@
 package domain.dao;
 
+import domain.dto.PageDTO;
 import domain.dto.UserDTO;
 import util.DatabaseConnection;
 
@@ -245,6 +246,43 @@ public class UserDAOImpl implements UserDAO {
         return users;
     }
 
+    @Override
+    public List<UserDTO> findPage(PageDTO pageDTO) {
+        List<UserDTO> users = new ArrayList<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DatabaseConnection.getConnection();
+
+            // COUNT(*) OVER()로 전체 사용자 수를 목록과 같은 쿼리에서 조회
+            String sql = "SELECT * FROM ("
+                    + "SELECT tb.*, ROWNUM rnum FROM ("
+                    + "SELECT u.*, COUNT(*) OVER() AS total_count FROM TB_USER u ORDER BY u.da_first_date DESC"
+                    + ") tb WHERE ROWNUM <= ?"
+                    + ") WHERE rnum > ?";
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, pageDTO.getFetchEndRow());
+            pstmt.setInt(2, pageDTO.getOffset());
+
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                if (users.isEmpty()) {
+                    pageDTO.setTotalCount(rs.getInt("total_count"));
+                }
+                users.add(resultSetToUser(rs));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            closeResources(rs, pstmt, conn);
+        }
+        return users;
+    }
+
     @Override
     public int countAll() {
         Connection conn = null;
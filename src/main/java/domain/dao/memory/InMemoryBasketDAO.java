@@ -0,0 +1,227 @@
+package domain.dao.memory;
+
+import domain.dao.BasketDAO;
+import domain.dto.BasketDTO;
+import domain.dto.BasketItemDTO;
+import domain.dto.ProductDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 기반 BasketDAO 구현체
+ * 사용자별 장바구니는 하나만 생성되며(basketsByUser), 장바구니 항목 조회 시 상품 정보를 함께 채웁니다.
+ */
+@Slf4j
+public class InMemoryBasketDAO implements BasketDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryBasketDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public BasketDTO findBasketByUserId(String userId) {
+        Long basketId = userId == null ? null : db.basketsByUser.get(userId);
+        BasketDTO basket = basketId == null ? null : db.baskets.get(basketId);
+        return basket != null ? InMemoryDatabase.copy(basket) : null;
+    }
+
+    @Override
+    public boolean createBasket(BasketDTO basketDTO) {
+        if (basketDTO.getUserId() == null) {
+            return false;
+        }
+
+        BasketDTO row = InMemoryDatabase.copy(basketDTO);
+        row.setBasketId(db.basketSequence.incrementAndGet());
+        row.setTotalAmount(basketDTO.getTotalAmount() != null ? basketDTO.getTotalAmount() : 0);
+        row.setCreatedDate(new Date());
+
+        synchronized (db.basketLock) {
+            if (db.basketsByUser.putIfAbsent(row.getUserId(), row.getBasketId()) != null) {
+                log.warn("이미 장바구니가 있는 사용자입니다: {}", row.getUserId());
+                return false;
+            }
+            db.baskets.put(row.getBasketId(), row);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean updateBasketAmount(Long basketId, int totalAmount) {
+        if (basketId == null) {
+            return false;
+        }
+        synchronized (db.basketLock) {
+            BasketDTO current = db.baskets.get(basketId);
+            if (current == null) {
+                return false;
+            }
+            BasketDTO row = InMemoryDatabase.copy(current);
+            row.setTotalAmount(totalAmount);
+            db.baskets.put(basketId, row);
+            return true;
+        }
+    }
+
+    @Override
+    public List<BasketItemDTO> findBasketItemsByBasketId(Long basketId) {
+        return itemsOf(basketId)
+                .sorted(Comparator.comparing(BasketItemDTO::getItemOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(row -> {
+                    BasketItemDTO item = InMemoryDatabase.copy(row);
+
+                    // 상품 정보 설정 (LEFT JOIN이므로 상품이 없을 수 있음)
+                    ProductDTO product = db.products.get(row.getProductCode());
+                    if (product != null && product.getProductName() != null) {
+                        item.setProductName(product.getProductName());
+                        item.setCustomerPrice(product.getCustomerPrice());
+                        item.setFileId(product.getFileId());
+                        item.setStock(product.getStock());
+                        item.setDeliveryFee(product.getDeliveryFee());
+                    }
+                    return item;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BasketItemDTO findBasketItemByProductCode(Long basketId, String productCode) {
+        return itemsOf(basketId)
+                .filter(item -> Objects.equals(item.getProductCode(), productCode))
+                .findFirst()
+                .map(InMemoryDatabase::copy)
+                .orElse(null);
+    }
+
+    @Override
+    public boolean addBasketItem(BasketItemDTO basketItemDTO) {
+        if (basketItemDTO.getBasketId() == null) {
+            return false;
+        }
+
+        synchronized (db.basketLock) {
+            // 새 항목은 현재 장바구니의 최대 순번 + 1
+            int maxOrder = itemsOf(basketItemDTO.getBasketId())
+                    .map(BasketItemDTO::getItemOrder)
+                    .filter(Objects::nonNull)
+                    .max(Integer::compare)
+                    .orElse(0);
+
+            BasketItemDTO row = InMemoryDatabase.copy(basketItemDTO);
+            row.setItemId(db.basketItemSequence.incrementAndGet());
+            row.setItemOrder(maxOrder + 1);
+            row.setCreatedDate(new Date());
+            db.basketItems.put(row.getItemId(), row);
+            db.basketItemsByBasket
+                    .computeIfAbsent(row.getBasketId(), id -> new ConcurrentSkipListSet<>())
+                    .add(row.getItemId());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean updateBasketItemQuantity(Long itemId, int quantity, int amount) {
+        return updateItem(itemId, row -> {
+            row.setQuantity(quantity);
+            row.setAmount(amount);
+        });
+    }
+
+    @Override
+    public boolean updateBasketItemPrice(Long itemId, int price, int amount) {
+        return updateItem(itemId, row -> {
+            row.setPrice(price);
+            row.setAmount(amount);
+        });
+    }
+
+    @Override
+    public boolean updateBasketItemOrder(Long itemId, int order) {
+        return updateItem(itemId, row -> row.setItemOrder(order));
+    }
+
+    @Override
+    public boolean removeBasketItem(Long basketItemId) {
+        BasketItemDTO removed = basketItemId == null ? null : db.basketItems.remove(basketItemId);
+        if (removed == null) {
+            return false;
+        }
+        unindex(removed);
+        return true;
+    }
+
+    @Override
+    public boolean removeMultipleBasketItems(Long basketId, List<Long> basketItemIds) {
+        if (basketItemIds == null || basketItemIds.isEmpty()) {
+            return false;
+        }
+        return removeItems(basketId, new HashSet<>(basketItemIds)) > 0;
+    }
+
+    @Override
+    public boolean clearBasket(Long basketId) {
+        removeItems(basketId, null);
+        return true;
+    }
+
+    /**
+     * 장바구니 항목을 삭제합니다.
+     * @param itemIds 삭제할 항목 ID (null이면 장바구니의 모든 항목)
+     * @return 삭제된 항목 수
+     */
+    int removeItems(Long basketId, Set<Long> itemIds) {
+        int removed = 0;
+        for (BasketItemDTO item : itemsOf(basketId).collect(Collectors.toList())) {
+            if ((itemIds == null || itemIds.contains(item.getItemId()))
+                    && db.basketItems.remove(item.getItemId()) != null) {
+                unindex(item);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private Stream<BasketItemDTO> itemsOf(Long basketId) {
+        Set<Long> itemIds = basketId == null ? null : db.basketItemsByBasket.get(basketId);
+        if (itemIds == null) {
+            return Stream.empty();
+        }
+        return itemIds.stream()
+                .map(db.basketItems::get)
+                .filter(Objects::nonNull);
+    }
+
+    private void unindex(BasketItemDTO item) {
+        Set<Long> itemIds = db.basketItemsByBasket.get(item.getBasketId());
+        if (itemIds != null) {
+            itemIds.remove(item.getItemId());
+        }
+    }
+
+    private boolean updateItem(Long itemId, Consumer<BasketItemDTO> change) {
+        if (itemId == null) {
+            return false;
+        }
+        synchronized (db.basketLock) {
+            BasketItemDTO current = db.basketItems.get(itemId);
+            if (current == null) {
+                return false;
+            }
+            BasketItemDTO row = InMemoryDatabase.copy(current);
+            change.accept(row);
+            db.basketItems.put(itemId, row);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package domain.dao.memory;
+
+import domain.dao.CategoryDAO;
+import domain.dto.CategoryDTO;
+import domain.dto.PageDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 기반 CategoryDAO 구현체
+ * 삭제는 JDBC 구현과 같이 논리 삭제(deleteYn = 'Y')로 처리합니다.
+ */
+@Slf4j
+public class InMemoryCategoryDAO implements CategoryDAO {
+    // ORDER BY cn_order, nm_full_category (NULL은 마지막)
+    private static final Comparator<CategoryDTO> LIST_ORDER =
+            Comparator.comparing(CategoryDTO::getOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(CategoryDTO::getFullName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    // ORDER BY cn_level, cn_order
+    private static final Comparator<CategoryDTO> SEARCH_ORDER =
+            Comparator.comparing(CategoryDTO::getLevel, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(CategoryDTO::getOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final InMemoryDatabase db;
+
+    public InMemoryCategoryDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public List<CategoryDTO> findAll() {
+        return copies(active().sorted(LIST_ORDER));
+    }
+
+    @Override
+    public CategoryDTO findById(Long nbCategory) {
+        CategoryDTO category = nbCategory == null ? null : db.categories.get(nbCategory);
+        return category != null && !isDeleted(category) ? InMemoryDatabase.copy(category) : null;
+    }
+
+    @Override
+    public List<CategoryDTO> findByParentId(Long nbParentCategory) {
+        return copies(active()
+                .filter(category -> Objects.equals(category.getParentId(), nbParentCategory))
+                .sorted(Comparator.comparing(CategoryDTO::getOrder, Comparator.nullsLast(Comparator.naturalOrder()))));
+    }
+
+    @Override
+    public int save(CategoryDTO categoryDTO) {
+        // 레벨 자동 계산 (상위 카테고리 레벨 + 1, 상위가 없으면 0)
+        if (categoryDTO.getLevel() == null) {
+            categoryDTO.setLevel(levelUnder(categoryDTO.getParentId()));
+        }
+
+        CategoryDTO row = InMemoryDatabase.copy(categoryDTO);
+        row.setId(db.categorySequence.incrementAndGet());
+        row.setDeleteYn("N");
+        row.setDaFirstDate(new Timestamp(System.currentTimeMillis()));
+
+        synchronized (db.categoryLock) {
+            db.categories.put(row.getId(), row);
+        }
+        return 1;
+    }
+
+    @Override
+    public boolean update(CategoryDTO categoryDTO) {
+        if (categoryDTO.getLevel() == null) {
+            categoryDTO.setLevel(levelUnder(categoryDTO.getParentId()));
+        }
+
+        return updateRow(categoryDTO.getId(), row -> {
+            row.setName(categoryDTO.getName());
+            row.setFullName(categoryDTO.getFullName());
+            row.setDescription(categoryDTO.getDescription());
+            row.setParentId(categoryDTO.getParentId());
+            row.setLevel(categoryDTO.getLevel());
+            row.setOrder(categoryDTO.getOrder());
+            row.setUseYn(categoryDTO.getUseYn());
+        });
+    }
+
+    @Override
+    public boolean delete(Long nbCategory) {
+        return updateRow(nbCategory, row -> row.setDeleteYn("Y"));
+    }
+
+    @Override
+    public int deleteSubtree(Long nbCategory) {
+        if (nbCategory == null) {
+            return 0;
+        }
+        synchronized (db.categoryLock) {
+            CategoryDTO root = db.categories.get(nbCategory);
+            if (root == null) {
+                return 0;
+            }
+            List<CategoryDTO> subtree = new ArrayList<>();
+            subtree.add(root);
+            subtree.addAll(descendantsOf(nbCategory));
+            for (CategoryDTO current : subtree) {
+                CategoryDTO row = InMemoryDatabase.copy(current);
+                row.setDeleteYn("Y");
+                db.categories.put(row.getId(), row);
+            }
+            return subtree.size();
+        }
+    }
+
+    @Override
+    public int updateDescendantPaths(Long nbCategory, String nmFullCategory, int cnLevel) {
+        if (nbCategory == null) {
+            return 0;
+        }
+        synchronized (db.categoryLock) {
+            // 상위 카테고리의 새 전체 카테고리명/레벨 (descendantsOf는 상위가 먼저 오는 순서)
+            Map<Long, CategoryDTO> updated = new HashMap<>();
+            CategoryDTO parent = new CategoryDTO();
+            parent.setFullName(nmFullCategory);
+            parent.setLevel(cnLevel);
+            updated.put(nbCategory, parent);
+
+            List<CategoryDTO> descendants = descendantsOf(nbCategory);
+            for (CategoryDTO current : descendants) {
+                CategoryDTO above = updated.get(current.getParentId());
+                CategoryDTO row = InMemoryDatabase.copy(current);
+                row.setFullName(above.getFullName() + " > " + row.getName());
+                row.setLevel(above.getLevel() + 1);
+                db.categories.put(row.getId(), row);
+                updated.put(row.getId(), row);
+            }
+            return descendants.size();
+        }
+    }
+
+    @Override
+    public boolean updateUseStatus(Long nbCategory, String ynUse) {
+        return updateRow(nbCategory, row -> row.setUseYn(ynUse));
+    }
+
+    @Override
+    public boolean updateOrder(Long nbCategory, int cnOrder) {
+        return updateRow(nbCategory, row -> row.setOrder(cnOrder));
+    }
+
+    @Override
+    public List<CategoryDTO> searchByName(String nmCategory) {
+        return copies(byName(nmCategory));
+    }
+
+    @Override
+    public List<CategoryDTO> findAllWithPagination(int offset, int limit) {
+        return copies(InMemoryDatabase.page(active().sorted(LIST_ORDER), offset, limit).stream());
+    }
+
+    @Override
+    public List<CategoryDTO> searchByNameWithPagination(String nmCategory, int offset, int limit) {
+        return copies(InMemoryDatabase.page(byName(nmCategory), offset, limit).stream());
+    }
+
+    @Override
+    public List<CategoryDTO> findPage(PageDTO pageDTO) {
+        String keyword = pageDTO.getKeyword();
+        boolean searching = keyword != null && !keyword.trim().isEmpty();
+
+        List<CategoryDTO> matched = (searching ? byName(keyword) : active().sorted(LIST_ORDER))
+                .collect(Collectors.toList());
+        List<CategoryDTO> categories = copies(
+                InMemoryDatabase.page(matched.stream(), pageDTO.getOffset(), pageDTO.getPageSize()).stream());
+        if (!categories.isEmpty()) {
+            pageDTO.setTotalCount(matched.size());
+        }
+        return categories;
+    }
+
+    @Override
+    public int countAll() {
+        return (int) active().count();
+    }
+
+    @Override
+    public int countByName(String nmCategory) {
+        return (int) byName(nmCategory).count();
+    }
+
+    /**
+     * 삭제되지 않은 카테고리 (yn_delete = 'N')
+     */
+    private Stream<CategoryDTO> active() {
+        return db.categories.values().stream().filter(category -> !isDeleted(category));
+    }
+
+    private Stream<CategoryDTO> byName(String nmCategory) {
+        return active()
+                .filter(category -> InMemoryDatabase.like(category.getName(), nmCategory))
+                .sorted(SEARCH_ORDER);
+    }
+
+    private boolean isDeleted(CategoryDTO category) {
+        return "Y".equals(category.getDeleteYn());
+    }
+
+    /**
+     * 삭제되지 않은 모든 하위 카테고리 (상위 카테고리가 항상 먼저 오는 너비 우선 순서)
+     * CONNECT BY와 같이 삭제된 카테고리 아래로는 내려가지 않습니다. (categoryLock 안에서 호출)
+     */
+    private List<CategoryDTO> descendantsOf(Long nbCategory) {
+        Map<Long, List<CategoryDTO>> children = active()
+                .filter(category -> category.getParentId() != null)
+                .collect(Collectors.groupingBy(CategoryDTO::getParentId));
+
+        List<CategoryDTO> descendants = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        visited.add(nbCategory);
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(nbCategory);
+        while (!queue.isEmpty()) {
+            for (CategoryDTO child : children.getOrDefault(queue.poll(), Collections.emptyList())) {
+                // NOCYCLE
+                if (visited.add(child.getId())) {
+                    descendants.add(child);
+                    queue.add(child.getId());
+                }
+            }
+        }
+        return descendants;
+    }
+
+    private int levelUnder(Long parentId) {
+        CategoryDTO parent = parentId != null ? findById(parentId) : null;
+        if (parent == null) {
+            return 0;
+        }
+        return (parent.getLevel() != null ? parent.getLevel() : 0) + 1;
+    }
+
+    /**
+     * 카테고리 행의 복사본을 수정해 교체합니다.
+     * @return 대상 행이 있으면 true
+     */
+    private boolean updateRow(Long nbCategory, Consumer<CategoryDTO> change) {
+        if (nbCategory == null) {
+            return false;
+        }
+        synchronized (db.categoryLock) {
+            CategoryDTO current = db.categories.get(nbCategory);
+            if (current == null) {
+                return false;
+            }
+            CategoryDTO row = InMemoryDatabase.copy(current);
+            change.accept(row);
+            db.categories.put(nbCategory, row);
+            return true;
+        }
+    }
+
+    private List<CategoryDTO> copies(Stream<CategoryDTO> rows) {
+        return rows.map(InMemoryDatabase::copy).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,295 @@
+package domain.dao.memory;
+
+import domain.dao.ContentDAO;
+import domain.dao.ContentStream;
+import domain.dto.ContentDTO;
+import lombok.extern.slf4j.Slf4j;
+import util.ImageVariant;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 기반 ContentDAO 구현체
+ * 파일 데이터(saveFile)는 복사하지 않고 배열 참조를 그대로 보관합니다.
+ * 내용 해시와 (원본 ID, 변형 코드)는 JDBC 구현의 고유 인덱스처럼 중복을 허용하지 않으며, 해시를 바꾸는 작업은 db.contents로 동기화합니다.
+ */
+@Slf4j
+public class InMemoryContentDAO implements ContentDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryContentDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public ContentDTO findByFileId(String fileId) {
+        ContentDTO content = fileId == null ? null : db.contents.get(fileId);
+        return content != null ? InMemoryDatabase.copy(content) : null;
+    }
+
+    @Override
+    public ContentStream openByFileId(String fileId) {
+        return open(fileId == null ? null : db.contents.get(fileId));
+    }
+
+    @Override
+    public ContentStream openVariant(String orgFileId, String variant) {
+        if (orgFileId == null || variant == null) {
+            return null;
+        }
+        return open(findVariant(orgFileId, variant));
+    }
+
+    private ContentDTO findVariant(String orgFileId, String variant) {
+        return db.contents.values().stream()
+                .filter(content -> Objects.equals(orgFileId, content.getOrgFileId()) && variant.equals(content.getVariant()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private ContentStream open(ContentDTO content) {
+        if (content == null) {
+            return null;
+        }
+        // 보관 중인 배열을 복사하지 않고 그대로 읽음 (행은 교체만 되고 배열은 수정되지 않음)
+        byte[] data = content.getSaveFile();
+        ContentDTO metadata = InMemoryDatabase.copy(content);
+        metadata.setSaveFile(null);
+        return new ContentStream(metadata, data != null ? data.length : -1,
+                (offset, count) -> new ByteArrayInputStream(data, (int) offset, (int) count), null);
+    }
+
+    @Override
+    public List<ContentDTO> findByServiceId(String serviceId) {
+        return db.contents.values().stream()
+                .filter(content -> Objects.equals(content.getServiceId(), serviceId))
+                .filter(content -> content.getVariant() == null)
+                .map(InMemoryDatabase::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String save(ContentDTO contentDTO) {
+        // ID_FILE 컬럼 길이(30자)에 맞춰 JDBC 구현과 같은 형식으로 생성
+        String fileId = UUID.randomUUID().toString().replace("-", "").substring(0, 30);
+
+        Date now = new Date();
+        ContentDTO row = InMemoryDatabase.copy(contentDTO);
+        row.setFileId(fileId);
+        row.setSaveDate(now);
+        row.setHitCount(0);
+        row.setFirstDate(now);
+        row.setRefCount(1);
+        synchronized (db.contents) {
+            if (row.getContentHash() != null && findByContentHash(row.getContentHash()) != null) {
+                return null; // 같은 해시의 컨텐츠가 이미 있음
+            }
+            if (row.getVariant() != null) {
+                ContentDTO existing = findVariant(row.getOrgFileId(), row.getVariant());
+                if (existing != null) {
+                    return existing.getFileId(); // 같은 원본의 같은 변형이 이미 있음
+                }
+            }
+            db.contents.put(fileId, row);
+        }
+
+        contentDTO.setFileId(fileId); // 생성된 ID를 객체에 설정
+        return fileId;
+    }
+
+    @Override
+    public String save(ContentDTO contentDTO, InputStream data, long length) {
+        // 메모리 저장소는 배열로 보관하므로 여기서 한 번 읽음
+        ContentDTO row = InMemoryDatabase.copy(contentDTO);
+        try {
+            row.setSaveFile(data != null ? data.readAllBytes() : null);
+        } catch (IOException e) {
+            log.error("파일 데이터 읽기 실패: {}", e.getMessage(), e);
+            return null;
+        }
+        String fileId = save(row);
+        contentDTO.setFileId(row.getFileId()); // 생성된 ID를 객체에 설정 (이미 있는 변형이면 설정하지 않음)
+        return fileId;
+    }
+
+    @Override
+    public boolean update(ContentDTO contentDTO) {
+        String fileId = contentDTO.getFileId();
+        if (fileId == null) {
+            return false;
+        }
+        ContentDTO updated = db.contents.computeIfPresent(fileId, (id, current) -> {
+            ContentDTO row = InMemoryDatabase.copy(current);
+            row.setOriginalFileName(contentDTO.getOriginalFileName());
+            row.setSavedFileName(contentDTO.getSavedFileName());
+            row.setFilePath(contentDTO.getFilePath());
+            // 파일 데이터가 있는 경우에만 교체
+            if (contentDTO.getSaveFile() != null) {
+                row.setSaveFile(contentDTO.getSaveFile());
+            }
+            row.setFileExtension(contentDTO.getFileExtension());
+            row.setFileType(contentDTO.getFileType());
+            row.setServiceId(contentDTO.getServiceId());
+            row.setOrgFileId(contentDTO.getOrgFileId());
+            row.setContent(contentDTO.getContent());
+            return row;
+        });
+        return updated != null;
+    }
+
+    @Override
+    public boolean delete(String fileId) {
+        return fileId != null && db.contents.remove(fileId) != null;
+    }
+
+    @Override
+    public ContentDTO findByContentHash(String contentHash) {
+        if (contentHash == null) {
+            return null;
+        }
+        return db.contents.values().stream()
+                .filter(content -> contentHash.equals(content.getContentHash()))
+                .findFirst()
+                .map(content -> {
+                    ContentDTO metadata = InMemoryDatabase.copy(content);
+                    metadata.setSaveFile(null);
+                    return metadata;
+                })
+                .orElse(null);
+    }
+
+    @Override
+    public boolean assignContentHash(String fileId, String contentHash) {
+        if (fileId == null) {
+            return false;
+        }
+        synchronized (db.contents) {
+            ContentDTO existing = findByContentHash(contentHash);
+            if (existing != null && !existing.getFileId().equals(fileId)) {
+                return false;
+            }
+            return updateRow(fileId, current -> {
+                ContentDTO row = InMemoryDatabase.copy(current);
+                row.setContentHash(contentHash);
+                return row;
+            });
+        }
+    }
+
+    @Override
+    public boolean addReference(String fileId) {
+        return updateRow(fileId, current -> {
+            ContentDTO row = InMemoryDatabase.copy(current);
+            row.setRefCount(current.getRefCount() + 1);
+            return row;
+        });
+    }
+
+    @Override
+    public boolean releaseReference(String fileId) {
+        // 마지막 참조(cn_ref = 1)는 줄이지 않고 deleteIfUnreferenced로 행과 함께 삭제
+        return updateRow(fileId, current -> {
+            if (current.getRefCount() <= 1) {
+                return null;
+            }
+            ContentDTO row = InMemoryDatabase.copy(current);
+            row.setRefCount(current.getRefCount() - 1);
+            return row;
+        });
+    }
+
+    @Override
+    public boolean deleteIfUnreferenced(String fileId) {
+        if (fileId == null) {
+            return false;
+        }
+        while (true) {
+            ContentDTO current = db.contents.get(fileId);
+            if (current == null || current.getRefCount() > 1) {
+                return false;
+            }
+            if (db.contents.remove(fileId, current)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public List<ContentDTO> findVariants(String orgFileId) {
+        return db.contents.values().stream()
+                .filter(content -> content.getVariant() != null && Objects.equals(content.getOrgFileId(), orgFileId))
+                .map(content -> {
+                    ContentDTO metadata = InMemoryDatabase.copy(content);
+                    metadata.setSaveFile(null);
+                    return metadata;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findFileIdsMissingVariants(String afterFileId, int variantCount, int limit) {
+        return db.contents.values().stream()
+                .filter(content -> content.getVariant() == null && "IMG".equals(content.getFileType()))
+                .map(ContentDTO::getFileId)
+                .filter(fileId -> afterFileId == null || fileId.compareTo(afterFileId) > 0)
+                .filter(fileId -> {
+                    List<ContentDTO> variants = findVariants(fileId);
+                    return variants.size() < variantCount
+                            && variants.stream().noneMatch(variant -> ImageVariant.UNSUPPORTED.equals(variant.getVariant()));
+                })
+                .sorted(Comparator.naturalOrder())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 현재 행으로 새 행을 만들어 교체합니다. (다른 스레드가 먼저 바꿨으면 다시 시도)
+     * @param change 현재 행으로 새 행을 계산하는 함수 (null을 반환하면 갱신하지 않음)
+     * @return 교체했으면 true
+     */
+    private boolean updateRow(String fileId, Function<ContentDTO, ContentDTO> change) {
+        if (fileId == null) {
+            return false;
+        }
+        while (true) {
+            ContentDTO current = db.contents.get(fileId);
+            if (current == null) {
+                return false;
+            }
+            ContentDTO row = change.apply(current);
+            if (row == null) {
+                return false;
+            }
+            if (db.contents.replace(fileId, current, row)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean incrementHitCount(String fileId) {
+        return addHitCount(fileId, 1);
+    }
+
+    @Override
+    public boolean addHitCount(String fileId, int count) {
+        if (fileId == null) {
+            return false;
+        }
+        ContentDTO updated = db.contents.computeIfPresent(fileId, (id, current) -> {
+            ContentDTO row = InMemoryDatabase.copy(current);
+            row.setHitCount(current.getHitCount() + count);
+            return row;
+        });
+        return updated != null;
+    }
+}
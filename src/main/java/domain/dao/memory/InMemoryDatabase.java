@@ -0,0 +1,349 @@
+package domain.dao.memory;
+
+import domain.dto.BasketDTO;
+import domain.dto.BasketItemDTO;
+import domain.dto.CategoryDTO;
+import domain.dto.ContentDTO;
+import domain.dto.MappingDTO;
+import domain.dto.OrderDTO;
+import domain.dto.OrderItemDTO;
+import domain.dto.ProductDTO;
+import domain.dto.UserDTO;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 DAO 구현체들이 공유하는 테이블 저장소
+ *
+ * Oracle 테이블 하나를 동시성 맵 하나로 표현하고, 시퀀스는 AtomicLong으로 대신합니다.
+ * 맵에 들어간 행(DTO)은 수정하지 않고, 변경할 때는 복사본을 만들어 교체합니다.
+ * 따라서 조회 중인 스레드는 항상 완성된 행만 보게 되며, 조회 결과도 복사본으로 반환합니다.
+ *
+ * 인덱스:
+ * - 상품: 상품코드 순 (ConcurrentSkipListMap 키), (판매가, 상품코드) 순 가격 인덱스
+ * - 카테고리별 상품: 카테고리 ID → 상품코드 정렬 집합
+ * - 주문별 주문 품목, 사용자별 장바구니, 장바구니별 항목
+ */
+public class InMemoryDatabase {
+
+    // 시퀀스 (SEQ_TB_*)
+    final AtomicLong productSequence = new AtomicLong();
+    final AtomicLong categorySequence = new AtomicLong();
+    final AtomicLong basketSequence = new AtomicLong();
+    final AtomicLong basketItemSequence = new AtomicLong();
+    final AtomicLong orderSequence = new AtomicLong();
+    final AtomicLong orderItemSequence = new AtomicLong();
+
+    // TB_PRODUCT
+    final ConcurrentSkipListMap<String, ProductDTO> products = new ConcurrentSkipListMap<>();
+    final ConcurrentSkipListSet<PriceKey> productsByPrice = new ConcurrentSkipListSet<>();
+    final Object productLock = new Object();
+
+    // TB_CATEGORY
+    final ConcurrentSkipListMap<Long, CategoryDTO> categories = new ConcurrentSkipListMap<>();
+    final Object categoryLock = new Object();
+
+    // TB_CATEGORY_PRODUCT_MAPPING
+    final ConcurrentSkipListMap<MappingKey, MappingDTO> mappings = new ConcurrentSkipListMap<>();
+    final ConcurrentMap<Long, ConcurrentSkipListSet<String>> productsByCategory = new ConcurrentHashMap<>();
+    final Object mappingLock = new Object();
+
+    // TB_BASKET, TB_BASKET_ITEM
+    final ConcurrentMap<Long, BasketDTO> baskets = new ConcurrentHashMap<>();
+    final ConcurrentMap<String, Long> basketsByUser = new ConcurrentHashMap<>();
+    final ConcurrentSkipListMap<Long, BasketItemDTO> basketItems = new ConcurrentSkipListMap<>();
+    final ConcurrentMap<Long, ConcurrentSkipListSet<Long>> basketItemsByBasket = new ConcurrentHashMap<>();
+    final Object basketLock = new Object();
+
+    // TB_ORDER, TB_ORDER_ITEM
+    final ConcurrentSkipListMap<String, OrderDTO> orders = new ConcurrentSkipListMap<>();
+    final ConcurrentSkipListMap<String, OrderItemDTO> orderItems = new ConcurrentSkipListMap<>();
+    final ConcurrentMap<String, ConcurrentSkipListSet<String>> orderItemsByOrder = new ConcurrentHashMap<>();
+    final Object orderLock = new Object();
+
+    // TB_USER (nm_email 기준 조회가 대부분이므로 이메일을 키로 사용)
+    final ConcurrentSkipListMap<String, UserDTO> users = new ConcurrentSkipListMap<>();
+    final Object userLock = new Object();
+
+    // TB_CONTENT
+    final ConcurrentMap<String, ContentDTO> contents = new ConcurrentHashMap<>();
+
+    /**
+     * 'PT' || LPAD(seq, 7, '0') 형식의 식별자를 생성합니다.
+     */
+    static String formatId(String prefix, long sequence) {
+        return prefix + String.format("%07d", sequence);
+    }
+
+    /**
+     * LIKE '%keyword%' 조건과 같은 문자열 포함 검사
+     */
+    static boolean like(String value, String keyword) {
+        return value != null && (keyword == null || value.contains(keyword));
+    }
+
+    /**
+     * OFFSET ? ROWS FETCH NEXT ? ROWS ONLY
+     */
+    static <T> List<T> page(Stream<T> rows, int offset, int limit) {
+        return rows.skip(Math.max(0, offset))
+                .limit(Math.max(0, limit))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 카테고리 목록 중 하나라도 매핑된 상품코드 집합 (매핑이 없으면 빈 집합)
+     * 카테고리가 하나이면 인덱스를 그대로, 여러 개이면 합집합을 반환합니다.
+     */
+    NavigableSet<String> productCodesOf(List<Long> categoryIds) {
+        if (categoryIds.size() == 1) {
+            Long categoryId = categoryIds.get(0);
+            NavigableSet<String> codes = categoryId == null ? null : productsByCategory.get(categoryId);
+            return codes != null ? codes : new ConcurrentSkipListSet<>();
+        }
+
+        NavigableSet<String> union = new ConcurrentSkipListSet<>();
+        for (Long categoryId : categoryIds) {
+            NavigableSet<String> codes = categoryId == null ? null : productsByCategory.get(categoryId);
+            if (codes != null) {
+                union.addAll(codes);
+            }
+        }
+        return union;
+    }
+
+    // ===== 행 복사 =====
+
+    static ProductDTO copy(ProductDTO source) {
+        ProductDTO copy = new ProductDTO();
+        copy.setProductCode(source.getProductCode());
+        copy.setProductName(source.getProductName());
+        copy.setDetailExplain(source.getDetailExplain());
+        copy.setFileId(source.getFileId());
+        copy.setStartDate(source.getStartDate());
+        copy.setEndDate(source.getEndDate());
+        copy.setCustomerPrice(source.getCustomerPrice());
+        copy.setSalePrice(source.getSalePrice());
+        copy.setStock(source.getStock());
+        copy.setDeliveryFee(source.getDeliveryFee());
+        copy.setRegisterId(source.getRegisterId());
+        copy.setFirstDate(source.getFirstDate());
+        return copy;
+    }
+
+    /**
+     * 목록 조회용 복사 (ProductDAOImpl의 목록 컬럼과 같이 상세 설명, 배송비, 등록자, 등록일은 제외)
+     */
+    static ProductDTO summary(ProductDTO source) {
+        ProductDTO summary = new ProductDTO();
+        summary.setProductCode(source.getProductCode());
+        summary.setProductName(source.getProductName());
+        summary.setFileId(source.getFileId());
+        summary.setStartDate(source.getStartDate());
+        summary.setEndDate(source.getEndDate());
+        summary.setCustomerPrice(source.getCustomerPrice());
+        summary.setSalePrice(source.getSalePrice());
+        summary.setStock(source.getStock());
+        return summary;
+    }
+
+    static CategoryDTO copy(CategoryDTO source) {
+        CategoryDTO copy = new CategoryDTO();
+        copy.setId(source.getId());
+        copy.setParentId(source.getParentId());
+        copy.setName(source.getName());
+        copy.setFullName(source.getFullName());
+        copy.setDescription(source.getDescription());
+        copy.setLevel(source.getLevel());
+        copy.setOrder(source.getOrder());
+        copy.setUseYn(source.getUseYn());
+        copy.setDeleteYn(source.getDeleteYn());
+        copy.setRegisterId(source.getRegisterId());
+        copy.setDaFirstDate(source.getDaFirstDate());
+        return copy;
+    }
+
+    static BasketDTO copy(BasketDTO source) {
+        BasketDTO copy = new BasketDTO();
+        copy.setBasketId(source.getBasketId());
+        copy.setUserId(source.getUserId());
+        copy.setTotalAmount(source.getTotalAmount());
+        copy.setRegisterId(source.getRegisterId());
+        copy.setCreatedDate(source.getCreatedDate());
+        return copy;
+    }
+
+    static BasketItemDTO copy(BasketItemDTO source) {
+        BasketItemDTO copy = new BasketItemDTO();
+        copy.setItemId(source.getItemId());
+        copy.setBasketId(source.getBasketId());
+        copy.setItemOrder(source.getItemOrder());
+        copy.setProductCode(source.getProductCode());
+        copy.setUserId(source.getUserId());
+        copy.setPrice(source.getPrice());
+        copy.setQuantity(source.getQuantity());
+        copy.setAmount(source.getAmount());
+        copy.setRegisterId(source.getRegisterId());
+        copy.setCreatedDate(source.getCreatedDate());
+        return copy;
+    }
+
+    static OrderDTO copy(OrderDTO source) {
+        OrderDTO copy = new OrderDTO();
+        copy.setOrderId(source.getOrderId());
+        copy.setUserId(source.getUserId());
+        copy.setOrderAmount(source.getOrderAmount());
+        copy.setDeliveryFee(source.getDeliveryFee());
+        copy.setDeliveryPeriod(source.getDeliveryPeriod());
+        copy.setOrderPersonName(source.getOrderPersonName());
+        copy.setReceiverName(source.getReceiverName());
+        copy.setDeliveryZipno(source.getDeliveryZipno());
+        copy.setDeliveryAddress(source.getDeliveryAddress());
+        copy.setReceiverTelno(source.getReceiverTelno());
+        copy.setDeliverySpace(source.getDeliverySpace());
+        copy.setOrderType(source.getOrderType());
+        copy.setOrderDate(source.getOrderDate());
+        copy.setOrderStatus(source.getOrderStatus());
+        copy.setPaymentStatus(source.getPaymentStatus());
+        copy.setRegisterId(source.getRegisterId());
+        copy.setFirstDate(source.getFirstDate());
+        return copy;
+    }
+
+    static OrderItemDTO copy(OrderItemDTO source) {
+        OrderItemDTO copy = new OrderItemDTO();
+        copy.setOrderItemId(source.getOrderItemId());
+        copy.setOrderId(source.getOrderId());
+        copy.setOrderItemCount(source.getOrderItemCount());
+        copy.setProductCode(source.getProductCode());
+        copy.setUserId(source.getUserId());
+        copy.setUnitPrice(source.getUnitPrice());
+        copy.setQuantity(source.getQuantity());
+        copy.setAmount(source.getAmount());
+        copy.setDeliveryFee(source.getDeliveryFee());
+        copy.setPaymentStatus(source.getPaymentStatus());
+        copy.setRegisterId(source.getRegisterId());
+        copy.setFirstDate(source.getFirstDate());
+        return copy;
+    }
+
+    static UserDTO copy(UserDTO source) {
+        UserDTO copy = new UserDTO();
+        copy.setUserId(source.getUserId());
+        copy.setUserName(source.getUserName());
+        copy.setPassword(source.getPassword());
+        copy.setEncPassword(source.getEncPassword());
+        copy.setMobileNumber(source.getMobileNumber());
+        copy.setEmail(source.getEmail());
+        copy.setStatus(source.getStatus());
+        copy.setUserType(source.getUserType());
+        copy.setRegisterBy(source.getRegisterBy());
+        copy.setFirstLoginDate(source.getFirstLoginDate());
+        return copy;
+    }
+
+    static ContentDTO copy(ContentDTO source) {
+        ContentDTO copy = new ContentDTO();
+        copy.setFileId(source.getFileId());
+        copy.setOriginalFileName(source.getOriginalFileName());
+        copy.setSavedFileName(source.getSavedFileName());
+        copy.setFilePath(source.getFilePath());
+        copy.setSaveFile(source.getSaveFile());
+        copy.setFileExtension(source.getFileExtension());
+        copy.setFileType(source.getFileType());
+        copy.setSaveDate(source.getSaveDate());
+        copy.setHitCount(source.getHitCount());
+        copy.setServiceId(source.getServiceId());
+        copy.setOrgFileId(source.getOrgFileId());
+        copy.setContent(source.getContent());
+        copy.setRegisterNo(source.getRegisterNo());
+        copy.setFirstDate(source.getFirstDate());
+        copy.setContentHash(source.getContentHash());
+        copy.setRefCount(source.getRefCount());
+        copy.setVariant(source.getVariant());
+        return copy;
+    }
+
+    /**
+     * 가격 인덱스 키 (qt_sale_price, no_product)
+     * 판매가가 없는 상품은 Oracle의 NULL 정렬(오름차순에서 마지막)과 같도록 최대값으로 취급합니다.
+     */
+    static final class PriceKey implements Comparable<PriceKey> {
+        private static final Comparator<PriceKey> ORDER =
+                Comparator.comparingInt((PriceKey key) -> key.price).thenComparing(key -> key.productCode);
+
+        final int price;
+        final String productCode;
+
+        PriceKey(Integer price, String productCode) {
+            this.price = price != null ? price : Integer.MAX_VALUE;
+            this.productCode = productCode;
+        }
+
+        static PriceKey of(ProductDTO product) {
+            return new PriceKey(product.getSalePrice(), product.getProductCode());
+        }
+
+        @Override
+        public int compareTo(PriceKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PriceKey)) return false;
+            PriceKey other = (PriceKey) o;
+            return price == other.price && productCode.equals(other.productCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(price, productCode);
+        }
+    }
+
+    /**
+     * 매핑 테이블 복합 키 (no_product, nb_category)
+     */
+    static final class MappingKey implements Comparable<MappingKey> {
+        private static final Comparator<MappingKey> ORDER =
+                Comparator.comparing((MappingKey key) -> key.productCode).thenComparing(key -> key.categoryId);
+
+        final String productCode;
+        final Long categoryId;
+
+        MappingKey(String productCode, Long categoryId) {
+            this.productCode = productCode;
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public int compareTo(MappingKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MappingKey)) return false;
+            MappingKey other = (MappingKey) o;
+            return productCode.equals(other.productCode) && categoryId.equals(other.categoryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productCode, categoryId);
+        }
+    }
+}
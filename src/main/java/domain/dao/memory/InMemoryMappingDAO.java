@@ -0,0 +1,282 @@
+package domain.dao.memory;
+
+import domain.dao.MappingDAO;
+import domain.dto.CategoryDTO;
+import domain.dto.MappingDTO;
+import domain.dto.PageDTO;
+import domain.dto.ProductDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static domain.dao.memory.InMemoryDatabase.MappingKey;
+
+/**
+ * 메모리 기반 MappingDAO 구현체
+ * 매핑 행과 함께 카테고리별 상품코드 인덱스(productsByCategory)를 유지하여 카테고리 상품 조회에 사용합니다.
+ */
+@Slf4j
+public class InMemoryMappingDAO implements MappingDAO {
+    private static final Comparator<String> TEXT_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final InMemoryDatabase db;
+
+    public InMemoryMappingDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public List<MappingDTO> getAllMappings() {
+        return joined().sorted(sortOrder(null)).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MappingDTO> getMappingsWithPagination(PageDTO pageDTO) {
+        return page(joined(), pageDTO);
+    }
+
+    @Override
+    public int getTotalMappingCount() {
+        return db.mappings.size();
+    }
+
+    @Override
+    public int getSearchMappingCount(String keyword) {
+        return (int) search(keyword).count();
+    }
+
+    @Override
+    public MappingDTO getMappingByProductAndCategory(String productCode, Long categoryId) {
+        if (productCode == null || categoryId == null) {
+            return null;
+        }
+        MappingDTO row = db.mappings.get(new MappingKey(productCode, categoryId));
+        return row != null ? join(row) : null;
+    }
+
+    @Override
+    public boolean createMapping(MappingDTO mappingDTO) {
+        if (mappingDTO.getProductCode() == null || mappingDTO.getCategoryId() == null) {
+            return false;
+        }
+        MappingKey key = new MappingKey(mappingDTO.getProductCode(), mappingDTO.getCategoryId());
+
+        MappingDTO row = new MappingDTO();
+        row.setProductCode(mappingDTO.getProductCode());
+        row.setCategoryId(mappingDTO.getCategoryId());
+        row.setDisplayOrder(mappingDTO.getDisplayOrder() != null ? mappingDTO.getDisplayOrder() : 1); // 기본값 1
+        row.setRegisterUser(mappingDTO.getRegisterUser() != null ? mappingDTO.getRegisterUser() : "SYSTEM"); // 기본값 SYSTEM
+        row.setRegisterDate(new Date());
+
+        synchronized (db.mappingLock) {
+            // 복합 기본키 중복
+            if (db.mappings.putIfAbsent(key, row) != null) {
+                log.error("이미 존재하는 매핑입니다: {} - {}", key.productCode, key.categoryId);
+                return false;
+            }
+            db.productsByCategory
+                    .computeIfAbsent(key.categoryId, id -> new ConcurrentSkipListSet<>())
+                    .add(key.productCode);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean updateMapping(MappingDTO mappingDTO) {
+        // JDBC 구현과 같이 삭제 후 다시 등록
+        synchronized (db.mappingLock) {
+            remove(new MappingKey(mappingDTO.getProductCode(), mappingDTO.getCategoryId()));
+            return createMapping(mappingDTO);
+        }
+    }
+
+    @Override
+    public boolean deleteMappingByProductAndCategory(String productCode, Long categoryId) {
+        synchronized (db.mappingLock) {
+            return remove(new MappingKey(productCode, categoryId));
+        }
+    }
+
+    @Override
+    public List<MappingDTO> searchMappings(String keyword) {
+        return search(keyword).sorted(sortOrder(null)).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MappingDTO> searchMappings(String keyword, PageDTO pageDTO) {
+        return page(search(keyword), pageDTO);
+    }
+
+    @Override
+    public List<CategoryDTO> getAllCategories() {
+        return db.categories.values().stream()
+                .filter(category -> !"Y".equals(category.getDeleteYn()))
+                .sorted(Comparator.comparing(CategoryDTO::getFullName, TEXT_ORDER))
+                .map(InMemoryDatabase::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ProductDTO> getAllProducts() {
+        return db.products.values().stream()
+                .sorted(Comparator.comparing(ProductDTO::getProductName, TEXT_ORDER))
+                .map(source -> {
+                    ProductDTO product = new ProductDTO();
+                    product.setProductCode(source.getProductCode());
+                    product.setProductName(source.getProductName());
+                    product.setFirstDate(source.getFirstDate());
+                    product.setRegisterId(source.getRegisterId());
+                    return product;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CategoryDTO> getMappingsByProductCode(String productCode) {
+        List<CategoryDTO> categories = new ArrayList<>();
+        if (productCode == null) {
+            return categories;
+        }
+
+        // ORDER BY m.cn_order, c.nm_full_category
+        List<MappingDTO> rows = new ArrayList<>(mappingsOf(productCode).values());
+        rows.sort(Comparator.comparing(MappingDTO::getDisplayOrder, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                .thenComparing(row -> fullNameOf(row.getCategoryId()), TEXT_ORDER));
+
+        for (MappingDTO row : rows) {
+            CategoryDTO category = db.categories.get(row.getCategoryId());
+            if (category != null && !"Y".equals(category.getDeleteYn())) {
+                categories.add(InMemoryDatabase.copy(category));
+            }
+        }
+        return categories;
+    }
+
+    @Override
+    public boolean deleteAllMappingsByProductCode(String productCode) {
+        if (productCode == null) {
+            return true;
+        }
+        synchronized (db.mappingLock) {
+            int deleted = 0;
+            for (MappingKey key : mappingsOf(productCode).keySet()) {
+                if (remove(key)) {
+                    deleted++;
+                }
+            }
+            // 삭제된 행이 없어도 성공으로 간주
+            log.info("상품 코드 {}로 {}개의 카테고리 매핑 삭제 완료", productCode, deleted);
+        }
+        return true;
+    }
+
+    private String fullNameOf(Long categoryId) {
+        CategoryDTO category = db.categories.get(categoryId);
+        return category != null ? category.getFullName() : null;
+    }
+
+    /**
+     * 상품 하나의 매핑 행 (복합 키가 상품코드 우선이므로 범위 조회)
+     */
+    private Map<MappingKey, MappingDTO> mappingsOf(String productCode) {
+        return db.mappings.subMap(new MappingKey(productCode, Long.MIN_VALUE), true,
+                new MappingKey(productCode, Long.MAX_VALUE), true);
+    }
+
+    /**
+     * 매핑 행과 카테고리 인덱스를 함께 삭제합니다. (mappingLock 안에서 호출)
+     */
+    private boolean remove(MappingKey key) {
+        if (key.productCode == null || key.categoryId == null || db.mappings.remove(key) == null) {
+            return false;
+        }
+        ConcurrentSkipListSet<String> codes = db.productsByCategory.get(key.categoryId);
+        if (codes != null) {
+            codes.remove(key.productCode);
+        }
+        return true;
+    }
+
+    /**
+     * 상품/카테고리와 내부 조인한 매핑 목록 (상품이나 카테고리가 없는 매핑은 제외)
+     */
+    private Stream<MappingDTO> joined() {
+        return db.mappings.values().stream()
+                .map(this::join)
+                .filter(Objects::nonNull);
+    }
+
+    private Stream<MappingDTO> search(String keyword) {
+        return joined().filter(mapping -> InMemoryDatabase.like(mapping.getProductName(), keyword)
+                || InMemoryDatabase.like(mapping.getProductCode(), keyword)
+                || InMemoryDatabase.like(mapping.getFullName(), keyword));
+    }
+
+    private MappingDTO join(MappingDTO row) {
+        ProductDTO product = db.products.get(row.getProductCode());
+        CategoryDTO category = db.categories.get(row.getCategoryId());
+        if (product == null || category == null) {
+            return null;
+        }
+
+        MappingDTO mapping = new MappingDTO();
+        mapping.mapFromQueryResult(
+                row.getProductCode(),
+                row.getCategoryId(),
+                product.getProductName(),
+                category.getFullName(),
+                row.getDisplayOrder(),
+                row.getRegisterUser(),
+                row.getRegisterDate()
+        );
+
+        // 테이블 표시용 ID 설정
+        mapping.setId(row.getCategoryId());
+        return mapping;
+    }
+
+    /**
+     * 정렬 후 페이지를 잘라내고, 조회된 행이 있으면 전체 건수를 설정합니다.
+     */
+    private List<MappingDTO> page(Stream<MappingDTO> rows, PageDTO pageDTO) {
+        List<MappingDTO> matched = rows.sorted(sortOrder(pageDTO.getSortBy())).collect(Collectors.toList());
+        List<MappingDTO> mappingList = InMemoryDatabase.page(matched.stream(), pageDTO.getOffset(), pageDTO.getPageSize());
+        if (!mappingList.isEmpty()) {
+            pageDTO.setTotalCount(matched.size());
+        }
+        return mappingList;
+    }
+
+    /**
+     * JDBC 구현의 getSortColumn과 같은 정렬 기준
+     */
+    private Comparator<MappingDTO> sortOrder(String sortBy) {
+        Comparator<MappingDTO> byName = Comparator.comparing(MappingDTO::getProductName, TEXT_ORDER);
+        if (sortBy == null || sortBy.isEmpty()) {
+            return byName;
+        }
+        switch (sortBy) {
+            case "nameDesc":
+                return byName.reversed();
+            case "categoryAsc":
+                return Comparator.comparing(MappingDTO::getFullName, TEXT_ORDER);
+            case "categoryDesc":
+                return Comparator.comparing(MappingDTO::getFullName, TEXT_ORDER).reversed();
+            case "orderAsc":
+                return Comparator.comparing(MappingDTO::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "orderDesc":
+                return Comparator.comparing(MappingDTO::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder())).reversed();
+            case "nameAsc":
+            default:
+                return byName;
+        }
+    }
+}
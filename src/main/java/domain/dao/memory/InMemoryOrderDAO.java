@@ -0,0 +1,337 @@
+package domain.dao.memory;
+
+import domain.dao.OrderDAO;
+import domain.dto.OrderDTO;
+import domain.dto.OrderItemDTO;
+import domain.dto.PageDTO;
+import domain.dto.ProductDTO;
+import exception.OutOfStockException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 기반 OrderDAO 구현체
+ * 주문 처리(placeOrder)는 재고를 먼저 조건부 차감하고, 하나라도 실패하면 이미 차감한 재고를 되돌린 뒤 예외를 던집니다.
+ */
+@Slf4j
+public class InMemoryOrderDAO implements OrderDAO {
+    // ORDER BY da_order DESC (같은 시각이면 최근 주문번호 우선)
+    private static final Comparator<OrderDTO> LIST_ORDER =
+            Comparator.comparing(OrderDTO::getOrderDate, Comparator.nullsFirst(Comparator.<Date>reverseOrder()))
+                    .thenComparing(OrderDTO::getOrderId, Comparator.reverseOrder());
+
+    private final InMemoryDatabase db;
+    private final InMemoryProductDAO productDAO;
+    private final InMemoryBasketDAO basketDAO;
+
+    public InMemoryOrderDAO(InMemoryDatabase db) {
+        this.db = db;
+        this.productDAO = new InMemoryProductDAO(db);
+        this.basketDAO = new InMemoryBasketDAO(db);
+    }
+
+    @Override
+    public List<OrderDTO> getOrderList(PageDTO pageDTO) {
+        return page(db.orders.values().stream(), pageDTO);
+    }
+
+    @Override
+    public int getTotalOrderCount() {
+        return db.orders.size();
+    }
+
+    @Override
+    public OrderDTO getOrderById(String orderId) {
+        OrderDTO order = orderId == null ? null : db.orders.get(orderId);
+        return order != null ? InMemoryDatabase.copy(order) : null;
+    }
+
+    @Override
+    public List<OrderItemDTO> getOrderItemsByOrderId(String orderId) {
+        return itemsOf(orderId)
+                .sorted(Comparator.comparing(OrderItemDTO::getOrderItemCount, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(this::withProduct)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public OrderItemDTO getOrderItemById(String orderItemId) {
+        OrderItemDTO item = orderItemId == null ? null : db.orderItems.get(orderItemId);
+        return item != null ? withProduct(item) : null;
+    }
+
+    @Override
+    public String createOrder(OrderDTO orderDTO) {
+        OrderDTO row = newOrderRow(orderDTO);
+        db.orders.put(row.getOrderId(), row);
+        return row.getOrderId();
+    }
+
+    @Override
+    public int createOrderItem(OrderItemDTO orderItemDTO) {
+        OrderItemDTO row = newItemRow(orderItemDTO, orderItemDTO.getUserId(),
+                orderItemDTO.getOrderItemCount() != null ? orderItemDTO.getOrderItemCount() : 1);
+        insertItem(row);
+        return 1;
+    }
+
+    @Override
+    public String placeOrder(OrderDTO orderDTO, List<OrderItemDTO> orderItems, List<Long> basketItemIds)
+            throws OutOfStockException {
+        // 1. 재고 조건부 차감 (하나라도 부족하면 이미 차감한 재고를 되돌림)
+        List<OrderItemDTO> decreased = new ArrayList<>();
+        for (OrderItemDTO item : orderItems) {
+            int quantity = item.getQuantity() != null ? item.getQuantity() : 1;
+            if (productDAO.decreaseStock(item.getProductCode(), quantity) == 0) {
+                for (OrderItemDTO done : decreased) {
+                    productDAO.increaseStock(done.getProductCode(), done.getQuantity() != null ? done.getQuantity() : 1);
+                }
+                throw new OutOfStockException(item.getProductCode(), "재고가 부족합니다: " + item.getProductCode());
+            }
+            decreased.add(item);
+        }
+
+        // 2. 주문 품목을 먼저 저장한 뒤 주문을 등록 (목록 조회 시 품목 수가 비어 보이지 않도록)
+        OrderDTO order = newOrderRow(orderDTO);
+        String orderId = order.getOrderId();
+
+        int itemOrder = 1;
+        for (OrderItemDTO item : orderItems) {
+            item.setOrderId(orderId);
+            if (item.getOrderItemCount() == null) {
+                item.setOrderItemCount(itemOrder);
+            }
+            itemOrder++;
+
+            String userId = item.getUserId() != null ? item.getUserId() : orderDTO.getUserId();
+            insertItem(newItemRow(item, userId, item.getOrderItemCount()));
+        }
+        db.orders.put(orderId, order);
+
+        // 3. 주문한 장바구니 항목 삭제 및 장바구니 총액 갱신
+        if (basketItemIds != null && !basketItemIds.isEmpty()) {
+            Long basketId = db.basketsByUser.get(orderDTO.getUserId());
+            if (basketId != null) {
+                synchronized (db.basketLock) {
+                    basketDAO.removeItems(basketId, new HashSet<>(basketItemIds));
+                    int totalAmount = basketDAO.findBasketItemsByBasketId(basketId).stream()
+                            .map(item -> item.getAmount() != null ? item.getAmount() : 0)
+                            .reduce(0, Integer::sum);
+                    basketDAO.updateBasketAmount(basketId, totalAmount);
+                }
+            }
+        }
+
+        return orderId;
+    }
+
+    @Override
+    public int updateOrderStatus(String orderId, String orderStatus) {
+        return updateOrderRow(orderId, row -> row.setOrderStatus(orderStatus));
+    }
+
+    @Override
+    public int updatePaymentStatus(String orderId, String paymentStatus) {
+        return updateOrderRow(orderId, row -> row.setPaymentStatus(paymentStatus));
+    }
+
+    @Override
+    public int updateOrder(OrderDTO orderDTO) {
+        return updateOrderRow(orderDTO.getOrderId(), row -> {
+            row.setOrderAmount(orderDTO.getOrderAmount() != null ? orderDTO.getOrderAmount() : 0);
+            row.setDeliveryFee(orderDTO.getDeliveryFee() != null ? orderDTO.getDeliveryFee() : 0);
+            row.setDeliveryPeriod(orderDTO.getDeliveryPeriod() != null ? orderDTO.getDeliveryPeriod() : 0);
+            row.setOrderPersonName(orderDTO.getOrderPersonName());
+            row.setReceiverName(orderDTO.getReceiverName());
+            row.setDeliveryZipno(orderDTO.getDeliveryZipno());
+            row.setDeliveryAddress(orderDTO.getDeliveryAddress());
+            row.setReceiverTelno(orderDTO.getReceiverTelno());
+            row.setDeliverySpace(orderDTO.getDeliverySpace());
+            row.setOrderType(orderDTO.getOrderType());
+            row.setOrderStatus(orderDTO.getOrderStatus());
+            row.setPaymentStatus(orderDTO.getPaymentStatus());
+        });
+    }
+
+    @Override
+    public int updateOrderItem(OrderItemDTO orderItemDTO) {
+        String orderItemId = orderItemDTO.getOrderItemId();
+        if (orderItemId == null) {
+            return 0;
+        }
+        synchronized (db.orderLock) {
+            OrderItemDTO current = db.orderItems.get(orderItemId);
+            if (current == null) {
+                return 0;
+            }
+            OrderItemDTO row = InMemoryDatabase.copy(current);
+            row.setUnitPrice(orderItemDTO.getUnitPrice() != null ? orderItemDTO.getUnitPrice() : 0);
+            row.setQuantity(orderItemDTO.getQuantity() != null ? orderItemDTO.getQuantity() : 1);
+            row.setAmount(orderItemDTO.getAmount() != null ? orderItemDTO.getAmount() : 0);
+            row.setDeliveryFee(orderItemDTO.getDeliveryFee() != null ? orderItemDTO.getDeliveryFee() : 0);
+            row.setPaymentStatus(orderItemDTO.getPaymentStatus());
+            db.orderItems.put(orderItemId, row);
+            return 1;
+        }
+    }
+
+    @Override
+    public int deleteOrder(String orderId) {
+        if (orderId == null) {
+            return 0;
+        }
+        synchronized (db.orderLock) {
+            // 우선 주문에 속한 모든 주문 품목 삭제
+            Set<String> itemIds = db.orderItemsByOrder.remove(orderId);
+            if (itemIds != null) {
+                for (String itemId : itemIds) {
+                    db.orderItems.remove(itemId);
+                }
+            }
+            return db.orders.remove(orderId) != null ? 1 : 0;
+        }
+    }
+
+    @Override
+    public int deleteOrderItem(String orderItemId) {
+        if (orderItemId == null) {
+            return 0;
+        }
+        synchronized (db.orderLock) {
+            OrderItemDTO removed = db.orderItems.remove(orderItemId);
+            if (removed == null) {
+                return 0;
+            }
+            Set<String> itemIds = db.orderItemsByOrder.get(removed.getOrderId());
+            if (itemIds != null) {
+                itemIds.remove(orderItemId);
+            }
+            return 1;
+        }
+    }
+
+    @Override
+    public List<OrderDTO> getOrdersByUserId(String userId, PageDTO pageDTO) {
+        return page(byUser(userId), pageDTO);
+    }
+
+    @Override
+    public int getTotalOrderCountByUserId(String userId) {
+        return (int) byUser(userId).count();
+    }
+
+    private Stream<OrderDTO> byUser(String userId) {
+        return db.orders.values().stream().filter(order -> Objects.equals(order.getUserId(), userId));
+    }
+
+    /**
+     * 최신 주문순으로 정렬한 뒤 페이지를 잘라내고, 조회된 행이 있으면 전체 건수를 설정합니다.
+     */
+    private List<OrderDTO> page(Stream<OrderDTO> rows, PageDTO pageDTO) {
+        List<OrderDTO> matched = rows.sorted(LIST_ORDER).collect(Collectors.toList());
+        List<OrderDTO> orderList = new ArrayList<>();
+        for (OrderDTO row : InMemoryDatabase.page(matched.stream(), pageDTO.getOffset(), pageDTO.getPageSize())) {
+            OrderDTO order = InMemoryDatabase.copy(row);
+            order.setTotalItemCount((int) itemsOf(row.getOrderId()).count());
+            orderList.add(order);
+        }
+        if (!orderList.isEmpty()) {
+            pageDTO.setTotalCount(matched.size());
+        }
+        return orderList;
+    }
+
+    private Stream<OrderItemDTO> itemsOf(String orderId) {
+        Set<String> itemIds = orderId == null ? null : db.orderItemsByOrder.get(orderId);
+        if (itemIds == null) {
+            return Stream.empty();
+        }
+        return itemIds.stream()
+                .map(db.orderItems::get)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * 주문 품목에 상품명과 이미지 파일 ID를 채운 복사본 (LEFT JOIN tb_product)
+     */
+    private OrderItemDTO withProduct(OrderItemDTO row) {
+        OrderItemDTO item = InMemoryDatabase.copy(row);
+        ProductDTO product = db.products.get(row.getProductCode());
+        if (product != null) {
+            item.setProductName(product.getProductName());
+            item.setFileId(product.getFileId());
+        }
+        return item;
+    }
+
+    /**
+     * 'OD' || LPAD(seq_tb_order.nextval, 7, '0') 주문번호와 기본값을 채운 주문 행
+     */
+    private OrderDTO newOrderRow(OrderDTO orderDTO) {
+        Date now = new Date();
+        OrderDTO row = InMemoryDatabase.copy(orderDTO);
+        row.setOrderId(InMemoryDatabase.formatId("OD", db.orderSequence.incrementAndGet()));
+        row.setOrderAmount(orderDTO.getOrderAmount() != null ? orderDTO.getOrderAmount() : 0);
+        row.setDeliveryFee(orderDTO.getDeliveryFee() != null ? orderDTO.getDeliveryFee() : 0);
+        row.setDeliveryPeriod(orderDTO.getDeliveryPeriod() != null ? orderDTO.getDeliveryPeriod() : 0);
+        row.setOrderType(orderDTO.getOrderType() != null ? orderDTO.getOrderType() : "10");
+        row.setOrderStatus(orderDTO.getOrderStatus() != null ? orderDTO.getOrderStatus() : "10");
+        row.setPaymentStatus(orderDTO.getPaymentStatus() != null ? orderDTO.getPaymentStatus() : "20");
+        row.setOrderDate(now);
+        row.setFirstDate(now);
+        return row;
+    }
+
+    /**
+     * 'OT' || LPAD(seq_tb_order_item.nextval, 7, '0') 품목번호와 기본값을 채운 주문 품목 행
+     */
+    private OrderItemDTO newItemRow(OrderItemDTO item, String userId, int orderItemCount) {
+        OrderItemDTO row = InMemoryDatabase.copy(item);
+        row.setOrderItemId(InMemoryDatabase.formatId("OT", db.orderItemSequence.incrementAndGet()));
+        row.setOrderItemCount(orderItemCount);
+        row.setUserId(userId);
+        row.setUnitPrice(item.getUnitPrice() != null ? item.getUnitPrice() : 0);
+        row.setQuantity(item.getQuantity() != null ? item.getQuantity() : 1);
+        row.setAmount(item.getAmount() != null ? item.getAmount() : 0);
+        row.setDeliveryFee(item.getDeliveryFee() != null ? item.getDeliveryFee() : 0);
+        row.setPaymentStatus(item.getPaymentStatus() != null ? item.getPaymentStatus() : "20");
+        row.setFirstDate(new Date());
+        return row;
+    }
+
+    private void insertItem(OrderItemDTO row) {
+        db.orderItems.put(row.getOrderItemId(), row);
+        if (row.getOrderId() != null) {
+            db.orderItemsByOrder
+                    .computeIfAbsent(row.getOrderId(), id -> new ConcurrentSkipListSet<>())
+                    .add(row.getOrderItemId());
+        }
+    }
+
+    private int updateOrderRow(String orderId, Consumer<OrderDTO> change) {
+        if (orderId == null) {
+            return 0;
+        }
+        synchronized (db.orderLock) {
+            OrderDTO current = db.orders.get(orderId);
+            if (current == null) {
+                return 0;
+            }
+            OrderDTO row = InMemoryDatabase.copy(current);
+            change.accept(row);
+            db.orders.put(orderId, row);
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package domain.dao.memory;
+
+import domain.dao.ProductDAO;
+import domain.dao.ProductSearchIndex;
+import domain.dto.ProductCriteria;
+import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
+import lombok.extern.slf4j.Slf4j;
+import util.KeysetCursor;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static domain.dao.memory.InMemoryDatabase.PriceKey;
+
+/**
+ * 메모리 기반 ProductDAO 구현체
+ * 상품코드 순 정렬은 맵 키(카테고리 조건이 있으면 카테고리별 상품코드 집합) 순서를, 가격 정렬은 (판매가, 상품코드) 인덱스 순서를
+ * 그대로 읽으므로 목록 조회에서 따로 정렬하지 않습니다.
+ */
+@Slf4j
+public class InMemoryProductDAO implements ProductDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryProductDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public ProductDTO findByProductCode(String productCode) {
+        ProductDTO product = productCode == null ? null : db.products.get(productCode);
+        return product != null ? InMemoryDatabase.copy(product) : null;
+    }
+
+    @Override
+    public List<ProductDTO> findByProductCodes(List<String> productCodes) {
+        List<ProductDTO> products = new ArrayList<>(productCodes.size());
+        for (String productCode : productCodes) {
+            ProductDTO product = productCode == null ? null : db.products.get(productCode);
+            if (product != null) {
+                products.add(InMemoryDatabase.summary(product));
+            }
+        }
+        return products;
+    }
+
+    @Override
+    public void save(ProductDTO productDTO) {
+        String productCode = InMemoryDatabase.formatId("PT", db.productSequence.incrementAndGet());
+        productDTO.setProductCode(productCode); // DTO에 상품 코드 설정
+        log.info("생성된 상품 코드: {}", productCode);
+
+        ProductDTO row = InMemoryDatabase.copy(productDTO);
+        if (row.getFirstDate() == null) {
+            row.setFirstDate(new Date());
+        }
+
+        synchronized (db.productLock) {
+            db.products.put(productCode, row);
+            db.productsByPrice.add(PriceKey.of(row));
+        }
+    }
+
+    @Override
+    public void modify(ProductDTO productDTO) {
+        String productCode = productDTO.getProductCode();
+        // 판매가는 이 메서드에서만 바뀌므로 락 안에서 가격 인덱스를 함께 갱신
+        // 새 키를 먼저 넣고 행을 바꾼 뒤 이전 키를 지워, 가격순 조회가 어느 시점에도 상품을 빠뜨리지 않게 함
+        synchronized (db.productLock) {
+            ProductDTO before = db.products.get(productCode);
+            PriceKey key = new PriceKey(productDTO.getSalePrice(), productCode);
+            boolean priceChanged = before != null && !PriceKey.of(before).equals(key);
+            if (priceChanged) {
+                db.productsByPrice.add(key);
+            }
+            int updated = updateRow(productCode, current -> {
+                ProductDTO row = InMemoryDatabase.copy(current);
+                row.setProductName(productDTO.getProductName());
+                row.setDetailExplain(productDTO.getDetailExplain());
+                row.setFileId(productDTO.getFileId());
+                row.setStartDate(productDTO.getStartDate());
+                row.setEndDate(productDTO.getEndDate());
+                row.setCustomerPrice(productDTO.getCustomerPrice());
+                row.setSalePrice(productDTO.getSalePrice());
+                row.setStock(productDTO.getStock());
+                row.setDeliveryFee(productDTO.getDeliveryFee());
+                return row;
+            });
+
+            if (priceChanged) {
+                db.productsByPrice.remove(updated > 0 ? PriceKey.of(before) : key);
+            }
+        }
+    }
+
+    @Override
+    public boolean delete(String productCode) {
+        synchronized (db.productLock) {
+            ProductDTO removed = productCode == null ? null : db.products.remove(productCode);
+            if (removed == null) {
+                return false;
+            }
+            db.productsByPrice.remove(PriceKey.of(removed));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean modifyStock(String productCode, int stock) {
+        return updateProductStock(productCode, stock) > 0;
+    }
+
+    @Override
+    public boolean modifySaleStatus(String productCode, String startDate, String endDate) {
+        return updateRow(productCode, current -> {
+            ProductDTO row = InMemoryDatabase.copy(current);
+            row.setStartDate(startDate);
+            row.setEndDate(endDate);
+            return row;
+        }) > 0;
+    }
+
+    @Override
+    public List<ProductDTO> findAllDetailsWithPagination(int offset, int limit) {
+        List<ProductDTO> products = new ArrayList<>();
+        for (ProductDTO row : InMemoryDatabase.page(db.products.values().stream(), offset, limit)) {
+            products.add(InMemoryDatabase.copy(row));
+        }
+        return products;
+    }
+
+    @Override
+    public int countAll() {
+        return db.products.size();
+    }
+
+    @Override
+    public ProductQueryResult findByCriteria(ProductCriteria criteria) {
+        KeysetCursor cursor = criteria.getCursor();
+        boolean backward = cursor != null && cursor.isBackward();
+
+        // 정렬 방향: 가격순은 동일 가격을 상품코드로 정렬, 이전 페이지 방향이면 정렬을 뒤집어 조회
+        boolean descending = (criteria.isPriceSort()
+                ? "priceDesc".equals(criteria.getSortBy())
+                : "newest".equals(criteria.getSortBy())) != backward;
+
+        // 인덱스를 정렬 순서대로 읽어 정렬 없이 결과를 구함
+        // 가격순은 (판매가, 상품코드) 인덱스, 그 외는 상품코드 순 (카테고리 조건이 있으면 카테고리별 상품코드 집합)
+        Stream<ProductDTO> rows;
+        if (criteria.isPriceSort()) {
+            rows = byPrice(descending);
+            if (criteria.getCategoryIds() != null) {
+                Set<String> categoryCodes = db.productCodesOf(criteria.getCategoryIds());
+                rows = rows.filter(product -> categoryCodes.contains(product.getProductCode()));
+            }
+        } else if (criteria.getCategoryIds() != null) {
+            NavigableSet<String> categoryCodes = db.productCodesOf(criteria.getCategoryIds());
+            rows = rows(descending ? categoryCodes.descendingSet() : categoryCodes);
+        } else {
+            rows = (descending ? db.products.descendingMap() : db.products).values().stream();
+        }
+
+        // 가격 범위를 제외한 조건 (가격대 집계는 이 결과로 계산)
+        if (criteria.getProductCodes() != null) {
+            Set<String> productCodes = new HashSet<>(criteria.getProductCodes());
+            rows = rows.filter(product -> productCodes.contains(product.getProductCode()));
+        }
+        if (criteria.hasKeyword()) {
+            rows = byKeyword(rows, criteria.getKeyword());
+        }
+        if (criteria.isInStockOnly()) {
+            rows = rows.filter(product -> product.getStock() != null && product.getStock() > 0);
+        }
+        if (criteria.isOnSaleOnly()) {
+            String saleDate = criteria.getSaleDate() != null
+                    ? criteria.getSaleDate()
+                    : LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+            rows = rows.filter(product -> product.getStartDate() != null && product.getEndDate() != null
+                    && product.getStartDate().compareTo(saleDate) <= 0 && product.getEndDate().compareTo(saleDate) >= 0);
+        }
+
+        // 전체 건수, 집계, 페이지를 같은 스냅샷에서 한 번에 계산 (matched는 정렬 순서)
+        Map<Integer, Integer> bucketCounts = new HashMap<>();
+        List<ProductDTO> matched = new ArrayList<>();
+        rows.forEach(product -> {
+            Integer price = product.getSalePrice();
+            if (criteria.isWithFacets() && price != null) {
+                bucketCounts.merge(criteria.priceBucketOf(price), 1, Integer::sum);
+            }
+            if (inPriceRange(criteria, price)) {
+                matched.add(product);
+            }
+        });
+
+        Map<Long, Integer> categoryCounts = new HashMap<>();
+        if (criteria.isWithFacets() && !matched.isEmpty()) {
+            Set<String> matchedCodes = new HashSet<>();
+            for (ProductDTO product : matched) {
+                matchedCodes.add(product.getProductCode());
+            }
+            db.productsByCategory.forEach((categoryId, productCodes) -> {
+                int count = 0;
+                for (String productCode : productCodes) {
+                    if (matchedCodes.contains(productCode)) {
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    categoryCounts.put(categoryId, count);
+                }
+            });
+        }
+
+        Stream<ProductDTO> sorted = matched.stream();
+        List<ProductDTO> products;
+        if (cursor != null) {
+            Stream<ProductDTO> seek = sorted;
+            if (criteria.isPriceSort() && cursor.getSalePrice() != null) {
+                PriceKey key = new PriceKey(cursor.getSalePrice(), cursor.getProductCode());
+                seek = sorted.filter(product -> descending
+                        ? PriceKey.of(product).compareTo(key) < 0
+                        : PriceKey.of(product).compareTo(key) > 0);
+            } else if (!criteria.isPriceSort()) {
+                seek = sorted.filter(product -> descending
+                        ? product.getProductCode().compareTo(cursor.getProductCode()) < 0
+                        : product.getProductCode().compareTo(cursor.getProductCode()) > 0);
+            }
+            products = copies(InMemoryDatabase.page(seek, 0, criteria.getLimit()));
+            if (backward) {
+                Collections.reverse(products);
+            }
+        } else {
+            products = copies(InMemoryDatabase.page(sorted, criteria.getOffset(), criteria.getLimit()));
+        }
+
+        return new ProductQueryResult(products, matched.size(),
+                ProductQueryResult.categoryCounts(categoryCounts),
+                criteria.isWithFacets()
+                        ? ProductQueryResult.priceBuckets(criteria.getPriceBoundaries(), bucketCounts)
+                        : Collections.emptyList());
+    }
+
+    private static boolean inPriceRange(ProductCriteria criteria, Integer price) {
+        if (!criteria.hasPriceRange()) {
+            return true;
+        }
+        // SQL 비교와 같이 판매가가 없으면 범위 조건을 만족하지 않음
+        return price != null
+                && (criteria.getMinPrice() == null || price >= criteria.getMinPrice())
+                && (criteria.getMaxPrice() == null || price <= criteria.getMaxPrice());
+    }
+
+    @Override
+    public int getProductStock(String productCode) {
+        ProductDTO product = db.products.get(productCode);
+        return product != null && product.getStock() != null ? product.getStock() : 0;
+    }
+
+    @Override
+    public int updateProductStock(String productCode, int newStock) {
+        return updateStock(productCode, stock -> newStock);
+    }
+
+    @Override
+    public int decreaseStock(String productCode, int quantity) {
+        // ProductDAOImpl과 같이 0 이하의 수량은 갱신하지 않음
+        if (quantity <= 0) {
+            log.warn("잘못된 재고 차감 수량: 상품코드={}, 수량={}", productCode, quantity);
+            return 0;
+        }
+        // 재고가 충분한 경우에만 차감 (qt_stock >= ? 조건과 동일)
+        return updateStock(productCode, stock -> stock != null && stock >= quantity ? stock - quantity : null);
+    }
+
+    @Override
+    public int increaseStock(String productCode, int quantity) {
+        if (quantity <= 0) {
+            log.warn("잘못된 재고 증가 수량: 상품코드={}, 수량={}", productCode, quantity);
+            return 0;
+        }
+        return updateStock(productCode, stock -> (stock != null ? stock : 0) + quantity);
+    }
+
+    /**
+     * @param change 현재 재고로 새 재고를 계산하는 함수 (null을 반환하면 갱신하지 않음)
+     */
+    private int updateStock(String productCode, Function<Integer, Integer> change) {
+        return updateRow(productCode, current -> {
+            Integer newStock = change.apply(current.getStock());
+            if (newStock == null) {
+                return null;
+            }
+            ProductDTO row = InMemoryDatabase.copy(current);
+            row.setStock(newStock);
+            return row;
+        });
+    }
+
+    /**
+     * 상품 행을 락 없이 교체(CAS)합니다.
+     * 다른 스레드가 먼저 행을 교체했으면 새 행을 기준으로 다시 계산하므로 동시 재고 차감이 유실되지 않습니다.
+     * @param change 현재 행으로 새 행을 만드는 함수 (null을 반환하면 갱신하지 않음)
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    private int updateRow(String productCode, Function<ProductDTO, ProductDTO> change) {
+        if (productCode == null) {
+            return 0;
+        }
+        while (true) {
+            ProductDTO current = db.products.get(productCode);
+            if (current == null) {
+                return 0;
+            }
+            ProductDTO row = change.apply(current);
+            if (row == null) {
+                return 0;
+            }
+            if (db.products.replace(productCode, current, row)) {
+                return 1;
+            }
+        }
+    }
+
+    /**
+     * 검색어 조건 (ProductDAOImpl과 같이 검색 색인과 같은 기준으로 단어별 상품명/상세 설명 포함 여부 확인)
+     */
+    private Stream<ProductDTO> byKeyword(Stream<ProductDTO> rows, String keyword) {
+        List<String> terms = ProductSearchIndex.terms(keyword);
+        if (terms.isEmpty()) {
+            return rows.filter(product -> InMemoryDatabase.like(product.getProductName(), keyword));
+        }
+        return rows.filter(product -> ProductSearchIndex.containsAll(product, terms));
+    }
+
+    /**
+     * (판매가, 상품코드) 인덱스 순서대로 상품 행을 조회합니다.
+     * 판매가 변경 중에는 이전 키와 새 키가 함께 있으므로 행의 판매가와 일치하는 키만 사용합니다. (삭제된 상품은 제외)
+     */
+    private Stream<ProductDTO> byPrice(boolean descending) {
+        return (descending ? db.productsByPrice.descendingSet() : db.productsByPrice).stream()
+                .map(key -> {
+                    ProductDTO row = db.products.get(key.productCode);
+                    return row != null && PriceKey.of(row).equals(key) ? row : null;
+                })
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * 상품코드 집합 순서대로 상품 행을 조회합니다. (삭제된 상품은 제외)
+     */
+    private Stream<ProductDTO> rows(Set<String> productCodes) {
+        return productCodes.stream()
+                .map(db.products::get)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * 목록 조회 결과 복사 (목록 화면용 컬럼만)
+     */
+    private List<ProductDTO> copies(List<ProductDTO> rows) {
+        List<ProductDTO> products = new ArrayList<>(rows.size());
+        for (ProductDTO row : rows) {
+            products.add(InMemoryDatabase.summary(row));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,128 @@
+package domain.dao.memory;
+
+import domain.dao.UserDAO;
+import domain.dto.PageDTO;
+import domain.dto.UserDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 기반 UserDAO 구현체
+ * 사용자 조회/수정이 모두 이메일 기준이므로 이메일을 키로 저장합니다.
+ */
+@Slf4j
+public class InMemoryUserDAO implements UserDAO {
+    // ORDER BY da_first_date DESC (Oracle 내림차순과 같이 NULL이 먼저)
+    private static final Comparator<UserDTO> LIST_ORDER =
+            Comparator.comparing(UserDTO::getFirstLoginDate, Comparator.nullsFirst(Comparator.<Date>reverseOrder()));
+
+    private final InMemoryDatabase db;
+
+    public InMemoryUserDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public UserDTO findByUserId(String email) {
+        UserDTO user = email == null ? null : db.users.get(email);
+        return user != null ? InMemoryDatabase.copy(user) : null;
+    }
+
+    @Override
+    public void save(UserDTO userDTO) {
+        if (userDTO.getEmail() == null) {
+            throw new RuntimeException("사용자 저장 중 오류 발생: 이메일이 없습니다.");
+        }
+
+        UserDTO row = InMemoryDatabase.copy(userDTO);
+        // 암호화된 비밀번호가 null인 경우 빈 문자열로 처리
+        row.setEncPassword(userDTO.getEncPassword() != null ? userDTO.getEncPassword() : "");
+
+        synchronized (db.userLock) {
+            boolean duplicated = db.users.containsKey(row.getEmail()) || db.users.values().stream()
+                    .anyMatch(user -> user.getUserId() != null && user.getUserId().equals(row.getUserId()));
+            if (duplicated) {
+                throw new RuntimeException("사용자 저장 중 오류 발생: 이미 존재하는 사용자입니다. " + row.getEmail());
+            }
+            db.users.put(row.getEmail(), row);
+        }
+    }
+
+    @Override
+    public void modify(UserDTO userDTO) {
+        updateRow(userDTO.getEmail(), row -> {
+            row.setUserName(userDTO.getUserName());
+            row.setMobileNumber(userDTO.getMobileNumber());
+            row.setStatus(userDTO.getStatus());
+            row.setPassword(userDTO.getPassword());
+        });
+    }
+
+    @Override
+    public List<UserDTO> findAll() {
+        return copies(db.users.values().stream());
+    }
+
+    @Override
+    public boolean deleteUser(String userId) {
+        // 탈퇴 상태로 변경 (물리 삭제하지 않음)
+        return updateRow(userId, row -> row.setStatus("ST03"));
+    }
+
+    @Override
+    public void modifyUserRole(UserDTO userDTO) {
+        updateRow(userDTO.getEmail(), row -> row.setUserType(userDTO.getUserType()));
+    }
+
+    @Override
+    public List<UserDTO> findAllWithPagination(int offset, int limit) {
+        return copies(InMemoryDatabase.page(db.users.values().stream().sorted(LIST_ORDER), offset, limit).stream());
+    }
+
+    @Override
+    public List<UserDTO> findPage(PageDTO pageDTO) {
+        List<UserDTO> matched = db.users.values().stream().sorted(LIST_ORDER).collect(Collectors.toList());
+        List<UserDTO> users = copies(
+                InMemoryDatabase.page(matched.stream(), pageDTO.getOffset(), pageDTO.getPageSize()).stream());
+        if (!users.isEmpty()) {
+            pageDTO.setTotalCount(matched.size());
+        }
+        return users;
+    }
+
+    @Override
+    public int countAll() {
+        return db.users.size();
+    }
+
+    /**
+     * 이메일로 찾은 사용자 행의 복사본을 수정해 교체합니다.
+     * @return 대상 행이 있으면 true
+     */
+    private boolean updateRow(String email, Consumer<UserDTO> change) {
+        if (email == null) {
+            return false;
+        }
+        synchronized (db.userLock) {
+            UserDTO current = db.users.get(email);
+            if (current == null) {
+                return false;
+            }
+            UserDTO row = InMemoryDatabase.copy(current);
+            change.accept(row);
+            db.users.put(email, row);
+            return true;
+        }
+    }
+
+    private List<UserDTO> copies(Stream<UserDTO> rows) {
+        return rows.filter(Objects::nonNull).map(InMemoryDatabase::copy).collect(Collectors.toList());
+    }
+}
@@ -26,4 +26,7 @@ public class ContentDTO {
     private String content;          // cn_content - CHAR(18)
     private String registerNo;       // no_register - VARCHAR2(30)
     private Date firstDate;          // da_first_date - DATE
+    private String contentHash;      // nm_content_hash - VARCHAR2(64), 파일 내용 SHA-256 (16진수, 업로드 시 계산)
+    private int refCount;            // cn_ref - NUMBER(9), 이 파일을 공유하는 업로드 수
+    private String variant;          // cd_variant - VARCHAR2(10), 이미지 크기 변형 코드 (원본이면 null, id_org_file이 원본 ID)
 }
\ No newline at end of file
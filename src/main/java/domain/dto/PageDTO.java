@@ -18,6 +18,16 @@ public class PageDTO {
     private int endPage;         // 페이지네이션 끝 페이지
     private String sortBy;       // 정렬 옵션
     private String keyword;      // 검색어
+    private String cursor;       // 키셋 페이지네이션 커서 (현재 페이지 요청용)
+    private String prevCursor;   // 이전 페이지 커서
+    private String nextCursor;   // 다음 페이지 커서
+    private Integer minPrice;    // 최소 판매가 (이상, null이면 제한 없음)
+    private Integer maxPrice;    // 최대 판매가 (이하, null이면 제한 없음)
+    private boolean inStockOnly; // 재고가 있는 상품만
+    private boolean onSaleOnly;  // 오늘 판매 기간에 포함된 상품만
+
+    // 이 페이지까지는 번호 페이지네이션(OFFSET)을 사용하고, 이후는 커서로만 이동
+    public static final int OFFSET_PAGE_LIMIT = 5;
 
     // 페이지네이션 계산 메서드
     public void calculatePagination() {
@@ -44,6 +54,16 @@ public class PageDTO {
         return Math.min(endRow, totalCount);
     }
 
+    // 목록과 전체 개수를 한 번에 조회할 때 사용하는 끝 행 번호 (전체 개수를 모르는 상태에서 사용)
+    public int getFetchEndRow() {
+        return currentPage * pageSize;
+    }
+
+    // 번호 링크로 이동 가능한 최대 페이지 (JSP에서 사용)
+    public int getOffsetPageLimit() {
+        return OFFSET_PAGE_LIMIT;
+    }
+
     // URL 파라미터 생성 메서드
     public String getPageParams() {
         StringBuilder params = new StringBuilder();
@@ -57,6 +77,29 @@ public class PageDTO {
             params.append("&keyword=").append(keyword);
         }
 
+        if (cursor != null && !cursor.isEmpty()) {
+            params.append("&cursor=").append(cursor);
+        }
+
+        params.append(getFilterParams());
+        return params.toString();
+    }
+
+    // 필터 조건 URL 파라미터 (목록 링크에 이어 붙이며, 조건이 없으면 빈 문자열)
+    public String getFilterParams() {
+        StringBuilder params = new StringBuilder();
+        if (minPrice != null) {
+            params.append("&minPrice=").append(minPrice);
+        }
+        if (maxPrice != null) {
+            params.append("&maxPrice=").append(maxPrice);
+        }
+        if (inStockOnly) {
+            params.append("&inStock=Y");
+        }
+        if (onSaleOnly) {
+            params.append("&onSale=Y");
+        }
         return params.toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package domain.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 커넥션 풀 상태와 설정을 관리자 화면에 전달하기 위한 DTO 클래스
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PoolMetricsDTO {
+    private String poolName;            // 풀 이름
+
+    // 현재 상태 (HikariPoolMXBean)
+    private int activeConnections;      // 사용 중인 커넥션 수
+    private int idleConnections;        // 유휴 커넥션 수
+    private int totalConnections;       // 전체 커넥션 수
+    private int pendingThreads;         // 커넥션을 기다리는 스레드 수
+
+    // 누적 통계 (PoolMetricsTracker)
+    private long acquireCount;          // 커넥션 획득 횟수
+    private long timeoutCount;          // 커넥션 획득 타임아웃 횟수
+    private double acquireP50Millis;    // 획득 시간 50 백분위수 (ms)
+    private double acquireP95Millis;    // 획득 시간 95 백분위수 (ms)
+    private double acquireP99Millis;    // 획득 시간 99 백분위수 (ms)
+    private double acquireMaxMillis;    // 최근 최대 획득 시간 (ms)
+    private double averageUsageMillis;  // 평균 커넥션 사용 시간 (ms)
+
+    // 설정값
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private long connectionTimeout;
+    private long idleTimeout;
+    private long maxLifetime;
+    private long leakDetectionThreshold;
+    private long validationTimeout;
+}
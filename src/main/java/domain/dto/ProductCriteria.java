@@ -0,0 +1,80 @@
+package domain.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import util.KeysetCursor;
+
+import java.util.List;
+
+/**
+ * 상품 목록 조회 조건 (ProductDAO.findByCriteria)
+ * 값이 없는(null/false) 조건은 적용하지 않으며, 적용된 조건은 모두 AND로 연결됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductCriteria {
+    // 가격대 집계 기본 구간 경계 (1만 원 미만, 1~3만 원, 3~5만 원, 5~10만 원, 10만 원 이상)
+    public static final int[] DEFAULT_PRICE_BOUNDARIES = {10000, 30000, 50000, 100000};
+
+    private String keyword;             // 검색어 (단어별로 상품명 또는 상세 설명에 포함)
+    private List<Long> categoryIds;     // 카테고리와 하위 카테고리의 ID (하나라도 매핑된 상품)
+    private List<String> productCodes;  // 조회 대상 상품코드 (검색 색인에서 구한 후보 등)
+    private Integer minPrice;           // 최소 판매가 (이상)
+    private Integer maxPrice;           // 최대 판매가 (이하)
+    private boolean inStockOnly;        // 재고가 있는 상품만
+    private boolean onSaleOnly;         // 판매 기간(시작일 ~ 종료일)에 saleDate가 포함된 상품만
+    private String saleDate;            // 판매 기간 기준일 yyyyMMdd (null이면 오늘)
+    private String sortBy;              // priceAsc, priceDesc, newest(상품코드 내림차순), 그 외 상품코드 오름차순
+    private int offset;                 // 건너뛸 행 수 (cursor가 있으면 무시)
+    private int limit = 10;             // 조회할 최대 행 수
+    private KeysetCursor cursor;        // 키셋 페이지네이션 커서 (sortBy와 같은 정렬 키로 생성된 것)
+    private boolean withFacets;         // 카테고리별/가격대별 상품 수 함께 조회
+    private int[] priceBoundaries = DEFAULT_PRICE_BOUNDARIES; // 가격대 구간 경계 (오름차순)
+
+    /**
+     * 같은 조건의 복사본 (데코레이터에서 일부 조건만 바꿔 위임할 때 사용)
+     */
+    public ProductCriteria copy() {
+        ProductCriteria copy = new ProductCriteria();
+        copy.keyword = keyword;
+        copy.categoryIds = categoryIds;
+        copy.productCodes = productCodes;
+        copy.minPrice = minPrice;
+        copy.maxPrice = maxPrice;
+        copy.inStockOnly = inStockOnly;
+        copy.onSaleOnly = onSaleOnly;
+        copy.saleDate = saleDate;
+        copy.sortBy = sortBy;
+        copy.offset = offset;
+        copy.limit = limit;
+        copy.cursor = cursor;
+        copy.withFacets = withFacets;
+        copy.priceBoundaries = priceBoundaries;
+        return copy;
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.trim().isEmpty();
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean isPriceSort() {
+        return "priceAsc".equals(sortBy) || "priceDesc".equals(sortBy);
+    }
+
+    /**
+     * 판매가가 구간 경계 기준 몇 번째 가격대인지 (0 ~ priceBoundaries.length)
+     */
+    public int priceBucketOf(int salePrice) {
+        int bucket = 0;
+        while (bucket < priceBoundaries.length && salePrice >= priceBoundaries[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+}
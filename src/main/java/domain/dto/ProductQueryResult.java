@@ -0,0 +1,82 @@
+package domain.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 조건 조회 결과 (현재 페이지 목록 + 전체 건수 + 패싯 집계)
+ * 패싯은 ProductCriteria.withFacets가 true일 때만 채워집니다.
+ */
+@Getter
+public class ProductQueryResult {
+    private final List<ProductDTO> products;
+    private final int totalCount;                   // 페이지와 관계없는 전체 결과 수
+    private final Map<Long, Integer> categoryCounts; // 카테고리 ID → 결과 중 그 카테고리에 매핑된 상품 수
+    private final List<PriceBucket> priceBuckets;   // 가격대별 상품 수 (가격 범위 조건은 제외하고 집계)
+
+    public ProductQueryResult(List<ProductDTO> products, int totalCount,
+                              Map<Long, Integer> categoryCounts, List<PriceBucket> priceBuckets) {
+        this.products = products;
+        this.totalCount = totalCount;
+        this.categoryCounts = categoryCounts;
+        this.priceBuckets = priceBuckets;
+    }
+
+    public static ProductQueryResult empty() {
+        return new ProductQueryResult(new ArrayList<>(), 0, Collections.emptyMap(), Collections.emptyList());
+    }
+
+    /**
+     * 가격대 (minPrice 이상 maxPrice 미만, null이면 한쪽 제한 없음)
+     */
+    public static class PriceBucket {
+        private final Integer minPrice;
+        private final Integer maxPrice;
+        private final int count;
+
+        public PriceBucket(Integer minPrice, Integer maxPrice, int count) {
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            this.count = count;
+        }
+
+        public Integer getMinPrice() {
+            return minPrice;
+        }
+
+        public Integer getMaxPrice() {
+            return maxPrice;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * 구간 번호별 집계로 가격대 목록을 만듭니다. (상품이 없는 구간도 0건으로 포함)
+     * @param boundaries 구간 경계 (ProductCriteria.priceBoundaries)
+     * @param counts 구간 번호(0 ~ boundaries.length) → 상품 수
+     */
+    public static List<PriceBucket> priceBuckets(int[] boundaries, Map<Integer, Integer> counts) {
+        List<PriceBucket> buckets = new ArrayList<>(boundaries.length + 1);
+        for (int i = 0; i <= boundaries.length; i++) {
+            buckets.add(new PriceBucket(i > 0 ? boundaries[i - 1] : null,
+                    i < boundaries.length ? boundaries[i] : null,
+                    counts.getOrDefault(i, 0)));
+        }
+        return buckets;
+    }
+
+    /**
+     * 카테고리 ID 순으로 정렬된 카테고리별 집계
+     */
+    public static Map<Long, Integer> categoryCounts(Map<Long, Integer> counts) {
+        return Collections.unmodifiableMap(new TreeMap<>(counts));
+    }
+}
@@ -0,0 +1,14 @@
+package exception;
+
+public class OutOfStockException extends Exception {
+    private final String productCode;
+
+    public OutOfStockException(String productCode, String message) {
+        super(message);
+        this.productCode = productCode;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+}
@@ -1,10 +1,16 @@
 package service;
 
+import domain.dao.CachedCategoryDAO;
 import domain.dao.CategoryDAO;
+import domain.dao.CategoryTree;
 import domain.dto.CategoryDTO;
 import domain.dto.PageDTO;
+import util.CatalogVersion;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.logging.Logger;
 
 public class CategoryService {
@@ -24,6 +30,42 @@ public class CategoryService {
         return categoryDAO.findAll();
     }
 
+    /**
+     * 카테고리 트리 조회
+     * 캐시된 DAO이면 메모리의 트리를 그대로 사용하고, 아니면 전체 카테고리를 조회해 만듭니다.
+     */
+    public CategoryTree getCategoryTree() {
+        if (categoryDAO instanceof CachedCategoryDAO) {
+            return ((CachedCategoryDAO) categoryDAO).getTree();
+        }
+        return CategoryTree.build(0, categoryDAO.findAll());
+    }
+
+    /**
+     * 상위 카테고리 선택 목록 조회
+     * 순환 참조가 생기지 않도록 자기 자신과 하위 카테고리는 제외합니다.
+     * @param categoryId 수정 중인 카테고리 ID (새 카테고리이면 null)
+     */
+    public List<CategoryDTO> getParentCategoryCandidates(Long categoryId) {
+        CategoryTree tree = getCategoryTree();
+        if (categoryId == null) {
+            return tree.toDTOs();
+        }
+
+        return CategoryTree.toDTOs(tree.getNodes().stream()
+                .filter(node -> !tree.isSelfOrDescendant(node.getId(), categoryId))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리의 ID 목록 (상위 카테고리 상품 목록에 하위 카테고리 상품을 포함하기 위함)
+     * 트리에 없는 카테고리이면 해당 ID 하나만 반환합니다.
+     */
+    public List<Long> getCategoryIdsWithDescendants(Long categoryId) {
+        List<Long> categoryIds = getCategoryTree().getSubtreeIds(categoryId);
+        return categoryIds.isEmpty() ? Collections.singletonList(categoryId) : categoryIds;
+    }
+
     /**
      * 카테고리 ID로 카테고리 DTO 조회
      */
@@ -85,23 +127,26 @@ public class CategoryService {
         // 전체 카테고리명과 레벨 자동 설정
         categoryDTO = setFullCategoryNameAndLevel(categoryDTO);
 
-        return categoryDAO.update(categoryDTO);
+        if (!categoryDAO.update(categoryDTO)) {
+            return false;
+        }
+
+        // 이름이나 상위 카테고리가 바뀌었으면 하위 카테고리 전체의 전체 카테고리명과 레벨을 한 번에 갱신
+        if (!Objects.equals(existingCategory.getFullName(), categoryDTO.getFullName())
+                || !Objects.equals(existingCategory.getLevel(), categoryDTO.getLevel())) {
+            int updated = categoryDAO.updateDescendantPaths(
+                    categoryDTO.getId(), categoryDTO.getFullName(), categoryDTO.getLevel());
+            logger.fine("하위 카테고리 전체 카테고리명 갱신: " + categoryDTO.getId() + " (" + updated + "건)");
+        }
+        CatalogVersion.bump();
+        return true;
     }
 
     /**
-     * 카테고리 삭제
+     * 카테고리 삭제 (하위 카테고리 포함, 한 번의 쿼리로 처리)
      */
     public boolean deleteCategory(Long categoryId) {
-        // 하위 카테고리가 있는지 확인
-        List<CategoryDTO> subcategories = categoryDAO.findByParentId(categoryId);
-        if (!subcategories.isEmpty()) {
-            // 하위 카테고리가 있으면 모두 삭제 처리
-            for (CategoryDTO subcategory : subcategories) {
-                deleteCategory(subcategory.getId());
-            }
-        }
-
-        return categoryDAO.delete(categoryId);
+        return changed(categoryDAO.deleteSubtree(categoryId) > 0);
     }
 
     /**
@@ -125,7 +170,17 @@ public class CategoryService {
         // 전체 카테고리명과 레벨 자동 설정
         categoryDTO = setFullCategoryNameAndLevel(categoryDTO);
 
-        return categoryDAO.save(categoryDTO) > 0;
+        return changed(categoryDAO.save(categoryDTO) > 0);
+    }
+
+    /**
+     * 카테고리가 변경되었으면 카탈로그 버전을 올립니다. (목록 화면의 카테고리 메뉴 갱신)
+     */
+    private boolean changed(boolean result) {
+        if (result) {
+            CatalogVersion.bump();
+        }
+        return result;
     }
 
     /**
@@ -200,6 +255,23 @@ public class CategoryService {
         return pageDTO;
     }
 
+    /**
+     * 카테고리 목록 페이지 조회 (목록과 전체 개수를 한 번의 쿼리로 조회)
+     * 조회 후 pageDTO의 전체 개수와 페이지네이션 정보가 설정됩니다.
+     */
+    public List<CategoryDTO> getCategoryPage(PageDTO pageDTO) {
+        List<CategoryDTO> categories = categoryDAO.findPage(pageDTO);
+
+        if (categories.isEmpty() && pageDTO.getCurrentPage() > 1) {
+            // 범위를 벗어난 페이지는 전체 개수를 알 수 없으므로 별도로 조회
+            setupCategoryPage(pageDTO);
+        } else {
+            pageDTO.calculatePagination();
+        }
+
+        return categories;
+    }
+
     /**
      * PageDTO 기반으로 카테고리 목록 조회
      */
@@ -2,12 +2,18 @@ package service;
 
 import config.AppConfig;
 import domain.dao.ContentDAO;
+import domain.dao.ContentStream;
 import domain.dto.ContentDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
+import util.ImageVariant;
+import util.UnitOfWork;
+import util.UploadInputStream;
 
+import javax.imageio.ImageIO;
 import javax.servlet.http.Part;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,14 +22,33 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class FileService {
+    // 업로드 파일 최대 크기 (AdminProductController의 maxFileSize와 같음)
+    private static final long MAX_FILE_SIZE = 1024 * 1024 * 10;
+    // 동시 업로드/삭제와 겹쳤을 때 중복 확인과 참조 해제를 다시 시도하는 횟수
+    private static final int MAX_REFERENCE_ATTEMPTS = 3;
+    // 이미지 변형 일괄 생성 시 한 번에 조회하는 원본 수
+    private static final int VARIANT_BACKFILL_BATCH_SIZE = 100;
+
     private final ContentDAO contentDAO;
     private final String uploadPath;
     private final boolean useDbStorage;  // BLOB 저장 여부
 
+    // 이미지 변형 생성 (업로드 요청을 기다리게 하지 않고, 디코딩 메모리 사용이 겹치지 않도록 스레드 하나로 처리)
+    private final ExecutorService variantExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-variant");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     public FileService(String uploadPath, boolean useDbStorage) {
         log.info("FileService 초기화: uploadPath={}, useDbStorage={}", uploadPath, useDbStorage);
 
@@ -64,7 +89,8 @@ public class FileService {
      * @param filePart 업로드된 파일 Part
      * @param serviceId 서비스 ID (예: "product")
      * @param registerNo 등록자 ID
-     * @return 생성된 파일 ID
+     * 이미 같은 내용의 파일이 있으면 새로 저장한 내용은 지우고 기존 파일의 참조 수를 올려 그 ID를 반환합니다.
+     * @return 생성된(또는 공유하는) 파일 ID
      * @throws IOException 파일 처리 중 오류 발생 시
      */
     public String uploadFile(Part filePart, String serviceId, String registerNo) throws IOException {
@@ -99,26 +125,271 @@ public class FileService {
         contentDTO.setHitCount(0);
         contentDTO.setFirstDate(new Date());
 
-        if (useDbStorage) {
-            // BLOB으로 DB에 저장
-            try (InputStream inputStream = filePart.getInputStream()) {
-                contentDTO.setSaveFile(IOUtils.toByteArray(inputStream));
+        // 업로드 내용을 배열로 읽지 않고 저장소로 바로 복사하면서 크기, 형식 검사와 SHA-256 계산을 함께 처리
+        String fileId;
+        String contentHash;
+        Path filePath = null;
+        try (UploadInputStream inputStream = new UploadInputStream(filePart.getInputStream(), MAX_FILE_SIZE, fileExtension)) {
+            if (useDbStorage) {
+                // BLOB으로 DB에 저장 (검사 실패 시 INSERT가 실패하고 null 반환)
+                fileId = contentDAO.save(contentDTO, inputStream, filePart.getSize());
+                if (fileId == null) {
+                    log.error("파일 저장 실패: {}", originalFileName);
+                    return null;
+                }
+                try {
+                    contentHash = inputStream.complete();
+                } catch (IOException e) {
+                    // 선언된 크기 뒤에 남은 내용이 검사에 실패한 경우 저장한 행 삭제
+                    contentDAO.delete(fileId);
+                    throw e;
+                }
+            } else {
+                // 파일 시스템에 저장
+                filePath = Paths.get(uploadPath, savedFileName);
+                contentDTO.setFilePath(filePath.toString());
+
+                // 파일 저장 (검사 실패 시 저장 중이던 파일 삭제)
+                try {
+                    Files.copy(inputStream, filePath);
+                    contentHash = inputStream.complete();
+                } catch (IOException e) {
+                    Files.deleteIfExists(filePath);
+                    throw e;
+                }
+
+                // DB에 메타데이터 저장
+                fileId = contentDAO.save(contentDTO);
+                if (fileId == null) {
+                    Files.deleteIfExists(filePath);
+                    log.error("파일 저장 실패: {}", originalFileName);
+                    return null;
+                }
+            }
+        }
+
+        // 해시는 저장이 끝나야 알 수 있으므로 해시 없이 저장한 뒤,
+        // 같은 내용의 파일이 이미 있으면 그 파일을 공유하고 방금 저장한 내용은 삭제
+        contentDTO.setContentHash(contentHash);
+        String sharedFileId = deduplicate(fileId, contentHash);
+        if (!sharedFileId.equals(fileId)) {
+            if (filePath != null) {
+                Files.deleteIfExists(filePath);
+            }
+            log.info("같은 내용의 파일 공유: {} (ID: {}, SHA-256: {})", originalFileName, sharedFileId, contentHash);
+            scheduleVariants(sharedFileId); // 기능 도입 전 파일이면 변형이 없을 수 있음
+            return sharedFileId;
+        }
+        log.info("파일 업로드 완료: {} (ID: {}, SHA-256: {})", originalFileName, fileId, contentHash);
+        scheduleVariants(fileId);
+
+        return fileId;
+    }
+
+    /**
+     * 이미지 변형(썸네일, 카드, 상세) 생성을 백그라운드로 예약합니다.
+     * 백그라운드 작업은 별도 커넥션으로 원본을 읽으므로, 작업 단위 안의 업로드는 커밋된 뒤에 예약하고
+     * 롤백되면 예약하지 않습니다.
+     */
+    public void scheduleVariants(String fileId) {
+        UnitOfWork.afterCommit(() -> {
+            try {
+                variantExecutor.execute(() -> generateVariants(fileId));
+            } catch (RuntimeException e) {
+                log.warn("이미지 변형 생성 예약 실패: {} ({})", fileId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 기존 원본 이미지 중 변형이 없는 파일의 변형을 백그라운드에서 일괄 생성합니다.
+     * 변형이 모두 있는 파일은 건너뛰므로 여러 번 실행해도 됩니다.
+     */
+    public void startVariantBackfill() {
+        try {
+            variantExecutor.execute(this::backfillVariants);
+        } catch (RuntimeException e) {
+            log.warn("이미지 변형 일괄 생성 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변형이 없는 원본 이미지를 ID 순으로 나눠 조회하며 변형을 생성합니다.
+     * 변형을 만들 수 없는 파일(지원하지 않는 형식 등)은 표시를 남겨 다음 실행부터 조회되지 않게 하고, 다음 ID부터 이어서 조회합니다.
+     * @return 처리한 원본 수
+     */
+    public int backfillVariants() {
+        int processed = 0;
+        String afterFileId = null;
+        List<String> fileIds;
+        do {
+            fileIds = contentDAO.findFileIdsMissingVariants(afterFileId, ImageVariant.values().length,
+                    VARIANT_BACKFILL_BATCH_SIZE);
+            for (String fileId : fileIds) {
+                generateVariants(fileId);
+                afterFileId = fileId;
+                processed++;
+            }
+        } while (fileIds.size() == VARIANT_BACKFILL_BATCH_SIZE);
+        log.info("이미지 변형 일괄 생성 완료: {}건", processed);
+        return processed;
+    }
+
+    /**
+     * 원본 이미지에서 아직 없는 변형을 만들어 저장합니다.
+     * 투명도가 있는 이미지는 PNG로, 나머지는 JPEG로 저장합니다.
+     * 원본을 디코딩할 수 없으면(WEBP 등) 변형 없이 원본을 그대로 제공하고, 다시 디코딩하지 않도록 표시를 남깁니다.
+     */
+    private void generateVariants(String fileId) {
+        try {
+            Set<String> existing = contentDAO.findVariants(fileId).stream()
+                    .map(ContentDTO::getVariant)
+                    .collect(Collectors.toSet());
+            if (existing.contains(ImageVariant.UNSUPPORTED) || existing.size() >= ImageVariant.values().length) {
+                return;
+            }
+
+            // 원본 디코딩 (커넥션은 디코딩 직후 반환)
+            ContentDTO original;
+            BufferedImage image;
+            try (ContentStream contentStream = contentDAO.openByFileId(fileId)) {
+                if (contentStream == null || contentStream.getContent().getVariant() != null) {
+                    return;
+                }
+                original = contentStream.getContent();
+                try (InputStream inputStream = useDbStorage || original.getFilePath() == null
+                        ? contentStream.openStream() : Files.newInputStream(Paths.get(original.getFilePath()))) {
+                    image = ImageIO.read(inputStream);
+                }
+            }
+            if (image == null) {
+                log.info("이미지 변형을 만들 수 없는 형식, 원본으로 제공: {} ({})", fileId, original.getFileExtension());
+                markUnsupported(original);
+            } else {
+                boolean alpha = image.getColorModel().hasAlpha();
+                String extension = alpha ? "png" : "jpg";
+                for (ImageVariant variant : ImageVariant.values()) {
+                    if (existing.contains(variant.getCode())) {
+                        continue;
+                    }
+                    ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+                    ImageIO.write(variant.resize(image), alpha ? "png" : "jpeg", encoded);
+                    saveVariant(original, variant, extension, encoded.toByteArray());
+                }
+            }
+
+            // 생성 중에 원본이 삭제되었으면 방금 만든 변형도 삭제
+            try (ContentStream contentStream = contentDAO.openByFileId(fileId)) {
+                if (contentStream == null) {
+                    deleteVariants(fileId);
+                }
             }
+        } catch (IOException | RuntimeException e) {
+            log.error("이미지 변형 생성 중 오류 발생: {} ({})", fileId, e.getMessage(), e);
+        }
+    }
+
+    private void saveVariant(ContentDTO original, ImageVariant variant, String extension, byte[] data) throws IOException {
+        ContentDTO contentDTO = new ContentDTO();
+        contentDTO.setOriginalFileName(original.getOriginalFileName());
+        contentDTO.setSavedFileName(UUID.randomUUID().toString() + "." + extension);
+        contentDTO.setFileExtension(extension);
+        contentDTO.setFileType(determineFileType(extension));
+        contentDTO.setServiceId(original.getServiceId());
+        contentDTO.setOrgFileId(original.getFileId());
+        contentDTO.setRegisterNo(original.getRegisterNo());
+        contentDTO.setVariant(variant.getCode());
+
+        if (useDbStorage) {
+            contentDTO.setSaveFile(data);
         } else {
-            // 파일 시스템에 저장
-            Path filePath = Paths.get(uploadPath, savedFileName);
+            Path filePath = Paths.get(uploadPath, contentDTO.getSavedFileName());
+            Files.write(filePath, data);
             contentDTO.setFilePath(filePath.toString());
+        }
+
+        String savedFileId = contentDAO.save(contentDTO);
+        if (savedFileId == null || !savedFileId.equals(contentDTO.getFileId())) {
+            // 저장 실패 또는 다른 작업이 같은 변형을 먼저 저장함 - 방금 쓴 파일은 사용되지 않음
+            if (savedFileId == null) {
+                log.error("이미지 변형 저장 실패: {} ({})", original.getFileId(), variant.getCode());
+            } else {
+                log.debug("이미 저장된 이미지 변형 사용: {} ({})", original.getFileId(), variant.getCode());
+            }
+            if (contentDTO.getFilePath() != null) {
+                Files.deleteIfExists(Paths.get(contentDTO.getFilePath()));
+            }
+        }
+    }
+
+    /**
+     * 변형을 만들 수 없는 원본임을 표시합니다. (파일 데이터 없는 변형 행, 원본이 삭제될 때 변형과 함께 삭제)
+     */
+    private void markUnsupported(ContentDTO original) {
+        ContentDTO contentDTO = new ContentDTO();
+        contentDTO.setOriginalFileName(original.getOriginalFileName());
+        contentDTO.setServiceId(original.getServiceId());
+        contentDTO.setOrgFileId(original.getFileId());
+        contentDTO.setRegisterNo(original.getRegisterNo());
+        contentDTO.setVariant(ImageVariant.UNSUPPORTED);
+
+        if (contentDAO.save(contentDTO) == null) {
+            log.warn("이미지 변형 생성 제외 표시 실패: {}", original.getFileId());
+        }
+    }
 
-            // 파일 저장
-            try (InputStream inputStream = filePart.getInputStream()) {
-                Files.copy(inputStream, filePath);
+    /**
+     * 원본 파일의 이미지 변형을 모두 삭제합니다. (원본의 마지막 참조가 삭제될 때)
+     */
+    private void deleteVariants(String fileId) {
+        for (ContentDTO variant : contentDAO.findVariants(fileId)) {
+            contentDAO.delete(variant.getFileId());
+            if (!useDbStorage && variant.getFilePath() != null) {
+                try {
+                    Files.deleteIfExists(Paths.get(variant.getFilePath()));
+                } catch (IOException e) {
+                    log.error("이미지 변형 파일 삭제 실패: {}", variant.getFilePath(), e);
+                }
             }
         }
+    }
 
-        // DB에 메타데이터 저장
-        String fileId = contentDAO.save(contentDTO);
-        log.info("파일 업로드 완료: {} (ID: {})", originalFileName, fileId);
+    /**
+     * 백그라운드 변형 생성을 종료합니다. (애플리케이션 종료 시)
+     */
+    public void shutdown() {
+        variantExecutor.shutdownNow();
+        try {
+            variantExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    /**
+     * 내용 해시로 중복을 제거합니다.
+     * 같은 해시의 다른 파일이 있으면 그 파일의 참조 수를 올리고 방금 저장한 행을 삭제하며,
+     * 없으면 방금 저장한 행에 해시를 지정해 이후 업로드가 공유할 수 있게 합니다.
+     * @param fileId 방금 저장한 파일 ID
+     * @param contentHash 내용 해시
+     * @return 최종 파일 ID (공유하는 경우 기존 파일 ID)
+     */
+    private String deduplicate(String fileId, String contentHash) {
+        for (int attempt = 0; attempt < MAX_REFERENCE_ATTEMPTS; attempt++) {
+            ContentDTO existing = contentDAO.findByContentHash(contentHash);
+            if (existing != null && !existing.getFileId().equals(fileId)) {
+                if (contentDAO.addReference(existing.getFileId())) {
+                    contentDAO.delete(fileId);
+                    return existing.getFileId();
+                }
+                continue; // 기존 파일이 그 사이 삭제됨 → 다시 확인
+            }
+            if (existing != null || contentDAO.assignContentHash(fileId, contentHash)) {
+                return fileId;
+            }
+            // 같은 해시가 그 사이 다른 업로드에 지정됨 → 그 파일을 공유하도록 다시 확인
+        }
+        log.warn("중복 확인 재시도 초과, 공유하지 않고 보관: {}", fileId);
         return fileId;
     }
 
@@ -147,6 +418,43 @@ public class FileService {
         return contentDTO;
     }
 
+    /**
+     * 다운로드용 파일 조회 (파일 데이터는 스트림으로 제공)
+     * 조회수를 먼저 올려 파일 존재 여부를 확인하므로, 스트림이 커넥션을 잡고 있는 동안 다른 커넥션을 빌리지 않습니다.
+     * @param fileId 파일 ID
+     * @return 파일 스트림 (사용 후 close 필요), 파일이 없으면 null
+     */
+    public ContentStream openFile(String fileId) {
+        return openFile(fileId, null);
+    }
+
+    /**
+     * 다운로드용 파일 조회 (이미지 변형 지정)
+     * 변형이 아직 없거나 만들 수 없는 형식이면 원본을 반환하므로, 반환된 컨텐츠의 variant로 어느 쪽인지 확인합니다.
+     * @param fileId 원본 파일 ID
+     * @param variant 이미지 변형 (null이면 원본)
+     * @return 파일 스트림 (사용 후 close 필요), 파일이 없으면 null
+     */
+    public ContentStream openFile(String fileId, ImageVariant variant) {
+        if (fileId == null || fileId.isEmpty()) {
+            log.error("파일 ID가 null이거나 비어 있습니다.");
+            return null;
+        }
+
+        if (!contentDAO.incrementHitCount(fileId)) {
+            log.error("파일 ID {}에 해당하는 컨텐츠를 찾을 수 없습니다.", fileId);
+            return null;
+        }
+
+        if (variant != null) {
+            ContentStream variantStream = contentDAO.openVariant(fileId, variant.getCode());
+            if (variantStream != null) {
+                return variantStream;
+            }
+        }
+        return contentDAO.openByFileId(fileId);
+    }
+
     /**
      * 서비스 ID로 파일 목록 조회
      * @param serviceId 서비스 ID
@@ -162,23 +470,30 @@ public class FileService {
      * @return 삭제 성공 여부
      */
     public boolean deleteFile(String fileId) {
-        ContentDTO contentDTO = contentDAO.findByFileId(fileId);
-        if (contentDTO == null) {
-            log.error("삭제할 파일을 찾을 수 없습니다: {}", fileId);
-            return false;
-        }
+        for (int attempt = 0; attempt < MAX_REFERENCE_ATTEMPTS; attempt++) {
+            // 같은 내용을 공유하는 다른 업로드가 있으면 참조 수만 줄임
+            if (contentDAO.releaseReference(fileId)) {
+                log.info("공유 중인 파일의 참조 해제: {}", fileId);
+                return true;
+            }
 
-        // 파일 시스템에서 삭제 (필요한 경우)
-        if (!useDbStorage && contentDTO.getFilePath() != null) {
-            try {
-                Files.deleteIfExists(Paths.get(contentDTO.getFilePath()));
-            } catch (IOException e) {
-                log.error("파일 삭제 실패: {}", contentDTO.getFilePath(), e);
+            // 마지막 참조이면 레코드와 파일 삭제 (파일 시스템 저장 시 경로 확인용으로만 조회)
+            ContentDTO contentDTO = useDbStorage ? null : contentDAO.findByFileId(fileId);
+            if (contentDAO.deleteIfUnreferenced(fileId)) {
+                if (contentDTO != null && contentDTO.getFilePath() != null) {
+                    try {
+                        Files.deleteIfExists(Paths.get(contentDTO.getFilePath()));
+                    } catch (IOException e) {
+                        log.error("파일 삭제 실패: {}", contentDTO.getFilePath(), e);
+                    }
+                }
+                deleteVariants(fileId);
+                return true;
             }
+            // 파일이 없거나, 그 사이 다른 업로드가 참조를 추가함 → 다시 확인
         }
-
-        // DB에서 레코드 삭제
-        return contentDAO.delete(fileId);
+        log.error("삭제할 파일을 찾을 수 없습니다: {}", fileId);
+        return false;
     }
 
     /**
@@ -6,6 +6,7 @@ import domain.dto.MappingDTO;
 import domain.dto.PageDTO;
 import domain.dto.ProductDTO;
 import lombok.extern.slf4j.Slf4j;
+import util.CatalogVersion;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -37,13 +38,16 @@ public class MappingService {
      */
     public List<MappingDTO> getMappingsWithPagination(PageDTO pageDTO) {
         try {
-            // 전체 매핑 수 조회
-            int totalCount = mappingDAO.getTotalMappingCount();
-            pageDTO.setTotalCount(totalCount);
+            // 페이지네이션 적용된 목록 조회 (전체 매핑 수도 같은 쿼리에서 설정됨)
+            List<MappingDTO> mappings = mappingDAO.getMappingsWithPagination(pageDTO);
+
+            // 범위를 벗어난 페이지는 결과가 없으므로 전체 매핑 수를 별도로 조회
+            if (mappings.isEmpty() && pageDTO.getCurrentPage() > 1) {
+                pageDTO.setTotalCount(mappingDAO.getTotalMappingCount());
+            }
             pageDTO.calculatePagination();
 
-            // 페이지네이션 적용된 목록 조회
-            return mappingDAO.getMappingsWithPagination(pageDTO);
+            return mappings;
         } catch (SQLException e) {
             log.error("페이지네이션을 적용한 카테고리 매핑 조회 중 오류 발생: {}", e.getMessage(), e);
             return new ArrayList<>();
@@ -55,13 +59,16 @@ public class MappingService {
      */
     public List<MappingDTO> searchMappingsWithPagination(String keyword, PageDTO pageDTO) {
         try {
-            // 검색 결과 수 조회
-            int totalCount = mappingDAO.getSearchMappingCount(keyword);
-            pageDTO.setTotalCount(totalCount);
+            // 페이지네이션 적용된 검색 결과 조회 (검색 결과 수도 같은 쿼리에서 설정됨)
+            List<MappingDTO> mappings = mappingDAO.searchMappings(keyword, pageDTO);
+
+            // 범위를 벗어난 페이지는 결과가 없으므로 검색 결과 수를 별도로 조회
+            if (mappings.isEmpty() && pageDTO.getCurrentPage() > 1) {
+                pageDTO.setTotalCount(mappingDAO.getSearchMappingCount(keyword));
+            }
             pageDTO.calculatePagination();
 
-            // 페이지네이션 적용된 검색 결과 조회
-            return mappingDAO.searchMappings(keyword, pageDTO);
+            return mappings;
         } catch (SQLException e) {
             log.error("페이지네이션을 적용한 키워드 검색 중 오류 발생: {}", e.getMessage(), e);
             return new ArrayList<>();
@@ -85,7 +92,7 @@ public class MappingService {
      */
     public boolean createMapping(MappingDTO mappingDTO) {
         try {
-            return mappingDAO.createMapping(mappingDTO);
+            return changed(mappingDAO.createMapping(mappingDTO), mappingDTO.getProductCode());
         } catch (SQLException e) {
             log.error("카테고리 매핑 생성 중 오류 발생: {}", e.getMessage(), e);
             return false;
@@ -97,7 +104,7 @@ public class MappingService {
      */
     public boolean updateMapping(MappingDTO mappingDTO) {
         try {
-            return mappingDAO.updateMapping(mappingDTO);
+            return changed(mappingDAO.updateMapping(mappingDTO), mappingDTO.getProductCode());
         } catch (SQLException e) {
             log.error("카테고리 매핑 업데이트 중 오류 발생: {}", e.getMessage(), e);
             return false;
@@ -109,7 +116,7 @@ public class MappingService {
      */
     public boolean deleteMappingByProductAndCategory(String productCode, Long categoryId) {
         try {
-            return mappingDAO.deleteMappingByProductAndCategory(productCode, categoryId);
+            return changed(mappingDAO.deleteMappingByProductAndCategory(productCode, categoryId), productCode);
         } catch (SQLException e) {
             log.error("상품 코드 {}와 카테고리 ID {}로 매핑 삭제 중 오류 발생: {}", productCode, categoryId, e.getMessage(), e);
             return false;
@@ -169,13 +176,23 @@ public class MappingService {
      */
     public boolean deleteAllMappingsByProductCode(String productCode) {
         try {
-            return mappingDAO.deleteAllMappingsByProductCode(productCode);
+            return changed(mappingDAO.deleteAllMappingsByProductCode(productCode), productCode);
         } catch (SQLException e) {
             log.error("상품 코드 {}로 모든 카테고리 매핑 삭제 중 오류 발생: {}", productCode, e.getMessage(), e);
             return false;
         }
     }
 
+    /**
+     * 매핑이 변경되었으면 카테고리별 상품 목록이 달라지므로 카탈로그 버전을 올립니다.
+     */
+    private boolean changed(boolean result, String productCode) {
+        if (result) {
+            CatalogVersion.bump(productCode);
+        }
+        return result;
+    }
+
     /**
      * 매핑의 총 개수를 조회합니다.
      */
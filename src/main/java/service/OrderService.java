@@ -2,10 +2,10 @@ package service;
 
 import config.AppConfig;
 import domain.dao.OrderDAO;
-import domain.dao.OrderDAOImpl;
 import domain.dto.OrderDTO;
 import domain.dto.OrderItemDTO;
 import domain.dto.PageDTO;
+import exception.OutOfStockException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
@@ -20,10 +20,10 @@ public class OrderService {
     private ProductService productService;
 
     /**
-     * 생성자: OrderDAO 구현체 초기화
+     * 생성자: AppConfig에서 OrderDAO 구현체를 가져와 초기화
      */
     public OrderService() {
-        this.orderDAO = new OrderDAOImpl();
+        this.orderDAO = AppConfig.getInstance().getOrderDAO();
         this.productService = AppConfig.getInstance().getProductService();
     }
 
@@ -34,15 +34,18 @@ public class OrderService {
      */
     public List<OrderDTO> getOrderList(PageDTO pageDTO) {
         try {
-            // 전체 주문 수 조회
-            int totalCount = orderDAO.getTotalOrderCount();
-            pageDTO.setTotalCount(totalCount);
+            // 주문 목록 조회 (전체 주문 수도 같은 쿼리에서 설정됨)
+            List<OrderDTO> orderList = orderDAO.getOrderList(pageDTO);
+
+            // 범위를 벗어난 페이지는 결과가 없으므로 전체 주문 수를 별도로 조회
+            if (orderList.isEmpty() && pageDTO.getCurrentPage() > 1) {
+                pageDTO.setTotalCount(orderDAO.getTotalOrderCount());
+            }
 
             // 페이지네이션 계산
             pageDTO.calculatePagination();
 
-            // 주문 목록 조회
-            return orderDAO.getOrderList(pageDTO);
+            return orderList;
         } catch (Exception e) {
             log.error("주문 목록 조회 중 오류 발생: " + e.getMessage(), e);
             return null;
@@ -57,15 +60,18 @@ public class OrderService {
      */
     public List<OrderDTO> getOrdersByUserId(String userId, PageDTO pageDTO) {
         try {
-            // 사용자의 전체 주문 수 조회
-            int totalCount = orderDAO.getTotalOrderCountByUserId(userId);
-            pageDTO.setTotalCount(totalCount);
+            // 사용자의 주문 목록 조회 (전체 주문 수도 같은 쿼리에서 설정됨)
+            List<OrderDTO> orderList = orderDAO.getOrdersByUserId(userId, pageDTO);
+
+            // 범위를 벗어난 페이지는 결과가 없으므로 전체 주문 수를 별도로 조회
+            if (orderList.isEmpty() && pageDTO.getCurrentPage() > 1) {
+                pageDTO.setTotalCount(orderDAO.getTotalOrderCountByUserId(userId));
+            }
 
             // 페이지네이션 계산
             pageDTO.calculatePagination();
 
-            // 사용자의 주문 목록 조회
-            return orderDAO.getOrdersByUserId(userId, pageDTO);
+            return orderList;
         } catch (Exception e) {
             log.error("사용자별 주문 목록 조회 중 오류 발생: " + e.getMessage(), e);
             return null;
@@ -155,6 +161,51 @@ public class OrderService {
         }
     }
 
+    /**
+     * 주문을 하나의 트랜잭션으로 처리합니다.
+     * 주문 금액은 주문 항목으로부터 메모리에서 계산하고, 주문/주문 항목 저장, 재고 차감,
+     * 장바구니 항목 삭제를 한 커넥션에서 실행합니다. 하나라도 실패하면 전체가 롤백됩니다.
+     * @param orderDTO 주문 정보
+     * @param orderItems 주문 항목 목록
+     * @param basketItemIds 함께 삭제할 장바구니 항목 ID 목록
+     * @return 생성된 주문 ID, 실패 시 null
+     * @throws OutOfStockException 재고가 부족한 상품이 있는 경우
+     */
+    public String placeOrder(OrderDTO orderDTO, List<OrderItemDTO> orderItems, List<Long> basketItemIds)
+            throws OutOfStockException {
+        if (orderItems == null || orderItems.isEmpty()) {
+            log.warn("주문 항목이 없음");
+            return null;
+        }
+
+        // 주문 금액 계산 (상품 금액 + 배송비), 주문 후 재조회하지 않도록 메모리에서 계산
+        int total = 0;
+        for (OrderItemDTO item : orderItems) {
+            total += item.getTotalAmount();
+        }
+        orderDTO.setOrderAmount(total);
+
+        String orderId;
+        try {
+            orderId = orderDAO.placeOrder(orderDTO, orderItems, basketItemIds);
+        } catch (OutOfStockException e) {
+            log.warn("재고 부족으로 주문 취소: 상품코드={}", e.getProductCode());
+            throw e;
+        } catch (Exception e) {
+            log.error("주문 처리 중 오류 발생: " + e.getMessage(), e);
+            return null;
+        }
+
+        // 커밋 후 재고가 바뀐 상품은 캐시에서 제거
+        if (orderId != null && productService != null) {
+            for (OrderItemDTO item : orderItems) {
+                productService.evictCachedProduct(item.getProductCode());
+            }
+        }
+
+        return orderId;
+    }
+
     /**
      * 주문 상태를 변경합니다.
      * @param orderId 주문 ID
@@ -1,9 +1,15 @@
 package service;
 
+import domain.dao.CachedProductDAO;
 import domain.dao.ProductDAO;
+import domain.dao.ProductSuggestIndex;
 import domain.dto.PageDTO;
+import domain.dto.ProductCriteria;
 import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
 import lombok.extern.slf4j.Slf4j;
+import util.CatalogVersion;
+import util.KeysetCursor;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -14,12 +20,17 @@ import java.util.List;
 public class ProductService {
     private final ProductDAO productDAO;
     private final MappingService mappingService;
+    private final CategoryService categoryService;
     private final FileService fileService;
+    private final ProductSuggestIndex suggestIndex;
 
-    public ProductService(ProductDAO productDAO, MappingService mappingService, FileService fileService) {
+    public ProductService(ProductDAO productDAO, MappingService mappingService, CategoryService categoryService,
+                          FileService fileService, ProductSuggestIndex suggestIndex) {
         this.productDAO = productDAO;
         this.mappingService = mappingService;
+        this.categoryService = categoryService;
         this.fileService = fileService;
+        this.suggestIndex = suggestIndex;
     }
 
 
@@ -59,6 +70,7 @@ public class ProductService {
             }
 
             productDAO.save(productDTO);
+            CatalogVersion.bump(productDTO.getProductCode());
             return true;
         } catch (Exception e) {
             log.error("상품 생성 중 오류 발생: {}", e.getMessage(), e);
@@ -72,6 +84,7 @@ public class ProductService {
     public boolean updateProduct(ProductDTO productDTO) {
         try {
             productDAO.modify(productDTO);
+            CatalogVersion.bump(productDTO.getProductCode());
             return true;
         } catch (Exception e) {
             log.error("상품 수정 중 오류 발생: {}", e.getMessage(), e);
@@ -84,7 +97,11 @@ public class ProductService {
      */
     public boolean deleteProduct(String productCode) {
         try {
-            return productDAO.delete(productCode);
+            boolean deleted = productDAO.delete(productCode);
+            if (deleted) {
+                CatalogVersion.bump(productCode);
+            }
+            return deleted;
         } catch (Exception e) {
             log.error("상품 삭제 중 오류 발생: {}", e.getMessage(), e);
             return false;
@@ -112,6 +129,7 @@ public class ProductService {
             boolean result = productDAO.modifyStock(productCode, 0);
 
             if (result) {
+                CatalogVersion.bump(productCode);
                 log.info("품절 처리 성공: productCode={}", productCode);
             } else {
                 log.error("품절 처리 실패: 재고 업데이트 실패 (productCode={})", productCode);
@@ -141,7 +159,11 @@ public class ProductService {
             String startDate = productDTO.getStartDate(); // 시작일은 그대로 유지
 
             // 판매 종료일을 현재 날짜로 설정하여 판매 중지 상태로 만듦
-            return productDAO.modifySaleStatus(productCode, startDate, currentDate);
+            boolean result = productDAO.modifySaleStatus(productCode, startDate, currentDate);
+            if (result) {
+                CatalogVersion.bump(productCode);
+            }
+            return result;
         } catch (Exception e) {
             log.error("상품 판매 중지 처리 중 오류 발생: {}", e.getMessage(), e);
             return false;
@@ -164,6 +186,9 @@ public class ProductService {
             // 1. 재고가 0이면 1로 설정
             if (productDTO.getStock() == null || productDTO.getStock() <= 0) {
                 success = productDAO.modifyStock(productCode, 1);
+                if (success) {
+                    CatalogVersion.bump(productCode);
+                }
             }
 
             if (!success) {
@@ -176,7 +201,11 @@ public class ProductService {
             String endDate = today.plusMonths(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
             // 판매 기간을 업데이트하여 판매중 상태로 만듦
-            return productDAO.modifySaleStatus(productCode, startDate, endDate);
+            boolean result = productDAO.modifySaleStatus(productCode, startDate, endDate);
+            if (result) {
+                CatalogVersion.bump(productCode);
+            }
+            return result;
         } catch (Exception e) {
             log.error("상품 판매 시작 처리 중 오류 발생: {}", e.getMessage(), e);
             return false;
@@ -184,134 +213,138 @@ public class ProductService {
     }
 
     /**
-     * 페이지네이션 처리된 상품 목록 조회
+     * 검색어 자동완성 (상품명 접두어, 초성 입력 지원)
+     * 메모리 색인에서만 조회하며, 색인이 준비되기 전에는 빈 목록을 반환합니다.
      */
-    public List<ProductDTO> getProductDTOsWithPagination(int page, int pageSize) {
-        int offset = (page - 1) * pageSize;
-        return productDAO.findAllWithPagination(offset, pageSize);
+    public List<ProductSuggestIndex.Suggestion> suggestProducts(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, limit);
     }
 
     /**
-     * 가격순으로 정렬된 상품 목록 조회 (페이지네이션)
+     * 상품 목록 페이지 조회 (목록과 전체 개수를 조건 조회 한 번으로 조회)
+     * 조회 후 pageDTO의 전체 개수와 페이지네이션 정보, 이전/다음 페이지 커서가 설정됩니다.
      */
-    public List<ProductDTO> getProductDTOsOrderByPriceWithPagination(boolean ascending, int page, int pageSize) {
-        int offset = (page - 1) * pageSize;
-        return productDAO.findAllOrderByPriceWithPagination(ascending, offset, pageSize);
+    public List<ProductDTO> getProductPage(PageDTO pageDTO, Long categoryId) {
+        return getProductPage(pageDTO, categoryId, false).getProducts();
     }
 
     /**
-     * 상품명으로 상품 검색 (페이지네이션)
+     * 상품 목록 페이지 조회 (검색어, 카테고리, 가격 범위, 재고, 판매 기간, 정렬, 페이지/커서)
+     * 검색이 아닌 목록은 커서가 있으면 키셋 페이지네이션을 사용합니다. (검색 결과는 관련도순이므로 번호 페이지네이션)
+     * 조회 후 pageDTO의 전체 개수와 페이지네이션 정보, 이전/다음 페이지 커서가 설정됩니다.
+     * @param withFacets 카테고리별/가격대별 상품 수를 함께 조회할지 여부
+     * @return 현재 페이지 목록과 전체 건수, 요청 시 집계 결과
      */
-    public List<ProductDTO> searchProductDTOsWithPagination(String keyword, int page, int pageSize) {
-        int offset = (page - 1) * pageSize;
-        return productDAO.findByProductNameWithPagination(keyword, offset, pageSize);
-    }
+    public ProductQueryResult getProductPage(PageDTO pageDTO, Long categoryId, boolean withFacets) {
+        boolean searching = pageDTO.getKeyword() != null && !pageDTO.getKeyword().trim().isEmpty();
+        ProductCriteria criteria = createProductCriteria(pageDTO, categoryId);
+        criteria.setWithFacets(withFacets);
+
+        // 정렬 조건과 맞는 커서가 있으면 키셋 조회 (깊은 페이지도 첫 페이지와 동일한 비용)
+        KeysetCursor cursor = searching ? null : KeysetCursor.decode(pageDTO.getCursor());
+        boolean keyset = cursor != null && (cursor.getSalePrice() != null) == isPriceSort(pageDTO.getSortBy());
+        if (keyset) {
+            // 다음(이전) 페이지 존재 여부 확인을 위해 한 건을 더 조회
+            criteria.setCursor(cursor);
+            criteria.setLimit(pageDTO.getPageSize() + 1);
+        } else {
+            // 커서가 없거나 정렬 조건과 맞지 않으면 번호 페이지네이션으로 대체
+            pageDTO.setCursor(null);
+        }
 
-    /**
-     * 전체 상품 개수 조회
-     */
-    public int getTotalProductCount() {
-        return productDAO.countAll();
-    }
+        ProductQueryResult result = findProducts(criteria);
+        pageDTO.setTotalCount(result.getTotalCount());
+        pageDTO.calculatePagination();
 
-    /**
-     * 검색 결과 상품 개수 조회
-     */
-    public int getSearchResultCount(String keyword) {
-        return productDAO.countByProductName(keyword);
+        List<ProductDTO> products = result.getProducts();
+        if (keyset) {
+            boolean hasMore = products.size() > pageDTO.getPageSize();
+            if (hasMore) {
+                // 이전 방향이면 맨 앞, 다음 방향이면 맨 뒤가 초과 조회된 행
+                products.remove(cursor.isBackward() ? 0 : products.size() - 1);
+            }
+            if (cursor.isBackward()) {
+                setKeysetCursors(pageDTO, products, hasMore, true);
+            } else {
+                setKeysetCursors(pageDTO, products, pageDTO.getCurrentPage() > 1, hasMore);
+            }
+        } else if (!searching) {
+            // 번호 페이지에서도 이전/다음 이동은 커서를 사용할 수 있도록 설정
+            setKeysetCursors(pageDTO, products,
+                    pageDTO.getCurrentPage() > 1,
+                    pageDTO.getCurrentPage() < pageDTO.getTotalPages());
+        }
+        return result;
     }
 
     /**
-     * 상품명으로 상품 검색 + 가격 정렬 + 페이지네이션
+     * 조회된 목록의 첫/마지막 행으로 이전/다음 페이지 커서를 생성합니다.
      */
-    public List<ProductDTO> searchProductDTOsOrderByPriceWithPagination(String keyword, boolean ascending, int page, int pageSize) {
-        int offset = (page - 1) * pageSize;
-        return productDAO.findByProductNameOrderByPriceWithPagination(keyword, ascending, offset, pageSize);
-    }
+    private void setKeysetCursors(PageDTO pageDTO, List<ProductDTO> products, boolean hasPrev, boolean hasNext) {
+        pageDTO.setPrevCursor(null);
+        pageDTO.setNextCursor(null);
+        if (products.isEmpty()) {
+            return;
+        }
 
-    /**
-     * PageDTO 설정 메서드 (카테고리 지원)
-     */
-    public PageDTO setupProductPage(PageDTO pageDTO, Long categoryId) {
-        // 카테고리가 지정된 경우
-        if (categoryId != null) {
-            pageDTO.setTotalCount(getProductCountByCategory(categoryId));
+        boolean priceSort = isPriceSort(pageDTO.getSortBy());
+        if (hasPrev) {
+            ProductDTO first = products.get(0);
+            pageDTO.setPrevCursor(new KeysetCursor(priceSort ? first.getSalePrice() : null,
+                    first.getProductCode(), true).encode());
         }
-        // 검색어가 있는 경우
-        else if (pageDTO.getKeyword() != null && !pageDTO.getKeyword().trim().isEmpty()) {
-            pageDTO.setTotalCount(getSearchResultCount(pageDTO.getKeyword()));
-        } else {
-            // 전체 상품 개수 조회
-            pageDTO.setTotalCount(getTotalProductCount());
+        if (hasNext) {
+            ProductDTO last = products.get(products.size() - 1);
+            pageDTO.setNextCursor(new KeysetCursor(priceSort ? last.getSalePrice() : null,
+                    last.getProductCode(), false).encode());
         }
+    }
 
-        // 페이지네이션 계산
-        pageDTO.calculatePagination();
-
-        return pageDTO;
+    private boolean isPriceSort(String sortBy) {
+        return "priceAsc".equals(sortBy) || "priceDesc".equals(sortBy);
     }
 
     /**
-     * 기본 setupProductPage 메서드 (오버로드)
+     * 조건 기반 상품 목록 조회 (목록, 전체 개수, 요청 시 카테고리별/가격대별 상품 수)
      */
-    public PageDTO setupProductPage(PageDTO pageDTO) {
-        return setupProductPage(pageDTO, null);
-    }
-
-    // 페이지네이션 정보와 정렬 조건을 기반으로 상품 목록 조회
-    public List<ProductDTO> getProductsByPage(PageDTO pageDTO) {
-        // 검색어가 있는 경우
-        if (pageDTO.getKeyword() != null && !pageDTO.getKeyword().trim().isEmpty()) {
-            // 정렬 조건에 따라 다른 메서드 호출
-            if ("priceAsc".equals(pageDTO.getSortBy())) {
-                return searchProductDTOsOrderByPriceWithPagination(
-                        pageDTO.getKeyword(), true, pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            } else if ("priceDesc".equals(pageDTO.getSortBy())) {
-                return searchProductDTOsOrderByPriceWithPagination(
-                        pageDTO.getKeyword(), false, pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            } else {
-                // 기본 검색 결과
-                return searchProductDTOsWithPagination(
-                        pageDTO.getKeyword(), pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            }
-        } else {
-            // 전체 상품 목록
-            if ("priceAsc".equals(pageDTO.getSortBy())) {
-                return getProductDTOsOrderByPriceWithPagination(
-                        true, pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            } else if ("priceDesc".equals(pageDTO.getSortBy())) {
-                return getProductDTOsOrderByPriceWithPagination(
-                        false, pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            } else {
-                // 기본 정렬
-                return getProductDTOsWithPagination(
-                        pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            }
+    public ProductQueryResult findProducts(ProductCriteria criteria) {
+        try {
+            return productDAO.findByCriteria(criteria);
+        } catch (Exception e) {
+            log.error("조건 기반 상품 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ProductQueryResult.empty();
         }
     }
 
     /**
-     * 카테고리별 상품 목록 조회 및 정렬 (확장)
+     * PageDTO의 페이지, 정렬, 검색어, 필터와 카테고리로 조회 조건을 만듭니다.
+     * 검색어와 카테고리는 함께 적용되며, 카테고리 목록의 기본 정렬은 최신순입니다.
      */
-    public List<ProductDTO> getProductsByPage(PageDTO pageDTO, Long categoryId) {
-        // 카테고리가 지정된 경우
-        if (categoryId != null) {
-            // 정렬 조건에 따라 조회
-            if ("priceAsc".equals(pageDTO.getSortBy())) {
-                return getProductsByCategoryOrderByPriceWithPagination(
-                        categoryId, true, pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            } else if ("priceDesc".equals(pageDTO.getSortBy())) {
-                return getProductsByCategoryOrderByPriceWithPagination(
-                        categoryId, false, pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            } else {
-                // 기본 정렬 (최신순)
-                return getProductsByCategoryWithPagination(
-                        categoryId, pageDTO.getCurrentPage(), pageDTO.getPageSize());
-            }
+    public ProductCriteria createProductCriteria(PageDTO pageDTO, Long categoryId) {
+        ProductCriteria criteria = new ProductCriteria();
+        criteria.setKeyword(pageDTO.getKeyword());
+        criteria.setCategoryIds(categoryScope(categoryId));
+        if (isPriceSort(pageDTO.getSortBy())) {
+            criteria.setSortBy(pageDTO.getSortBy());
+        } else if (categoryId != null) {
+            criteria.setSortBy("newest");
         }
+        criteria.setMinPrice(pageDTO.getMinPrice());
+        criteria.setMaxPrice(pageDTO.getMaxPrice());
+        criteria.setInStockOnly(pageDTO.isInStockOnly());
+        criteria.setOnSaleOnly(pageDTO.isOnSaleOnly());
+        criteria.setOffset(pageDTO.getOffset());
+        criteria.setLimit(pageDTO.getPageSize());
+        return criteria;
+    }
 
-        // 카테고리가 없는 경우 기존 메서드 사용
-        return getProductsByPage(pageDTO);
+    // PageDTO에서 요청 파라미터 설정 메서드 (키셋 커서 포함)
+    public PageDTO createPageDTOFromParameters(String pageParam, String sortByParam, String keywordParam, String cursorParam) {
+        PageDTO pageDTO = createPageDTOFromParameters(pageParam, sortByParam, keywordParam);
+        if (cursorParam != null && !cursorParam.isEmpty()) {
+            pageDTO.setCursor(cursorParam);
+        }
+        return pageDTO;
     }
 
     // PageDTO에서 요청 파라미터 설정 메서드
@@ -338,6 +371,37 @@ public class ProductService {
         return pageDTO;
     }
 
+    // PageDTO에 필터 요청 파라미터 설정 메서드 (가격 범위, 재고 있음, 판매 중)
+    public PageDTO applyFilterParameters(PageDTO pageDTO, String minPriceParam, String maxPriceParam,
+                                         String inStockParam, String onSaleParam) {
+        Integer minPrice = parsePrice(minPriceParam);
+        Integer maxPrice = parsePrice(maxPriceParam);
+        // 최소/최대가 뒤바뀌어 입력되면 바꿔서 적용
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            Integer swap = minPrice;
+            minPrice = maxPrice;
+            maxPrice = swap;
+        }
+        pageDTO.setMinPrice(minPrice);
+        pageDTO.setMaxPrice(maxPrice);
+        pageDTO.setInStockOnly("Y".equalsIgnoreCase(inStockParam) || "true".equalsIgnoreCase(inStockParam));
+        pageDTO.setOnSaleOnly("Y".equalsIgnoreCase(onSaleParam) || "true".equalsIgnoreCase(onSaleParam));
+        return pageDTO;
+    }
+
+    // 가격 파라미터 (비어 있거나 잘못된 형식, 음수면 조건 없음)
+    private Integer parsePrice(String priceParam) {
+        if (priceParam == null || priceParam.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            int price = Integer.parseInt(priceParam.trim());
+            return price >= 0 ? price : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     // 상품 및 관련 데이터 삭제를 위한 통합 메서드
     public boolean deleteProductWithRelations(String productCode) {
         try {
@@ -376,42 +440,22 @@ public class ProductService {
     }
 
     /**
-     * 카테고리별 상품 목록 조회
-     */
-    public List<ProductDTO> getProductsByCategoryWithPagination(Long categoryId, int page, int pageSize) {
-        int offset = (page - 1) * pageSize;
-        return productDAO.findByCategoryId(categoryId, offset, pageSize);
-    }
-
-    /**
-     * 카테고리별 상품 목록 가격순 정렬
-     */
-    public List<ProductDTO> getProductsByCategoryOrderByPriceWithPagination(Long categoryId, boolean ascending, int page, int pageSize) {
-        int offset = (page - 1) * pageSize;
-        return productDAO.findByCategoryIdOrderByPriceWithPagination(categoryId, ascending, offset, pageSize);
-    }
-
-    /**
-     * 카테고리별 상품 개수 조회
+     * 카테고리 상품 조회 조건 (카테고리와 모든 하위 카테고리의 ID, 카테고리가 없으면 null)
+     * 하위 카테고리는 메모리의 카테고리 트리에서 구하므로 트리 깊이와 관계없이 상품 조회는 한 번입니다.
      */
-    public int getProductCountByCategory(Long categoryId) {
-        return productDAO.countByCategoryId(categoryId);
+    private List<Long> categoryScope(Long categoryId) {
+        return categoryId != null ? categoryService.getCategoryIdsWithDescendants(categoryId) : null;
     }
 
     /**
      * 재고 확인 및 수량 업데이트(감소)
+     * 재고 확인과 차감을 하나의 조건부 UPDATE로 처리합니다.
      * @param productCode
      * @param orderQuantity
      * @return
      */
     public boolean checkAndUpdateStock(String productCode, int orderQuantity) {
-        int currentStock = productDAO.getProductStock(productCode);
-        if (currentStock < orderQuantity) {
-            return false; // 재고 부족
-        }
-        // 재고 감소
-        int result = productDAO.updateProductStock(productCode, currentStock - orderQuantity);
-        return result > 0; // int를 boolean으로 변환
+        return stockChanged(productCode, productDAO.decreaseStock(productCode, orderQuantity)); // 재고 부족이면 0건 갱신
     }
 
     public boolean hasEnoughStock(String productCode, int quantity) {
@@ -420,12 +464,7 @@ public class ProductService {
     }
 
     public boolean reduceStock(String productCode, int quantity) {
-        int currentStock = productDAO.getProductStock(productCode);
-        if (currentStock < quantity) {
-            return false;
-        }
-        int result = productDAO.updateProductStock(productCode, currentStock - quantity);
-        return result > 0; // int를 boolean으로 변환
+        return stockChanged(productCode, productDAO.decreaseStock(productCode, quantity));
     }
 
     /**
@@ -450,21 +489,16 @@ public class ProductService {
      */
     public boolean updateProductStock(String productCode, int orderQuantity) {
         try {
-            // 현재 재고 조회
-            int currentStock = getProductStock(productCode);
+            // 재고가 주문 수량 이상일 때만 차감 (조건부 UPDATE로 동시 주문 시 초과 판매 방지)
+            int result = productDAO.decreaseStock(productCode, orderQuantity);
 
-            // 재고가 부족한 경우
-            if (currentStock < orderQuantity) {
-                log.warn("상품 재고 부족: 상품코드={}, 현재재고={}, 주문수량={}",
-                        productCode, currentStock, orderQuantity);
+            // 영향받은 행이 없으면 재고 부족 또는 상품 없음
+            if (!stockChanged(productCode, result)) {
+                log.warn("상품 재고 부족: 상품코드={}, 주문수량={}", productCode, orderQuantity);
                 return false;
             }
 
-            // 재고 감소
-            int newStock = currentStock - orderQuantity;
-            int result = productDAO.updateProductStock(productCode, newStock);
-
-            return result > 0;  // 영향받은 행이 있으면 성공으로 간주
+            return true;
         } catch (Exception e) {
             log.error("상품 재고 업데이트 중 오류 발생: " + e.getMessage(), e);
             return false;
@@ -479,20 +513,38 @@ public class ProductService {
      */
     public boolean increaseProductStock(String productCode, int quantity) {
         try {
-            // 현재 재고 조회
-            int currentStock = getProductStock(productCode);
-
-            // 재고 증가
-            int newStock = currentStock + quantity;
-            log.info("상품 재고 증가: 상품코드={}, 현재재고={}, 증가수량={}, 새재고={}",
-                    productCode, currentStock, quantity, newStock);
+            log.info("상품 재고 증가: 상품코드={}, 증가수량={}", productCode, quantity);
 
-            int result = productDAO.updateProductStock(productCode, newStock);
-            return result > 0;
+            // 현재 재고를 읽지 않고 DB에서 직접 증가시켜 동시 취소 시에도 누락 없이 반영
+            int result = productDAO.increaseStock(productCode, quantity);
+            return stockChanged(productCode, result);
         } catch (Exception e) {
             log.error("상품 재고 증가 중 오류 발생: " + e.getMessage(), e);
             return false;
         }
     }
 
+    /**
+     * 다른 경로(주문 트랜잭션 등)에서 재고가 변경된 상품을 캐시에서 제거합니다
+     * @param productCode 상품 코드
+     */
+    public void evictCachedProduct(String productCode) {
+        if (productDAO instanceof CachedProductDAO) {
+            ((CachedProductDAO) productDAO).invalidate(productCode);
+        }
+        CatalogVersion.bump(productCode); // 품절 여부가 목록 조각과 상세 화면 ETag에 반영되도록
+    }
+
+    /**
+     * 재고 변경 결과(갱신 행 수)를 확인하고, 변경되었으면 카탈로그 버전을 올립니다.
+     * @return 한 건 이상 갱신되었으면 true
+     */
+    private boolean stockChanged(String productCode, int updatedRows) {
+        if (updatedRows > 0) {
+            CatalogVersion.bump(productCode);
+            return true;
+        }
+        return false;
+    }
+
 }
\ No newline at end of file
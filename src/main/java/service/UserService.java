@@ -142,6 +142,23 @@ public class UserService {
         return userDAO.countAll();
     }
 
+    /**
+     * 사용자 목록 페이지 조회 (목록과 전체 개수를 한 번의 쿼리로 조회)
+     * 조회 후 pageDTO의 전체 개수와 페이지네이션 정보가 설정됩니다.
+     */
+    public List<UserDTO> getUserPage(PageDTO pageDTO) {
+        List<UserDTO> users = userDAO.findPage(pageDTO);
+
+        if (users.isEmpty() && pageDTO.getCurrentPage() > 1) {
+            // 범위를 벗어난 페이지는 전체 개수를 알 수 없으므로 별도로 조회
+            setupUserPage(pageDTO);
+        } else {
+            pageDTO.calculatePagination();
+        }
+
+        return users;
+    }
+
     /**
      * PageDTO 설정
      */
@@ -0,0 +1,71 @@
+package tag;
+
+import config.AppConfig;
+import util.FragmentCache;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.jsp.JspException;
+import javax.servlet.jsp.PageContext;
+import javax.servlet.jsp.tagext.JspFragment;
+import javax.servlet.jsp.tagext.SimpleTagSupport;
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * JSP 조각 캐시 태그
+ * 사용 예: &lt;fc:cache key="${fragmentKey}"&gt; ... &lt;/fc:cache&gt;
+ * 같은 키로 렌더링된 조각이 있으면 본문을 실행하지 않고 저장된 HTML을 그대로 출력하고,
+ * 없으면 본문을 렌더링해 저장한 뒤 출력합니다. 키가 비어 있으면 캐시 없이 본문만 렌더링합니다.
+ * 키는 FragmentCache.key로 만들며, 사용자별 내용이 들어가는 조각에는 사용하지 않습니다.
+ */
+public class FragmentCacheTag extends SimpleTagSupport {
+    private static final String PRELOADED_ATTRIBUTE = FragmentCacheTag.class.getName() + ".";
+
+    private String key;
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 커맨드에서 조각을 미리 조회합니다.
+     * 캐시된 조각이 있으면 요청에 보관해 두므로(렌더링 전에 LRU에서 제거되더라도 그대로 사용)
+     * 커맨드는 조각에 필요한 데이터 조회를 생략할 수 있습니다.
+     * @return 캐시된 조각이 있으면 true
+     */
+    public static boolean preload(ServletRequest request, String key) {
+        String fragment = AppConfig.getInstance().getFragmentCache().get(key);
+        if (fragment == null) {
+            return false;
+        }
+        request.setAttribute(PRELOADED_ATTRIBUTE + key, fragment);
+        return true;
+    }
+
+    @Override
+    public void doTag() throws JspException, IOException {
+        JspFragment body = getJspBody();
+        if (key == null || key.isEmpty()) {
+            if (body != null) {
+                body.invoke(null);
+            }
+            return;
+        }
+
+        FragmentCache cache = AppConfig.getInstance().getFragmentCache();
+        ServletRequest request = ((PageContext) getJspContext()).getRequest();
+        String fragment = (String) request.getAttribute(PRELOADED_ATTRIBUTE + key);
+        if (fragment == null) {
+            fragment = cache.get(key);
+        }
+        if (fragment == null) {
+            StringWriter buffer = new StringWriter();
+            if (body != null) {
+                body.invoke(buffer);
+            }
+            fragment = buffer.toString();
+            cache.put(key, fragment);
+        }
+        getJspContext().getOut().write(fragment);
+    }
+}
@@ -0,0 +1,82 @@
+package util;
+
+/**
+ * HTTP Range 요청 헤더의 단일 바이트 구간 (bytes=start-end)
+ * 여러 구간(multipart/byteranges)은 지원하지 않으며, 그런 요청에는 전체 내용을 응답합니다.
+ */
+public final class ByteRange {
+    // 만족할 수 없는 구간 (416 응답용)
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private final long start;
+    private final long end; // 포함
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Range 헤더를 해석합니다.
+     * @param header Range 헤더 값 (null 허용)
+     * @param length 전체 길이
+     * @return 전체 응답이면 null, 만족할 수 없으면 UNSATISFIABLE, 그 외에는 전체 길이 안으로 잘라낸 구간
+     */
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith("bytes=")) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        if (spec.isEmpty() || spec.contains(",")) {
+            return null; // 여러 구간은 전체 응답으로 대신 (RFC 7233 허용)
+        }
+
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, length - suffix), length - 1);
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null; // 문법 오류는 헤더가 없는 것으로 처리
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, length - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * Content-Range 헤더 값 (bytes start-end/length)
+     */
+    public String contentRange(long totalLength) {
+        return "bytes " + start + "-" + end + "/" + totalLength;
+    }
+}
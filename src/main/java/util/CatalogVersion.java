@@ -0,0 +1,100 @@
+package util;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그(상품, 카테고리, 상품-카테고리 매핑) 버전
+ * 카탈로그를 변경하는 서비스 메서드가 bump를 호출하며, 화면 조각 캐시(FragmentCache)와 조건부 GET(ConditionalGet)은
+ * 이 버전으로 변경 이전에 만들어진 응답을 더 이상 사용하지 않습니다.
+ * 버전은 프로세스 안에서만 유지되므로 재시작 후에도 구분되도록 시작 시각(startedAt)을 함께 사용합니다.
+ */
+public final class CatalogVersion {
+    private static final long STARTED_AT = System.currentTimeMillis();
+
+    private static final AtomicLong VERSION = new AtomicLong();
+    private static volatile long lastModified = STARTED_AT;
+
+    // 상품 코드 → 그 상품이 마지막으로 변경된 시점의 카탈로그 버전과 시각 (상세 화면용)
+    private static final Map<String, Stamp> PRODUCT_STAMPS = new ConcurrentHashMap<>();
+
+    private CatalogVersion() {
+    }
+
+    public static long current() {
+        return VERSION.get();
+    }
+
+    public static long startedAt() {
+        return STARTED_AT;
+    }
+
+    /**
+     * 카탈로그가 마지막으로 변경된 시각 (밀리초)
+     * 판매 상태는 오늘 날짜로 정해지므로 날짜가 바뀐 시점도 변경으로 봅니다.
+     */
+    public static long lastModified() {
+        return Math.max(lastModified, startOfToday());
+    }
+
+    /**
+     * 상품의 버전 (시작 후 변경된 적이 없으면 0)
+     */
+    public static long productVersion(String productCode) {
+        Stamp stamp = productCode != null ? PRODUCT_STAMPS.get(productCode) : null;
+        return stamp != null ? stamp.version : 0L;
+    }
+
+    /**
+     * 상품이 마지막으로 변경된 시각 (밀리초, 날짜가 바뀐 시점 포함)
+     */
+    public static long productLastModified(String productCode) {
+        Stamp stamp = productCode != null ? PRODUCT_STAMPS.get(productCode) : null;
+        return Math.max(stamp != null ? stamp.lastModified : STARTED_AT, startOfToday());
+    }
+
+    /**
+     * 카탈로그 변경 후 버전을 올립니다.
+     * 작업 단위 안의 변경은 커밋 전이므로, 그 사이 새 버전으로 이전 데이터를 렌더링한 조각이 남지 않도록 종료 후 한 번 더 올립니다.
+     */
+    public static void bump() {
+        bump(null);
+    }
+
+    /**
+     * 특정 상품의 변경 후 카탈로그 버전과 그 상품의 버전을 함께 올립니다.
+     * @param productCode 변경된 상품 코드 (null이면 카탈로그 버전만)
+     */
+    public static void bump(String productCode) {
+        advance(productCode);
+        if (UnitOfWork.isActive()) {
+            UnitOfWork.afterCompletion(() -> advance(productCode));
+        }
+    }
+
+    private static void advance(String productCode) {
+        long version = VERSION.incrementAndGet();
+        long now = System.currentTimeMillis();
+        lastModified = now;
+        if (productCode != null) {
+            PRODUCT_STAMPS.put(productCode, new Stamp(version, now));
+        }
+    }
+
+    private static long startOfToday() {
+        return LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Stamp {
+        private final long version;
+        private final long lastModified;
+
+        private Stamp(long version, long lastModified) {
+            this.version = version;
+            this.lastModified = lastModified;
+        }
+    }
+}
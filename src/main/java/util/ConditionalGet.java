@@ -0,0 +1,120 @@
+package util;
+
+import domain.dto.UserDTO;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * HTTP 조건부 GET (ETag / Last-Modified → 304 Not Modified)
+ * 커맨드가 DAO를 호출하기 전에 CatalogVersion으로 ETag를 만들어 검사하면,
+ * 내용이 바뀌지 않은 재방문과 크롤러 요청은 DB 조회 없이 304로 끝납니다.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 강한 ETag를 만듭니다.
+     * 버전은 프로세스 안에서만 유지되므로 시작 시각을 함께 넣어 재시작 전의 ETag와 겹치지 않게 합니다.
+     * @param version 카탈로그 또는 상품 버전
+     * @param parts 응답 내용을 결정하는 나머지 값 (요청 파라미터, 날짜, 사용자 등, null 허용)
+     */
+    public static String etag(long version, Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            // 값 사이 구분자와 null을 구분해서 이어 붙임
+            source.append(part == null ? "\u0000" : part.toString()).append('\u0001');
+        }
+        return "\"" + Long.toString(CatalogVersion.startedAt(), 36) + "-" + version + "-" + digest(source.toString()) + "\"";
+    }
+
+    /**
+     * 화면 내용을 바꾸는 로그인 상태 (메뉴, 관리자 링크 등)
+     * 같은 주소라도 사용자에 따라 다른 HTML이 나가므로 ETag에 포함합니다.
+     */
+    public static String viewer(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object user = session != null ? session.getAttribute("user") : null;
+        if (user instanceof UserDTO) {
+            UserDTO userDTO = (UserDTO) user;
+            return userDTO.getUserId() + ":" + userDTO.getUserType();
+        }
+        return "guest";
+    }
+
+    /**
+     * 검증 헤더를 설정하고, 요청의 조건과 일치하면 304 상태를 설정합니다.
+     * If-None-Match가 있으면 그것만으로 판단하고, 없을 때만 If-Modified-Since를 사용합니다.
+     * 응답은 사용자별 내용이 섞여 있으므로 공유 캐시에는 저장하지 않고(private) 매번 재검증(no-cache)하게 합니다.
+     * @param lastModified 마지막 변경 시각 (밀리초)
+     * @return 304를 설정했으면 true (커맨드는 뷰 없이 null을 반환)
+     */
+    public static boolean checkNotModified(HttpServletRequest request, HttpServletResponse response,
+                                           String etag, long lastModified) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Cache-Control", "private, no-cache");
+        response.setHeader("Vary", "Cookie");
+
+        boolean notModified;
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            notModified = matches(ifNoneMatch, etag);
+        } else {
+            long ifModifiedSince;
+            try {
+                ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            } catch (IllegalArgumentException e) {
+                ifModifiedSince = -1; // 형식이 잘못된 헤더는 무시
+            }
+            // HTTP 날짜는 초 단위이므로 초 단위로 비교
+            notModified = ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        }
+
+        if (notModified) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+        return notModified;
+    }
+
+    /**
+     * If-None-Match 목록 중 하나라도 일치하는지 확인합니다. (GET에서는 약한 비교: W/ 접두사 무시)
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String digest(String source) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 제공해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
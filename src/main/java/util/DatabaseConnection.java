@@ -2,6 +2,8 @@ package util;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import domain.dto.PoolMetricsDTO;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
@@ -17,7 +19,12 @@ import java.util.Properties;
 @Slf4j
 public class DatabaseConnection {
     private static HikariDataSource dataSource = null;
+    private static HikariDataSource replicaDataSource = null; // 읽기 전용 복제본 (선택)
+    private static long replicaStickyMillis;
+    private static boolean h2; // 주 DB가 H2(테스트/벤치마크용 내장 DB)인지
     private static final Properties properties = new Properties();
+    private static final PoolMetricsTracker.Factory metricsTrackerFactory = new PoolMetricsTracker.Factory();
+    private static final PoolMetricsTracker.Factory replicaMetricsTrackerFactory = new PoolMetricsTracker.Factory();
 
     static {
         try {
@@ -50,36 +57,16 @@ public class DatabaseConnection {
             System.setProperty("oracle.net.ssl_version", "1.2");
             System.setProperty("oracle.net.ssl_server_dn_match", "true");
 
-            // HikariCP 설정
-            HikariConfig config = new HikariConfig();
-            config.setJdbcUrl(properties.getProperty("db.url"));
-            config.setUsername(properties.getProperty("db.user"));
-            config.setPassword(properties.getProperty("db.password"));
-            config.setDriverClassName(properties.getProperty("db.driver"));
-
-            // 커넥션 풀 설정
-            config.setMaximumPoolSize(3); // 최대 커넥션 수
-            config.setMinimumIdle(2); // 최소 유지 커넥션 수
-            config.setIdleTimeout(30000); // 유휴 커넥션 타임아웃 (30초)
-            config.setConnectionTimeout(30000); // 커넥션 획득 타임아웃 (30초)
-            config.setPoolName("eCommercePool"); // 풀 이름 설정
-
-            // 연결 속성 설정
-            Properties connectionProps = new Properties();
-            connectionProps.setProperty("characterEncoding", "UTF-8");
-            connectionProps.setProperty("useUnicode", "true");
-            config.setDataSourceProperties(connectionProps);
-
-            // TNS_ADMIN 설정을 HikariCP 데이터소스 속성에 추가
-            String tnsAdmin = System.getProperty("oracle.net.tns_admin");
-            if (tnsAdmin != null) {
-                config.addDataSourceProperty("oracle.net.tns_admin", tnsAdmin);
-            }
-
-            // HikariDataSource 생성
-            dataSource = new HikariDataSource(config);
+            // 주 DB 커넥션 풀 생성
+            dataSource = createDataSource("db", "eCommercePool", metricsTrackerFactory);
+            h2 = getSetting("db.url", "").startsWith("jdbc:h2:");
 
-            log.info("HikariCP 커넥션 풀 초기화 성공");
+            // 읽기 전용 복제본 커넥션 풀 생성 (db.replica.url이 설정된 경우에만)
+            if (getSetting("db.replica.url", null) != null) {
+                replicaDataSource = createDataSource("db.replica", "eCommerceReplicaPool", replicaMetricsTrackerFactory);
+                replicaStickyMillis = getLongSetting("db.replica.stickyMillis", 5000);
+                log.info("읽기 전용 복제본 커넥션 풀 사용: " + getSetting("db.replica.url", null));
+            }
 
         } catch (Exception e) {
             log.error("HikariCP 설정 중 오류 발생:", e);
@@ -89,9 +76,64 @@ public class DatabaseConnection {
 
     /**
      * 커넥션 풀에서 연결을 가져옵니다.
+     * 진행 중인 작업 단위(UnitOfWork)가 있으면 그 작업 단위의 공유 커넥션을 반환합니다.
      * @return 데이터베이스 연결
      */
     public static Connection getConnection() {
+        // @ReadOnly 조회이고 복제본이 설정되어 있으면 복제본 커넥션 사용
+        if (replicaDataSource != null && ReadOnlyRouting.isReadOnly()) {
+            Connection sharedRead = UnitOfWork.currentReadConnection(DatabaseConnection::getReplicaConnection);
+            if (sharedRead != null) {
+                return sharedRead;
+            }
+            return getReplicaConnection();
+        }
+
+        Connection shared = UnitOfWork.currentConnection(DatabaseConnection::getPooledConnection);
+        if (shared != null) {
+            return shared;
+        }
+        return getPooledConnection();
+    }
+
+    /**
+     * 읽기 전용 복제본 풀에서 연결을 가져옵니다. 복제본에 연결할 수 없으면 주 DB 연결을 반환합니다.
+     */
+    private static Connection getReplicaConnection() {
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException e) {
+            log.warn("복제본 연결 실패, 주 DB로 조회합니다: " + e.getMessage());
+            return getPooledConnection();
+        }
+    }
+
+    /**
+     * 읽기 전용 복제본 풀이 설정되어 있는지 확인합니다.
+     */
+    public static boolean hasReplica() {
+        return replicaDataSource != null;
+    }
+
+    /**
+     * 주 DB가 H2(테스트/벤치마크용 내장 DB, Oracle 호환 모드)인지 확인합니다.
+     * Oracle과 H2의 동작이 다른 SQL만 이 값으로 분기합니다.
+     */
+    public static boolean isH2() {
+        return h2;
+    }
+
+    /**
+     * 쓰기 후 같은 세션의 조회를 주 DB로 고정하는 시간 (밀리초)
+     */
+    public static long getReplicaStickyMillis() {
+        return replicaStickyMillis;
+    }
+
+    /**
+     * 작업 단위와 관계없이 풀에서 새 연결을 가져옵니다.
+     */
+    private static Connection getPooledConnection() {
         try {
             return dataSource.getConnection();
         } catch (SQLException e) {
@@ -100,6 +142,163 @@ public class DatabaseConnection {
         }
     }
 
+    /**
+     * 현재 커넥션 풀 상태와 설정, 커넥션 획득 시간 통계를 조회합니다.
+     * @return 풀 메트릭 정보, 풀이 초기화되지 않았으면 null
+     */
+    public static PoolMetricsDTO getPoolMetrics() {
+        return getPoolMetrics(dataSource, metricsTrackerFactory);
+    }
+
+    /**
+     * 읽기 전용 복제본 커넥션 풀의 상태를 조회합니다.
+     * @return 풀 메트릭 정보, 복제본이 설정되지 않았으면 null
+     */
+    public static PoolMetricsDTO getReplicaPoolMetrics() {
+        return getPoolMetrics(replicaDataSource, replicaMetricsTrackerFactory);
+    }
+
+    private static PoolMetricsDTO getPoolMetrics(HikariDataSource source, PoolMetricsTracker.Factory trackerFactory) {
+        if (source == null || source.isClosed()) {
+            return null;
+        }
+
+        PoolMetricsDTO metrics = new PoolMetricsDTO();
+        metrics.setPoolName(source.getPoolName());
+
+        HikariPoolMXBean poolBean = source.getHikariPoolMXBean();
+        if (poolBean != null) {
+            metrics.setActiveConnections(poolBean.getActiveConnections());
+            metrics.setIdleConnections(poolBean.getIdleConnections());
+            metrics.setTotalConnections(poolBean.getTotalConnections());
+            metrics.setPendingThreads(poolBean.getThreadsAwaitingConnection());
+        }
+
+        PoolMetricsTracker tracker = trackerFactory.getTracker();
+        if (tracker != null) {
+            double[] percentiles = tracker.getAcquireMillisPercentiles(50, 95, 99, 100);
+            metrics.setAcquireCount(tracker.getAcquireCount());
+            metrics.setTimeoutCount(tracker.getTimeoutCount());
+            metrics.setAcquireP50Millis(percentiles[0]);
+            metrics.setAcquireP95Millis(percentiles[1]);
+            metrics.setAcquireP99Millis(percentiles[2]);
+            metrics.setAcquireMaxMillis(percentiles[3]);
+            metrics.setAverageUsageMillis(tracker.getAverageUsageMillis());
+        }
+
+        metrics.setMaximumPoolSize(source.getMaximumPoolSize());
+        metrics.setMinimumIdle(source.getMinimumIdle());
+        metrics.setConnectionTimeout(source.getConnectionTimeout());
+        metrics.setIdleTimeout(source.getIdleTimeout());
+        metrics.setMaxLifetime(source.getMaxLifetime());
+        metrics.setLeakDetectionThreshold(source.getLeakDetectionThreshold());
+        metrics.setValidationTimeout(source.getValidationTimeout());
+        return metrics;
+    }
+
+    /**
+     * 설정 접두어(db, db.replica)에 해당하는 HikariCP 커넥션 풀을 생성합니다.
+     * 복제본 설정(db.replica.xxx)이 없는 항목은 주 DB 설정(db.xxx)을 그대로 사용합니다.
+     */
+    private static HikariDataSource createDataSource(String prefix, String defaultPoolName,
+                                                     PoolMetricsTracker.Factory trackerFactory) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(getPoolSetting(prefix, "url", null));
+        config.setUsername(getPoolSetting(prefix, "user", null));
+        config.setPassword(getPoolSetting(prefix, "password", null));
+        config.setDriverClassName(getPoolSetting(prefix, "driver", null));
+
+        // 커넥션 풀 설정 (시스템 프로퍼티 > db.properties > 기본값 순으로 적용)
+        config.setMaximumPoolSize((int) getPoolLongSetting(prefix, "pool.maximumPoolSize", 3)); // 최대 커넥션 수
+        config.setMinimumIdle((int) getPoolLongSetting(prefix, "pool.minimumIdle", 2)); // 최소 유지 커넥션 수
+        config.setIdleTimeout(getPoolLongSetting(prefix, "pool.idleTimeout", 30000)); // 유휴 커넥션 타임아웃 (30초)
+        config.setConnectionTimeout(getPoolLongSetting(prefix, "pool.connectionTimeout", 30000)); // 커넥션 획득 타임아웃 (30초)
+        config.setMaxLifetime(getPoolLongSetting(prefix, "pool.maxLifetime", 1800000)); // 커넥션 최대 수명 (30분)
+        config.setLeakDetectionThreshold(getPoolLongSetting(prefix, "pool.leakDetectionThreshold", 0)); // 누수 감지 기준 (0이면 사용 안 함)
+        config.setValidationTimeout(getPoolLongSetting(prefix, "pool.validationTimeout", 5000)); // 커넥션 검증 타임아웃 (5초)
+        long keepaliveTime = getPoolLongSetting(prefix, "pool.keepaliveTime", 0);
+        if (keepaliveTime > 0) {
+            config.setKeepaliveTime(keepaliveTime); // 유휴 커넥션 검증 주기
+        }
+        String testQuery = getPoolSetting(prefix, "pool.connectionTestQuery", null);
+        if (testQuery != null) {
+            config.setConnectionTestQuery(testQuery); // JDBC4 isValid()를 지원하지 않는 드라이버용
+        }
+        config.setPoolName(getSetting(prefix + ".pool.name", defaultPoolName)); // 풀 이름 설정
+        config.setMetricsTrackerFactory(trackerFactory); // 커넥션 획득 시간 기록
+        if (!"db".equals(prefix)) {
+            config.setReadOnly(true); // 복제본 커넥션은 읽기 전용
+        }
+
+        // 연결 속성 설정
+        Properties connectionProps = new Properties();
+        connectionProps.setProperty("characterEncoding", "UTF-8");
+        connectionProps.setProperty("useUnicode", "true");
+        config.setDataSourceProperties(connectionProps);
+
+        // TNS_ADMIN 설정을 HikariCP 데이터소스 속성에 추가
+        String tnsAdmin = System.getProperty("oracle.net.tns_admin");
+        if (tnsAdmin != null) {
+            config.addDataSourceProperty("oracle.net.tns_admin", tnsAdmin);
+        }
+
+        HikariDataSource source = new HikariDataSource(config);
+
+        log.info("HikariCP 커넥션 풀 초기화 성공 [{}]: maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms, " +
+                        "maxLifetime={}ms, leakDetectionThreshold={}ms",
+                config.getPoolName(), config.getMaximumPoolSize(), config.getMinimumIdle(),
+                config.getConnectionTimeout(), config.getMaxLifetime(), config.getLeakDetectionThreshold());
+        return source;
+    }
+
+    /**
+     * 접두어별 설정값을 조회합니다. 복제본 설정이 없으면 주 DB 설정(db.xxx)을 사용합니다.
+     */
+    private static String getPoolSetting(String prefix, String key, String defaultValue) {
+        String value = getSetting(prefix + "." + key, null);
+        if (value == null && !"db".equals(prefix)) {
+            value = getSetting("db." + key, null);
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    private static long getPoolLongSetting(String prefix, String key, long defaultValue) {
+        String value = getPoolSetting(prefix, key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 풀 설정값 {}.{}={}, 기본값 {} 사용", prefix, key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 설정값을 조회합니다. 시스템 프로퍼티(-Ddb.pool.xxx)가 db.properties보다 우선합니다.
+     */
+    private static String getSetting(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            value = properties.getProperty(key);
+        }
+        return (value == null || value.trim().isEmpty()) ? defaultValue : value.trim();
+    }
+
+    private static long getLongSetting(String key, long defaultValue) {
+        String value = getSetting(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 풀 설정값 {}={}, 기본값 {} 사용", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * 풀을 닫고 모든 리소스를 해제합니다.
      */
@@ -108,6 +307,10 @@ public class DatabaseConnection {
             dataSource.close();
             log.info("HikariCP 커넥션 풀이 종료되었습니다.");
         }
+        if (replicaDataSource != null && !replicaDataSource.isClosed()) {
+            replicaDataSource.close();
+            log.info("복제본 커넥션 풀이 종료되었습니다.");
+        }
     }
 
     /**
@@ -0,0 +1,52 @@
+package util;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 렌더링된 JSP 조각(HTML) 캐시 (tag.FragmentCacheTag에서 사용)
+ * 키에 카탈로그 버전(CatalogVersion)을 포함하므로 카탈로그가 바뀌면 이전 조각은 더 이상 조회되지 않고
+ * 항목 수 제한(LRU)에 따라 제거됩니다.
+ */
+public class FragmentCache {
+    // 이보다 긴 조각은 저장하지 않음 (항목 수 제한만으로도 메모리 사용량이 예측 가능하도록)
+    private static final int MAX_FRAGMENT_LENGTH = 256 * 1024;
+
+    private final LruCache<String, String> cache;
+
+    public FragmentCache(int maxEntries) {
+        this.cache = new LruCache<>(maxEntries);
+    }
+
+    /**
+     * 현재 카탈로그 버전을 포함한 조각 키를 만듭니다.
+     * 데이터를 조회하기 전에 만들어야, 조회 중에 카탈로그가 바뀌어도 이전 버전 키로 저장됩니다.
+     * @param name 조각 이름 (화면 구분)
+     * @param parts 화면 내용을 결정하는 값 (요청 파라미터 등, null 허용)
+     */
+    public static String key(String name, Object... parts) {
+        StringBuilder key = new StringBuilder(name).append('@').append(CatalogVersion.current());
+        for (Object part : parts) {
+            // 값 안의 구분자와 섞이지 않도록 인코딩 (null과 빈 문자열도 구분)
+            key.append('&').append(part == null ? "-" : "=" + URLEncoder.encode(part.toString(), StandardCharsets.UTF_8));
+        }
+        return key.toString();
+    }
+
+    public String get(String key) {
+        return key != null ? cache.get(key) : null;
+    }
+
+    public void put(String key, String fragment) {
+        if (fragment != null && fragment.length() <= MAX_FRAGMENT_LENGTH) {
+            cache.put(key, fragment);
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중/실패/제거 횟수)
+     */
+    public LruCache<String, String> getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,84 @@
+package util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * 상품 이미지 크기 변형 (목록 썸네일, 카드, 상세)
+ * 업로드 시 원본에서 미리 만들어 TB_CONTENT에 원본 ID(id_org_file)와 변형 코드(cd_variant)로 저장하며,
+ * /file/{fileId}?size=코드 로 요청합니다.
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumb", 160),
+    CARD("card", 480),
+    DETAIL("detail", 1200);
+
+    /**
+     * 변형을 만들 수 없는 원본(WEBP 등 디코딩할 수 없는 이미지)에 남기는 표시용 변형 코드
+     * 파일 데이터 없이 저장하며, 변형 일괄 생성 시 이 표시가 있는 원본은 다시 읽지 않습니다.
+     */
+    public static final String UNSUPPORTED = "none";
+
+    private final String code;
+    private final int maxSize; // 긴 변 최대 픽셀
+
+    ImageVariant(String code, int maxSize) {
+        this.code = code;
+        this.maxSize = maxSize;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 요청 파라미터 값으로 변형을 찾습니다.
+     * @return 일치하는 변형, 없거나 알 수 없는 값이면 null (원본)
+     */
+    public static ImageVariant fromCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        for (ImageVariant variant : values()) {
+            if (variant.code.equalsIgnoreCase(code)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 긴 변이 maxSize를 넘지 않도록 비율을 유지해 축소합니다. (원본이 작으면 크기 유지)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 여러 번 줄입니다.
+     */
+    public BufferedImage resize(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage scaled = new BufferedImage(width, height, type);
+            Graphics2D g = scaled.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = scaled;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+}
@@ -0,0 +1,81 @@
+package util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(Seek) 페이지네이션용 커서
+ * 마지막(또는 첫) 행의 정렬 키(판매가, 상품코드)와 이동 방향을 담으며,
+ * URL에는 Base64(URL-safe)로 인코딩된 불투명 문자열로 전달됩니다.
+ */
+public class KeysetCursor {
+    private static final String FORWARD = "n";
+    private static final String BACKWARD = "p";
+
+    private final Integer salePrice;     // 가격순 정렬일 때만 사용
+    private final String productCode;
+    private final boolean backward;      // true: 이전 페이지 방향
+
+    public KeysetCursor(Integer salePrice, String productCode, boolean backward) {
+        this.salePrice = salePrice;
+        this.productCode = productCode;
+        this.backward = backward;
+    }
+
+    public Integer getSalePrice() {
+        return salePrice;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public boolean isBackward() {
+        return backward;
+    }
+
+    /**
+     * 커서를 URL에 사용할 수 있는 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = (backward ? BACKWARD : FORWARD) + "|"
+                + (salePrice != null ? salePrice : "") + "|"
+                + productCode;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석합니다.
+     * @param encoded 커서 문자열
+     * @return 해석된 커서, 형식이 잘못된 경우 null
+     */
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                return null;
+            }
+
+            boolean backward;
+            if (BACKWARD.equals(parts[0])) {
+                backward = true;
+            } else if (FORWARD.equals(parts[0])) {
+                backward = false;
+            } else {
+                return null;
+            }
+
+            Integer salePrice = parts[1].isEmpty() ? null : Integer.valueOf(parts[1]);
+            return new KeysetCursor(salePrice, parts[2], backward);
+        } catch (IllegalArgumentException e) {
+            // Base64 또는 숫자 형식 오류 (NumberFormatException 포함)
+            return null;
+        }
+    }
+}
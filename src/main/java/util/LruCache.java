@@ -0,0 +1,115 @@
+package util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 제한이 있는 LRU(Least Recently Used) 캐시
+ * 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거하며,
+ * 적중/실패/제거 횟수를 통계로 제공합니다.
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+    private final int maxSize;
+    private final LinkedHashMap<K, V> map;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        // accessOrder=true: 조회 시 해당 항목이 가장 최근 항목으로 이동
+        this.map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시에서 값을 조회합니다.
+     * @param key 키
+     * @return 캐시된 값, 없으면 null
+     */
+    public synchronized V get(K key) {
+        V value = map.get(key);
+        if (value != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * 캐시에 값을 저장합니다. (null 값은 저장하지 않음)
+     */
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * 특정 키의 캐시 항목을 무효화합니다.
+     */
+    public synchronized void remove(K key) {
+        if (key != null) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * 모든 캐시 항목을 무효화합니다.
+     */
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * 캐시 적중률 (0.0 ~ 1.0)
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LruCache[size=%d/%d, hit=%d, miss=%d, eviction=%d, hitRate=%.2f]",
+                size(), maxSize, getHitCount(), getMissCount(), getEvictionCount(), getHitRate());
+    }
+}
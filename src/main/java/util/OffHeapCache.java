@@ -0,0 +1,251 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 힙 밖(direct ByteBuffer)에 데이터를 보관하는 LRU 캐시
+ * 항목 수가 아니라 보관한 데이터의 총 바이트 수로 크기를 제한하며,
+ * 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다. 적중/실패/제거 횟수를 통계로 제공합니다.
+ * 데이터가 힙 밖에 있으므로 캐시 크기가 GC 대상 힙 크기에 영향을 주지 않습니다.
+ * (direct 메모리 한도는 -XX:MaxDirectMemorySize, 지정하지 않으면 최대 힙 크기와 같음)
+ * @param <K> 키 타입
+ * @param <M> 데이터와 함께 보관하는 메타데이터 타입 (힙에 보관)
+ */
+public class OffHeapCache<K, M> {
+
+    /**
+     * 캐시 항목 (메타데이터와 읽기 전용 데이터)
+     */
+    public static final class Entry<M> {
+        private final M metadata;
+        private final ByteBuffer data;
+
+        private Entry(M metadata, ByteBuffer data) {
+            this.metadata = metadata;
+            this.data = data;
+        }
+
+        public M getMetadata() {
+            return metadata;
+        }
+
+        /**
+         * 데이터 (호출마다 위치가 독립적인 읽기 전용 버퍼, 여러 스레드가 동시에 읽어도 됨)
+         * 항목이 제거되어도 반환된 버퍼는 사용하는 동안 유효합니다.
+         */
+        public ByteBuffer getData() {
+            return data.duplicate();
+        }
+
+        public int getLength() {
+            return data.capacity();
+        }
+    }
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final LinkedHashMap<K, Entry<M>> map = new LinkedHashMap<>(16, 0.75f, true); // accessOrder=true
+    private long totalBytes;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param maxBytes 보관할 데이터의 최대 총 바이트 수
+     * @param maxEntryBytes 항목 하나의 최대 바이트 수 (이보다 큰 데이터는 저장하지 않음)
+     */
+    public OffHeapCache(long maxBytes, long maxEntryBytes) {
+        if (maxBytes <= 0 || maxEntryBytes <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다: " + maxBytes + ", " + maxEntryBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(Math.min(maxEntryBytes, maxBytes), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 캐시에서 항목을 조회합니다.
+     * @return 캐시된 항목, 없으면 null
+     */
+    public synchronized Entry<M> get(K key) {
+        Entry<M> entry = map.get(key);
+        if (entry != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * 항목이 있는지 확인합니다. (통계와 사용 순서에 영향 없음)
+     */
+    public synchronized boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    /**
+     * 캐시에 항목을 저장하고, 총 크기를 넘으면 오래 사용되지 않은 항목부터 제거합니다.
+     * @param data 저장할 데이터 (position부터 limit까지, 읽기 전용으로 보관)
+     * @return 저장했으면 true, 항목 최대 크기를 넘으면 false
+     */
+    public synchronized boolean put(K key, M metadata, ByteBuffer data) {
+        if (key == null || data == null || data.remaining() > maxEntryBytes) {
+            return false;
+        }
+        Entry<M> entry = new Entry<>(metadata, data.slice().asReadOnlyBuffer());
+        Entry<M> previous = map.put(key, entry);
+        if (previous != null) {
+            totalBytes -= previous.getLength();
+        }
+        totalBytes += entry.getLength();
+
+        Iterator<Entry<M>> eldest = map.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getLength();
+            eldest.remove();
+            evictionCount.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * 특정 키의 캐시 항목을 무효화합니다.
+     */
+    public synchronized void remove(K key) {
+        Entry<M> entry = map.remove(key);
+        if (entry != null) {
+            totalBytes -= entry.getLength();
+        }
+    }
+
+    /**
+     * 메타데이터가 조건을 만족하는 캐시 항목을 모두 무효화합니다.
+     */
+    public synchronized void removeIf(Predicate<M> condition) {
+        Iterator<Entry<M>> entries = map.values().iterator();
+        while (entries.hasNext()) {
+            Entry<M> entry = entries.next();
+            if (condition.test(entry.getMetadata())) {
+                totalBytes -= entry.getLength();
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * 모든 캐시 항목을 무효화합니다.
+     */
+    public synchronized void clear() {
+        map.clear();
+        totalBytes = 0;
+    }
+
+    /**
+     * 데이터를 읽어 direct 버퍼에 담습니다.
+     * @param length 읽을 바이트 수 (항목 최대 크기 이하)
+     * @return 읽은 데이터 (position 0, limit 읽은 길이)
+     * @throws IOException 읽기 실패 또는 length보다 짧은 데이터
+     * @throws OutOfMemoryError direct 메모리 한도를 넘은 경우
+     */
+    public static ByteBuffer read(InputStream in, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        ReadableByteChannel channel = Channels.newChannel(in);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                throw new IOException("데이터 길이가 예상(" + length + " bytes)보다 짧습니다.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * 버퍼의 남은 내용을 읽는 입력 스트림 (버퍼의 위치를 옮기므로 duplicate한 버퍼를 전달)
+     */
+    public static InputStream newInputStream(ByteBuffer buffer) {
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(len, buffer.remaining());
+                buffer.get(b, off, count);
+                return count;
+            }
+
+            @Override
+            public long skip(long n) {
+                int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+                buffer.position(buffer.position() + count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        };
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * 캐시 적중률 (0.0 ~ 1.0)
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OffHeapCache[size=%d, bytes=%d/%d, hit=%d, miss=%d, eviction=%d, hitRate=%.2f]",
+                size(), getTotalBytes(), maxBytes, getHitCount(), getMissCount(), getEvictionCount(), getHitRate());
+    }
+}
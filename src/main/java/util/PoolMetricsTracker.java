@@ -0,0 +1,108 @@
+package util;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HikariCP 커넥션 획득 시간을 기록하는 메트릭 트래커
+ * 최근 SAMPLE_SIZE건의 획득 시간을 링 버퍼에 보관하고 백분위수를 계산합니다.
+ */
+public class PoolMetricsTracker implements IMetricsTracker {
+    private static final int SAMPLE_SIZE = 2048;
+
+    private final long[] acquireNanos = new long[SAMPLE_SIZE];
+    private int sampleIndex;
+    private int sampleCount;
+
+    private final AtomicLong acquireCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalUsageMillis = new AtomicLong();
+    private final AtomicLong usageCount = new AtomicLong();
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireCount.incrementAndGet();
+        synchronized (acquireNanos) {
+            acquireNanos[sampleIndex] = elapsedAcquiredNanos;
+            sampleIndex = (sampleIndex + 1) % SAMPLE_SIZE;
+            if (sampleCount < SAMPLE_SIZE) {
+                sampleCount++;
+            }
+        }
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageCount.incrementAndGet();
+        totalUsageMillis.addAndGet(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeoutCount.incrementAndGet();
+    }
+
+    /**
+     * 최근 커넥션 획득 시간의 백분위수 (밀리초)
+     * @param percentiles 0~100 사이의 백분위 값 목록
+     * @return 각 백분위에 해당하는 획득 시간, 기록이 없으면 0
+     */
+    public double[] getAcquireMillisPercentiles(double... percentiles) {
+        long[] samples;
+        synchronized (acquireNanos) {
+            samples = Arrays.copyOf(acquireNanos, sampleCount);
+        }
+        Arrays.sort(samples);
+
+        double[] result = new double[percentiles.length];
+        if (samples.length == 0) {
+            return result;
+        }
+
+        for (int i = 0; i < percentiles.length; i++) {
+            int index = (int) Math.ceil(percentiles[i] / 100.0 * samples.length) - 1;
+            index = Math.max(0, Math.min(samples.length - 1, index));
+            result[i] = samples[index] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+        return result;
+    }
+
+    public long getAcquireCount() {
+        return acquireCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * 커넥션을 빌려 사용한 평균 시간 (밀리초)
+     */
+    public double getAverageUsageMillis() {
+        long count = usageCount.get();
+        return count == 0 ? 0 : totalUsageMillis.get() / (double) count;
+    }
+
+    /**
+     * HikariConfig.setMetricsTrackerFactory에 등록하는 팩토리
+     * 생성된 트래커를 보관하여 관리자 화면에서 조회할 수 있게 합니다.
+     */
+    public static class Factory implements MetricsTrackerFactory {
+        private volatile PoolMetricsTracker tracker;
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            tracker = new PoolMetricsTracker();
+            return tracker;
+        }
+
+        public PoolMetricsTracker getTracker() {
+            return tracker;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 읽기 전용 복제본 DB로 보내도 되는 DAO 조회 메서드에 붙이는 표시
+ * ReadOnlyRouting.wrap()으로 감싼 DAO에서만 동작하며,
+ * 복제본이 설정되지 않았거나 같은 요청에서 이미 쓰기를 했다면 주 DB를 사용합니다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadOnly {
+}
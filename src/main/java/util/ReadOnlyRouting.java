@@ -0,0 +1,68 @@
+package util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * DAO 호출을 주 DB / 읽기 전용 복제본 DB로 나누는 라우팅 컨텍스트
+ *
+ * wrap()으로 감싼 DAO의 @ReadOnly 메서드가 실행되는 동안 현재 스레드를 읽기 전용으로 표시하고,
+ * DatabaseConnection.getConnection()은 이 표시를 보고 복제본 커넥션을 반환합니다.
+ * 쓰기 직후 조회처럼 최신 데이터가 필요한 요청은 setPrimaryOnly(true)로 주 DB에 고정할 수 있습니다.
+ */
+public final class ReadOnlyRouting {
+    private static final ThreadLocal<Integer> READ_ONLY_DEPTH = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReadOnlyRouting() {
+    }
+
+    /**
+     * DAO 구현체를 감싸 @ReadOnly 메서드 호출을 복제본으로 라우팅합니다.
+     * @param daoInterface DAO 인터페이스 (@ReadOnly가 선언된 타입)
+     * @param target 실제 DAO 구현체
+     * @return 라우팅 프록시
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T wrap(Class<T> daoInterface, T target) {
+        return (T) Proxy.newProxyInstance(
+                daoInterface.getClassLoader(),
+                new Class<?>[]{daoInterface},
+                (proxy, method, args) -> invoke(target, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        boolean readOnly = method.isAnnotationPresent(ReadOnly.class);
+        if (readOnly) {
+            READ_ONLY_DEPTH.set(READ_ONLY_DEPTH.get() + 1);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            if (readOnly) {
+                READ_ONLY_DEPTH.set(READ_ONLY_DEPTH.get() - 1);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 DB 호출을 복제본으로 보내도 되는지 확인합니다.
+     */
+    public static boolean isReadOnly() {
+        return READ_ONLY_DEPTH.get() > 0 && !PRIMARY_ONLY.get();
+    }
+
+    /**
+     * 현재 스레드의 모든 조회를 주 DB로 고정하거나 해제합니다. (read-your-own-write 용도)
+     */
+    public static void setPrimaryOnly(boolean primaryOnly) {
+        if (primaryOnly) {
+            PRIMARY_ONLY.set(Boolean.TRUE);
+        } else {
+            PRIMARY_ONLY.remove();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 커넥션/트랜잭션 컨텍스트
+ *
+ * begin()으로 작업 단위를 시작하면 같은 스레드에서 호출되는 DatabaseConnection.getConnection()이
+ * 하나의 물리 커넥션을 공유합니다. DAO가 직접 호출하는 close/commit/setAutoCommit은 무시되고,
+ * rollback은 즉시 롤백한 뒤 작업 단위 전체를 롤백 전용으로 표시합니다.
+ * 실제 커밋/롤백과 커넥션 반환은 가장 바깥 작업 단위가 끝날 때 한 번만 수행됩니다.
+ * 읽기 전용 조회(@ReadOnly)는 주 커넥션을 아직 사용하지 않았다면 별도의 복제본 커넥션 하나를 공유합니다.
+ *
+ * 사용 예:
+ * <pre>
+ * UnitOfWork.begin();
+ * try {
+ *     ... DAO 호출 ...
+ *     UnitOfWork.commit();
+ * } finally {
+ *     UnitOfWork.end();
+ * }
+ * </pre>
+ */
+@Slf4j
+public final class UnitOfWork {
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private Connection connection;   // 풀에서 가져온 실제 커넥션 (처음 사용할 때 획득)
+    private Connection sharedProxy;  // DAO에 전달되는 커넥션 (close/commit 무시)
+    private Connection readConnection;      // 읽기 전용 복제본 커넥션 (처음 사용할 때 획득)
+    private Connection sharedReadProxy;
+    private boolean rollbackOnly;
+    private boolean wrote;           // 주 커넥션으로 INSERT/UPDATE/DELETE를 실행했는지 여부
+    private boolean commitSucceeded; // 가장 바깥 작업 단위가 실제로 커밋되었는지 여부
+    private int joinCount;           // 공유 커넥션을 사용한 횟수 (로그용)
+
+    // 중첩된 작업 단위별 커밋 여부
+    private final Deque<Boolean> levels = new ArrayDeque<>();
+    private final List<Runnable> afterCompletion = new ArrayList<>();
+    private final List<Runnable> afterCommit = new ArrayList<>();
+
+    private UnitOfWork() {
+    }
+
+    /**
+     * 작업 단위를 시작합니다. 이미 진행 중인 작업 단위가 있으면 그 안에 참여합니다.
+     */
+    public static void begin() {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null) {
+            unitOfWork = new UnitOfWork();
+            CURRENT.set(unitOfWork);
+        }
+        unitOfWork.levels.push(Boolean.FALSE);
+    }
+
+    /**
+     * 현재 작업 단위를 커밋합니다.
+     * 중첩된 작업 단위는 커밋 표시만 하고, 가장 바깥 작업 단위에서 실제로 커밋합니다.
+     * 롤백 전용으로 표시된 경우에는 롤백합니다.
+     * @throws SQLException 커밋 실패 시
+     */
+    public static void commit() throws SQLException {
+        UnitOfWork unitOfWork = requireCurrent();
+        if (unitOfWork.levels.size() > 1) {
+            unitOfWork.markCommitted();
+            return;
+        }
+
+        if (unitOfWork.connection == null) {
+            unitOfWork.commitSucceeded = !unitOfWork.rollbackOnly;
+        } else if (unitOfWork.rollbackOnly) {
+            unitOfWork.connection.rollback();
+            log.info("작업 단위가 롤백 전용으로 표시되어 롤백되었습니다.");
+        } else {
+            unitOfWork.connection.commit();
+            unitOfWork.commitSucceeded = true;
+            log.debug("작업 단위 커밋 (공유 커넥션 사용 {}회)", unitOfWork.joinCount);
+        }
+        // 실제 커밋이 끝난 뒤에 표시 (커밋 중 예외가 나면 커밋되지 않은 작업 단위로 남아 end()에서 롤백)
+        unitOfWork.markCommitted();
+    }
+
+    /**
+     * 현재 작업 단위를 종료합니다.
+     * 커밋되지 않은 작업 단위는 롤백되며, 가장 바깥 작업 단위가 끝나면 커넥션을 풀에 반환합니다.
+     */
+    public static void end() {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null || unitOfWork.levels.isEmpty()) {
+            return;
+        }
+
+        boolean committed = unitOfWork.levels.pop();
+        if (!committed) {
+            unitOfWork.rollbackOnly = true;
+        }
+
+        if (!unitOfWork.levels.isEmpty()) {
+            return;
+        }
+
+        CURRENT.remove();
+        unitOfWork.release();
+    }
+
+    /**
+     * 진행 중인 작업 단위가 있는지 확인합니다.
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 현재 작업 단위에서 쓰기(INSERT/UPDATE/DELETE/MERGE) 문장을 실행했는지 확인합니다.
+     * 작업 단위가 끝나기 전에 호출해야 합니다.
+     */
+    public static boolean hasWrites() {
+        UnitOfWork unitOfWork = CURRENT.get();
+        return unitOfWork != null && unitOfWork.wrote;
+    }
+
+    /**
+     * 작업 단위 전체를 롤백 전용으로 표시합니다.
+     */
+    public static void setRollbackOnly() {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork != null) {
+            unitOfWork.rollbackOnly = true;
+        }
+    }
+
+    /**
+     * 작업 단위가 끝난 뒤(커밋 또는 롤백 후) 실행할 작업을 등록합니다.
+     * 진행 중인 작업 단위가 없으면 즉시 실행합니다.
+     * @param task 실행할 작업 (예: 캐시 무효화)
+     */
+    public static void afterCompletion(Runnable task) {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null) {
+            task.run();
+        } else {
+            unitOfWork.afterCompletion.add(task);
+        }
+    }
+
+    /**
+     * 작업 단위가 커밋된 뒤에 실행할 작업을 등록합니다. 롤백되면 실행하지 않습니다.
+     * 진행 중인 작업 단위가 없으면 즉시 실행합니다.
+     * @param task 실행할 작업 (예: 커밋된 데이터를 다른 커넥션에서 읽는 백그라운드 작업 예약)
+     */
+    public static void afterCommit(Runnable task) {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null) {
+            task.run();
+        } else {
+            unitOfWork.afterCommit.add(task);
+        }
+    }
+
+    /**
+     * 현재 작업 단위의 공유 커넥션을 반환합니다. 작업 단위가 없으면 null을 반환합니다.
+     * @param opener 처음 사용할 때 실제 커넥션을 가져올 방법
+     */
+    static Connection currentConnection(Supplier<Connection> opener) {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null) {
+            return null;
+        }
+
+        if (unitOfWork.connection == null) {
+            Connection physical = opener.get();
+            try {
+                physical.setAutoCommit(false);
+            } catch (SQLException e) {
+                DatabaseConnection.closeConnection(physical);
+                throw new RuntimeException("작업 단위 커넥션 설정 실패: " + e.getMessage(), e);
+            }
+            unitOfWork.connection = physical;
+            unitOfWork.sharedProxy = unitOfWork.createProxy(physical, false);
+        }
+
+        unitOfWork.joinCount++;
+        return unitOfWork.sharedProxy;
+    }
+
+    /**
+     * 현재 작업 단위에서 읽기 전용 조회에 사용할 커넥션을 반환합니다. 작업 단위가 없으면 null을 반환합니다.
+     * 이미 주 커넥션을 사용 중이면 자신이 쓴 데이터를 읽을 수 있도록 주 커넥션을 그대로 반환합니다.
+     * @param opener 처음 사용할 때 복제본 커넥션을 가져올 방법
+     */
+    static Connection currentReadConnection(Supplier<Connection> opener) {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null) {
+            return null;
+        }
+
+        if (unitOfWork.connection != null) {
+            unitOfWork.joinCount++;
+            return unitOfWork.sharedProxy;
+        }
+
+        if (unitOfWork.readConnection == null) {
+            unitOfWork.readConnection = opener.get();
+            unitOfWork.sharedReadProxy = unitOfWork.createProxy(unitOfWork.readConnection, true);
+        }
+
+        unitOfWork.joinCount++;
+        return unitOfWork.sharedReadProxy;
+    }
+
+    private void markCommitted() {
+        levels.pop();
+        levels.push(Boolean.TRUE);
+    }
+
+    private static UnitOfWork requireCurrent() {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null || unitOfWork.levels.isEmpty()) {
+            throw new IllegalStateException("진행 중인 작업 단위가 없습니다.");
+        }
+        return unitOfWork;
+    }
+
+    /**
+     * 실제로 커밋되지 않았으면 롤백하고 커넥션을 반환한 뒤 등록된 후처리 작업을 실행합니다.
+     * 커밋이 실패한 경우에도 롤백하므로 자동 커밋 복원(setAutoCommit(true))이 남은 변경을 커밋하지 않습니다.
+     * 커밋 후 작업(afterCommit)은 실제로 커밋된 경우에만 실행합니다.
+     */
+    private void release() {
+        if (readConnection != null) {
+            DatabaseConnection.closeConnection(readConnection);
+        }
+
+        if (connection != null) {
+            try {
+                if (!commitSucceeded) {
+                    connection.rollback();
+                    log.info("커밋되지 않은 작업 단위를 롤백했습니다.");
+                }
+            } catch (SQLException e) {
+                log.error("작업 단위 롤백 중 오류 발생: " + e.getMessage(), e);
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    log.warn("자동 커밋 복원 중 오류: " + e.getMessage());
+                }
+                DatabaseConnection.closeConnection(connection);
+            }
+        }
+
+        runAll(afterCompletion);
+        if (commitSucceeded) {
+            runAll(afterCommit);
+        } else if (!afterCommit.isEmpty()) {
+            log.debug("작업 단위가 롤백되어 커밋 후 작업 {}건을 실행하지 않습니다.", afterCommit.size());
+        }
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("작업 단위 후처리 중 오류 발생: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * DAO의 개별 트랜잭션 처리를 작업 단위에 합류시키는 커넥션 프록시를 생성합니다.
+     * @param readOnly 복제본 커넥션이면 true (롤백해도 작업 단위에 영향 없음)
+     */
+    private Connection createProxy(Connection physical, boolean readOnly) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    int argCount = args == null ? 0 : args.length;
+
+                    switch (name) {
+                        case "close":
+                        case "commit":
+                        case "setAutoCommit":
+                            // 작업 단위가 끝날 때 한 번에 처리
+                            return null;
+                        case "getAutoCommit":
+                            return false;
+                        case "prepareStatement":
+                        case "prepareCall":
+                            if (!readOnly && argCount > 0 && isWriteStatement(args[0])) {
+                                wrote = true;
+                            }
+                            break;
+                        case "rollback":
+                            if (readOnly) {
+                                return null;
+                            }
+                            if (argCount == 0) {
+                                // 지금까지의 변경을 즉시 되돌리고 작업 단위 전체를 롤백 전용으로 표시
+                                physical.rollback();
+                                rollbackOnly = true;
+                                return null;
+                            }
+                            break;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static boolean isWriteStatement(Object sql) {
+        if (!(sql instanceof String)) {
+            return false;
+        }
+        String statement = ((String) sql).trim().toUpperCase();
+        return statement.startsWith("INSERT") || statement.startsWith("UPDATE")
+                || statement.startsWith("DELETE") || statement.startsWith("MERGE")
+                || statement.startsWith("{") || statement.startsWith("CALL") || statement.startsWith("BEGIN");
+    }
+}
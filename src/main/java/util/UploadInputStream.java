@@ -0,0 +1,193 @@
+package util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 업로드 파일 검증 스트림
+ * 저장소(BLOB, 파일 시스템)로 복사되는 동안 한 번의 읽기로 크기 제한, 이미지 형식(파일 시그니처) 검사,
+ * SHA-256 계산을 함께 처리합니다. 검사에 실패하면 IOException을 던져 저장을 중단시킵니다.
+ * 전체 내용을 메모리에 올리지 않으므로 업로드 크기와 관계없이 힙 사용량이 일정합니다.
+ */
+public class UploadInputStream extends FilterInputStream {
+    // 시그니처 검사에 필요한 앞부분 길이 (WEBP: RIFF....WEBP)
+    private static final int HEADER_LENGTH = 12;
+
+    private final long maxSize;
+    private final String extension;
+    private final MessageDigest digest;
+    private final byte[] header = new byte[HEADER_LENGTH];
+    private int headerLength;
+    private boolean verified;
+    private long size;
+    private String hexDigest;
+
+    /**
+     * @param in 업로드 원본 스트림
+     * @param maxSize 최대 크기 (바이트)
+     * @param extension 파일 확장자 (내용이 이 형식인지 검사)
+     */
+    public UploadInputStream(InputStream in, long maxSize, String extension) {
+        super(in);
+        this.maxSize = maxSize;
+        this.extension = extension != null ? extension.toLowerCase() : "";
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 제공해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b == -1) {
+            finish();
+        } else {
+            update(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n == -1) {
+            finish();
+        } else if (n > 0) {
+            update(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // 건너뛴 부분도 검사와 해시에 포함되도록 읽어서 버림
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset을 지원하지 않습니다.");
+    }
+
+    /**
+     * 남은 내용을 끝까지 읽어 검사와 해시 계산을 마칩니다.
+     * 저장소가 지정한 길이만큼만 읽고 스트림 끝을 확인하지 않는 경우를 위해 저장 후 호출합니다.
+     * @return 내용의 SHA-256 (16진수)
+     */
+    public String complete() throws IOException {
+        byte[] buffer = new byte[1024];
+        while (read(buffer, 0, buffer.length) != -1) {
+            // 남은 내용은 검사와 해시에만 사용
+        }
+        return hexDigest;
+    }
+
+    /**
+     * 읽은 바이트 수
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 내용의 SHA-256 (16진수), 끝까지 읽은 뒤에만 값이 있음
+     */
+    public String getHexDigest() {
+        return hexDigest;
+    }
+
+    private void update(byte[] b, int off, int n) throws IOException {
+        size += n;
+        if (size > maxSize) {
+            throw new IOException("파일 크기가 제한(" + maxSize + " bytes)을 초과했습니다.");
+        }
+        if (headerLength < HEADER_LENGTH) {
+            int copy = Math.min(n, HEADER_LENGTH - headerLength);
+            System.arraycopy(b, off, header, headerLength, copy);
+            headerLength += copy;
+            if (headerLength == HEADER_LENGTH) {
+                verify();
+            }
+        }
+        digest.update(b, off, n);
+    }
+
+    private void finish() throws IOException {
+        if (!verified) {
+            verify(); // 시그니처 길이보다 짧은 파일
+        }
+        if (hexDigest == null) {
+            StringBuilder hex = new StringBuilder(64);
+            for (byte value : digest.digest()) {
+                hex.append(String.format("%02x", value));
+            }
+            hexDigest = hex.toString();
+        }
+    }
+
+    private void verify() throws IOException {
+        if (!matchesSignature()) {
+            throw new IOException("파일 내용이 확장자(" + extension + ") 형식과 일치하지 않습니다.");
+        }
+        verified = true;
+    }
+
+    private boolean matchesSignature() {
+        switch (extension) {
+            case "jpg":
+            case "jpeg":
+                return startsWith(0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF});
+            case "png":
+                return startsWith(0, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+            case "gif":
+                return startsWith(0, ascii("GIF87a")) || startsWith(0, ascii("GIF89a"));
+            case "bmp":
+                return startsWith(0, ascii("BM"));
+            case "webp":
+                return startsWith(0, ascii("RIFF")) && startsWith(8, ascii("WEBP"));
+            default:
+                return false;
+        }
+    }
+
+    private boolean startsWith(int offset, byte[] signature) {
+        if (headerLength < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -42,6 +42,13 @@
           주문 관리
         </a>
       </li>
+      <li>
+        <a href="${pageContext.request.contextPath}/admin/system/pool"
+           class="nav-link ${pageId == 'system' ? 'active' : 'text-white'}">
+          <i class="fas fa-database me-2"></i>
+          커넥션 풀 상태
+        </a>
+      </li>
     </ul>
     <div class="mt-auto">
       <hr />
@@ -219,7 +219,7 @@
                                 <div class="me-3">
                                     <c:choose>
                                         <c:when test="${not empty item.fileId}">
-                                            <img src="${pageContext.request.contextPath}/file/${item.fileId}"
+                                            <img src="${pageContext.request.contextPath}/file/${item.fileId}?size=thumb"
                                                  alt="${item.productName}"
                                                  class="order-item-image">
                                         </c:when>
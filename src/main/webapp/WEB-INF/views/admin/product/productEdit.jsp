@@ -152,7 +152,7 @@
                         <div id="imagePreviewContainer" class="mt-2">
                             <c:if test="${not empty product.fileId}">
                                 <div class="original-image">
-                                    <img src="${pageContext.request.contextPath}/file/${product.fileId}" alt="상품 이미지" class="product-image-preview">
+                                    <img src="${pageContext.request.contextPath}/file/${product.fileId}?size=detail" alt="상품 이미지" class="product-image-preview">
                                     <div class="mt-2">
                                         <div class="form-check">
                                             <input class="form-check-input" type="checkbox" id="fileDeleteOption" name="fileDeleteOption" value="delete">
@@ -123,7 +123,7 @@
                                         <td>
                                             <c:choose>
                                                 <c:when test="${not empty product.fileId}">
-                                                    <img src="${pageContext.request.contextPath}/file/${product.fileId}"
+                                                    <img src="${pageContext.request.contextPath}/file/${product.fileId}?size=thumb"
                                                          alt="${product.productName}"
                                                          class="product-thumbnail">
                                                 </c:when>
@@ -0,0 +1,198 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="UTF-8" />
+    <meta name="viewport" content="width=device-width, initial-scale=1.0" />
+    <meta http-equiv="refresh" content="10" />
+    <title>커넥션 풀 상태 - 관리자 페이지</title>
+    <link href="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0/dist/css/bootstrap.min.css" rel="stylesheet" />
+    <link rel="stylesheet" href="https://cdnjs.cloudflare.com/ajax/libs/font-awesome/6.4.0/css/all.min.css" />
+    <link rel="stylesheet" href="${pageContext.request.contextPath}/css/font.css">
+    <link rel="stylesheet" href="${pageContext.request.contextPath}/css/admin/sidebar.css">
+    <link rel="stylesheet" href="${pageContext.request.contextPath}/css/admin/common.css">
+</head>
+<body>
+<div class="container-fluid">
+    <div class="row">
+        <!-- 사이드바 인클루드 -->
+        <jsp:useBean id="pageId" scope="request" class="java.lang.String"/>
+        <%
+            request.setAttribute("pageId", "system");
+        %>
+        <%@ include file="/WEB-INF/includes/sidebar.jsp" %>
+
+        <!-- 메인 콘텐츠 -->
+        <div class="col-md-9 col-lg-10 px-4 py-3">
+            <div class="d-flex justify-content-between flex-wrap align-items-center pt-3 pb-2 mb-3 border-bottom">
+                <h1 class="h2">커넥션 풀 상태 <small class="text-muted fs-6">${metrics.poolName}</small></h1>
+                <a href="${pageContext.request.contextPath}/admin/system/pool" class="btn btn-outline-secondary btn-sm">
+                    <i class="fas fa-sync-alt me-1"></i> 새로고침
+                </a>
+            </div>
+
+            <c:if test="${metrics.pendingThreads > 0}">
+                <div class="alert alert-warning">
+                    커넥션을 기다리는 스레드가 ${metrics.pendingThreads}개 있습니다. 풀 크기 또는 커넥션 사용 시간을 확인하세요.
+                </div>
+            </c:if>
+
+            <!-- 현재 상태 -->
+            <div class="row g-3 mb-4">
+                <div class="col-md-3">
+                    <div class="card text-center"><div class="card-body">
+                        <div class="text-muted">사용 중</div>
+                        <div class="fs-3">${metrics.activeConnections} / ${metrics.maximumPoolSize}</div>
+                    </div></div>
+                </div>
+                <div class="col-md-3">
+                    <div class="card text-center"><div class="card-body">
+                        <div class="text-muted">유휴</div>
+                        <div class="fs-3">${metrics.idleConnections}</div>
+                    </div></div>
+                </div>
+                <div class="col-md-3">
+                    <div class="card text-center"><div class="card-body">
+                        <div class="text-muted">전체</div>
+                        <div class="fs-3">${metrics.totalConnections}</div>
+                    </div></div>
+                </div>
+                <div class="col-md-3">
+                    <div class="card text-center"><div class="card-body">
+                        <div class="text-muted">대기 스레드</div>
+                        <div class="fs-3 ${metrics.pendingThreads > 0 ? 'text-danger' : ''}">${metrics.pendingThreads}</div>
+                    </div></div>
+                </div>
+            </div>
+
+            <!-- 커넥션 획득 시간 -->
+            <h5>커넥션 획득 시간 (최근 기록 기준)</h5>
+            <table class="table table-bordered w-auto">
+                <thead>
+                <tr>
+                    <th>획득 횟수</th>
+                    <th>타임아웃</th>
+                    <th>p50</th>
+                    <th>p95</th>
+                    <th>p99</th>
+                    <th>최대</th>
+                    <th>평균 사용 시간</th>
+                </tr>
+                </thead>
+                <tbody>
+                <tr>
+                    <td>${metrics.acquireCount}</td>
+                    <td class="${metrics.timeoutCount > 0 ? 'text-danger' : ''}">${metrics.timeoutCount}</td>
+                    <td><fmt:formatNumber value="${metrics.acquireP50Millis}" maxFractionDigits="2" /> ms</td>
+                    <td><fmt:formatNumber value="${metrics.acquireP95Millis}" maxFractionDigits="2" /> ms</td>
+                    <td><fmt:formatNumber value="${metrics.acquireP99Millis}" maxFractionDigits="2" /> ms</td>
+                    <td><fmt:formatNumber value="${metrics.acquireMaxMillis}" maxFractionDigits="2" /> ms</td>
+                    <td><fmt:formatNumber value="${metrics.averageUsageMillis}" maxFractionDigits="1" /> ms</td>
+                </tr>
+                </tbody>
+            </table>
+
+            <!-- 읽기 전용 복제본 풀 -->
+            <c:if test="${not empty replicaMetrics}">
+                <h5 class="mt-4">읽기 전용 복제본 <small class="text-muted fs-6">${replicaMetrics.poolName}</small></h5>
+                <table class="table table-bordered w-auto">
+                    <thead>
+                    <tr>
+                        <th>사용 중</th>
+                        <th>유휴</th>
+                        <th>대기 스레드</th>
+                        <th>획득 횟수</th>
+                        <th>p50</th>
+                        <th>p95</th>
+                        <th>p99</th>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <tr>
+                        <td>${replicaMetrics.activeConnections} / ${replicaMetrics.maximumPoolSize}</td>
+                        <td>${replicaMetrics.idleConnections}</td>
+                        <td class="${replicaMetrics.pendingThreads > 0 ? 'text-danger' : ''}">${replicaMetrics.pendingThreads}</td>
+                        <td>${replicaMetrics.acquireCount}</td>
+                        <td><fmt:formatNumber value="${replicaMetrics.acquireP50Millis}" maxFractionDigits="2" /> ms</td>
+                        <td><fmt:formatNumber value="${replicaMetrics.acquireP95Millis}" maxFractionDigits="2" /> ms</td>
+                        <td><fmt:formatNumber value="${replicaMetrics.acquireP99Millis}" maxFractionDigits="2" /> ms</td>
+                    </tr>
+                    </tbody>
+                </table>
+            </c:if>
+
+            <!-- 캐시 통계 -->
+            <h5 class="mt-4">캐시</h5>
+            <table class="table table-bordered w-auto">
+                <thead>
+                <tr>
+                    <th>캐시</th>
+                    <th>항목 수</th>
+                    <th>사용량</th>
+                    <th>적중</th>
+                    <th>실패</th>
+                    <th>제거</th>
+                    <th>적중률</th>
+                </tr>
+                </thead>
+                <tbody>
+                <c:if test="${not empty fileCache}">
+                    <tr>
+                        <th>파일 (off-heap)</th>
+                        <td>${fileCache.size()}</td>
+                        <td>
+                            <fmt:formatNumber value="${fileCache.totalBytes / 1048576}" maxFractionDigits="1" /> /
+                            <fmt:formatNumber value="${fileCache.maxBytes / 1048576}" maxFractionDigits="0" /> MB
+                        </td>
+                        <td>${fileCache.hitCount}</td>
+                        <td>${fileCache.missCount}</td>
+                        <td>${fileCache.evictionCount}</td>
+                        <td><fmt:formatNumber value="${fileCache.hitRate}" type="percent" maxFractionDigits="1" /></td>
+                    </tr>
+                </c:if>
+                <c:if test="${not empty missingVariants}">
+                    <tr>
+                        <th>없는 이미지 변형</th>
+                        <td>${missingVariants.size()} / ${missingVariants.maxSize}</td>
+                        <td>-</td>
+                        <td>${missingVariants.hitCount}</td>
+                        <td>${missingVariants.missCount}</td>
+                        <td>${missingVariants.evictionCount}</td>
+                        <td><fmt:formatNumber value="${missingVariants.hitRate}" type="percent" maxFractionDigits="1" /></td>
+                    </tr>
+                </c:if>
+                <tr>
+                    <th>화면 조각</th>
+                    <td>${fragmentCache.size()} / ${fragmentCache.maxSize}</td>
+                    <td>-</td>
+                    <td>${fragmentCache.hitCount}</td>
+                    <td>${fragmentCache.missCount}</td>
+                    <td>${fragmentCache.evictionCount}</td>
+                    <td><fmt:formatNumber value="${fragmentCache.hitRate}" type="percent" maxFractionDigits="1" /></td>
+                </tr>
+                </tbody>
+            </table>
+
+            <!-- 설정값 -->
+            <h5 class="mt-4">풀 설정</h5>
+            <p class="text-muted small">db.properties 또는 시스템 프로퍼티(-Ddb.pool.xxx)로 변경할 수 있습니다.</p>
+            <table class="table table-sm w-auto">
+                <tbody>
+                <tr><th>db.pool.maximumPoolSize</th><td>${metrics.maximumPoolSize}</td></tr>
+                <tr><th>db.pool.minimumIdle</th><td>${metrics.minimumIdle}</td></tr>
+                <tr><th>db.pool.connectionTimeout</th><td>${metrics.connectionTimeout} ms</td></tr>
+                <tr><th>db.pool.idleTimeout</th><td>${metrics.idleTimeout} ms</td></tr>
+                <tr><th>db.pool.maxLifetime</th><td>${metrics.maxLifetime} ms</td></tr>
+                <tr><th>db.pool.leakDetectionThreshold</th><td>${metrics.leakDetectionThreshold} ms</td></tr>
+                <tr><th>db.pool.validationTimeout</th><td>${metrics.validationTimeout} ms</td></tr>
+                </tbody>
+            </table>
+        </div>
+    </div>
+</div>
+
+<script src="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0/dist/js/bootstrap.bundle.min.js"></script>
+</body>
+</html>
@@ -192,7 +192,7 @@
                     <div class="col-md-2">
                       <c:choose>
                         <c:when test="${not empty item.fileId}">
-                          <img src="${pageContext.request.contextPath}/file/${item.fileId}" class="basket-item-image" alt="${item.productName}" />
+                          <img src="${pageContext.request.contextPath}/file/${item.fileId}?size=thumb" class="basket-item-image" alt="${item.productName}" />
                         </c:when>
                         <c:otherwise>
                           <img src="https://noticon-static.tammolo.com/dgggcrkxq/image/upload/v1744763499/noticon/hmmkrdssveiagf90sxzc.png" class="basket-item-image" alt="${item.productName}" />
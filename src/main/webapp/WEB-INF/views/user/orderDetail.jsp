@@ -225,7 +225,7 @@
           <div class="col-md-2">
             <c:choose>
               <c:when test="${not empty item.fileId}">
-                <img src="${pageContext.request.contextPath}/file/${item.fileId}"
+                <img src="${pageContext.request.contextPath}/file/${item.fileId}?size=thumb"
                      alt="${item.productName}"
                      class="img-fluid order-item-image">
               </c:when>
@@ -107,7 +107,7 @@
                             <div class="col-md-2">
                                 <c:choose>
                                     <c:when test="${not empty item.fileId}">
-                                        <img src="${pageContext.request.contextPath}/file/${item.fileId}"
+                                        <img src="${pageContext.request.contextPath}/file/${item.fileId}?size=thumb"
                                              class="order-item-image" alt="${item.productName}" />
                                     </c:when>
                                     <c:otherwise>
@@ -252,7 +252,7 @@
                     <div class="order-product-image mb-2">
                       <c:choose>
                         <c:when test="${not empty item.fileId}">
-                          <img src="${pageContext.request.contextPath}/file/${item.fileId}" alt="${item.productName}" class="img-fluid" style="width: 80px; height: 80px; object-fit: cover; border-radius: 4px;">
+                          <img src="${pageContext.request.contextPath}/file/${item.fileId}?size=thumb" alt="${item.productName}" class="img-fluid" style="width: 80px; height: 80px; object-fit: cover; border-radius: 4px;">
                         </c:when>
                         <c:otherwise>
                           <div style="width: 80px; height: 80px; background-color: #e9ecef; border-radius: 4px; display: flex; align-items: center; justify-content: center;">
@@ -172,7 +172,7 @@
       <div class="col-md-6">
         <c:choose>
           <c:when test="${not empty product.fileId}">
-            <img src="${pageContext.request.contextPath}/file/${product.fileId}"
+            <img src="${pageContext.request.contextPath}/file/${product.fileId}?size=detail"
                  class="product-image" alt="${product.productName}" />
           </c:when>
           <c:otherwise>
@@ -1,6 +1,7 @@
 <%@ page contentType="text/html;charset=UTF-8" language="java" %>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+<%@ taglib prefix="fc" uri="/WEB-INF/tld/fragment-cache.tld" %>
 <!DOCTYPE html>
 <html>
 <head>
@@ -89,6 +90,8 @@
 <!-- 히어로 섹션 -->
 <%@ include file="/WEB-INF/includes/hero.jsp" %>
 
+<!-- 목록 조각 캐시: 카테고리, 정렬, 검색어, 페이지가 같으면 카탈로그가 바뀔 때까지 렌더링 결과 재사용 -->
+<fc:cache key="${fragmentKey}">
 <div class="container mt-4">
   <div class="row">
     <!-- 카테고리 사이드바 -->
@@ -107,11 +110,37 @@
               <a href="${pageContext.request.contextPath}/user/product/list.do?categoryId=${category.id}"
                  class="list-group-item list-group-item-action ${category.id eq param.categoryId ? 'category-active' : ''}">
                   ${category.fullName}
+                <c:if test="${not empty categoryCounts[category.id]}">
+                  <span class="badge bg-secondary float-end">${categoryCounts[category.id]}</span>
+                </c:if>
               </a>
             </c:if>
           </c:forEach>
         </div>
       </div>
+
+      <!-- 가격대 (현재 조건에서 가격 범위만 뺀 가격대별 상품 수) -->
+      <c:if test="${not empty priceBuckets}">
+        <c:set var="listParams" value="${not empty pageDTO.sortBy ? '&sortBy='.concat(pageDTO.sortBy) : ''}${not empty pageDTO.keyword ? '&keyword='.concat(pageDTO.keyword) : ''}${not empty categoryId ? '&categoryId='.concat(categoryId) : ''}${pageDTO.inStockOnly ? '&inStock=Y' : ''}${pageDTO.onSaleOnly ? '&onSale=Y' : ''}" />
+        <div class="card mt-3">
+          <div class="card-header bg-dark text-white">
+            <h5 class="card-title mb-0">가격대</h5>
+          </div>
+          <div class="list-group list-group-flush">
+            <c:forEach var="bucket" items="${priceBuckets}">
+              <c:if test="${bucket.count > 0}">
+                <a href="${pageContext.request.contextPath}/user/product/list.do?page=1${listParams}${not empty bucket.minPrice ? '&minPrice='.concat(bucket.minPrice) : ''}${not empty bucket.maxPrice ? '&maxPrice='.concat(bucket.maxPrice - 1) : ''}"
+                   class="list-group-item list-group-item-action ${bucket.minPrice eq pageDTO.minPrice and (empty bucket.maxPrice ? empty pageDTO.maxPrice : bucket.maxPrice - 1 eq pageDTO.maxPrice) ? 'category-active' : ''}">
+                  <c:if test="${not empty bucket.minPrice}"><fmt:formatNumber value="${bucket.minPrice}" pattern="#,###" />원</c:if>
+                  ~
+                  <c:if test="${not empty bucket.maxPrice}"><fmt:formatNumber value="${bucket.maxPrice}" pattern="#,###" />원 미만</c:if>
+                  <span class="badge bg-secondary float-end">${bucket.count}</span>
+                </a>
+              </c:if>
+            </c:forEach>
+          </div>
+        </div>
+      </c:if>
     </div>
 
     <!-- 상품 목록 -->
@@ -139,12 +168,32 @@
                 <!-- 검색창 -->
                 <div class="col-md-6">
                   <div class="input-group">
-                    <input type="text" class="form-control form-control-sm" name="keyword"
-                           placeholder="상품명 검색" value="${pageDTO.keyword}">
+                    <input type="text" class="form-control form-control-sm" name="keyword" id="keywordInput"
+                           placeholder="상품명 검색" value="${pageDTO.keyword}" list="productSuggestions" autocomplete="off">
+                    <datalist id="productSuggestions"></datalist>
                     <button class="btn btn-sm btn-dark" type="submit">검색</button>
                   </div>
                 </div>
 
+                <!-- 가격 범위, 재고 있음, 판매 중 필터 -->
+                <div class="col-md-12 d-flex justify-content-end align-items-center gap-2">
+                  <input type="number" class="form-control form-control-sm w-auto" name="minPrice" min="0"
+                         placeholder="최소 가격" value="${pageDTO.minPrice}">
+                  <span>~</span>
+                  <input type="number" class="form-control form-control-sm w-auto" name="maxPrice" min="0"
+                         placeholder="최대 가격" value="${pageDTO.maxPrice}">
+                  <div class="form-check form-check-inline mb-0">
+                    <input class="form-check-input" type="checkbox" name="inStock" value="Y" id="inStockCheck"
+                           onchange="this.form.submit()" ${pageDTO.inStockOnly ? 'checked' : ''}>
+                    <label class="form-check-label" for="inStockCheck">재고 있음</label>
+                  </div>
+                  <div class="form-check form-check-inline mb-0">
+                    <input class="form-check-input" type="checkbox" name="onSale" value="Y" id="onSaleCheck"
+                           onchange="this.form.submit()" ${pageDTO.onSaleOnly ? 'checked' : ''}>
+                    <label class="form-check-label" for="onSaleCheck">판매 중</label>
+                  </div>
+                </div>
+
                 <!-- 카테고리 ID가 있으면 hidden 필드로 포함 -->
                 <c:if test="${not empty param.categoryId}">
                   <input type="hidden" name="categoryId" value="${param.categoryId}">
@@ -187,7 +236,7 @@
                   <!-- 상품 이미지 -->
                   <c:choose>
                     <c:when test="${not empty product.fileId}">
-                      <img src="${pageContext.request.contextPath}/file/${product.fileId}"
+                      <img src="${pageContext.request.contextPath}/file/${product.fileId}?size=card"
                            class="card-img-top product-img" alt="${product.productName}" loading="lazy">
                     </c:when>
                     <c:otherwise>
@@ -237,22 +286,38 @@
                 <a class="page-link" href="${pageContext.request.contextPath}/user/product/list.do?page=${pageDTO.currentPage - 1}
                                         ${not empty pageDTO.sortBy ? '&sortBy='.concat(pageDTO.sortBy) : ''}
                                         ${not empty pageDTO.keyword ? '&keyword='.concat(pageDTO.keyword) : ''}
-                                        ${not empty categoryId ? '&categoryId='.concat(categoryId) : ''}">
+                                        ${not empty categoryId ? '&categoryId='.concat(categoryId) : ''}
+                                        ${not empty pageDTO.prevCursor ? '&cursor='.concat(pageDTO.prevCursor) : ''}${pageDTO.filterParams}">
                   이전
                 </a>
               </li>
             </c:if>
 
-            <!-- 페이지 번호 -->
+            <!-- 페이지 번호 (앞쪽 페이지는 번호로, 이후 페이지는 인접 페이지만 커서로 이동) -->
             <c:forEach begin="${pageDTO.startPage}" end="${pageDTO.endPage}" var="page">
-              <li class="page-item ${page eq pageDTO.currentPage ? 'active' : ''}">
-                <a class="page-link" href="${pageContext.request.contextPath}/user/product/list.do?page=${page}
-                                        ${not empty pageDTO.sortBy ? '&sortBy='.concat(pageDTO.sortBy) : ''}
-                                        ${not empty pageDTO.keyword ? '&keyword='.concat(pageDTO.keyword) : ''}
-                                        ${not empty categoryId ? '&categoryId='.concat(categoryId) : ''}">
-                    ${page}
-                </a>
-              </li>
+              <c:set var="pageCursor" value="" />
+              <c:choose>
+                <c:when test="${page eq pageDTO.currentPage}">
+                  <c:set var="pageCursor" value="${pageDTO.cursor}" />
+                </c:when>
+                <c:when test="${page eq pageDTO.currentPage - 1}">
+                  <c:set var="pageCursor" value="${pageDTO.prevCursor}" />
+                </c:when>
+                <c:when test="${page eq pageDTO.currentPage + 1}">
+                  <c:set var="pageCursor" value="${pageDTO.nextCursor}" />
+                </c:when>
+              </c:choose>
+              <c:if test="${page le pageDTO.offsetPageLimit or page eq pageDTO.currentPage or not empty pageCursor}">
+                <li class="page-item ${page eq pageDTO.currentPage ? 'active' : ''}">
+                  <a class="page-link" href="${pageContext.request.contextPath}/user/product/list.do?page=${page}
+                                          ${not empty pageDTO.sortBy ? '&sortBy='.concat(pageDTO.sortBy) : ''}
+                                          ${not empty pageDTO.keyword ? '&keyword='.concat(pageDTO.keyword) : ''}
+                                          ${not empty categoryId ? '&categoryId='.concat(categoryId) : ''}
+                                          ${not empty pageCursor ? '&cursor='.concat(pageCursor) : ''}${pageDTO.filterParams}">
+                      ${page}
+                  </a>
+                </li>
+              </c:if>
             </c:forEach>
 
             <!-- 다음 페이지 -->
@@ -261,7 +326,8 @@
                 <a class="page-link" href="${pageContext.request.contextPath}/user/product/list.do?page=${pageDTO.currentPage + 1}
                                         ${not empty pageDTO.sortBy ? '&sortBy='.concat(pageDTO.sortBy) : ''}
                                         ${not empty pageDTO.keyword ? '&keyword='.concat(pageDTO.keyword) : ''}
-                                        ${not empty categoryId ? '&categoryId='.concat(categoryId) : ''}">
+                                        ${not empty categoryId ? '&categoryId='.concat(categoryId) : ''}
+                                        ${not empty pageDTO.nextCursor ? '&cursor='.concat(pageDTO.nextCursor) : ''}${pageDTO.filterParams}">
                   다음
                 </a>
               </li>
@@ -271,11 +337,43 @@
     </div>
   </div>
 </div>
+</fc:cache>
 
 <!-- 푸터 포함 -->
 <%@ include file="/WEB-INF/includes/footer.jsp" %>
 
 <!-- Bootstrap JS -->
 <script src="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0/dist/js/bootstrap.bundle.min.js"></script>
+<script>
+  // 검색어 자동완성: 입력이 멈추면 추천 상품명을 조회 (목록 페이지 전체를 다시 요청하지 않음)
+  (function () {
+    const input = document.getElementById('keywordInput');
+    const list = document.getElementById('productSuggestions');
+    const suggestUrl = '${pageContext.request.contextPath}/user/product/suggest';
+    let timer = null;
+
+    input.addEventListener('input', function () {
+      clearTimeout(timer);
+      const query = input.value.trim();
+      if (!query) {
+        list.innerHTML = '';
+        return;
+      }
+      timer = setTimeout(function () {
+        fetch(suggestUrl + '?q=' + encodeURIComponent(query))
+          .then(function (response) { return response.ok ? response.json() : []; })
+          .then(function (items) {
+            list.innerHTML = '';
+            items.forEach(function (item) {
+              const option = document.createElement('option');
+              option.value = item.name;
+              list.appendChild(option);
+            });
+          })
+          .catch(function () { list.innerHTML = ''; });
+      }, 150);
+    });
+  })();
+</script>
 </body>
 </html>
\ No newline at end of file
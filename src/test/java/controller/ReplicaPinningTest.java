@@ -0,0 +1,133 @@
+package controller;
+
+import domain.dao.ProductDAO;
+import domain.dao.ProductDAOImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.ReadOnlyRouting;
+import util.TestDatabase;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 쓰기 후 세션 고정(AbstractDomainController) 테스트
+ * 쓰기를 한 세션의 다음 요청은 @ReadOnly 조회도 주 DB에서 읽고, 다른 세션은 복제본에서 읽는지 확인합니다.
+ */
+class ReplicaPinningTest {
+    private static final String PRODUCT_CODE = "PT_PIN";
+    private static final String PRIMARY_NAME = "주 DB";
+    private static final String REPLICA_NAME = "복제본";
+    private static final String READ_RESULT = "readResult";
+
+    private final ProductDAO productDAO = ReadOnlyRouting.wrap(ProductDAO.class, new ProductDAOImpl());
+    private final TestController controller = new TestController();
+
+    /**
+     * write: 재고 차감, read: @ReadOnly 조회 결과(상품명)를 요청 속성에 저장
+     */
+    private class TestController extends AbstractDomainController {
+        TestController() {
+            domainPath = "test";
+            commandFactory = command -> {
+                switch (command) {
+                    case "write":
+                        return (request, response) -> {
+                            productDAO.decreaseStock(PRODUCT_CODE, 1);
+                            return null;
+                        };
+                    case "read":
+                        return (request, response) -> {
+                            request.setAttribute(READ_RESULT, productDAO.findByProductCodes(
+                                    Collections.singletonList(PRODUCT_CODE)).get(0).getProductName());
+                            return null;
+                        };
+                    default:
+                        return null;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        TestDatabase.createSchema();
+    }
+
+    @BeforeEach
+    void insertMarkers() throws Exception {
+        TestDatabase.execute("DELETE FROM TB_PRODUCT WHERE no_product = '" + PRODUCT_CODE + "'");
+        TestDatabase.execute(productInsert(PRIMARY_NAME));
+        TestDatabase.executeOnReplica("DELETE FROM TB_PRODUCT WHERE no_product = '" + PRODUCT_CODE + "'");
+        TestDatabase.executeOnReplica(productInsert(REPLICA_NAME));
+    }
+
+    private static String productInsert(String name) {
+        return "INSERT INTO TB_PRODUCT (no_product, nm_product, qt_sale_price, qt_stock, da_first_date) " +
+                "VALUES ('" + PRODUCT_CODE + "', '" + name + "', 1000, 10, SYSDATE)";
+    }
+
+    @Test
+    @DisplayName("쓰기를 하지 않은 세션은 복제본에서 읽는다")
+    void unpinnedSessionReadsReplica() throws Exception {
+        HttpSession session = newSession();
+
+        assertEquals(REPLICA_NAME, read(session));
+        assertNull(session.getAttribute("dbPrimaryUntil"));
+    }
+
+    @Test
+    @DisplayName("쓰기를 한 세션의 다음 요청은 주 DB에서 읽는다")
+    void sessionPinnedAfterWriteReadsPrimary() throws Exception {
+        HttpSession writer = newSession();
+        controller.service(request("write", writer, new HashMap<>()), mock(HttpServletResponse.class));
+        assertNotNull(writer.getAttribute("dbPrimaryUntil"));
+
+        assertEquals(PRIMARY_NAME, read(writer));
+        assertEquals(REPLICA_NAME, read(newSession()));
+    }
+
+    private String read(HttpSession session) throws Exception {
+        Map<String, Object> attributes = new HashMap<>();
+        controller.service(request("read", session, attributes), mock(HttpServletResponse.class));
+        return (String) attributes.get(READ_RESULT);
+    }
+
+    private static HttpServletRequest request(String command, HttpSession session, Map<String, Object> attributes) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getContextPath()).thenReturn("");
+        when(request.getRequestURI()).thenReturn("/test/" + command);
+        when(request.getSession(false)).thenReturn(session);
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setAttribute(anyString(), any());
+        return request;
+    }
+
+    /**
+     * 속성을 실제로 보관하는 세션
+     */
+    private static HttpSession newSession() {
+        Map<String, Object> attributes = new HashMap<>();
+        HttpSession session = mock(HttpSession.class);
+        doAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)))
+                .when(session).getAttribute(anyString());
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(session).setAttribute(anyString(), any());
+        return session;
+    }
+}
@@ -0,0 +1,59 @@
+package domain.dao;
+
+import domain.dto.ContentDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 없는 이미지 변형 기록(CachedContentDAO.openVariant) 테스트
+ */
+class CachedContentDAOTest {
+    private static final String FILE_ID = "FL0000001";
+
+    private final ContentDAO delegate = mock(ContentDAO.class);
+    private final CachedContentDAO contentDAO = new CachedContentDAO(delegate, 1024 * 1024, 64 * 1024);
+
+    @Test
+    @DisplayName("없는 변형은 한 번만 조회하고 이후에는 DB를 조회하지 않는다")
+    void missingVariantIsLookedUpOnce() {
+        assertNull(contentDAO.openVariant(FILE_ID, "thumb"));
+        assertNull(contentDAO.openVariant(FILE_ID, "thumb"));
+
+        verify(delegate, times(1)).openVariant(FILE_ID, "thumb");
+        assertEquals(1, contentDAO.getMissingVariants().getHitCount());
+    }
+
+    @Test
+    @DisplayName("변형을 저장하면 없다는 기록을 지우고 다시 조회한다")
+    void savingVariantForgetsMissingEntry() {
+        contentDAO.openVariant(FILE_ID, "thumb");
+
+        ContentDTO variant = new ContentDTO();
+        variant.setOrgFileId(FILE_ID);
+        variant.setVariant("thumb");
+        contentDAO.save(variant);
+        contentDAO.openVariant(FILE_ID, "thumb");
+
+        verify(delegate, times(2)).openVariant(FILE_ID, "thumb");
+    }
+
+    @Test
+    @DisplayName("원본을 무효화하면 그 변형들의 없다는 기록도 지운다")
+    void invalidatingOriginalForgetsMissingEntries() {
+        contentDAO.openVariant(FILE_ID, "thumb");
+        contentDAO.openVariant(FILE_ID, "card");
+
+        contentDAO.invalidate(FILE_ID);
+        contentDAO.openVariant(FILE_ID, "thumb");
+        contentDAO.openVariant(FILE_ID, "card");
+
+        verify(delegate, times(2)).openVariant(FILE_ID, "thumb");
+        verify(delegate, times(2)).openVariant(FILE_ID, "card");
+    }
+}
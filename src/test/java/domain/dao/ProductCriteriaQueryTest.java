@@ -0,0 +1,135 @@
+package domain.dao;
+
+import domain.dto.ProductCriteria;
+import domain.dto.ProductDTO;
+import domain.dto.ProductQueryResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.KeysetCursor;
+import util.TestDatabase;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 조건 기반 상품 목록 조회(ProductDAOImpl.findByCriteria) 테스트
+ * 다른 테스트의 상품과 섞이지 않도록 모든 조회를 테스트 전용 카테고리로 한정합니다.
+ */
+class ProductCriteriaQueryTest {
+    private static final long CATEGORY_ID = 9101L;
+    private static final int[] PRICES = {5000, 15000, 25000, 35000, 60000, 120000};
+    private static final String SOLD_OUT_CODE = "PT_CQ4";     // 35,000원, 재고 없음
+    private static final String OFF_SALE_CODE = "PT_CQ2";     // 15,000원, 판매 기간 종료
+
+    private final ProductDAO productDAO = new ProductDAOImpl();
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        TestDatabase.createSchema();
+    }
+
+    @BeforeEach
+    void insertProducts() throws Exception {
+        TestDatabase.execute("DELETE FROM TB_CATEGORY_PRODUCT_MAPPING WHERE nb_category = " + CATEGORY_ID);
+        TestDatabase.execute("DELETE FROM TB_PRODUCT WHERE no_product LIKE 'PT_CQ%'");
+        for (int i = 0; i < PRICES.length; i++) {
+            String productCode = "PT_CQ" + (i + 1);
+            int stock = productCode.equals(SOLD_OUT_CODE) ? 0 : 10;
+            String endDate = productCode.equals(OFF_SALE_CODE) ? "20240131" : "20991231";
+            TestDatabase.execute("INSERT INTO TB_PRODUCT (no_product, nm_product, qt_sale_price, qt_stock, " +
+                    "dt_start_date, dt_end_date, da_first_date) VALUES ('" + productCode + "', '조건 상품 " + (i + 1) + "', " +
+                    PRICES[i] + ", " + stock + ", '20240101', '" + endDate + "', SYSDATE)");
+            TestDatabase.execute("INSERT INTO TB_CATEGORY_PRODUCT_MAPPING (no_product, nb_category, cn_order, da_first_date) " +
+                    "VALUES ('" + productCode + "', " + CATEGORY_ID + ", 1, SYSDATE)");
+        }
+    }
+
+    private static ProductCriteria criteria() {
+        ProductCriteria criteria = new ProductCriteria();
+        criteria.setCategoryIds(Collections.singletonList(CATEGORY_ID));
+        criteria.setSortBy("priceAsc");
+        criteria.setSaleDate("20250101");
+        return criteria;
+    }
+
+    private static List<Integer> prices(ProductQueryResult result) {
+        return result.getProducts().stream().map(ProductDTO::getSalePrice).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("가격 범위, 재고, 판매 기간 조건을 함께 적용하고 가격대 집계는 가격 범위만 빼고 센다")
+    void filtersAndFacets() {
+        ProductCriteria criteria = criteria();
+        criteria.setMinPrice(10000);
+        criteria.setMaxPrice(60000);
+        criteria.setInStockOnly(true);
+        criteria.setOnSaleOnly(true);
+        criteria.setWithFacets(true);
+
+        ProductQueryResult result = productDAO.findByCriteria(criteria);
+
+        assertEquals(List.of(25000, 60000), prices(result));
+        assertEquals(2, result.getTotalCount());
+        assertEquals(Map.of(CATEGORY_ID, 2), result.getCategoryCounts());
+        // 1만 원 미만, 1~3만, 3~5만, 5~10만, 10만 원 이상 (품절 35,000원과 판매 종료 15,000원 제외)
+        assertEquals(List.of(1, 1, 0, 1, 1), result.getPriceBuckets().stream()
+                .map(ProductQueryResult.PriceBucket::getCount).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("페이지 번호와 키셋 커서로 같은 순서의 다음/이전 페이지를 조회한다")
+    void offsetAndKeysetPages() {
+        ProductCriteria firstPage = criteria();
+        firstPage.setLimit(2);
+        ProductQueryResult first = productDAO.findByCriteria(firstPage);
+        assertEquals(List.of(5000, 15000), prices(first));
+        assertEquals(PRICES.length, first.getTotalCount());
+
+        ProductCriteria secondPage = criteria();
+        secondPage.setOffset(2);
+        secondPage.setLimit(2);
+        assertEquals(List.of(25000, 35000), prices(productDAO.findByCriteria(secondPage)));
+
+        ProductCriteria next = criteria();
+        next.setLimit(2);
+        next.setCursor(new KeysetCursor(15000, "PT_CQ2", false));
+        assertEquals(List.of(25000, 35000), prices(productDAO.findByCriteria(next)));
+
+        ProductCriteria previous = criteria();
+        previous.setLimit(2);
+        previous.setCursor(new KeysetCursor(60000, "PT_CQ5", true));
+        assertEquals(List.of(25000, 35000), prices(productDAO.findByCriteria(previous)));
+    }
+
+    @Test
+    @DisplayName("검색어는 단어별로 상품명이나 상세 설명에서 찾고, 색인 검색은 집계를 함께 조회해도 관련도순을 유지한다")
+    void keywordMatchesIndexAndKeepsRelevanceOrder() throws Exception {
+        TestDatabase.execute("UPDATE TB_PRODUCT SET nm_product = '카드 케이스', " +
+                "nm_detail_explain = '<p>천연 가죽 지갑 포함</p>' WHERE no_product = 'PT_CQ1'");
+        TestDatabase.execute("UPDATE TB_PRODUCT SET nm_product = '가죽 지갑' WHERE no_product = 'PT_CQ6'");
+
+        ProductCriteria like = criteria();
+        like.setKeyword("지갑 가죽");
+        like.setSortBy(null);
+        List<String> liked = productDAO.findByCriteria(like).getProducts().stream()
+                .map(ProductDTO::getProductCode).collect(Collectors.toList());
+        assertEquals(List.of("PT_CQ1", "PT_CQ6"), liked);
+
+        ProductDAO indexed = new SearchIndexedProductDAO(productDAO, new ProductSuggestIndex());
+        ProductCriteria search = criteria();
+        search.setKeyword("가죽 지갑");
+        search.setSortBy(null);
+        search.setWithFacets(true);
+        ProductQueryResult result = indexed.findByCriteria(search);
+        assertEquals(List.of("PT_CQ6", "PT_CQ1"), result.getProducts().stream()
+                .map(ProductDTO::getProductCode).collect(Collectors.toList()));
+        assertEquals(2, result.getTotalCount());
+        assertEquals(Map.of(CATEGORY_ID, 2), result.getCategoryCounts());
+    }
+}
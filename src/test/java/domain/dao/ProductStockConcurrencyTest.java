@@ -0,0 +1,120 @@
+package domain.dao;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.TestDatabase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 재고 차감/증가(ProductDAOImpl.decreaseStock, increaseStock) 동시성 테스트
+ * 여러 스레드가 같은 상품의 재고를 동시에 바꿔도 초과 판매나 갱신 유실이 없는지, 잘못된 수량은 거부하는지 확인합니다.
+ */
+class ProductStockConcurrencyTest {
+    private static final String PRODUCT_CODE = "PT_STRESS";
+    private static final int INITIAL_STOCK = 100;
+    private static final int THREAD_COUNT = 16;
+    // 스레드당 시도 횟수 (전체 시도 수가 재고보다 훨씬 많도록)
+    private static final int ATTEMPTS_PER_THREAD = 25;
+
+    private final ProductDAO productDAO = new ProductDAOImpl();
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        TestDatabase.createSchema();
+    }
+
+    @BeforeEach
+    void insertProduct() throws Exception {
+        TestDatabase.execute("DELETE FROM TB_PRODUCT WHERE no_product = '" + PRODUCT_CODE + "'");
+        TestDatabase.execute("INSERT INTO TB_PRODUCT (no_product, nm_product, qt_sale_price, qt_stock, da_first_date) " +
+                "VALUES ('" + PRODUCT_CODE + "', '동시성 테스트 상품', 1000, " + INITIAL_STOCK + ", SYSDATE)");
+    }
+
+    @Test
+    @DisplayName("0 이하의 수량으로는 재고를 차감하거나 증가시키지 않는다")
+    void rejectsNonPositiveQuantity() {
+        assertEquals(0, productDAO.decreaseStock(PRODUCT_CODE, 0));
+        assertEquals(0, productDAO.decreaseStock(PRODUCT_CODE, -5));
+        assertEquals(0, productDAO.increaseStock(PRODUCT_CODE, 0));
+        assertEquals(0, productDAO.increaseStock(PRODUCT_CODE, -5));
+        assertEquals(INITIAL_STOCK, productDAO.getProductStock(PRODUCT_CODE));
+    }
+
+    @Test
+    @DisplayName("동시에 1개씩 차감하면 성공 횟수가 초기 재고와 같고 재고는 0에서 멈춘다")
+    void concurrentDecreaseNeverOversells() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(() -> {
+            if (productDAO.decreaseStock(PRODUCT_CODE, 1) == 1) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertEquals(INITIAL_STOCK, succeeded.get());
+        assertEquals(0, productDAO.getProductStock(PRODUCT_CODE));
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 수량은 차감하지 않아 재고가 음수가 되지 않는다")
+    void concurrentDecreaseOfSeveralUnitsNeverGoesNegative() throws Exception {
+        int quantity = 3;
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(() -> {
+            if (productDAO.decreaseStock(PRODUCT_CODE, quantity) == 1) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        int remaining = productDAO.getProductStock(PRODUCT_CODE);
+        assertEquals(INITIAL_STOCK / quantity, succeeded.get());
+        assertEquals(INITIAL_STOCK - succeeded.get() * quantity, remaining);
+        assertTrue(remaining >= 0 && remaining < quantity, "남은 재고: " + remaining);
+    }
+
+    @Test
+    @DisplayName("동시에 증가해도 갱신이 유실되지 않는다")
+    void concurrentIncreaseLosesNoUpdates() throws Exception {
+        runConcurrently(() -> productDAO.increaseStock(PRODUCT_CODE, 1));
+
+        assertEquals(INITIAL_STOCK + THREAD_COUNT * ATTEMPTS_PER_THREAD, productDAO.getProductStock(PRODUCT_CODE));
+    }
+
+    /**
+     * THREAD_COUNT개 스레드가 동시에 출발해 각각 ATTEMPTS_PER_THREAD번 작업을 실행합니다.
+     */
+    private void runConcurrently(Runnable attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                        attempt.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package util;
+
+import domain.dao.CategoryDAO;
+import domain.dao.CategoryDAOImpl;
+import domain.dao.ProductDAO;
+import domain.dao.ProductDAOImpl;
+import domain.dto.CategoryDTO;
+import domain.dto.ProductDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주 DB / 읽기 전용 복제본 라우팅(ReadOnlyRouting, UnitOfWork) 테스트
+ * 주 DB와 복제본은 서로 복제되지 않는 별개의 내장 DB이므로, 같은 키에 다른 값을 넣어 두고
+ * 조회 결과로 어느 DB에서 읽었는지 확인합니다.
+ */
+class ReadOnlyRoutingTest {
+    private static final String PRODUCT_CODE = "PT_ROUTE";
+    private static final String PRIMARY_NAME = "주 DB";
+    private static final String REPLICA_NAME = "복제본";
+    private static final long CATEGORY_ID = 9001L;
+    private static final int INITIAL_STOCK = 10;
+
+    private final ProductDAO productDAO = ReadOnlyRouting.wrap(ProductDAO.class, new ProductDAOImpl());
+    private final CategoryDAO categoryDAO = ReadOnlyRouting.wrap(CategoryDAO.class, new CategoryDAOImpl());
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        TestDatabase.createSchema();
+    }
+
+    /**
+     * 주 DB와 복제본에 같은 상품 코드/분류 ID로 이름만 다른 행을 넣습니다.
+     * 분류는 주 DB에만 한 건을 더 넣어 개수로도 구분할 수 있게 합니다.
+     */
+    @BeforeEach
+    void insertMarkers() throws Exception {
+        TestDatabase.execute("DELETE FROM TB_PRODUCT WHERE no_product = '" + PRODUCT_CODE + "'");
+        TestDatabase.execute(productInsert(PRIMARY_NAME));
+        TestDatabase.executeOnReplica("DELETE FROM TB_PRODUCT WHERE no_product = '" + PRODUCT_CODE + "'");
+        TestDatabase.executeOnReplica(productInsert(REPLICA_NAME));
+
+        TestDatabase.execute("DELETE FROM TB_CATEGORY");
+        TestDatabase.execute(categoryInsert(CATEGORY_ID, PRIMARY_NAME));
+        TestDatabase.execute(categoryInsert(CATEGORY_ID + 1, PRIMARY_NAME + " 2"));
+        TestDatabase.executeOnReplica("DELETE FROM TB_CATEGORY");
+        TestDatabase.executeOnReplica(categoryInsert(CATEGORY_ID, REPLICA_NAME));
+    }
+
+    @AfterEach
+    void clearRouting() {
+        ReadOnlyRouting.setPrimaryOnly(false);
+    }
+
+    private static String productInsert(String name) {
+        return "INSERT INTO TB_PRODUCT (no_product, nm_product, qt_sale_price, qt_stock, da_first_date) " +
+                "VALUES ('" + PRODUCT_CODE + "', '" + name + "', 1000, " + INITIAL_STOCK + ", SYSDATE)";
+    }
+
+    private static String categoryInsert(long id, String name) {
+        return "INSERT INTO TB_CATEGORY (nb_category, nm_category, nm_full_category, cn_level, cn_order, yn_use, yn_delete, da_first_date) " +
+                "VALUES (" + id + ", '" + name + "', '" + name + "', 1, " + id + ", 'Y', 'N', SYSDATE)";
+    }
+
+    @Test
+    @DisplayName("@ReadOnly 조회는 복제본에서 읽는다")
+    void readOnlyCallsHitReplica() {
+        List<ProductDTO> products = productDAO.findByProductCodes(Collections.singletonList(PRODUCT_CODE));
+        assertEquals(1, products.size());
+        assertEquals(REPLICA_NAME, products.get(0).getProductName());
+
+        List<CategoryDTO> categories = categoryDAO.findAll();
+        assertEquals(1, categories.size());
+        assertEquals(REPLICA_NAME, categories.get(0).getName());
+        assertEquals(1, categoryDAO.countAll());
+    }
+
+    @Test
+    @DisplayName("findByProductCode/findById 같은 단건 조회는 주 DB에서 읽는다")
+    void singleRowLookupsHitPrimary() {
+        assertEquals(PRIMARY_NAME, productDAO.findByProductCode(PRODUCT_CODE).getProductName());
+        assertEquals(PRIMARY_NAME, categoryDAO.findById(CATEGORY_ID).getName());
+    }
+
+    @Test
+    @DisplayName("쓰기는 주 DB에만 반영된다")
+    void writesHitPrimary() throws Exception {
+        assertEquals(1, productDAO.decreaseStock(PRODUCT_CODE, 1));
+
+        assertEquals(INITIAL_STOCK - 1, productDAO.getProductStock(PRODUCT_CODE));
+        assertEquals(INITIAL_STOCK, TestDatabase.queryIntOnReplica(
+                "SELECT qt_stock FROM TB_PRODUCT WHERE no_product = '" + PRODUCT_CODE + "'"));
+    }
+
+    @Test
+    @DisplayName("작업 단위 안에서 쓰기를 한 뒤의 @ReadOnly 조회는 주 DB에서 읽는다")
+    void readsAfterWriteInUnitOfWorkHitPrimary() throws Exception {
+        UnitOfWork.begin();
+        try {
+            assertEquals(REPLICA_NAME, productDAO.findByProductCodes(Collections.singletonList(PRODUCT_CODE)).get(0).getProductName());
+
+            assertEquals(1, productDAO.decreaseStock(PRODUCT_CODE, 1));
+            assertTrue(UnitOfWork.hasWrites());
+
+            ProductDTO product = productDAO.findByProductCodes(Collections.singletonList(PRODUCT_CODE)).get(0);
+            assertEquals(PRIMARY_NAME, product.getProductName());
+            assertEquals(INITIAL_STOCK - 1, product.getStock());
+            UnitOfWork.commit();
+        } finally {
+            UnitOfWork.end();
+        }
+    }
+
+    @Test
+    @DisplayName("주 DB로 고정하면 @ReadOnly 조회도 주 DB에서 읽는다")
+    void primaryOnlyOverridesReadOnly() {
+        ReadOnlyRouting.setPrimaryOnly(true);
+
+        assertEquals(PRIMARY_NAME, productDAO.findByProductCodes(Collections.singletonList(PRODUCT_CODE)).get(0).getProductName());
+        assertEquals(2, categoryDAO.countAll());
+    }
+}
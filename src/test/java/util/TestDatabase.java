@@ -0,0 +1,100 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * 테스트용 내장 DB(H2, Oracle 호환 모드) 준비
+ * 테스트 클래스패스의 properties/db.properties가 DatabaseConnection을 H2 메모리 DB로 연결하며,
+ * 스키마는 h2/schema.sql로 생성합니다. (IF NOT EXISTS로 작성되어 여러 테스트 클래스에서 호출해도 됨)
+ * 복제본(db.replica.url)은 주 DB와 별개의 메모리 DB이며, 복제본 풀은 읽기 전용이므로 직접 연결해서 준비합니다.
+ */
+public final class TestDatabase {
+    private static final String SCHEMA_SCRIPT = "RUNSCRIPT FROM 'classpath:h2/schema.sql'";
+
+    private TestDatabase() {
+    }
+
+    /**
+     * 주 DB와 복제본 DB에 스키마를 생성합니다.
+     */
+    public static void createSchema() throws SQLException {
+        execute(SCHEMA_SCRIPT);
+        executeOnReplica(SCHEMA_SCRIPT);
+    }
+
+    /**
+     * 주 DB에서 SQL 문장 하나를 실행합니다. (테스트 데이터 준비용)
+     */
+    public static void execute(String sql) throws SQLException {
+        Connection conn = DatabaseConnection.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        } finally {
+            DatabaseConnection.closeConnection(conn);
+        }
+    }
+
+    /**
+     * 주 DB에서 정수 하나를 조회합니다. (검증용)
+     */
+    public static int queryInt(String sql) throws SQLException {
+        Connection conn = DatabaseConnection.getConnection();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            if (!rs.next()) {
+                throw new SQLException("조회 결과가 없습니다: " + sql);
+            }
+            return rs.getInt(1);
+        } finally {
+            DatabaseConnection.closeConnection(conn);
+        }
+    }
+
+    /**
+     * 복제본 DB에서 SQL 문장 하나를 실행합니다. (테스트 데이터 준비용)
+     */
+    public static void executeOnReplica(String sql) throws SQLException {
+        try (Connection conn = openReplica(); Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    /**
+     * 복제본 DB에서 정수 하나를 조회합니다. (검증용)
+     */
+    public static int queryIntOnReplica(String sql) throws SQLException {
+        try (Connection conn = openReplica();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (!rs.next()) {
+                throw new SQLException("조회 결과가 없습니다: " + sql);
+            }
+            return rs.getInt(1);
+        }
+    }
+
+    private static Connection openReplica() throws SQLException {
+        Properties properties = loadProperties();
+        return DriverManager.getConnection(properties.getProperty("db.replica.url"),
+                properties.getProperty("db.user"), properties.getProperty("db.password"));
+    }
+
+    private static Properties loadProperties() throws SQLException {
+        Properties properties = new Properties();
+        try (InputStream input = TestDatabase.class.getClassLoader().getResourceAsStream("properties/db.properties")) {
+            if (input == null) {
+                throw new SQLException("properties/db.properties 파일을 찾을 수 없습니다.");
+            }
+            properties.load(input);
+        } catch (IOException e) {
+            throw new SQLException("테스트 DB 설정 로드 실패: " + e.getMessage(), e);
+        }
+        return properties;
+    }
+}
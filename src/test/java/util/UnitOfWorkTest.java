@@ -0,0 +1,204 @@
+package util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 작업 단위의 커넥션 공유, 중첩, 커밋/롤백 처리와 후처리(afterCompletion, afterCommit) 실행 조건 테스트
+ */
+class UnitOfWorkTest {
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO TB_PRODUCT (no_product, nm_product, da_first_date) VALUES ('%s', '작업 단위 상품', SYSDATE)";
+    private static final String COUNT_PRODUCTS = "SELECT COUNT(*) FROM TB_PRODUCT WHERE no_product LIKE 'PT_UOW%'";
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        TestDatabase.createSchema();
+    }
+
+    @BeforeEach
+    void deleteProducts() throws Exception {
+        TestDatabase.execute("DELETE FROM TB_PRODUCT WHERE no_product LIKE 'PT_UOW%'");
+    }
+
+    @Test
+    @DisplayName("작업 단위 안에서는 같은 커넥션을 공유하고 DAO의 close는 무시한다")
+    void sharesOneConnection() throws Exception {
+        UnitOfWork.begin();
+        try {
+            Connection first = DatabaseConnection.getConnection();
+            DatabaseConnection.closeConnection(first);
+            Connection second = DatabaseConnection.getConnection();
+
+            assertSame(first, second);
+            assertFalse(second.isClosed());
+        } finally {
+            UnitOfWork.end();
+        }
+    }
+
+    @Test
+    @DisplayName("중첩된 작업 단위는 바깥 작업 단위에 참여하며, 바깥 작업 단위가 커밋하지 않으면 함께 롤백된다")
+    void nestedUnitJoinsOuterUnit() throws Exception {
+        List<String> executed = new ArrayList<>();
+
+        UnitOfWork.begin();
+        try {
+            Connection outer = DatabaseConnection.getConnection();
+            UnitOfWork.begin();
+            try {
+                assertSame(outer, DatabaseConnection.getConnection());
+                TestDatabase.execute(String.format(INSERT_PRODUCT, "PT_UOW1"));
+                UnitOfWork.afterCommit(() -> executed.add("commit"));
+                UnitOfWork.commit();
+            } finally {
+                UnitOfWork.end();
+            }
+            // 안쪽 커밋은 표시만 하므로 후처리도 아직 실행되지 않음
+            assertTrue(UnitOfWork.isActive());
+            assertTrue(executed.isEmpty());
+        } finally {
+            UnitOfWork.end();
+        }
+
+        assertEquals(0, TestDatabase.queryInt(COUNT_PRODUCTS));
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("DAO가 커넥션을 롤백하면 작업 단위 전체가 롤백 전용이 되어 이후 커밋도 롤백된다")
+    void connectionRollbackMarksRollbackOnly() throws Exception {
+        List<String> executed = new ArrayList<>();
+
+        UnitOfWork.begin();
+        try {
+            TestDatabase.execute(String.format(INSERT_PRODUCT, "PT_UOW1"));
+            DatabaseConnection.getConnection().rollback();
+            TestDatabase.execute(String.format(INSERT_PRODUCT, "PT_UOW2"));
+            UnitOfWork.afterCommit(() -> executed.add("commit"));
+            UnitOfWork.commit();
+        } finally {
+            UnitOfWork.end();
+        }
+
+        assertEquals(0, TestDatabase.queryInt(COUNT_PRODUCTS));
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("실제 커밋이 실패하면 작업 단위를 끝낼 때 롤백하고 afterCommit 작업을 실행하지 않는다")
+    void failedCommitRollsBack() throws Exception {
+        List<String> executed = new ArrayList<>();
+        Connection physical = DatabaseConnection.getConnection();
+
+        UnitOfWork.begin();
+        try {
+            UnitOfWork.currentConnection(() -> failingCommit(physical));
+            TestDatabase.execute(String.format(INSERT_PRODUCT, "PT_UOW1"));
+            UnitOfWork.afterCommit(() -> executed.add("commit"));
+            assertThrows(SQLException.class, UnitOfWork::commit);
+        } finally {
+            UnitOfWork.end();
+        }
+
+        assertEquals(0, TestDatabase.queryInt(COUNT_PRODUCTS));
+        assertTrue(executed.isEmpty());
+    }
+
+    /**
+     * commit 호출 시 예외를 던지는 커넥션 (나머지 호출은 실제 커넥션에 위임)
+     */
+    private static Connection failingCommit(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("commit".equals(method.getName())) {
+                        throw new SQLException("커밋 실패 (테스트)");
+                    }
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @Test
+    @DisplayName("커밋되면 afterCompletion과 afterCommit 작업을 모두 실행한다")
+    void committedRunsAfterCommitTasks() throws Exception {
+        List<String> executed = new ArrayList<>();
+
+        UnitOfWork.begin();
+        try {
+            TestDatabase.execute("UPDATE TB_PRODUCT SET qt_stock = qt_stock WHERE 1 = 0");
+            UnitOfWork.afterCompletion(() -> executed.add("completion"));
+            UnitOfWork.afterCommit(() -> executed.add("commit"));
+            assertTrue(executed.isEmpty());
+            UnitOfWork.commit();
+        } finally {
+            UnitOfWork.end();
+        }
+
+        assertEquals(List.of("completion", "commit"), executed);
+    }
+
+    @Test
+    @DisplayName("커밋하지 않고 끝나면 afterCommit 작업을 실행하지 않는다")
+    void rolledBackSkipsAfterCommitTasks() {
+        List<String> executed = new ArrayList<>();
+
+        UnitOfWork.begin();
+        try {
+            UnitOfWork.afterCompletion(() -> executed.add("completion"));
+            UnitOfWork.afterCommit(() -> executed.add("commit"));
+        } finally {
+            UnitOfWork.end();
+        }
+
+        assertEquals(List.of("completion"), executed);
+    }
+
+    @Test
+    @DisplayName("롤백 전용으로 표시된 작업 단위는 커밋을 호출해도 afterCommit 작업을 실행하지 않는다")
+    void rollbackOnlySkipsAfterCommitTasks() throws Exception {
+        List<String> executed = new ArrayList<>();
+
+        UnitOfWork.begin();
+        try {
+            TestDatabase.execute("UPDATE TB_PRODUCT SET qt_stock = qt_stock WHERE 1 = 0");
+            UnitOfWork.afterCommit(() -> executed.add("commit"));
+            UnitOfWork.setRollbackOnly();
+            UnitOfWork.commit();
+        } finally {
+            UnitOfWork.end();
+        }
+
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업 단위가 없으면 afterCommit 작업을 즉시 실행한다")
+    void runsImmediatelyWithoutUnitOfWork() {
+        List<String> executed = new ArrayList<>();
+
+        UnitOfWork.afterCommit(() -> executed.add("commit"));
+
+        assertEquals(List.of("commit"), executed);
+    }
+}
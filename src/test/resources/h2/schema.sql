@@ -0,0 +1,44 @@
+-- 테스트용 스키마 (H2, Oracle 호환 모드)
+-- 운영 Oracle 스키마 중 테스트가 사용하는 테이블과 컬럼만 정의합니다.
+
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_PRODUCT START WITH 1;
+
+CREATE TABLE IF NOT EXISTS TB_PRODUCT (
+    no_product          VARCHAR2(30)    PRIMARY KEY,
+    nm_product          VARCHAR2(200),
+    nm_detail_explain   CLOB,
+    id_file             VARCHAR2(64),
+    dt_start_date       VARCHAR2(8),
+    dt_end_date         VARCHAR2(8),
+    qt_customer_price   NUMBER(10),
+    qt_sale_price       NUMBER(10),
+    qt_stock            NUMBER(10),
+    qt_delivery_fee     NUMBER(10),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE
+);
+
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_CATEGORY START WITH 1;
+
+CREATE TABLE IF NOT EXISTS TB_CATEGORY (
+    nb_category         NUMBER(10)      PRIMARY KEY,
+    nb_parent_category  NUMBER(10),
+    nm_category         VARCHAR2(100),
+    nm_full_category    VARCHAR2(1000),
+    nm_explain          VARCHAR2(1000),
+    cn_level            NUMBER(3),
+    cn_order            NUMBER(5),
+    yn_use              CHAR(1),
+    yn_delete           CHAR(1),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE
+);
+
+CREATE TABLE IF NOT EXISTS TB_CATEGORY_PRODUCT_MAPPING (
+    no_product          VARCHAR2(30),
+    nb_category         NUMBER(10),
+    cn_order            NUMBER(5),
+    no_register         VARCHAR2(30),
+    da_first_date       DATE,
+    PRIMARY KEY (no_product, nb_category)
+);